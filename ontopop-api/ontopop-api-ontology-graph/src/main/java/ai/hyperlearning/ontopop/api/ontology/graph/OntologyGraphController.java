@@ -2,6 +2,9 @@ package ai.hyperlearning.ontopop.api.ontology.graph;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 
 import javax.annotation.PostConstruct;
@@ -32,6 +35,7 @@ import ai.hyperlearning.ontopop.data.ontology.downloader.OntologyDownloaderServi
 import ai.hyperlearning.ontopop.exceptions.git.GitWebhookNotFoundException;
 import ai.hyperlearning.ontopop.exceptions.graph.InvalidGremlinQueryException;
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDownloadException;
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyStatisticsNotFoundException;
 import ai.hyperlearning.ontopop.graph.GraphDatabaseService;
 import ai.hyperlearning.ontopop.graph.GraphDatabaseServiceFactory;
 import ai.hyperlearning.ontopop.graph.GraphDatabaseServiceType;
@@ -39,6 +43,8 @@ import ai.hyperlearning.ontopop.graph.gremlin.server.http.GremlinServerHttpWebCl
 import ai.hyperlearning.ontopop.model.git.GitWebhook;
 import ai.hyperlearning.ontopop.model.graph.OntologyPropertyGraphGremlinQuery;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraph;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntologyStatistics;
+import ai.hyperlearning.ontopop.storage.artifacts.ArtifactSerializationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -71,10 +77,17 @@ public class OntologyGraphController {
     @Autowired
     private GraphDatabaseServiceFactory graphDatabaseServiceFactory;
     
+    @Autowired
+    private ArtifactSerializationService artifactSerializationService;
+    
     @Value("${storage.graph.service}")
     private String storageGraphService;
     
+    @Value("${web.graph.statistics.cacheSize:256}")
+    private int statisticsCacheSize;
+    
     private GraphDatabaseService graphDatabaseService;
+    private Map<Long, SimpleOntologyStatistics> statisticsCache;
     
     @PostConstruct
     private void postConstruct() throws IOException {
@@ -89,6 +102,21 @@ public class OntologyGraphController {
         LOGGER.debug("Using the {} graph database service.",
                 graphDatabaseServiceType);
         
+        // Keep the statistics of the most recently requested revisions
+        statisticsCache = Collections.synchronizedMap(
+                new LinkedHashMap<>(statisticsCacheSize, 0.75f, true) {
+                    
+                    private static final long serialVersionUID = 
+                            -6263143517890352041L;
+                    
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, 
+                            SimpleOntologyStatistics> eldest) {
+                        return size() > statisticsCacheSize;
+                    }
+                    
+                });
+        
     }
     
     /**************************************************************************
@@ -137,19 +165,16 @@ public class OntologyGraphController {
         try {
             
             // Get the Git webhook event object
-            GitWebhook gitWebhook = ( gitWebhookId == -1 ) ? 
-                    ontologyDownloaderService.getLatestGitWebhook(id) : 
-                        gitWebhookRepository.findById(gitWebhookId)
-                            .orElseThrow(GitWebhookNotFoundException::new);
+            GitWebhook gitWebhook = getGitWebhook(id, gitWebhookId);
             if ( gitWebhook != null ) {
                 
                 // Download the property graph file from persistent storage
                 String downloadedUri = ontologyDownloaderService
                         .retrieveModelledPropertyGraphFile(gitWebhook);
                 
-                // Deserialize the Simple Ontology Property Graph object from JSON
-                ObjectMapper mapper = new ObjectMapper();
-                return mapper.readValue(new File(downloadedUri),
+                // Deserialize the Simple Ontology Property Graph object
+                return artifactSerializationService.read(
+                        new File(downloadedUri), 
                         SimpleOntologyPropertyGraph.class);
                 
             } else 
@@ -165,6 +190,91 @@ public class OntologyGraphController {
     
     }
     
+    /**************************************************************************
+     * 1.2. GET Statistics
+     *************************************************************************/
+    
+    @Operation(
+            summary = "Get ontology statistics",
+            description = "Get the statistics of an ontology, precomputed "
+                    + "when it was parsed, given the ontology ID.",
+            tags = {"ontology", "graph", "statistics"})
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Ontology statistics successfully retrieved.", 
+                            content = @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE, 
+                                    schema = @Schema(implementation = SimpleOntologyStatistics.class))),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Retrieval of ontology statistics unauthorized.", 
+                            content = @Content), 
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Ontology statistics not found.", 
+                            content = @Content), 
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error.", 
+                            content = @Content)})
+    @ResponseStatus(HttpStatus.OK)
+    @GetMapping(
+            value = "/{id}/stats", 
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public SimpleOntologyStatistics getStatistics(
+            @Parameter(
+                    description = "ID of the ontology to retrieve the statistics of.", 
+                    required = true)
+            @PathVariable(required = true) int id, 
+            @RequestParam(name = "gitWebhookId", required = false, defaultValue = "-1") long gitWebhookId) {
+        
+        LOGGER.debug("New HTTP GET request: Get ontology statistics for "
+                + "ontology ID: {}.", id);
+        
+        try {
+            
+            // Get the Git webhook event object
+            GitWebhook gitWebhook = getGitWebhook(id, gitWebhookId);
+            if ( gitWebhook != null ) {
+                
+                // The statistics of a revision never change, so 
+                // deserialize them at most once per revision
+                long artifactsGitWebhookId = 
+                        gitWebhook.resolveArtifactsGitWebhookId();
+                SimpleOntologyStatistics statistics = 
+                        statisticsCache.get(artifactsGitWebhookId);
+                if ( statistics == null ) {
+                    String downloadedUri = ontologyDownloaderService
+                            .retrieveParsedStatisticsFile(gitWebhook);
+                    if ( downloadedUri == null )
+                        throw new OntologyStatisticsNotFoundException();
+                    statistics = new ObjectMapper().readValue(
+                            new File(downloadedUri), 
+                            SimpleOntologyStatistics.class);
+                    statisticsCache.put(artifactsGitWebhookId, statistics);
+                }
+                return statistics;
+                
+            } else 
+                throw new OntologyDownloadException();
+            
+        } catch (GitWebhookNotFoundException 
+                | OntologyStatisticsNotFoundException e) {
+            
+            throw e;
+            
+        } catch (Exception e) {
+            
+            LOGGER.error("An error was encountered when attempting to retrieve "
+                    + "the statistics for ontology ID {}.", id, e);
+            throw new OntologyDownloadException();
+            
+        }
+    
+    }
+    
     /**************************************************************************
      * 2. POST Gremlin Query
      *************************************************************************/
@@ -230,4 +340,22 @@ public class OntologyGraphController {
         
     }
 
+    /**
+     * Get the latest Git webhook event of an ontology, or the given Git 
+     * webhook event provided that it belongs to the ontology
+     * 
+     * @param id
+     * @param gitWebhookId
+     * @return
+     */
+    
+    private GitWebhook getGitWebhook(int id, long gitWebhookId) {
+        return ( gitWebhookId == -1 ) ? 
+                ontologyDownloaderService.getLatestGitWebhook(id) : 
+                    gitWebhookRepository.findById(gitWebhookId)
+                        .filter(gitWebhook -> gitWebhook.getOntology() != null 
+                                && gitWebhook.getOntology().getId() == id)
+                        .orElseThrow(GitWebhookNotFoundException::new);
+    }
+
 }
@@ -0,0 +1,187 @@
+package ai.hyperlearning.ontopop.api.ontology.management;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyValidationResultDeleteException;
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyValidationResultNotFoundException;
+import ai.hyperlearning.ontopop.model.ontology.OntologyValidationResult;
+import ai.hyperlearning.ontopop.storage.ObjectStorageService;
+import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
+import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Ontology Management API Service - Validation Result Cache Controller
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@RestController
+@RequestMapping("/management/validations")
+@Tag(name = "Ontology Management API - Validations", description = "API for managing the OntoPop cache of ontology validation results")
+public class OntologyManagementValidationController {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(OntologyManagementValidationController.class);
+
+    @Autowired
+    private ObjectStorageServiceFactory objectStorageServiceFactory;
+
+    @Value("${storage.object.service}")
+    private String storageObjectService;
+
+    @Value("${storage.object.local.baseUri}")
+    private String storageLocalBaseUri;
+
+    @Value("${storage.object.containers.validations:validations}")
+    private String validationsDirectoryName;
+
+    private ObjectStorageService objectStorageService;
+    private String validationsDirectoryUri;
+
+    @PostConstruct
+    private void postConstruct() {
+
+        // Select the relevant persistent storage service and resolve the
+        // directory of cached validation results
+        ObjectStorageServiceType objectStorageServiceType =
+                ObjectStorageServiceType
+                        .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+        validationsDirectoryUri = objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ?
+                        storageLocalBaseUri + File.separator
+                            + validationsDirectoryName :
+                        validationsDirectoryName;
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws IOException {
+
+        // Close any storage service clients
+        objectStorageService.cleanup();
+
+    }
+
+    /**************************************************************************
+     * 1. DELETE - Evict Validation Result
+     *************************************************************************/
+
+    @Operation(
+            summary = "Evict a cached validation result",
+            description = "Evict the cached semantic validation result of "
+                    + "an ontology given the SHA-256 hash of its content "
+                    + "and imports closure, so that it is reasoned over "
+                    + "again when it is next validated.",
+            tags = {"ontology", "validation"})
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Validation result successfully evicted."),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Eviction of validation result unauthorized.",
+                            content = @Content),
+                    @ApiResponse(
+                            responseCode = "404",
+                            description = "Validation result not found.",
+                            content = @Content),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error.",
+                            content = @Content)})
+    @ResponseStatus(HttpStatus.OK)
+    @DeleteMapping(
+            value = "/{contentHash}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> deleteValidationResult(
+            @Parameter(
+                    description = "SHA-256 content hash of the validation result to evict.",
+                    required = true)
+            @PathVariable(required = true) String contentHash) {
+        LOGGER.debug("New HTTP DELETE request: Evict validation result "
+                + "by content hash.");
+        if (!OntologyValidationResult.isContentHash(contentHash))
+            throw new OntologyValidationResultNotFoundException();
+        String validationResultUri = validationsDirectoryUri + "/"
+                + OntologyValidationResult.getFilename(contentHash);
+        if (!objectStorageService.doesObjectExist(validationResultUri))
+            throw new OntologyValidationResultNotFoundException();
+        try {
+            objectStorageService.deleteObject(validationResultUri);
+            return new ResponseEntity<>("Validation result successfully "
+                    + "evicted.", HttpStatus.OK);
+        } catch (Exception e) {
+            LOGGER.error("An error was encountered when attempting to "
+                    + "evict this validation result.", e);
+            throw new OntologyValidationResultDeleteException();
+        }
+    }
+
+    /**************************************************************************
+     * 2. DELETE - Evict All Validation Results
+     *************************************************************************/
+
+    @Operation(
+            summary = "Evict all cached validation results",
+            description = "Evict every cached semantic validation result, "
+                    + "so that every ontology is reasoned over again when "
+                    + "it is next validated.",
+            tags = {"ontology", "validation"})
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Validation results successfully evicted."),
+                    @ApiResponse(
+                            responseCode = "401",
+                            description = "Eviction of validation results unauthorized.",
+                            content = @Content),
+                    @ApiResponse(
+                            responseCode = "500",
+                            description = "Internal server error.",
+                            content = @Content)})
+    @ResponseStatus(HttpStatus.OK)
+    @DeleteMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> deleteValidationResults() {
+        LOGGER.debug("New HTTP DELETE request: Evict all validation results.");
+        try {
+            objectStorageService.deleteContainerContents(
+                    validationsDirectoryUri);
+            return new ResponseEntity<>("Validation results successfully "
+                    + "evicted.", HttpStatus.OK);
+        } catch (Exception e) {
+            LOGGER.error("An error was encountered when attempting to "
+                    + "evict all validation results.", e);
+            throw new OntologyValidationResultDeleteException();
+        }
+    }
+
+}
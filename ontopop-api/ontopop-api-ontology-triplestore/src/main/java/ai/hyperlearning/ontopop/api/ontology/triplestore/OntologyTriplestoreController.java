@@ -32,7 +32,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 
 import ai.hyperlearning.ontopop.data.jpa.repositories.GitWebhookRepository;
 import ai.hyperlearning.ontopop.data.jpa.repositories.OntologyRepository;
@@ -56,6 +55,7 @@ import ai.hyperlearning.ontopop.security.auth.api.apikey.ApiKeyAuthenticationEng
 import ai.hyperlearning.ontopop.security.auth.api.apikey.ApiKeyAuthentication;
 import ai.hyperlearning.ontopop.security.auth.api.apikey.ApiKeyAuthenticationFactory;
 import ai.hyperlearning.ontopop.security.auth.api.apikey.ApiKeyUtils;
+import ai.hyperlearning.ontopop.storage.artifacts.ArtifactSerializationService;
 import ai.hyperlearning.ontopop.triplestore.TriplestoreService;
 import ai.hyperlearning.ontopop.triplestore.TriplestoreServiceFactory;
 import ai.hyperlearning.ontopop.triplestore.TriplestoreServiceType;
@@ -97,6 +97,9 @@ public class OntologyTriplestoreController {
     @Autowired
     private OntologyDownloaderService ontologyDownloaderService;
     
+    @Autowired
+    private ArtifactSerializationService artifactSerializationService;
+    
     @Autowired
     private OntologyRepository ontologyRepository;
     
@@ -621,14 +624,14 @@ public class OntologyTriplestoreController {
             String existingOwlRdfXml = FileUtils.readFileToString(
                     new File(downloadedOwlFileUri), StandardCharsets.UTF_8);
             
-            // Download the latest parsed SimpleOntology JSON file from 
+            // Download the latest parsed SimpleOntology artifact from 
             // persistent storage and load it as a SimpleOntology object
             String downloadedSimpleOntologyFileUri = ontologyDownloaderService
                     .retrieveParsedSimpleOntologyFile(gitWebhook);
-            ObjectMapper mapper = new ObjectMapper();
-            SimpleOntology existingSimpleOntology = mapper.readValue(
-                    new File(downloadedSimpleOntologyFileUri), 
-                    SimpleOntology.class);
+            SimpleOntology existingSimpleOntology = 
+                    artifactSerializationService.read(
+                            new File(downloadedSimpleOntologyFileUri), 
+                            SimpleOntology.class);
             
             // Generate the RDF/XML string
             String targetOwlRdfXml = OntologyDataMapper.toOwlRdfXml(
@@ -3,6 +3,7 @@ package ai.hyperlearning.ontopop.apps.data.ontology.pipeline;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.cloud.stream.annotation.EnableBinding;
 import org.springframework.cloud.stream.annotation.StreamListener;
 import org.springframework.context.annotation.ComponentScan;
@@ -19,6 +20,7 @@ import ai.hyperlearning.ontopop.messaging.processors.DataPipelineValidatorSource
 
 @SuppressWarnings("deprecation")
 @ComponentScan(basePackages = {"ai.hyperlearning.ontopop"})
+@EntityScan("ai.hyperlearning.ontopop.model")
 @SpringBootApplication
 @EnableBinding(DataPipelineValidatorSource.class)
 public class OntologyPipelineApp {
@@ -33,7 +35,9 @@ public class OntologyPipelineApp {
     @StreamListener("ingestedConsumptionChannel")
     public void processIngestedOntology(String payload) {
         
-        // Execute the Ontology Pipeline Function
+        // Run the Ontology Pipeline Function. Different ontologies are 
+        // processed in parallel across the concurrent consumers of the
+        // ingestedConsumptionChannel channel.
         ontologyPipelineFunction.accept(payload);
     
     }
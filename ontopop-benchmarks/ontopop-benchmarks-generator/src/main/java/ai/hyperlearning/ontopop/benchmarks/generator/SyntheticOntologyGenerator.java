@@ -0,0 +1,233 @@
+package ai.hyperlearning.ontopop.benchmarks.generator;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Synthetic Ontology Generator - streams a deterministic OWL ontology in
+ * RDF/XML format so that ontologies with millions of entities can be
+ * generated without holding them in memory
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class SyntheticOntologyGenerator {
+
+    public static final String BASE_IRI =
+            "https://ontopop.com/benchmarks/synthetic";
+
+    private static final String RDF_NS =
+            "http://www.w3.org/1999/02/22-rdf-syntax-ns#";
+    private static final String RDFS_NS =
+            "http://www.w3.org/2000/01/rdf-schema#";
+    private static final String OWL_NS = "http://www.w3.org/2002/07/owl#";
+    private static final String SKOS_NS =
+            "http://www.w3.org/2004/02/skos/core#";
+    private static final String DC_NS = "http://purl.org/dc/elements/1.1/";
+
+    // Annotation properties assigned to each class in order, the first of
+    // which is always the rdfs:label
+    private static final String[][] ANNOTATION_PROPERTIES = {
+            {"rdfs", RDFS_NS, "label"},
+            {"skos", SKOS_NS, "definition"},
+            {"rdfs", RDFS_NS, "comment"},
+            {"skos", SKOS_NS, "prefLabel"},
+            {"dc", DC_NS, "description"},
+            {"skos", SKOS_NS, "altLabel"}};
+
+    private static final String[] WORDS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf",
+            "hotel", "india", "juliet", "kilo", "lima", "mike", "november",
+            "oscar", "papa", "quebec", "romeo", "sierra", "tango"};
+
+    private SyntheticOntologyGenerator() {
+        throw new IllegalStateException("The SyntheticOntologyGenerator "
+                + "utility class cannot be instantiated.");
+    }
+
+    /**
+     * Generate a synthetic ontology and write it to the given file
+     *
+     * @param profile
+     * @param target
+     * @throws IOException
+     */
+
+    public static void generate(SyntheticOntologyProfile profile,
+            Path target) throws IOException {
+        try (OutputStream output = new BufferedOutputStream(
+                Files.newOutputStream(target))) {
+            generate(profile, output);
+        }
+    }
+
+    /**
+     * Generate a synthetic ontology and write it to the given stream
+     *
+     * @param profile
+     * @param output
+     * @throws IOException
+     */
+
+    public static void generate(SyntheticOntologyProfile profile,
+            OutputStream output) throws IOException {
+
+        try {
+
+            XMLStreamWriter writer = XMLOutputFactory.newInstance()
+                    .createXMLStreamWriter(output, "UTF-8");
+            Random random = new Random(profile.getSeed());
+            writer.writeStartDocument("UTF-8", "1.0");
+            writer.writeStartElement("rdf", "RDF", RDF_NS);
+            writer.writeNamespace("rdf", RDF_NS);
+            writer.writeNamespace("rdfs", RDFS_NS);
+            writer.writeNamespace("owl", OWL_NS);
+            writer.writeNamespace("skos", SKOS_NS);
+            writer.writeNamespace("dc", DC_NS);
+            writer.writeAttribute("xml", "", "base", BASE_IRI);
+
+            // Ontology header
+            writer.writeEmptyElement("owl", "Ontology", OWL_NS);
+            writer.writeAttribute("rdf", RDF_NS, "about", BASE_IRI);
+
+            // Annotation properties that are not built into RDF Schema
+            for (String[] annotationProperty : ANNOTATION_PROPERTIES) {
+                if (!annotationProperty[1].equals(RDFS_NS)) {
+                    writer.writeEmptyElement(
+                            "owl", "AnnotationProperty", OWL_NS);
+                    writer.writeAttribute("rdf", RDF_NS, "about",
+                            annotationProperty[1] + annotationProperty[2]);
+                }
+            }
+
+            // Object properties
+            for (int i = 0; i < profile.getObjectPropertyCount(); i++) {
+                writer.writeStartElement("owl", "ObjectProperty", OWL_NS);
+                writer.writeAttribute("rdf", RDF_NS, "about",
+                        objectPropertyIri(i));
+                writeLiteral(writer, "rdfs", RDFS_NS, "label",
+                        "has " + phrase(random, 2) + " " + i);
+                writer.writeEndElement();
+            }
+
+            // Classes arranged as a forest of balanced trees so that no
+            // tree is deeper than the configured hierarchy depth
+            int roots = rootCount(profile);
+            for (int i = 0; i < profile.getClassCount(); i++) {
+                writer.writeStartElement("owl", "Class", OWL_NS);
+                writer.writeAttribute("rdf", RDF_NS, "about", classIri(i));
+                if (i >= roots) {
+                    writer.writeEmptyElement("rdfs", "subClassOf", RDFS_NS);
+                    writer.writeAttribute("rdf", RDF_NS, "resource",
+                            classIri((i - roots) / profile.getFanOut()));
+                }
+                if (profile.getObjectPropertyCount() > 0
+                        && random.nextDouble()
+                            < profile.getRestrictionDensity())
+                    writeRestriction(writer,
+                            random.nextInt(profile.getObjectPropertyCount()),
+                            random.nextInt(profile.getClassCount()));
+                for (int a = 0; a < profile.getAnnotationsPerClass(); a++) {
+                    String[] annotationProperty = ANNOTATION_PROPERTIES[
+                            Math.min(a, ANNOTATION_PROPERTIES.length - 1)];
+                    writeLiteral(writer, annotationProperty[0],
+                            annotationProperty[1], annotationProperty[2],
+                            a == 0 ? "Class " + i + " " + phrase(random, 2) :
+                                phrase(random, 8));
+                }
+                writer.writeEndElement();
+            }
+
+            // Named individuals
+            for (int i = 0; i < profile.getNamedIndividualCount(); i++) {
+                writer.writeStartElement("owl", "NamedIndividual", OWL_NS);
+                writer.writeAttribute("rdf", RDF_NS, "about",
+                        BASE_IRI + "#Individual" + i);
+                writer.writeEmptyElement("rdf", "type", RDF_NS);
+                writer.writeAttribute("rdf", RDF_NS, "resource",
+                        classIri(random.nextInt(profile.getClassCount())));
+                writeLiteral(writer, "rdfs", RDFS_NS, "label",
+                        "Individual " + i + " " + phrase(random, 2));
+                writer.writeEndElement();
+            }
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+
+        } catch (XMLStreamException e) {
+            throw new IOException("Error generating synthetic ontology.", e);
+        }
+
+    }
+
+    /**
+     * Calculate the number of root classes required so that every tree in
+     * the class hierarchy is no deeper than the configured depth
+     *
+     * @param profile
+     * @return
+     */
+
+    public static int rootCount(SyntheticOntologyProfile profile) {
+        long treeSize = 0;
+        long levelSize = 1;
+        for (int depth = 0; depth < Math.max(1, profile.getHierarchyDepth())
+                && treeSize < profile.getClassCount(); depth++) {
+            treeSize += levelSize;
+            levelSize *= Math.max(1, profile.getFanOut());
+        }
+        return (int) Math.max(1,
+                (profile.getClassCount() + treeSize - 1) / treeSize);
+    }
+
+    private static String classIri(int i) {
+        return BASE_IRI + "#Class" + i;
+    }
+
+    private static String objectPropertyIri(int i) {
+        return BASE_IRI + "#hasRelation" + i;
+    }
+
+    private static void writeRestriction(XMLStreamWriter writer,
+            int objectProperty, int filler) throws XMLStreamException {
+        writer.writeStartElement("rdfs", "subClassOf", RDFS_NS);
+        writer.writeStartElement("owl", "Restriction", OWL_NS);
+        writer.writeEmptyElement("owl", "onProperty", OWL_NS);
+        writer.writeAttribute("rdf", RDF_NS, "resource",
+                objectPropertyIri(objectProperty));
+        writer.writeEmptyElement("owl", "someValuesFrom", OWL_NS);
+        writer.writeAttribute("rdf", RDF_NS, "resource", classIri(filler));
+        writer.writeEndElement();
+        writer.writeEndElement();
+    }
+
+    private static void writeLiteral(XMLStreamWriter writer, String prefix,
+            String namespace, String localName, String value)
+                    throws XMLStreamException {
+        writer.writeStartElement(prefix, localName, namespace);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    private static String phrase(Random random, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0)
+                phrase.append(' ');
+            phrase.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return phrase.toString();
+    }
+
+}
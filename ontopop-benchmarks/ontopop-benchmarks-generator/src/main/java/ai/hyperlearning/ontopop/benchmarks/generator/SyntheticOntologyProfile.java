@@ -0,0 +1,147 @@
+package ai.hyperlearning.ontopop.benchmarks.generator;
+
+/**
+ * Synthetic Ontology Profile - the shape of a generated ontology
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class SyntheticOntologyProfile {
+
+    private static final int DEFAULT_HIERARCHY_DEPTH = 8;
+    private static final int DEFAULT_FAN_OUT = 5;
+    private static final int DEFAULT_ANNOTATIONS_PER_CLASS = 3;
+    private static final double DEFAULT_RESTRICTION_DENSITY = 0.2;
+
+    private int classCount;
+    private int hierarchyDepth;
+    private int fanOut;
+    private int annotationsPerClass;
+    private double restrictionDensity;
+    private int objectPropertyCount;
+    private int namedIndividualCount;
+    private long seed;
+
+    public SyntheticOntologyProfile() {
+
+    }
+
+    public SyntheticOntologyProfile(int classCount, int hierarchyDepth,
+            int fanOut, int annotationsPerClass, double restrictionDensity,
+            int objectPropertyCount, int namedIndividualCount, long seed) {
+        this.classCount = classCount;
+        this.hierarchyDepth = hierarchyDepth;
+        this.fanOut = fanOut;
+        this.annotationsPerClass = annotationsPerClass;
+        this.restrictionDensity = restrictionDensity;
+        this.objectPropertyCount = objectPropertyCount;
+        this.namedIndividualCount = namedIndividualCount;
+        this.seed = seed;
+    }
+
+    /**
+     * Create a default profile with the given total number of entities,
+     * split between classes (89%), named individuals (10%) and object
+     * properties (1%)
+     *
+     * @param entityCount
+     * @param seed
+     * @return
+     */
+
+    public static SyntheticOntologyProfile ofEntityCount(
+            int entityCount, long seed) {
+        int objectPropertyCount = Math.max(1, entityCount / 100);
+        int namedIndividualCount = entityCount / 10;
+        int classCount = Math.max(1,
+                entityCount - objectPropertyCount - namedIndividualCount);
+        return new SyntheticOntologyProfile(classCount,
+                DEFAULT_HIERARCHY_DEPTH, DEFAULT_FAN_OUT,
+                DEFAULT_ANNOTATIONS_PER_CLASS, DEFAULT_RESTRICTION_DENSITY,
+                objectPropertyCount, namedIndividualCount, seed);
+    }
+
+    public int getEntityCount() {
+        return classCount + objectPropertyCount + namedIndividualCount;
+    }
+
+    public int getClassCount() {
+        return classCount;
+    }
+
+    public void setClassCount(int classCount) {
+        this.classCount = classCount;
+    }
+
+    public int getHierarchyDepth() {
+        return hierarchyDepth;
+    }
+
+    public void setHierarchyDepth(int hierarchyDepth) {
+        this.hierarchyDepth = hierarchyDepth;
+    }
+
+    public int getFanOut() {
+        return fanOut;
+    }
+
+    public void setFanOut(int fanOut) {
+        this.fanOut = fanOut;
+    }
+
+    public int getAnnotationsPerClass() {
+        return annotationsPerClass;
+    }
+
+    public void setAnnotationsPerClass(int annotationsPerClass) {
+        this.annotationsPerClass = annotationsPerClass;
+    }
+
+    public double getRestrictionDensity() {
+        return restrictionDensity;
+    }
+
+    public void setRestrictionDensity(double restrictionDensity) {
+        this.restrictionDensity = restrictionDensity;
+    }
+
+    public int getObjectPropertyCount() {
+        return objectPropertyCount;
+    }
+
+    public void setObjectPropertyCount(int objectPropertyCount) {
+        this.objectPropertyCount = objectPropertyCount;
+    }
+
+    public int getNamedIndividualCount() {
+        return namedIndividualCount;
+    }
+
+    public void setNamedIndividualCount(int namedIndividualCount) {
+        this.namedIndividualCount = namedIndividualCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public String toString() {
+        return "SyntheticOntologyProfile ["
+                + "classCount=" + classCount + ", "
+                + "hierarchyDepth=" + hierarchyDepth + ", "
+                + "fanOut=" + fanOut + ", "
+                + "annotationsPerClass=" + annotationsPerClass + ", "
+                + "restrictionDensity=" + restrictionDensity + ", "
+                + "objectPropertyCount=" + objectPropertyCount + ", "
+                + "namedIndividualCount=" + namedIndividualCount + ", "
+                + "seed=" + seed
+                + "]";
+    }
+
+}
@@ -0,0 +1,103 @@
+package ai.hyperlearning.ontopop.benchmarks.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import ai.hyperlearning.ontopop.benchmarks.generator.SyntheticOntologyGenerator;
+import ai.hyperlearning.ontopop.benchmarks.generator.SyntheticOntologyProfile;
+import ai.hyperlearning.ontopop.owl.OWLAPI;
+
+/**
+ * Benchmark Ontologies - loads the real-world and synthetic ontologies
+ * that the microbenchmarks are parameterised over
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class BenchmarkOntologies {
+
+    // Real-world ontologies are bundled as classpath resources whereas
+    // synthetic ontologies are named by their entity count
+    public static final String SYNTHETIC_PREFIX = "synthetic-";
+    public static final long SYNTHETIC_SEED = 42L;
+
+    private BenchmarkOntologies() {
+        throw new IllegalStateException("The BenchmarkOntologies utility "
+                + "class cannot be instantiated.");
+    }
+
+    /**
+     * Load a named benchmark ontology, either a bundled real-world
+     * ontology (for example test-ontology.owl) or a synthetic ontology
+     * (for example synthetic-10000)
+     *
+     * @param name
+     * @return
+     * @throws IOException
+     * @throws OWLOntologyCreationException
+     */
+
+    public static OWLOntology load(String name)
+            throws IOException, OWLOntologyCreationException {
+        if (name.startsWith(SYNTHETIC_PREFIX))
+            return loadSynthetic(Integer.parseInt(
+                    name.substring(SYNTHETIC_PREFIX.length())));
+        try (InputStream inputStream = BenchmarkOntologies.class
+                .getClassLoader().getResourceAsStream(name)) {
+            if (inputStream == null)
+                throw new IOException(
+                        "Benchmark ontology '" + name + "' not found.");
+            return OWLAPI.loadOntology(inputStream);
+        }
+    }
+
+    /**
+     * Write a named benchmark ontology to a temporary file, which the 
+     * caller is responsible for deleting
+     *
+     * @param name
+     * @return
+     * @throws IOException
+     */
+
+    public static Path toFile(String name) throws IOException {
+        Path ontologyPath = Files.createTempFile("ontopop-jmh-", ".owl");
+        if (name.startsWith(SYNTHETIC_PREFIX)) {
+            SyntheticOntologyGenerator.generate(SyntheticOntologyProfile
+                    .ofEntityCount(Integer.parseInt(
+                            name.substring(SYNTHETIC_PREFIX.length())), 
+                            SYNTHETIC_SEED), ontologyPath);
+            return ontologyPath;
+        }
+        try (InputStream inputStream = BenchmarkOntologies.class
+                .getClassLoader().getResourceAsStream(name)) {
+            if (inputStream == null)
+                throw new IOException(
+                        "Benchmark ontology '" + name + "' not found.");
+            Files.copy(inputStream, ontologyPath, 
+                    StandardCopyOption.REPLACE_EXISTING);
+            return ontologyPath;
+        }
+    }
+
+    private static OWLOntology loadSynthetic(int entityCount)
+            throws IOException, OWLOntologyCreationException {
+        Path ontologyPath = Files.createTempFile(
+                "ontopop-jmh-" + entityCount + "-", ".owl");
+        try {
+            SyntheticOntologyGenerator.generate(SyntheticOntologyProfile
+                    .ofEntityCount(entityCount, SYNTHETIC_SEED), ontologyPath);
+            return OWLAPI.loadOntology(ontologyPath.toFile());
+        } finally {
+            Files.deleteIfExists(ontologyPath);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package ai.hyperlearning.ontopop.benchmarks.jmh;
+
+import java.io.File;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * OWL Parsing and Property Graph Modelling Microbenchmarks - runs the
+ * JMH benchmarks with the GC and allocation profiler enabled and writes
+ * the results in JSON format. Standard JMH command line options, for
+ * example a benchmark regex or -p ontology=synthetic-10000, are honoured.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OntologyBenchmarks {
+
+    private static final String DEFAULT_RESULTS_FILE =
+            "target/benchmarks/jmh-results.json";
+
+    private OntologyBenchmarks() {
+        throw new IllegalStateException("The OntologyBenchmarks utility "
+                + "class cannot be instantiated.");
+    }
+
+    public static void main(String[] args)
+            throws CommandLineOptionException, RunnerException {
+
+        // Always profile GC and allocation so that the allocation rate
+        // per operation (gc.alloc.rate.norm) is reported for each benchmark
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class);
+        if (!commandLineOptions.getResultFormat().hasValue())
+            options.resultFormat(ResultFormatType.JSON);
+        if (!commandLineOptions.getResult().hasValue()) {
+            new File(DEFAULT_RESULTS_FILE).getParentFile().mkdirs();
+            options.result(DEFAULT_RESULTS_FILE);
+        }
+        new Runner(options.build()).run();
+
+    }
+
+}
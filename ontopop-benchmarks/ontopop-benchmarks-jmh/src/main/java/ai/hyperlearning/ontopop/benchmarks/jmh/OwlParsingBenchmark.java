@@ -0,0 +1,109 @@
+package ai.hyperlearning.ontopop.benchmarks.jmh;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import ai.hyperlearning.ontopop.model.owl.IRIDictionary;
+import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
+import ai.hyperlearning.ontopop.model.owl.SimpleClass;
+import ai.hyperlearning.ontopop.model.owl.SimpleNamedIndividual;
+import ai.hyperlearning.ontopop.model.owl.SimpleObjectProperty;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.owl.OWLAPI;
+import ai.hyperlearning.ontopop.owl.OWLEntityAxiomIndex;
+
+/**
+ * OWL Parsing Microbenchmarks - parsing of a loaded OWL ontology into
+ * the simple OntoPop OWL model objects
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class OwlParsingBenchmark {
+
+    private static final int CLASS_CHUNK_SIZE = 4096;
+
+    @Param({
+        "test-ontology.owl",
+        "test-ontology-owl-xml.owl",
+        "synthetic-1000",
+        "synthetic-10000",
+        "synthetic-100000"})
+    private String ontology;
+
+    // Whether each benchmark first builds a single-pass axiom index, 
+    // whose cost is included in the measurement
+    @Param({"false", "true"})
+    private boolean axiomIndex;
+
+    private OWLOntology owlOntology;
+    private ForkJoinPool forkJoinPool;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        owlOntology = BenchmarkOntologies.load(ontology);
+        forkJoinPool = new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        forkJoinPool.shutdownNow();
+    }
+
+    private OWLEntityAxiomIndex buildAxiomIndex() {
+        return axiomIndex ? OWLEntityAxiomIndex.build(owlOntology) : null;
+    }
+
+    @Benchmark
+    public Map<String, SimpleClass> parseClasses() {
+        return OWLAPI.parseClasses(owlOntology, buildAxiomIndex());
+    }
+
+    @Benchmark
+    public Map<String, SimpleObjectProperty> parseObjectProperties() {
+        return OWLAPI.parseObjectProperties(owlOntology, buildAxiomIndex());
+    }
+
+    @Benchmark
+    public Map<String, SimpleNamedIndividual> parseNamedIndividuals() {
+        return OWLAPI.parseNamedIndividuals(owlOntology, buildAxiomIndex());
+    }
+
+    @Benchmark
+    public Map<String, SimpleAnnotationProperty> parseAnnotationProperties() {
+        return OWLAPI.parseAnnotationProperties(owlOntology, buildAxiomIndex());
+    }
+
+    @Benchmark
+    public SimpleOntology parseOntologyInParallel()
+            throws InterruptedException, ExecutionException {
+        return OWLAPI.parseOntology(1, 1L, owlOntology, buildAxiomIndex(),
+                new IRIDictionary(), forkJoinPool, CLASS_CHUNK_SIZE);
+    }
+
+}
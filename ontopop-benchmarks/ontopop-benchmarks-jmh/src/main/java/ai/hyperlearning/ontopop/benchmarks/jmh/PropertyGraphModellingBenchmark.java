@@ -0,0 +1,81 @@
+package ai.hyperlearning.ontopop.benchmarks.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraph;
+import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.owl.OWLAPI;
+import ai.hyperlearning.ontopop.rdf.StandardVocabularyRegistry;
+
+/**
+ * Property Graph Modelling Microbenchmarks - modelling of a parsed
+ * simple ontology as a simple ontology property graph
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PropertyGraphModellingBenchmark {
+
+    private static final int ONTOLOGY_ID = 1;
+    private static final long GIT_WEBHOOK_ID = 1L;
+
+    @Param({
+        "test-ontology.owl",
+        "test-ontology-owl-xml.owl",
+        "synthetic-1000",
+        "synthetic-10000",
+        "synthetic-100000"})
+    private String ontology;
+
+    private SimpleOntology simpleOntology;
+    private Map<String, SimpleAnnotationProperty>
+            standardSchemaAnnotationProperties;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+
+        // Parse the ontology exactly as the OWL parser service does
+        OWLOntology owlOntology = BenchmarkOntologies.load(ontology);
+        simpleOntology = new SimpleOntology(ONTOLOGY_ID, GIT_WEBHOOK_ID,
+                OWLAPI.parseAnnotationProperties(owlOntology),
+                OWLAPI.parseObjectProperties(owlOntology),
+                OWLAPI.parseClasses(owlOntology),
+                OWLAPI.parseNamedIndividuals(owlOntology));
+
+        // Get the standard schema annotation properties exactly as the
+        // graph modeller service does
+        standardSchemaAnnotationProperties = StandardVocabularyRegistry
+                .getInstance().getAnnotationProperties();
+
+    }
+
+    @Benchmark
+    public SimpleOntologyPropertyGraph modelPropertyGraph() {
+        return new SimpleOntologyPropertyGraph(ONTOLOGY_ID, GIT_WEBHOOK_ID,
+                simpleOntology, standardSchemaAnnotationProperties);
+    }
+
+}
@@ -0,0 +1,86 @@
+package ai.hyperlearning.ontopop.benchmarks.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.owl.OWLAPI;
+import ai.hyperlearning.ontopop.owl.OWLEntityAxiomIndex;
+import ai.hyperlearning.ontopop.rdf.RDFStreamParser;
+
+/**
+ * RDF Stream Parsing Microbenchmarks - loading and parsing of an RDF
+ * file into the simple OntoPop OWL model objects, either via the OWL API
+ * or directly from the Jena triple stream
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class RdfStreamParsingBenchmark {
+
+    private static final int ONTOLOGY_ID = 1;
+    private static final long GIT_WEBHOOK_ID = 1L;
+
+    @Param({
+        "test-ontology.owl",
+        "synthetic-1000",
+        "synthetic-10000",
+        "synthetic-100000"})
+    private String ontology;
+
+    private Path ontologyPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        ontologyPath = BenchmarkOntologies.toFile(ontology);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(ontologyPath);
+    }
+
+    @Benchmark
+    public SimpleOntology loadAndParseWithOwlApi()
+            throws OWLOntologyCreationException {
+        OWLOntology owlOntology = OWLAPI.loadOntology(ontologyPath.toFile());
+        OWLEntityAxiomIndex axiomIndex =
+                OWLEntityAxiomIndex.build(owlOntology);
+        return new SimpleOntology(ONTOLOGY_ID, GIT_WEBHOOK_ID,
+                OWLAPI.parseAnnotationProperties(owlOntology, axiomIndex),
+                OWLAPI.parseObjectProperties(owlOntology, axiomIndex),
+                OWLAPI.parseClasses(owlOntology, axiomIndex),
+                OWLAPI.parseNamedIndividuals(owlOntology, axiomIndex));
+    }
+
+    @Benchmark
+    public SimpleOntology parseStream() {
+        return RDFStreamParser.parse(ONTOLOGY_ID, GIT_WEBHOOK_ID, ontologyPath);
+    }
+
+}
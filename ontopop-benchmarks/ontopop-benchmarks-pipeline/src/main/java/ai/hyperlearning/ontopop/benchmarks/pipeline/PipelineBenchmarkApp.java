@@ -0,0 +1,48 @@
+package ai.hyperlearning.ontopop.benchmarks.pipeline;
+
+import java.util.Arrays;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.cloud.stream.annotation.EnableBinding;
+import org.springframework.context.annotation.ComponentScan;
+
+import ai.hyperlearning.ontopop.messaging.processors.DataPipelineValidatorSource;
+
+/**
+ * Ontology Pipeline Benchmark Harness - Spring Boot Application
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@SuppressWarnings("deprecation")
+@ComponentScan(basePackages = {"ai.hyperlearning.ontopop"})
+@EntityScan("ai.hyperlearning.ontopop.model")
+@SpringBootApplication
+@EnableBinding(DataPipelineValidatorSource.class)
+public class PipelineBenchmarkApp {
+
+    private static final String PROFILE_ARGUMENT = "--spring.profiles.active=";
+    private static final String BENCHMARK_PROFILE = "benchmark";
+
+    public static void main(String[] args) {
+
+        // Activate the benchmark profile unless a profile has been given
+        // so that both the bootstrap and application contexts use the
+        // local in-memory backends
+        String[] benchmarkArgs = args;
+        if (Arrays.stream(args).noneMatch(
+                arg -> arg.startsWith(PROFILE_ARGUMENT))) {
+            benchmarkArgs = Arrays.copyOf(args, args.length + 1);
+            benchmarkArgs[args.length] = PROFILE_ARGUMENT + BENCHMARK_PROFILE;
+        }
+
+        // Exit once all benchmark tiers have been run
+        System.exit(SpringApplication.exit(SpringApplication.run(
+                PipelineBenchmarkApp.class, benchmarkArgs)));
+
+    }
+
+}
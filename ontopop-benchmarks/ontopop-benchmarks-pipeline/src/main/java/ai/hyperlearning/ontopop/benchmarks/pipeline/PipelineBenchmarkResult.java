@@ -0,0 +1,124 @@
+package ai.hyperlearning.ontopop.benchmarks.pipeline;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Ontology Pipeline Benchmark Result for a single size tier
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class PipelineBenchmarkResult {
+
+    private int entityCount;
+    private long ontologyBytes;
+    private boolean success;
+    private long wallTimeMillis;
+    private long allocatedBytes;
+    private double allocationRateMegabytesPerSecond;
+    private long peakHeapBytes;
+    private Map<String, Long> stageWallTimeMillis = new LinkedHashMap<>();
+    private Map<String, Long> stageAllocatedBytes = new LinkedHashMap<>();
+
+    public PipelineBenchmarkResult() {
+
+    }
+
+    public PipelineBenchmarkResult(int entityCount, long ontologyBytes) {
+        this.entityCount = entityCount;
+        this.ontologyBytes = ontologyBytes;
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    public void setEntityCount(int entityCount) {
+        this.entityCount = entityCount;
+    }
+
+    public long getOntologyBytes() {
+        return ontologyBytes;
+    }
+
+    public void setOntologyBytes(long ontologyBytes) {
+        this.ontologyBytes = ontologyBytes;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public long getWallTimeMillis() {
+        return wallTimeMillis;
+    }
+
+    public void setWallTimeMillis(long wallTimeMillis) {
+        this.wallTimeMillis = wallTimeMillis;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public double getAllocationRateMegabytesPerSecond() {
+        return allocationRateMegabytesPerSecond;
+    }
+
+    public void setAllocationRateMegabytesPerSecond(
+            double allocationRateMegabytesPerSecond) {
+        this.allocationRateMegabytesPerSecond =
+                allocationRateMegabytesPerSecond;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    public void setPeakHeapBytes(long peakHeapBytes) {
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    public Map<String, Long> getStageWallTimeMillis() {
+        return stageWallTimeMillis;
+    }
+
+    public void setStageWallTimeMillis(Map<String, Long> stageWallTimeMillis) {
+        this.stageWallTimeMillis = stageWallTimeMillis;
+    }
+
+    public Map<String, Long> getStageAllocatedBytes() {
+        return stageAllocatedBytes;
+    }
+
+    public void setStageAllocatedBytes(Map<String, Long> stageAllocatedBytes) {
+        this.stageAllocatedBytes = stageAllocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "PipelineBenchmarkResult ["
+                + "entityCount=" + entityCount + ", "
+                + "ontologyBytes=" + ontologyBytes + ", "
+                + "success=" + success + ", "
+                + "wallTimeMillis=" + wallTimeMillis + ", "
+                + "allocatedBytes=" + allocatedBytes + ", "
+                + "allocationRateMegabytesPerSecond="
+                    + allocationRateMegabytesPerSecond + ", "
+                + "peakHeapBytes=" + peakHeapBytes + ", "
+                + "stageWallTimeMillis=" + stageWallTimeMillis + ", "
+                + "stageAllocatedBytes=" + stageAllocatedBytes
+                + "]";
+    }
+
+}
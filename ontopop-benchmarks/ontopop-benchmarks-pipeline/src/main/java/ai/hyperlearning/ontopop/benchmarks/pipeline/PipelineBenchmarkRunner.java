@@ -0,0 +1,281 @@
+package ai.hyperlearning.ontopop.benchmarks.pipeline;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import ai.hyperlearning.ontopop.benchmarks.generator.SyntheticOntologyGenerator;
+import ai.hyperlearning.ontopop.benchmarks.generator.SyntheticOntologyProfile;
+import ai.hyperlearning.ontopop.data.ontology.pipeline.OntologyPipelineStage;
+import ai.hyperlearning.ontopop.data.ontology.pipeline.function.OntologyPipelineFunction;
+import ai.hyperlearning.ontopop.metrics.OntologyPipelineMetricsService;
+import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.storage.ObjectStorageService;
+import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
+import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Ontology Pipeline Benchmark Runner - generates a synthetic ontology for
+ * each configured size tier, runs it end-to-end through the Ontology
+ * Pipeline and reports the wall time, allocation and peak heap per stage
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Component
+public class PipelineBenchmarkRunner implements CommandLineRunner {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(PipelineBenchmarkRunner.class);
+
+    // Synthetic ontology IDs are offset so that they cannot collide with
+    // the IDs of ontologies managed via the OntoPop API
+    private static final int ONTOLOGY_ID_OFFSET = 900000;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+    private static final String RESULTS_FILENAME =
+            "pipeline-benchmark-results.json";
+    private static final String CONSUMPTION_CHANNEL_SUFFIX =
+            "ConsumptionChannel";
+
+    @Autowired
+    private OntologyPipelineFunction ontologyPipelineFunction;
+
+    @Autowired
+    private ObjectStorageServiceFactory objectStorageServiceFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private Map<String, SubscribableChannel> channels;
+
+    @Value("${storage.object.local.baseUri}")
+    private String storageLocalBaseUri;
+
+    @Value("${storage.object.containers.ingested}")
+    private String ingestedDirectoryName;
+
+    @Value("${benchmark.seed:42}")
+    private Long seed;
+
+    @Value("${benchmark.tiers:1000,10000,100000,1000000}")
+    private List<Integer> tiers;
+
+    @Value("${benchmark.outputDirectory:target/benchmarks}")
+    private String outputDirectory;
+
+    @PostConstruct
+    private void postConstruct() {
+
+        // The in-memory binder delivers the messages published by each 
+        // stage back to the consumption channels of the standalone stage 
+        // services, which are not running, so discard them rather than 
+        // timing failed deliveries and their retries
+        channels.forEach((name, channel) -> {
+            if (name.endsWith(CONSUMPTION_CHANNEL_SUFFIX))
+                channel.subscribe(message -> { });
+        });
+
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+
+        LOGGER.info("Ontology Pipeline Benchmark - Started.");
+        ObjectStorageService objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(ObjectStorageServiceType.LOCAL);
+        String ingestedDirectoryUri = storageLocalBaseUri + File.separator
+                + ingestedDirectoryName;
+        if (!objectStorageService.doesContainerExist(ingestedDirectoryUri))
+            objectStorageService.createContainer(ingestedDirectoryUri);
+
+        List<PipelineBenchmarkResult> results = new ArrayList<>();
+        for (int i = 0; i < tiers.size(); i++) {
+            PipelineBenchmarkResult result = runTier(objectStorageService,
+                    ingestedDirectoryUri, ONTOLOGY_ID_OFFSET + i,
+                    tiers.get(i));
+            LOGGER.info("Ontology Pipeline Benchmark - {}", result);
+            results.add(result);
+        }
+
+        logResults(results);
+        writeResults(results);
+        LOGGER.info("Ontology Pipeline Benchmark - Finished.");
+
+    }
+
+    /**
+     * Generate, ingest and run a synthetic ontology through the pipeline
+     *
+     * @param objectStorageService
+     * @param ingestedDirectoryUri
+     * @param ontologyId
+     * @param entityCount
+     * @return
+     * @throws IOException
+     */
+
+    private PipelineBenchmarkResult runTier(
+            ObjectStorageService objectStorageService,
+            String ingestedDirectoryUri, int ontologyId, int entityCount)
+                    throws IOException {
+
+        // Generate the synthetic ontology and ingest it exactly as the
+        // ingestion service would for a new Git webhook
+        long gitWebhookId = System.currentTimeMillis();
+        String processedFilename = ontologyId + "_" + gitWebhookId + ".owl";
+        Path ontologyPath = Files.createTempFile(
+                "ontopop-benchmark-", ".owl");
+        SyntheticOntologyProfile profile = SyntheticOntologyProfile
+                .ofEntityCount(entityCount, seed);
+        LOGGER.info("Ontology Pipeline Benchmark - Generating {}.", profile);
+        PipelineBenchmarkResult result;
+        try {
+            SyntheticOntologyGenerator.generate(profile, ontologyPath);
+            result = new PipelineBenchmarkResult(
+                    entityCount, Files.size(ontologyPath));
+            objectStorageService.uploadObject(ontologyPath.toString(),
+                    ingestedDirectoryUri + File.separator + processedFilename);
+        } finally {
+            Files.deleteIfExists(ontologyPath);
+        }
+
+        // Measure from a settled heap so that the peak reflects this tier
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = getHeapPools();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        // Run the pipeline end-to-end and wait for it to finish
+        String message = new ObjectMapper().writeValueAsString(
+                new OntologyMessage(ontologyId, gitWebhookId,
+                        processedFilename));
+        long startTime = System.nanoTime();
+        ontologyPipelineFunction.accept(message);
+        long wallTimeNanos = System.nanoTime() - startTime;
+        result.setWallTimeMillis(
+                TimeUnit.NANOSECONDS.toMillis(wallTimeNanos));
+        result.setPeakHeapBytes(heapPools.stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum());
+
+        // Collect the per-stage metrics recorded by the pipeline stages
+        String ontologyIdTag = String.valueOf(ontologyId);
+        boolean success = true;
+        long allocatedBytes = 0;
+        for (OntologyPipelineStage stage : OntologyPipelineStage.values()) {
+            String stageTag = stage.name();
+            double stageMillis = meterRegistry
+                    .find(OntologyPipelineMetricsService.STAGE_TIMER)
+                    .tags(OntologyPipelineMetricsService.TAG_STAGE, stageTag,
+                            OntologyPipelineMetricsService.TAG_ONTOLOGY_ID,
+                            ontologyIdTag)
+                    .timers().stream()
+                    .mapToDouble(timer ->
+                            timer.totalTime(TimeUnit.MILLISECONDS))
+                    .sum();
+            long stageAllocatedBytes = (long) meterRegistry
+                    .find(OntologyPipelineMetricsService
+                            .STEP_ALLOCATION_SUMMARY)
+                    .tags(OntologyPipelineMetricsService.TAG_STAGE, stageTag,
+                            OntologyPipelineMetricsService.TAG_ONTOLOGY_ID,
+                            ontologyIdTag)
+                    .summaries().stream()
+                    .mapToDouble(DistributionSummary::totalAmount)
+                    .sum();
+            long stageRuns = meterRegistry
+                    .find(OntologyPipelineMetricsService.STAGE_TIMER)
+                    .tags(OntologyPipelineMetricsService.TAG_STAGE, stageTag,
+                            OntologyPipelineMetricsService.TAG_ONTOLOGY_ID,
+                            ontologyIdTag,
+                            OntologyPipelineMetricsService.TAG_OUTCOME,
+                            OntologyPipelineMetricsService.OUTCOME_SUCCESS)
+                    .timers().stream()
+                    .mapToLong(Timer::count)
+                    .sum();
+            success &= stageRuns > 0;
+            allocatedBytes += stageAllocatedBytes;
+            result.getStageWallTimeMillis().put(
+                    stageTag, Math.round(stageMillis));
+            result.getStageAllocatedBytes().put(
+                    stageTag, stageAllocatedBytes);
+        }
+        result.setSuccess(success);
+        result.setAllocatedBytes(allocatedBytes);
+        result.setAllocationRateMegabytesPerSecond(wallTimeNanos == 0 ? 0 :
+            allocatedBytes / BYTES_PER_MEGABYTE
+                / (wallTimeNanos / (double) TimeUnit.SECONDS.toNanos(1)));
+        return result;
+
+    }
+
+    private List<MemoryPoolMXBean> getHeapPools() {
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP && pool.isValid())
+                heapPools.add(pool);
+        return heapPools;
+    }
+
+    private void logResults(List<PipelineBenchmarkResult> results) {
+        StringBuilder table = new StringBuilder(String.format(
+                "%n%12s %14s %8s %12s %16s %12s %14s",
+                "Entities", "Bytes", "Success", "Wall (ms)", "Allocated (MB)",
+                "MB/s", "Peak heap (MB)"));
+        for (PipelineBenchmarkResult result : results) {
+            table.append(String.format(
+                    "%n%12d %14d %8s %12d %16.1f %12.1f %14.1f",
+                    result.getEntityCount(), result.getOntologyBytes(),
+                    result.isSuccess(), result.getWallTimeMillis(),
+                    result.getAllocatedBytes() / BYTES_PER_MEGABYTE,
+                    result.getAllocationRateMegabytesPerSecond(),
+                    result.getPeakHeapBytes() / BYTES_PER_MEGABYTE));
+            for (OntologyPipelineStage stage : OntologyPipelineStage.values())
+                table.append(String.format(
+                        "%n%12s %-27s %12d %16.1f",
+                        "", stage.name(),
+                        result.getStageWallTimeMillis().get(stage.name()),
+                        result.getStageAllocatedBytes().get(stage.name())
+                            / BYTES_PER_MEGABYTE));
+        }
+        LOGGER.info("Ontology Pipeline Benchmark - Results:{}", table);
+    }
+
+    private void writeResults(List<PipelineBenchmarkResult> results)
+            throws IOException {
+        Path outputPath = Paths.get(outputDirectory);
+        Files.createDirectories(outputPath);
+        Path resultsPath = outputPath.resolve(RESULTS_FILENAME);
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(resultsPath.toFile(), results);
+        LOGGER.info("Ontology Pipeline Benchmark - Results written to {}.",
+                resultsPath.toAbsolutePath());
+    }
+
+}
@@ -0,0 +1,196 @@
+package ai.hyperlearning.ontopop.benchmarks.pipeline.memory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import ai.hyperlearning.ontopop.search.SearchService;
+import ai.hyperlearning.ontopop.search.model.SimpleIndexVertex;
+
+/**
+ * In-Memory Search Service - holds each search index in memory and
+ * performs case-insensitive substring matching for the pipeline
+ * benchmark harness
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Service
+@ConditionalOnProperty(
+        value = "storage.search.service",
+        havingValue = "memory")
+public class InMemorySearchService implements SearchService {
+
+    private static final String PROPERTIES_PREFIX = "properties.";
+
+    private final Map<String, Map<Long, SimpleIndexVertex>> indices =
+            new ConcurrentHashMap<>();
+
+    /**************************************************************************
+     * SEARCH CLIENT MANAGEMENT
+     *************************************************************************/
+
+    @Override
+    public void cleanup() throws Exception {
+
+    }
+
+    /**************************************************************************
+     * SEARCH INDEX MANAGEMENT
+     *************************************************************************/
+
+    @Override
+    public void createIndex(String indexName) {
+        indices.putIfAbsent(indexName, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void createIndex(String indexName, int shards, int replicas) {
+        createIndex(indexName);
+    }
+
+    @Override
+    public void deleteIndex(String indexName) {
+        indices.remove(indexName);
+    }
+
+    /**************************************************************************
+     * DOCUMENT MANAGEMENT
+     *************************************************************************/
+
+    @Override
+    public SimpleIndexVertex getDocument(String indexName, long vertexId) {
+        return getIndex(indexName).get(vertexId);
+    }
+
+    @Override
+    public void indexDocuments(String indexName,
+            Set<SimpleIndexVertex> vertices) {
+        Map<Long, SimpleIndexVertex> index = indices.computeIfAbsent(
+                indexName, key -> new ConcurrentHashMap<>());
+        for (SimpleIndexVertex vertex : vertices)
+            index.put(vertex.getVertexId(), vertex);
+    }
+
+    @Override
+    public void indexDocument(String indexName, SimpleIndexVertex vertex) {
+        indices.computeIfAbsent(indexName, key -> new ConcurrentHashMap<>())
+                .put(vertex.getVertexId(), vertex);
+    }
+
+    @Override
+    public void deleteAllDocuments(String indexName) {
+        getIndex(indexName).clear();
+    }
+
+    @Override
+    public void deleteAllDocuments(String indexName, Class<?> cls) {
+        deleteAllDocuments(indexName);
+    }
+
+    @Override
+    public void deleteDocumentsByPropertyKeyValue(String indexName,
+            String propertyKey, Object propertyValue) {
+        getIndex(indexName).values().removeIf(vertex ->
+                String.valueOf(propertyValue).equals(
+                        String.valueOf(getPropertyValue(vertex, propertyKey))));
+    }
+
+    @Override
+    public void deleteDocumentsByPropertyKeyValue(String indexName,
+            String propertyKey, Object propertyValue, Class<?> cls) {
+        deleteDocumentsByPropertyKeyValue(
+                indexName, propertyKey, propertyValue);
+    }
+
+    @Override
+    public void updateDocumentsByPropertyKeyValue(String indexName,
+            String propertyKey, Object propertyValue,
+            String updatePropertyKey, Object updatePropertyValue) {
+        for (SimpleIndexVertex vertex : getIndex(indexName).values()) {
+            if (vertex.getProperties() != null
+                    && String.valueOf(propertyValue).equals(String.valueOf(
+                            getPropertyValue(vertex, propertyKey))))
+                vertex.getProperties().put(
+                        updatePropertyKey, updatePropertyValue);
+        }
+    }
+
+    /**************************************************************************
+     * SEARCH
+     *************************************************************************/
+
+    @Override
+    public List<SimpleIndexVertex> search(String indexName, String query) {
+        String term = query.toLowerCase(Locale.ROOT);
+        return getIndex(indexName).values().stream()
+                .filter(vertex -> vertex.getProperties() != null
+                        && vertex.getProperties().values().stream()
+                            .anyMatch(value -> matches(value, term)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SimpleIndexVertex> search(String indexName,
+            List<String> propertyKeys, String query, boolean and) {
+        String term = query.toLowerCase(Locale.ROOT);
+        return getIndex(indexName).values().stream()
+                .filter(vertex -> propertyKeys.stream().anyMatch(key ->
+                        matches(getPropertyValue(vertex, key), term)))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SimpleIndexVertex> search(String indexName,
+            String propertyKey, String query, boolean exact, boolean and) {
+        String term = query.toLowerCase(Locale.ROOT);
+        return getIndex(indexName).values().stream()
+                .filter(vertex -> {
+                    Object value = getPropertyValue(vertex, propertyKey);
+                    return exact ? value != null && String.valueOf(value)
+                            .toLowerCase(Locale.ROOT).equals(term) :
+                                matches(value, term);
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<SimpleIndexVertex> search(String indexName,
+            String propertyKey, String query, boolean and,
+            int minimumShouldMatchPercentage) {
+        return search(indexName, propertyKey, query, false, and);
+    }
+
+    private Map<Long, SimpleIndexVertex> getIndex(String indexName) {
+        Map<Long, SimpleIndexVertex> index = indices.get(indexName);
+        return index == null ? Collections.emptyMap() : index;
+    }
+
+    private Object getPropertyValue(SimpleIndexVertex vertex,
+            String propertyKey) {
+        if (propertyKey.equals("vertexId"))
+            return vertex.getVertexId();
+        if (propertyKey.equals("label"))
+            return vertex.getLabel();
+        if (vertex.getProperties() == null)
+            return null;
+        String key = propertyKey.startsWith(PROPERTIES_PREFIX) ?
+                propertyKey.substring(PROPERTIES_PREFIX.length()) :
+                    propertyKey;
+        return vertex.getProperties().get(key);
+    }
+
+    private boolean matches(Object value, String term) {
+        return value != null && String.valueOf(value)
+                .toLowerCase(Locale.ROOT).contains(term);
+    }
+
+}
@@ -0,0 +1,40 @@
+package ai.hyperlearning.ontopop.benchmarks.pipeline.memory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import ai.hyperlearning.ontopop.search.SearchService;
+import ai.hyperlearning.ontopop.search.SearchServiceFactory;
+import ai.hyperlearning.ontopop.search.SearchServiceType;
+
+/**
+ * In-Memory Search Service Factory - selects the in-memory search service
+ * regardless of the requested type whilst benchmarking
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Primary
+@Service
+@ConditionalOnProperty(
+        value = "storage.search.service",
+        havingValue = "memory")
+public class InMemorySearchServiceFactory extends SearchServiceFactory {
+
+    @Autowired
+    private InMemorySearchService inMemorySearchService;
+
+    @Override
+    public SearchService getSearchService(String type) {
+        return inMemorySearchService;
+    }
+
+    @Override
+    public SearchService getSearchService(SearchServiceType searchServiceType) {
+        return inMemorySearchService;
+    }
+
+}
@@ -0,0 +1,175 @@
+package ai.hyperlearning.ontopop.benchmarks.pipeline.memory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.jena.query.Query;
+import org.apache.jena.query.QueryExecution;
+import org.apache.jena.query.QueryExecutionFactory;
+import org.apache.jena.query.QueryFactory;
+import org.apache.jena.query.ResultSetFormatter;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import ai.hyperlearning.ontopop.triplestore.TriplestoreService;
+
+/**
+ * In-Memory Triplestore Service - holds each ontology in an in-memory
+ * Apache Jena model for the pipeline benchmark harness
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Service
+@ConditionalOnProperty(
+        value = "storage.triplestore.service",
+        havingValue = "memory")
+public class InMemoryTriplestoreService implements TriplestoreService {
+
+    private static final String DEFAULT_DATA_ACCEPT_HEADER =
+            "application/ld+json";
+
+    private final Map<Integer, Model> repositories = new ConcurrentHashMap<>();
+
+    /**************************************************************************
+     * TRIPLESTORE MANAGEMENT
+     *************************************************************************/
+
+    @Override
+    public Model getRepository(int id) throws IOException {
+        return repositories.get(id);
+    }
+
+    @Override
+    public void createRepository(int id) throws IOException {
+        repositories.putIfAbsent(id, ModelFactory.createDefaultModel());
+    }
+
+    @Override
+    public void deleteRepository(int id) throws IOException {
+        repositories.remove(id);
+    }
+
+    @Override
+    public void loadOntology(int id, String sourceUri, String contentType)
+            throws IOException {
+
+        // Replace the entire repository
+        repositories.put(id, loadModel(sourceUri, contentType));
+
+    }
+
+    @Override
+    public void updateOntology(int id, String previousSourceUri,
+            String previousContentType, String sourceUri, String contentType)
+                    throws IOException {
+
+        // Apply only the triples that have been deleted and added
+        Model repository = repositories.get(id);
+        if (repository == null) {
+            loadOntology(id, sourceUri, contentType);
+            return;
+        }
+        Model previousModel = loadModel(previousSourceUri, previousContentType);
+        Model currentModel = loadModel(sourceUri, contentType);
+        synchronized (repository) {
+            repository.remove(previousModel.difference(currentModel));
+            repository.add(currentModel.difference(previousModel));
+        }
+
+    }
+
+    private Model loadModel(String sourceUri, String contentType) 
+            throws IOException {
+
+        // Force the language as the file extension of the source may not
+        // reflect its serialization
+        Model model = ModelFactory.createDefaultModel();
+        RDFParser.source(sourceUri).forceLang(toLang(contentType))
+            .parse(model.getGraph());
+        return model;
+
+    }
+
+    private Lang toLang(String contentType) throws IOException {
+        Lang lang = RDFLanguages.contentTypeToLang(contentType);
+        if (lang == null)
+            throw new IOException(
+                    "Unsupported RDF content type " + contentType);
+        return lang;
+    }
+
+    @Override
+    public void cleanup() throws IOException {
+
+    }
+
+    /**************************************************************************
+     * TRIPLESTORE QUERIES
+     *************************************************************************/
+
+    @Override
+    public ResponseEntity<String> query(
+            int id, String sparqlQuery, String acceptHeader) {
+
+        Model repository = repositories.get(id);
+        if (repository == null)
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+
+        // Results are returned in SPARQL 1.1 Query Results JSON format,
+        // or as JSON-LD for graph queries
+        Query query = QueryFactory.create(sparqlQuery);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        synchronized (repository) {
+            try (QueryExecution queryExecution =
+                    QueryExecutionFactory.create(query, repository)) {
+                if (query.isSelectType())
+                    ResultSetFormatter.outputAsJSON(
+                            output, queryExecution.execSelect());
+                else if (query.isAskType())
+                    ResultSetFormatter.outputAsJSON(
+                            output, queryExecution.execAsk());
+                else if (query.isConstructType())
+                    RDFDataMgr.write(output,
+                            queryExecution.execConstruct(), Lang.JSONLD);
+                else
+                    RDFDataMgr.write(output,
+                            queryExecution.execDescribe(), Lang.JSONLD);
+            }
+        }
+        return ResponseEntity.ok(
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+    }
+
+    @Override
+    public ResponseEntity<String> getData(int id, String acceptHeader) {
+
+        Model repository = repositories.get(id);
+        if (repository == null)
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        Lang lang = RDFLanguages.contentTypeToLang(acceptHeader == null ?
+                DEFAULT_DATA_ACCEPT_HEADER : acceptHeader);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        synchronized (repository) {
+            RDFDataMgr.write(output, repository,
+                    lang == null ? Lang.JSONLD : lang);
+        }
+        return ResponseEntity.ok(
+                new String(output.toByteArray(), StandardCharsets.UTF_8));
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package ai.hyperlearning.ontopop.benchmarks.pipeline.memory;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import ai.hyperlearning.ontopop.triplestore.TriplestoreService;
+import ai.hyperlearning.ontopop.triplestore.TriplestoreServiceFactory;
+import ai.hyperlearning.ontopop.triplestore.TriplestoreServiceType;
+
+/**
+ * In-Memory Triplestore Service Factory - selects the in-memory 
+ * triplestore service regardless of the requested type whilst benchmarking
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Primary
+@Service
+@ConditionalOnProperty(
+        value = "storage.triplestore.service",
+        havingValue = "memory")
+public class InMemoryTriplestoreServiceFactory 
+        extends TriplestoreServiceFactory {
+
+    @Autowired
+    private InMemoryTriplestoreService inMemoryTriplestoreService;
+
+    @Override
+    public TriplestoreService getTriplestoreService(String type) {
+        return inMemoryTriplestoreService;
+    }
+
+    @Override
+    public TriplestoreService getTriplestoreService(
+            TriplestoreServiceType triplestoreServiceType) {
+        return inMemoryTriplestoreService;
+    }
+
+}
@@ -31,7 +31,10 @@ import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDiffException;
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDownloadException;
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyMapperInvalidRequestException;
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyNotFoundException;
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyStatisticsNotFoundException;
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyUpdateException;
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyValidationResultDeleteException;
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyValidationResultNotFoundException;
 import ai.hyperlearning.ontopop.exceptions.search.InvalidSearchQueryException;
 import ai.hyperlearning.ontopop.exceptions.security.InvalidClientNameException;
 import ai.hyperlearning.ontopop.exceptions.triplestore.InvalidSparqlQueryException;
@@ -169,6 +172,8 @@ public class OntoPopExceptionHandler extends ResponseEntityExceptionHandler {
     @ExceptionHandler({
         GitWebhookNotFoundException.class, 
         OntologyNotFoundException.class,
+        OntologyStatisticsNotFoundException.class, 
+        OntologyValidationResultNotFoundException.class, 
         WebProtegeWebhookNotFoundException.class })
     protected ResponseEntity<Object> handleNotFound(
             OntoPopException exception, WebRequest request) {
@@ -205,6 +210,7 @@ public class OntoPopExceptionHandler extends ResponseEntityExceptionHandler {
         OntologyDiffException.class, 
         OntologyDownloadException.class, 
         OntologyUpdateException.class, 
+        OntologyValidationResultDeleteException.class, 
         WebProtegeAuthenticationException.class, 
         WebProtegeMissingCredentials.class })
     protected ResponseEntity<Object> handleInternalServerError(
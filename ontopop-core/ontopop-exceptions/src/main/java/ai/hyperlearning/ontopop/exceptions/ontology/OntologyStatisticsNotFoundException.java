@@ -0,0 +1,22 @@
+package ai.hyperlearning.ontopop.exceptions.ontology;
+
+import ai.hyperlearning.ontopop.exceptions.OntoPopException;
+
+/**
+ * Ontology Graph Exception - Statistics Not Found Custom Exception
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OntologyStatisticsNotFoundException extends OntoPopException {
+
+    private static final long serialVersionUID = -6125390747211823645L;
+    private static final String CLASS_NAME = 
+            OntologyStatisticsNotFoundException.class.getSimpleName();
+    
+    public OntologyStatisticsNotFoundException() {
+        super(CLASS_NAME);
+    }
+
+}
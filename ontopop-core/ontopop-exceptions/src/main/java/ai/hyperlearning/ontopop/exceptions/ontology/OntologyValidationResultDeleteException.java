@@ -0,0 +1,22 @@
+package ai.hyperlearning.ontopop.exceptions.ontology;
+
+import ai.hyperlearning.ontopop.exceptions.OntoPopException;
+
+/**
+ * Ontology Management Exception - Delete Validation Result Custom Exception
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OntologyValidationResultDeleteException extends OntoPopException {
+
+    private static final long serialVersionUID = -1862950734117309364L;
+    private static final String CLASS_NAME = 
+            OntologyValidationResultDeleteException.class.getSimpleName();
+
+    public OntologyValidationResultDeleteException() {
+        super(CLASS_NAME);
+    }
+
+}
@@ -0,0 +1,22 @@
+package ai.hyperlearning.ontopop.exceptions.ontology;
+
+import ai.hyperlearning.ontopop.exceptions.OntoPopException;
+
+/**
+ * Ontology Management Exception - Validation Result Not Found Custom Exception
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OntologyValidationResultNotFoundException extends OntoPopException {
+
+    private static final long serialVersionUID = 3391560482275140912L;
+    private static final String CLASS_NAME = 
+            OntologyValidationResultNotFoundException.class.getSimpleName();
+    
+    public OntologyValidationResultNotFoundException() {
+        super(CLASS_NAME);
+    }
+
+}
@@ -102,6 +102,10 @@ public interface GraphDatabaseService {
     public void deleteVertices(String propertyKey, Object propertyValue)
             throws InterruptedException, ExecutionException;
 
+    public void updateVertices(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue)
+            throws InterruptedException, ExecutionException;
+
     /**************************************************************************
      * EDGE MANAGEMENT
      *************************************************************************/
@@ -151,6 +155,10 @@ public interface GraphDatabaseService {
     public void deleteEdges(String propertyKey, Object propertyValue)
             throws InterruptedException, ExecutionException;
 
+    public void updateEdges(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue)
+            throws InterruptedException, ExecutionException;
+
     /**************************************************************************
      * QUERY MANAGEMENT
      *************************************************************************/
@@ -334,6 +334,13 @@ public class GremlinGraphDatabaseService implements GraphDatabaseService {
         g.V().has(propertyKey, propertyValue).drop().iterate();
     }
 
+    @Override
+    public void updateVertices(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue) {
+        g.V().has(propertyKey, propertyValue)
+            .property(updatePropertyKey, updatePropertyValue).iterate();
+    }
+
     /**************************************************************************
      * EDGE MANAGEMENT
      *************************************************************************/
@@ -455,6 +462,13 @@ public class GremlinGraphDatabaseService implements GraphDatabaseService {
         g.E().has(propertyKey, propertyValue).drop().iterate();
     }
 
+    @Override
+    public void updateEdges(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue) {
+        g.E().has(propertyKey, propertyValue)
+            .property(updatePropertyKey, updatePropertyValue).iterate();
+    }
+
     /**************************************************************************
      * QUERY MANAGEMENT
      *************************************************************************/
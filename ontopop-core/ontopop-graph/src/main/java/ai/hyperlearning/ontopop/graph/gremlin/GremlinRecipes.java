@@ -392,6 +392,31 @@ public class GremlinRecipes {
 				+ iterateTraversal(iterate);
 	}
 	
+	/**
+	 * Update a property key/value pair of all vertices with a given
+	 * property key/value pair
+	 * @param propertyKey
+	 * @param propertyValue
+	 * @param updatePropertyKey
+	 * @param updatePropertyValue
+	 * @return
+	 */
+	
+	public static String updateVertices(String propertyKey, 
+			Object propertyValue, String updatePropertyKey, 
+			Object updatePropertyValue, boolean iterate) {
+		String key = updatePropertyKey.equalsIgnoreCase(
+				PROPERTY_KEY_ONTOLOGY_LABEL) ? 
+						PROPERTY_KEY_ONTOLOGY_LABEL_REPLACEMENT : 
+							updatePropertyKey;
+		return "g.V()"
+				+ ".has('" + propertyKey + "', " 
+					+ resolveHasPropertyValue(propertyValue) + ")"
+				+ ".property('" + key + "', " 
+					+ resolveHasPropertyValue(updatePropertyValue) + ")"
+				+ iterateTraversal(iterate);
+	}
+	
 	/**
 	 * Delete a vertex given its vertex ID
 	 * @param vertexId
@@ -682,6 +707,27 @@ public class GremlinRecipes {
 				+ iterateTraversal(iterate);
 	}
 	
+	/**
+	 * Update a property key/value pair of all edges with a given
+	 * property key/value pair
+	 * @param propertyKey
+	 * @param propertyValue
+	 * @param updatePropertyKey
+	 * @param updatePropertyValue
+	 * @return
+	 */
+	
+	public static String updateEdges(String propertyKey, 
+			Object propertyValue, String updatePropertyKey, 
+			Object updatePropertyValue, boolean iterate) {
+		return "g.E()"
+				+ ".has('" + propertyKey + "', " 
+					+ resolveHasPropertyValue(propertyValue) + ")"
+				+ ".property('" + updatePropertyKey + "', " 
+					+ resolveHasPropertyValue(updatePropertyValue) + ")"
+				+ iterateTraversal(iterate);
+	}
+	
 	/**
 	 * Delete a specific edge given an edge ID
 	 * @param edgeId
@@ -460,6 +460,46 @@ public class GremlinServerDriverClientGraphDatabaseService
         
     }
 
+    @Override
+    public void updateVertices(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue)
+            throws InterruptedException, ExecutionException {
+        
+        if ( rateLimiterEnabled ) {
+            
+            int counter = 0;
+            while(true) {
+                
+                try {
+                    
+                    String query = GremlinRecipes.updateVertices(propertyKey, 
+                            propertyValue, updatePropertyKey, 
+                            updatePropertyValue, iterate);
+                    LOGGER.debug("Gremlin Query - Update Vertices: {}", query);
+                    client.submit(query).all().get();
+                    TimeUnit.SECONDS.sleep(RATE_LIMITER_WAIT_SECONDS);
+                    break;
+                    
+                } catch (Exception e) {
+                    TimeUnit.SECONDS.sleep(RATE_LIMITER_WAIT_SECONDS);
+                    if (++counter == rateLimiterMaximumAttempts)
+                        throw e;
+                }
+                
+            }
+            
+        } else {
+            
+            String query = GremlinRecipes.updateVertices(propertyKey, 
+                    propertyValue, updatePropertyKey, updatePropertyValue, 
+                    iterate);
+            LOGGER.debug("Gremlin Query - Update Vertices: {}", query);
+            client.submit(query).all().get();
+            
+        }
+        
+    }
+
     /**************************************************************************
      * EDGE MANAGEMENT
      *************************************************************************/
@@ -692,6 +732,46 @@ public class GremlinServerDriverClientGraphDatabaseService
         
     }
 
+    @Override
+    public void updateEdges(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue)
+            throws InterruptedException, ExecutionException {
+        
+        if ( rateLimiterEnabled ) {
+            
+            int counter = 0;
+            while(true) {
+                
+                try {
+                    
+                    String query = GremlinRecipes.updateEdges(propertyKey, 
+                            propertyValue, updatePropertyKey, 
+                            updatePropertyValue, iterate);
+                    LOGGER.debug("Gremlin Query - Update Edges: {}", query);
+                    client.submit(query).all().get();
+                    TimeUnit.SECONDS.sleep(RATE_LIMITER_WAIT_SECONDS);
+                    break;
+                    
+                } catch (Exception e) {
+                    TimeUnit.SECONDS.sleep(RATE_LIMITER_WAIT_SECONDS);
+                    if (++counter == rateLimiterMaximumAttempts)
+                        throw e;
+                }
+                
+            }
+            
+        } else {
+            
+            String query = GremlinRecipes.updateEdges(propertyKey, 
+                    propertyValue, updatePropertyKey, updatePropertyValue, 
+                    iterate);
+            LOGGER.debug("Gremlin Query - Update Edges: {}", query);
+            client.submit(query).all().get();
+            
+        }
+        
+    }
+
     /**************************************************************************
      * CUSTOM QUERY MANAGEMENT
      *************************************************************************/
@@ -393,6 +393,16 @@ public class GremlinServerHttpWebClientGraphDatabaseService
         LOGGER.debug("Gremlin Query - Delete Vertices: {}", query);
         sendBlockingRequest(query);
     }
+
+    @Override
+    public void updateVertices(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue) {
+        String query = GremlinRecipes.updateVertices(propertyKey, 
+                propertyValue, updatePropertyKey, updatePropertyValue, 
+                iterate);
+        LOGGER.debug("Gremlin Query - Update Vertices: {}", query);
+        sendBlockingRequest(query);
+    }
     
     /**************************************************************************
      * EDGE MANAGEMENT
@@ -551,6 +561,16 @@ public class GremlinServerHttpWebClientGraphDatabaseService
         LOGGER.debug("Gremlin Query - Delete Edges: {}", query);
         sendBlockingRequest(query);
     }
+
+    @Override
+    public void updateEdges(String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue) {
+        String query = GremlinRecipes.updateEdges(propertyKey, 
+                propertyValue, updatePropertyKey, updatePropertyValue, 
+                iterate);
+        LOGGER.debug("Gremlin Query - Update Edges: {}", query);
+        sendBlockingRequest(query);
+    }
     
     /**************************************************************************
      * CUSTOM QUERY MANAGEMENT
@@ -27,4 +27,9 @@ public interface GitWebhookRepository
     Optional<GitWebhook> findByOntologyIdAndGitWebhookId(
             int ontologyId, long gitWebhookId);
 
+    @Query("SELECT w FROM GitWebhook w WHERE w.ontology.id = ?1 AND w.id < ?2 "
+            + "ORDER BY w.id DESC")
+    List<GitWebhook> findPreviousByOntologyIdAndGitWebhookId(
+            int ontologyId, long gitWebhookId);
+
 }
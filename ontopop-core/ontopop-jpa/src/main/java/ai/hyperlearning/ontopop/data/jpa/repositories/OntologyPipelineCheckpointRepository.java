@@ -0,0 +1,27 @@
+package ai.hyperlearning.ontopop.data.jpa.repositories;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineCheckpoint;
+
+/**
+ * Ontology Pipeline Checkpoint Repository
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Repository
+public interface OntologyPipelineCheckpointRepository
+        extends CrudRepository<OntologyPipelineCheckpoint, Long> {
+
+    @Query("SELECT c FROM OntologyPipelineCheckpoint c "
+            + "WHERE c.ontologyId = ?1 AND c.gitWebhookId = ?2")
+    List<OntologyPipelineCheckpoint> findByOntologyIdAndGitWebhookId(
+            int ontologyId, long gitWebhookId);
+
+}
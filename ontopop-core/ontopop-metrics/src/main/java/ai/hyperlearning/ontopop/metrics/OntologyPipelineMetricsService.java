@@ -0,0 +1,242 @@
+package ai.hyperlearning.ontopop.metrics;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Ontology Pipeline Metrics Service - records per-stage and per-step
+ * timers, outcome counters and artifact gauges tagged by stage,
+ * ontology ID and outcome, along with per-step allocation summaries
+ * if enabled
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Service
+public class OntologyPipelineMetricsService {
+
+    public static final String METRIC_PREFIX = "ontopop.pipeline";
+    public static final String STAGE_TIMER = METRIC_PREFIX + ".stage";
+    public static final String STEP_TIMER = METRIC_PREFIX + ".stage.step";
+    public static final String RUN_COUNTER = METRIC_PREFIX + ".stage.runs";
+    public static final String STEP_ALLOCATION_SUMMARY = 
+            METRIC_PREFIX + ".stage.step.allocated";
+
+    public static final String TAG_STAGE = "stage";
+    public static final String TAG_STEP = "step";
+    public static final String TAG_ONTOLOGY_ID = "ontologyId";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    public static final String STEP_SETUP = "setup";
+    public static final String STEP_DOWNLOAD = "download";
+    public static final String STEP_PERSIST = "persist";
+    public static final String STEP_PUBLISH = "publish";
+
+    public static final String GAUGE_VERTICES = "vertices";
+    public static final String GAUGE_EDGES = "edges";
+    public static final String GAUGE_DOCUMENTS = "documents";
+    public static final String GAUGE_ARTIFACT_BYTES = "artifact.bytes";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${pipeline.metrics.allocation.enabled:false}")
+    private Boolean allocationEnabled;
+
+    // Gauges hold a reference to their state object so that the same
+    // AtomicLong must be reused for every update of a given gauge
+    private final Map<String, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+    // Per-thread allocation is measured where the JVM supports it since
+    // each step runs synchronously on the calling thread
+    private final com.sun.management.ThreadMXBean threadMXBean = 
+            getThreadMXBean();
+
+    /**
+     * A single pipeline stage step that returns a result
+     */
+
+    @FunctionalInterface
+    public interface Step<T> {
+        T execute() throws Exception;
+    }
+
+    /**
+     * A single pipeline stage step that returns no result
+     */
+
+    @FunctionalInterface
+    public interface VoidStep {
+        void execute() throws Exception;
+    }
+
+    /**
+     * Start timing a pipeline stage run
+     *
+     * @return
+     */
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * Time a pipeline stage step that returns a result
+     *
+     * @param <T>
+     * @param stage
+     * @param step
+     * @param ontologyId
+     * @param pipelineStep
+     * @return
+     * @throws Exception
+     */
+
+    public <T> T recordStep(String stage, String step, int ontologyId,
+            Step<T> pipelineStep) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long allocatedBytes = Boolean.TRUE.equals(allocationEnabled) ? 
+                getCurrentThreadAllocatedBytes() : -1;
+        String outcome = OUTCOME_FAILURE;
+        try {
+            T result = pipelineStep.execute();
+            outcome = OUTCOME_SUCCESS;
+            return result;
+        } finally {
+            Tags tags = Tags.of(TAG_STAGE, stage, TAG_STEP, step,
+                    TAG_ONTOLOGY_ID, String.valueOf(ontologyId),
+                    TAG_OUTCOME, outcome);
+            sample.stop(meterRegistry.timer(STEP_TIMER, tags));
+            if (allocatedBytes >= 0)
+                DistributionSummary.builder(STEP_ALLOCATION_SUMMARY)
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(getCurrentThreadAllocatedBytes() - allocatedBytes);
+        }
+    }
+
+    /**
+     * Time a pipeline stage step that returns no result
+     *
+     * @param stage
+     * @param step
+     * @param ontologyId
+     * @param pipelineStep
+     * @throws Exception
+     */
+
+    public void recordStep(String stage, String step, int ontologyId,
+            VoidStep pipelineStep) throws Exception {
+        recordStep(stage, step, ontologyId, () -> {
+            pipelineStep.execute();
+            return null;
+        });
+    }
+
+    /**
+     * Record the duration and outcome of a pipeline stage run
+     *
+     * @param sample
+     * @param stage
+     * @param ontologyId
+     * @param success
+     */
+
+    public void recordRun(Timer.Sample sample, String stage, int ontologyId,
+            boolean success) {
+        Tags tags = Tags.of(TAG_STAGE, stage,
+                TAG_ONTOLOGY_ID, String.valueOf(ontologyId),
+                TAG_OUTCOME, success ? OUTCOME_SUCCESS : OUTCOME_FAILURE);
+        sample.stop(meterRegistry.timer(STAGE_TIMER, tags));
+        meterRegistry.counter(RUN_COUNTER, tags).increment();
+    }
+
+    /**
+     * Set the latest value of a pipeline stage gauge, for example the
+     * number of vertices modelled or the size in bytes of an artifact
+     *
+     * @param stage
+     * @param name
+     * @param ontologyId
+     * @param value
+     */
+
+    public void recordGauge(String stage, String name, int ontologyId,
+            long value) {
+        String gaugeName = STAGE_TIMER + "." + name;
+        String ontologyIdTag = String.valueOf(ontologyId);
+        gauges.computeIfAbsent(
+                gaugeName + "|" + stage + "|" + ontologyIdTag,
+                key -> meterRegistry.gauge(gaugeName,
+                        Tags.of(TAG_STAGE, stage,
+                                TAG_ONTOLOGY_ID, ontologyIdTag),
+                        new AtomicLong()))
+            .set(value);
+    }
+
+    /**
+     * Get the number of bytes allocated by the current thread
+     *
+     * @return the allocated bytes, or -1 if not supported by the JVM
+     */
+
+    private long getCurrentThreadAllocatedBytes() {
+        return threadMXBean == null ? -1 : 
+            threadMXBean.getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+    }
+
+    /**
+     * Get the thread MX bean if per-thread allocation is measurable
+     *
+     * @return the thread MX bean, or null if not supported by the JVM
+     */
+
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean bean = 
+                ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean threadMXBean = 
+                    (com.sun.management.ThreadMXBean) bean;
+            if (threadMXBean.isThreadAllocatedMemorySupported() 
+                    && threadMXBean.isThreadAllocatedMemoryEnabled())
+                return threadMXBean;
+        }
+        return null;
+    }
+
+    /**
+     * Record the size in bytes of a local artifact file if it exists
+     *
+     * @param stage
+     * @param ontologyId
+     * @param fileUri
+     */
+
+    public void recordArtifactBytes(String stage, int ontologyId,
+            String fileUri) {
+        if (fileUri != null) {
+            File file = new File(fileUri);
+            if (file.isFile())
+                recordGauge(stage, GAUGE_ARTIFACT_BYTES, ontologyId,
+                        file.length());
+        }
+    }
+
+}
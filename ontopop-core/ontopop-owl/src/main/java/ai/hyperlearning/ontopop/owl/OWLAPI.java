@@ -7,14 +7,22 @@ import java.io.InputStream;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.riot.RDFDataMgr;
@@ -22,10 +30,16 @@ import org.apache.jena.riot.RDFFormat;
 
 import org.semanticweb.HermiT.Configuration;
 import org.semanticweb.HermiT.Reasoner;
-import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.NTriplesDocumentFormat;
+import org.semanticweb.owlapi.formats.OWLXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFJsonLDDocumentFormat;
+import org.semanticweb.owlapi.formats.RDFXMLDocumentFormat;
+import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
+import org.semanticweb.owlapi.io.FileDocumentSource;
 import org.semanticweb.owlapi.io.OWLXMLOntologyFormat;
 import org.semanticweb.owlapi.io.RDFXMLOntologyFormat;
 import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLAnnotation;
 import org.semanticweb.owlapi.model.OWLAnnotationProperty;
 import org.semanticweb.owlapi.model.OWLAnnotationValue;
@@ -35,6 +49,7 @@ import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLDatatype;
+import org.semanticweb.owlapi.model.OWLDocumentFormat;
 import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
@@ -47,17 +62,26 @@ import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLOntologyStorageException;
 import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
 import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+import org.semanticweb.owlapi.profiles.Profiles;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.search.EntitySearcher;
 import org.semanticweb.owlapi.util.OWLAPIStreamUtils;
 import org.semanticweb.owlapi.vocab.OWLRDFVocabulary;
 
 import com.apicatalog.jsonld.StringUtils;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.Files;
 
+import ai.hyperlearning.ontopop.model.ontology.OntologySourceFormat;
+import ai.hyperlearning.ontopop.model.owl.IRIDictionary;
 import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
 import ai.hyperlearning.ontopop.model.owl.SimpleClass;
 import ai.hyperlearning.ontopop.model.owl.SimpleNamedIndividual;
 import ai.hyperlearning.ontopop.model.owl.SimpleObjectProperty;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntologyStatistics;
 import ai.hyperlearning.ontopop.model.owl.diff.SimpleAnnotationPropertyDiff;
 import ai.hyperlearning.ontopop.model.owl.diff.SimpleClassDiff;
 import ai.hyperlearning.ontopop.model.owl.diff.SimpleObjectPropertyDiff;
@@ -73,13 +97,24 @@ import ai.hyperlearning.ontopop.model.owl.diff.SimpleOntologyDiff;
 @SuppressWarnings("deprecation")
 public class OWLAPI {
 
-    private static final OWLOntologyManager SHARED_OWL_ONTOLOGY_MANAGER =
-            OWLManager.createOWLOntologyManager();
     private static final OWLDataFactory SHARED_OWL_DATA_FACTORY =
-            SHARED_OWL_ONTOLOGY_MANAGER.getOWLDataFactory();
+            OWLOntologyManagerPool.getOWLDataFactory();
     private static final String DELIMITER = "|";
     private static final Pattern CAPITAL_LETTER_PATTERN = 
             Pattern.compile("([A-Z])");
+    private static final Pattern MULTIPLE_SPACES_PATTERN = 
+            Pattern.compile(" +");
+    
+    // Annotations are ordered by property IRI and then literal value since
+    // the OWL API returns them in hash order
+    private static final Comparator<OWLAnnotation> ANNOTATION_ORDER = 
+            Comparator.comparing((OWLAnnotation annotation) -> 
+                    annotation.getProperty().getIRI().toString())
+                .thenComparing(OWLAPI::getAnnotationValueLiteral);
+    
+    // Tractable OWL 2 profiles in order of reasoning cost
+    private static final List<Profiles> TRACTABLE_PROFILES = List.of(
+            Profiles.OWL2_EL, Profiles.OWL2_QL, Profiles.OWL2_RL);
     
     private OWLAPI() {
         throw new IllegalStateException("The OWLAPI "
@@ -94,10 +129,9 @@ public class OWLAPI {
         if ( StringUtils.isBlank(text) ) 
             return text;
         Matcher matcher = CAPITAL_LETTER_PATTERN.matcher(text);
-        String result = matcher
-                .replaceAll(" $1")
-                .strip()
-                .replaceAll(" +", " ");
+        String result = MULTIPLE_SPACES_PATTERN
+                .matcher(matcher.replaceAll(" $1").strip())
+                .replaceAll(" ");
         return result.substring(0, 1).toUpperCase() 
                 + result.substring(1).toLowerCase();
     }
@@ -107,7 +141,9 @@ public class OWLAPI {
      *************************************************************************/
 
     /**
-     * Load an OWL ontology given an OWL file
+     * Load an OWL ontology given an OWL file using a pooled manager, which
+     * may be returned to the pool via OWLOntologyManagerPool.release once
+     * the ontology is no longer used
      * 
      * @param owlFile
      * @return
@@ -117,12 +153,71 @@ public class OWLAPI {
     public static OWLOntology loadOntology(File owlFile)
             throws OWLOntologyCreationException {
         OWLOntologyManager owlOntologyManager = 
-                OWLManager.createOWLOntologyManager();
-        return owlOntologyManager.loadOntologyFromOntologyDocument(owlFile);
+                OWLOntologyManagerPool.borrow();
+        try {
+            return owlOntologyManager.loadOntologyFromOntologyDocument(owlFile);
+        } catch (OWLOntologyCreationException | RuntimeException e) {
+            OWLOntologyManagerPool.release(owlOntologyManager);
+            throw e;
+        }
+    }
+
+    /**
+     * Load an OWL ontology given an OWL file in a known source format 
+     * using a pooled manager, so that only the parser for that format is
+     * tried rather than every registered parser in turn
+     * 
+     * @param owlFile
+     * @param sourceFormat the source format, or null to detect it
+     * @return
+     * @throws OWLOntologyCreationException
+     */
+
+    public static OWLOntology loadOntology(File owlFile, 
+            OntologySourceFormat sourceFormat)
+                    throws OWLOntologyCreationException {
+        if (sourceFormat == null)
+            return loadOntology(owlFile);
+        OWLOntologyManager owlOntologyManager = 
+                OWLOntologyManagerPool.borrow();
+        try {
+            return owlOntologyManager.loadOntologyFromOntologyDocument(
+                    new FileDocumentSource(owlFile, 
+                            toOWLDocumentFormat(sourceFormat), 
+                            sourceFormat.getContentType()));
+        } catch (OWLOntologyCreationException | RuntimeException e) {
+            OWLOntologyManagerPool.release(owlOntologyManager);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the OWL API document format of a given ontology source format
+     * 
+     * @param sourceFormat
+     * @return
+     */
+
+    public static OWLDocumentFormat toOWLDocumentFormat(
+            OntologySourceFormat sourceFormat) {
+        switch (sourceFormat) {
+            case OWL_XML:
+                return new OWLXMLDocumentFormat();
+            case TURTLE:
+                return new TurtleDocumentFormat();
+            case N_TRIPLES:
+                return new NTriplesDocumentFormat();
+            case JSON_LD:
+                return new RDFJsonLDDocumentFormat();
+            default:
+                return new RDFXMLDocumentFormat();
+        }
     }
 
     /**
-     * Load an OWL ontology given an input stream to an OWL file
+     * Load an OWL ontology given an input stream to an OWL file using a 
+     * pooled manager, which may be returned to the pool via 
+     * OWLOntologyManagerPool.release once the ontology is no longer used
      * 
      * @param owlFile
      * @return
@@ -132,10 +227,51 @@ public class OWLAPI {
     public static OWLOntology loadOntology(InputStream owlFile)
             throws OWLOntologyCreationException {
         OWLOntologyManager owlOntologyManager = 
-                OWLManager.createOWLOntologyManager();
-        return owlOntologyManager.loadOntologyFromOntologyDocument(owlFile);
+                OWLOntologyManagerPool.borrow();
+        try {
+            return owlOntologyManager.loadOntologyFromOntologyDocument(owlFile);
+        } catch (OWLOntologyCreationException | RuntimeException e) {
+            OWLOntologyManagerPool.release(owlOntologyManager);
+            throw e;
+        }
     }
-    
+
+    /**
+     * Compute the SHA-256 hash of a given OWL file together with the
+     * documents of its resolved imports closure, ordered by document IRI
+     *
+     * @param owlFile
+     * @param ontology the ontology loaded from the OWL file
+     * @return the hex-encoded hash, or null if an imported ontology was
+     *         not loaded from a local document and so cannot be hashed
+     * @throws IOException
+     */
+
+    public static String getContentHash(File owlFile, OWLOntology ontology)
+            throws IOException {
+        OWLOntologyManager owlOntologyManager =
+                ontology.getOWLOntologyManager();
+        List<IRI> importedDocumentIris = ontology.importsClosure()
+                .filter(importedOntology -> importedOntology != ontology)
+                .map(owlOntologyManager::getOntologyDocumentIRI)
+                .sorted(Comparator.comparing(IRI::toString))
+                .collect(Collectors.toList());
+        Hasher hasher = Hashing.sha256().newHasher();
+        putDocument(hasher, owlFile);
+        for (IRI importedDocumentIri : importedDocumentIris) {
+            if (!"file".equals(importedDocumentIri.getScheme()))
+                return null;
+            putDocument(hasher, new File(importedDocumentIri.toURI()));
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putDocument(Hasher hasher, File document)
+            throws IOException {
+        hasher.putLong(document.length());
+        Files.asByteSource(document).copyTo(Funnels.asOutputStream(hasher));
+    }
+
     /**************************************************************************
      * Converters
      * @throws OWLOntologyStorageException 
@@ -151,7 +287,7 @@ public class OWLAPI {
     public static String toRdfXml(OWLOntology ontology) 
             throws OWLOntologyStorageException {
         OWLOntologyManager owlOntologyManager = 
-                OWLManager.createOWLOntologyManager();
+                OWLOntologyManagerPool.borrow();
         RDFXMLOntologyFormat rdfXmlFormat = new RDFXMLOntologyFormat();
         ByteArrayOutputStream output = new ByteArrayOutputStream();
         String rdfXml = null;
@@ -159,6 +295,7 @@ public class OWLAPI {
             owlOntologyManager.saveOntology(ontology, rdfXmlFormat, output);
             rdfXml = new String(output.toByteArray());
         } finally {
+            OWLOntologyManagerPool.release(owlOntologyManager);
             try {
                 output.close();
             } catch (Exception e) {
@@ -171,7 +308,11 @@ public class OWLAPI {
     public static String toRdfXml(String owlFile) 
             throws OWLOntologyCreationException, OWLOntologyStorageException {
         OWLOntology owlOntology = loadOntology(new File(owlFile));
-        return toRdfXml(owlOntology); 
+        try {
+            return toRdfXml(owlOntology);
+        } finally {
+            OWLOntologyManagerPool.release(owlOntology);
+        }
     }
     
     /**
@@ -184,7 +325,7 @@ public class OWLAPI {
     public static String toOwlXml(OWLOntology ontology) 
             throws OWLOntologyStorageException {
         OWLOntologyManager owlOntologyManager = 
-                OWLManager.createOWLOntologyManager();
+                OWLOntologyManagerPool.borrow();
         OWLXMLOntologyFormat owlXmlFormat = new OWLXMLOntologyFormat();
         ByteArrayOutputStream output = new ByteArrayOutputStream();
         String owlXml = null;
@@ -192,6 +333,7 @@ public class OWLAPI {
             owlOntologyManager.saveOntology(ontology, owlXmlFormat, output);
             owlXml = new String(output.toByteArray());
         } finally {
+            OWLOntologyManagerPool.release(owlOntologyManager);
             try {
                 output.close();
             } catch (Exception e) {
@@ -204,7 +346,11 @@ public class OWLAPI {
     public static String toOwlXml(String owlFile) 
             throws OWLOntologyCreationException, OWLOntologyStorageException {
         OWLOntology owlOntology = loadOntology(new File(owlFile));
-        return toOwlXml(owlOntology); 
+        try {
+            return toOwlXml(owlOntology);
+        } finally {
+            OWLOntologyManagerPool.release(owlOntology);
+        }
     }
     
     /**
@@ -252,6 +398,23 @@ public class OWLAPI {
         return reasoner.isConsistent();
     }
 
+    /**
+     * Get the tractable OWL 2 profiles (EL, QL and RL) that a given 
+     * ontology, including its imports closure, conforms to
+     * 
+     * @param ontology
+     * @return
+     */
+
+    public static List<Profiles> getTractableProfiles(OWLOntology ontology) {
+        List<Profiles> profiles = new ArrayList<>();
+        for (Profiles profile : TRACTABLE_PROFILES) {
+            if (profile.checkOntology(ontology).isInProfile())
+                profiles.add(profile);
+        }
+        return profiles;
+    }
+
     /**************************************************************************
      * Annotations
      *************************************************************************/
@@ -273,6 +436,58 @@ public class OWLAPI {
 
     }
 
+    /**
+     * Extract the literal value of an annotation value, interning IRI 
+     * values in a given IRI dictionary unless it is null
+     * 
+     * @param iriDictionary
+     * @param annotation
+     * @return
+     */
+
+    private static String getInternedAnnotationValueLiteral(
+            IRIDictionary iriDictionary, OWLAnnotation annotation) {
+        OWLAnnotationValue annotationValue = annotation.getValue();
+        return annotationValue.isIRI() ? 
+                iriString(iriDictionary, (IRI) annotationValue) : 
+                getAnnotationValueLiteral(annotation);
+    }
+
+    /**
+     * Get the string form of an IRI, interned in a given IRI dictionary 
+     * unless it is null
+     * 
+     * @param iriDictionary
+     * @param iri
+     * @return
+     */
+
+    private static String iriString(IRIDictionary iriDictionary, IRI iri) {
+        return iriDictionary == null ? 
+                iri.toString() : iriDictionary.intern(iri.toString());
+    }
+
+    /**
+     * Get the annotations of a given OWL entity, either from a given axiom
+     * index or, if it is null, by searching the ontology, ordered by
+     * property IRI and literal value
+     * 
+     * @param ontology
+     * @param axiomIndex
+     * @param owlEntity
+     * @return
+     */
+
+    private static List<OWLAnnotation> getAnnotations(OWLOntology ontology, 
+            OWLEntityAxiomIndex axiomIndex, OWLEntity owlEntity) {
+        List<OWLAnnotation> annotations = axiomIndex == null ? 
+                OWLAPIStreamUtils.asList(
+                        EntitySearcher.getAnnotations(owlEntity, ontology)) : 
+                new ArrayList<>(axiomIndex.getAnnotations(owlEntity.getIRI()));
+        annotations.sort(ANNOTATION_ORDER);
+        return annotations;
+    }
+
     /**
      * Extract the RDFS Label literal value from a given list of OWL annotations
      * 
@@ -345,6 +560,39 @@ public class OWLAPI {
 
     public static Map<String, SimpleAnnotationProperty> parseAnnotationProperties(
             OWLOntology ontology) {
+        return parseAnnotationProperties(ontology, null);
+    }
+
+    /**
+     * Parse the ontology and generate a map of Annotation Property IRI to
+     * OntoPop Simple Annotation Property objects using a given axiom index
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each annotation property in the ontology
+     * @return
+     */
+
+    public static Map<String, SimpleAnnotationProperty> parseAnnotationProperties(
+            OWLOntology ontology, OWLEntityAxiomIndex axiomIndex) {
+        return parseAnnotationProperties(ontology, axiomIndex, null);
+    }
+
+    /**
+     * Parse the ontology and generate a map of IRI to OntoPop Simple 
+     * Annotation Property objects using a given axiom index, interning the 
+     * IRIs in a given IRI dictionary
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each annotation property in the ontology
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @return
+     */
+
+    public static Map<String, SimpleAnnotationProperty> parseAnnotationProperties(
+            OWLOntology ontology, OWLEntityAxiomIndex axiomIndex, 
+            IRIDictionary iriDictionary) {
 
         Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap =
                 new LinkedHashMap<>();
@@ -356,13 +604,12 @@ public class OWLAPI {
 
             // Get the OWL annotation property IRI
             String annotationPropertyIri =
-                    owlAnnotationProperty.getIRI().toString();
+                    iriString(iriDictionary, owlAnnotationProperty.getIRI());
 
             // Extract the list of OWL annotations from this
             // OWL annotation property
-            List<OWLAnnotation> owlAnnotations =
-                    OWLAPIStreamUtils.asList(EntitySearcher
-                            .getAnnotations(owlAnnotationProperty, ontology));
+            List<OWLAnnotation> owlAnnotations = getAnnotations(
+                    ontology, axiomIndex, owlAnnotationProperty);
 
             // Get the OWL annotation property RDFS Label
             String annotationPropertyRDFSLabel = getRDFSLabel(owlAnnotations);
@@ -370,11 +617,13 @@ public class OWLAPI {
             // Generate a map of annotation IRI to annotation literal value
             Map<String, String> annotations = new LinkedHashMap<>();
             for (OWLAnnotation owlAnnotation : owlAnnotations) {
-                String iri = owlAnnotation.getProperty().getIRI().toString();
-                String literalValue = annotations.containsKey(iri) ? 
-                        annotations.get(iri) + " " + DELIMITER + " " + 
-                            getAnnotationValueLiteral(owlAnnotation) : 
-                                getAnnotationValueLiteral(owlAnnotation);
+                String iri = iriString(iriDictionary, 
+                        owlAnnotation.getProperty().getIRI());
+                String literalValue = getInternedAnnotationValueLiteral(
+                        iriDictionary, owlAnnotation);
+                if (annotations.containsKey(iri))
+                    literalValue = annotations.get(iri) + " " + DELIMITER 
+                            + " " + literalValue;
                 annotations.put(iri, literalValue);
             }
 
@@ -449,6 +698,39 @@ public class OWLAPI {
 
     public static Map<String, SimpleObjectProperty> parseObjectProperties(
             OWLOntology ontology) {
+        return parseObjectProperties(ontology, null);
+    }
+
+    /**
+     * Parse the ontology and generate a map of Object Property IRI to OntoPop
+     * Simple Object Property objects using a given axiom index
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each object property in the ontology
+     * @return
+     */
+
+    public static Map<String, SimpleObjectProperty> parseObjectProperties(
+            OWLOntology ontology, OWLEntityAxiomIndex axiomIndex) {
+        return parseObjectProperties(ontology, axiomIndex, null);
+    }
+
+    /**
+     * Parse the ontology and generate a map of IRI to OntoPop Simple 
+     * Object Property objects using a given axiom index, interning the 
+     * IRIs in a given IRI dictionary
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each object property in the ontology
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @return
+     */
+
+    public static Map<String, SimpleObjectProperty> parseObjectProperties(
+            OWLOntology ontology, OWLEntityAxiomIndex axiomIndex, 
+            IRIDictionary iriDictionary) {
 
         Map<String, SimpleObjectProperty> simpleObjectPropertyMap =
                 new LinkedHashMap<>();
@@ -459,12 +741,13 @@ public class OWLAPI {
         for (OWLObjectProperty owlObjectProperty : owlObjectProperties) {
 
             // Get the OWL object property IRI
-            String objectPropertyIri = owlObjectProperty.getIRI().toString();
+            String objectPropertyIri = 
+                    iriString(iriDictionary, owlObjectProperty.getIRI());
 
             // Extract the list of OWL annotations from this
             // OWL object property
-            List<OWLAnnotation> owlAnnotations = OWLAPIStreamUtils.asList(
-                    EntitySearcher.getAnnotations(owlObjectProperty, ontology));
+            List<OWLAnnotation> owlAnnotations = getAnnotations(
+                    ontology, axiomIndex, owlObjectProperty);
 
             // Get the OWL object property RDFS Label
             String objectPropertyRDFSLabel = getRDFSLabel(owlAnnotations);
@@ -475,11 +758,13 @@ public class OWLAPI {
             // Generate a map of annotation IRI to annotation literal value
             Map<String, String> annotations = new LinkedHashMap<>();
             for (OWLAnnotation owlAnnotation : owlAnnotations) {
-                String iri = owlAnnotation.getProperty().getIRI().toString();
-                String literalValue = annotations.containsKey(iri) ? 
-                        annotations.get(iri) + " " + DELIMITER + " " + 
-                            getAnnotationValueLiteral(owlAnnotation) : 
-                                getAnnotationValueLiteral(owlAnnotation);
+                String iri = iriString(iriDictionary, 
+                        owlAnnotation.getProperty().getIRI());
+                String literalValue = getInternedAnnotationValueLiteral(
+                        iriDictionary, owlAnnotation);
+                if (annotations.containsKey(iri))
+                    literalValue = annotations.get(iri) + " " + DELIMITER 
+                            + " " + literalValue;
                 annotations.put(iri, literalValue);
             }
             
@@ -498,8 +783,11 @@ public class OWLAPI {
             simpleObjectProperty.setAnnotations(annotations);
 
             // Get all axioms for this object property
-            List<OWLAxiom> owlObjectPropertyReferencingAxioms =
-                    OWLAPI.getReferencingAxioms(ontology, owlObjectProperty);
+            List<OWLAxiom> owlObjectPropertyReferencingAxioms = 
+                    axiomIndex == null ? 
+                        OWLAPI.getReferencingAxioms(ontology, owlObjectProperty) : 
+                        axiomIndex.getSubObjectPropertyOfAxioms(
+                                owlObjectProperty.getIRI());
             for (OWLAxiom owlObjectPropertyReferencingAxiom : owlObjectPropertyReferencingAxioms) {
                 if (owlObjectPropertyReferencingAxiom
                         .getAxiomType() == AxiomType.SUB_OBJECT_PROPERTY) {
@@ -507,15 +795,19 @@ public class OWLAPI {
                     // Get the parent object property IRI
                     OWLSubObjectPropertyOfAxiom owlObjectPropertySubObjectPropertyOfAxiom =
                             (OWLSubObjectPropertyOfAxiom) owlObjectPropertyReferencingAxiom;
-                    String superObjectPropertyIRI =
+                    String superObjectPropertyIRI = iriString(iriDictionary,
                             owlObjectPropertySubObjectPropertyOfAxiom
                                     .getSuperProperty().asOWLObjectProperty()
-                                    .getIRI().toString();
-                    if ( !objectPropertyIri.equals(superObjectPropertyIRI) ) {
+                                    .getIRI());
+                    String parentObjectPropertyIRI = simpleObjectProperty
+                            .getParentObjectPropertyIRI();
+                    if ( !objectPropertyIri.equals(superObjectPropertyIRI) 
+                            && (parentObjectPropertyIRI == null 
+                                || superObjectPropertyIRI.compareTo(
+                                        parentObjectPropertyIRI) < 0) ) {
                         simpleObjectProperty
                             .setParentObjectPropertyIRI(
                                     superObjectPropertyIRI);
-                        break;
                     }
 
                 }
@@ -556,6 +848,38 @@ public class OWLAPI {
     
     public static Map<String, SimpleNamedIndividual> parseNamedIndividuals(
             OWLOntology ontology) {
+        return parseNamedIndividuals(ontology, null);
+    }
+    
+    /**
+     * Parse the ontology and generate a map of Named Individual IRI to 
+     * OntoPop Simple Named Individual objects using a given axiom index
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each named individual in the ontology
+     * @return
+     */
+    
+    public static Map<String, SimpleNamedIndividual> parseNamedIndividuals(
+            OWLOntology ontology, OWLEntityAxiomIndex axiomIndex) {
+        return parseNamedIndividuals(ontology, axiomIndex, null);
+    }
+
+    /**
+     * Parse the ontology and generate a map of IRI to OntoPop Simple 
+     * Named Individual objects using a given axiom index, interning the 
+     * IRIs in a given IRI dictionary
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each named individual in the ontology
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @return
+     */
+
+    public static Map<String, SimpleNamedIndividual> parseNamedIndividuals(
+            OWLOntology ontology, OWLEntityAxiomIndex axiomIndex, 
+            IRIDictionary iriDictionary) {
         
         Map<String, SimpleNamedIndividual> simpleNamedIndividualsMap = 
                 new LinkedHashMap<>();
@@ -565,12 +889,12 @@ public class OWLAPI {
         for (OWLNamedIndividual namedIndividual : namedIndividuals) {
             
             // Get the named individual IRI
-            String namedIndividualIri = namedIndividual.getIRI().toString();
+            String namedIndividualIri = 
+                    iriString(iriDictionary, namedIndividual.getIRI());
             
             // Extract the list of OWL annotations from this named individual
-            List<OWLAnnotation> owlAnnotations = OWLAPIStreamUtils
-                    .asList(EntitySearcher.getAnnotations(
-                            namedIndividual, ontology));
+            List<OWLAnnotation> owlAnnotations = getAnnotations(
+                    ontology, axiomIndex, namedIndividual);
             
             // Get the named individual RDFS Label
             String namedIndividualRDFSLabel = getRDFSLabel(owlAnnotations);
@@ -581,11 +905,13 @@ public class OWLAPI {
             // Generate a map of annotation IRI to annotation literal value
             Map<String, String> annotations = new LinkedHashMap<>();
             for (OWLAnnotation owlAnnotation : owlAnnotations) {
-                String iri = owlAnnotation.getProperty().getIRI().toString();
-                String literalValue = annotations.containsKey(iri) ? 
-                        annotations.get(iri) + " " + DELIMITER + " " + 
-                            getAnnotationValueLiteral(owlAnnotation) : 
-                                getAnnotationValueLiteral(owlAnnotation);
+                String iri = iriString(iriDictionary, 
+                        owlAnnotation.getProperty().getIRI());
+                String literalValue = getInternedAnnotationValueLiteral(
+                        iriDictionary, owlAnnotation);
+                if (annotations.containsKey(iri))
+                    literalValue = annotations.get(iri) + " " + DELIMITER 
+                            + " " + literalValue;
                 annotations.put(iri, literalValue);
             }
             
@@ -604,10 +930,12 @@ public class OWLAPI {
             simpleNamedIndividual.setAnnotations(annotations);
             
             // Get all axioms for this class
-            List<OWLAxiom> axioms = OWLAPI.getReferencingAxioms(ontology, 
-                    namedIndividual);
-            Set<String> instanceOfClassIris = new LinkedHashSet<>();
-            Map<String, String> linkedNamedIndividuals = new LinkedHashMap<>();
+            List<OWLAxiom> axioms = axiomIndex == null ? 
+                    OWLAPI.getReferencingAxioms(ontology, namedIndividual) : 
+                    axiomIndex.getNamedIndividualAxioms(
+                            namedIndividual.getIRI());
+            Set<String> instanceOfClassIris = new TreeSet<>();
+            Map<String, String> linkedNamedIndividuals = new TreeMap<>();
             for (OWLAxiom axiom : axioms) {
                 
                 // Get the instance class types 
@@ -618,10 +946,10 @@ public class OWLAPI {
                         Set<OWLClass> classes = classAssertion
                                 .getClassesInSignature();
                         for (OWLClass owlClass : classes) {
-                            String classIri = owlClass.getIRI().toString();
+                            String classIri = 
+                                    iriString(iriDictionary, owlClass.getIRI());
                             if (!namedIndividualIri.equals(classIri))
-                                instanceOfClassIris.add(
-                                        owlClass.getIRI().toString());
+                                instanceOfClassIris.add(classIri);
                         }
                     }
                 }
@@ -650,18 +978,26 @@ public class OWLAPI {
                                 Iterator<OWLNamedIndividual> iterator = 
                                         axiomNamedIndividuals.iterator();
                                 while(iterator.hasNext()) {
-                                    axiomTargetNamedIndividualIRI = iterator
-                                            .next().getIRI().toString();
+                                    axiomTargetNamedIndividualIRI = iriString(
+                                            iriDictionary, 
+                                            iterator.next().getIRI());
                                 }
                                 
-                                // Add to the map of linked named individuals
+                                // Add to the map of linked named 
+                                // individuals, keeping the first object 
+                                // property IRI when there are several
                                 if (axiomTargetNamedIndividualIRI != null &&
                                         !namedIndividualIri.equals(
                                                 axiomTargetNamedIndividualIRI))
-                                    linkedNamedIndividuals.put(
+                                    linkedNamedIndividuals.merge(
                                             axiomTargetNamedIndividualIRI, 
-                                            axiomObjectProperty.getIRI()
-                                            .toString());
+                                            iriString(iriDictionary, 
+                                                    axiomObjectProperty
+                                                        .getIRI()), 
+                                            (current, objectPropertyIRI) -> 
+                                                current.compareTo(
+                                                        objectPropertyIRI) <= 0 ? 
+                                                    current : objectPropertyIRI);
                             }
                             
                         }
@@ -673,10 +1009,12 @@ public class OWLAPI {
             }
             
             // Set the class IRIs
-            simpleNamedIndividual.setInstanceOfClassIris(instanceOfClassIris);
+            simpleNamedIndividual.setInstanceOfClassIris(
+                    new LinkedHashSet<>(instanceOfClassIris));
             
             // Set the linked Named Individuals
-            simpleNamedIndividual.setLinkedNamedIndividuals(linkedNamedIndividuals);
+            simpleNamedIndividual.setLinkedNamedIndividuals(
+                    new LinkedHashMap<>(linkedNamedIndividuals));
             
             // Add the new Simple Named Individual object to the map of 
             // Simple Named Individual objects
@@ -726,19 +1064,69 @@ public class OWLAPI {
      */
 
     public static Map<String, SimpleClass> parseClasses(OWLOntology ontology) {
+        return parseClasses(ontology, null);
+    }
+
+    /**
+     * Parse the ontology and generate a map of Class IRI to OntoPop Simple
+     * Class objects using a given axiom index
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each class in the ontology
+     * @return
+     */
+
+    public static Map<String, SimpleClass> parseClasses(OWLOntology ontology, 
+            OWLEntityAxiomIndex axiomIndex) {
+        return parseClasses(ontology, axiomIndex, null);
+    }
+
+    /**
+     * Parse the ontology and generate a map of Class IRI to OntoPop Simple
+     * Class objects using a given axiom index, interning the IRIs in a 
+     * given IRI dictionary
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each class in the ontology
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @return
+     */
+
+    public static Map<String, SimpleClass> parseClasses(OWLOntology ontology, 
+            OWLEntityAxiomIndex axiomIndex, IRIDictionary iriDictionary) {
+        return parseClasses(ontology, axiomIndex, iriDictionary, 
+                getClasses(ontology));
+    }
+
+    /**
+     * Parse a given subset of the classes of the ontology and generate a 
+     * map of Class IRI to OntoPop Simple Class objects
+     * 
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each class in the ontology
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @param owlClasses
+     * @return
+     */
+
+    private static Map<String, SimpleClass> parseClasses(OWLOntology ontology, 
+            OWLEntityAxiomIndex axiomIndex, IRIDictionary iriDictionary, 
+            Collection<OWLClass> owlClasses) {
 
         Map<String, SimpleClass> simpleClassMap = new LinkedHashMap<>();
 
-        // Iterate over all OWL classes found in the OWL ontology
-        Set<OWLClass> owlClasses = getClasses(ontology);
+        // Iterate over the given OWL classes found in the OWL ontology
         for (OWLClass owlClass : owlClasses) {
 
             // Get the OWL class IRI
-            String classIri = owlClass.getIRI().toString();
+            String classIri = iriString(iriDictionary, owlClass.getIRI());
 
             // Extract the list of OWL annotations from this OWL class
-            List<OWLAnnotation> owlAnnotations = OWLAPIStreamUtils
-                    .asList(EntitySearcher.getAnnotations(owlClass, ontology));
+            List<OWLAnnotation> owlAnnotations = getAnnotations(
+                    ontology, axiomIndex, owlClass);
 
             // Get the OWL class RDFS Label
             String classRDFSLabel = getRDFSLabel(owlAnnotations);
@@ -748,11 +1136,13 @@ public class OWLAPI {
             // Generate a map of annotation IRI to annotation literal value
             Map<String, String> annotations = new LinkedHashMap<>();
             for (OWLAnnotation owlAnnotation : owlAnnotations) {
-                String iri = owlAnnotation.getProperty().getIRI().toString();
-                String literalValue = annotations.containsKey(iri) ? 
-                        annotations.get(iri) + " " + DELIMITER + " " + 
-                            getAnnotationValueLiteral(owlAnnotation) : 
-                                getAnnotationValueLiteral(owlAnnotation);
+                String iri = iriString(iriDictionary, 
+                        owlAnnotation.getProperty().getIRI());
+                String literalValue = getInternedAnnotationValueLiteral(
+                        iriDictionary, owlAnnotation);
+                if (annotations.containsKey(iri))
+                    literalValue = annotations.get(iri) + " " + DELIMITER 
+                            + " " + literalValue;
                 annotations.put(iri, literalValue);
             }
             
@@ -768,10 +1158,13 @@ public class OWLAPI {
             simpleClass.setLabel(classRDFSLabel);
             simpleClass.setAnnotations(annotations);
 
-            // Get all axioms for this class
-            Map<String, String> parentClasses = new LinkedHashMap<>();
-            List<OWLAxiom> owlClassReferencingAxioms =
-                    OWLAPI.getReferencingAxioms(ontology, owlClass);
+            // Get all axioms for this class, collecting the restriction 
+            // object property IRIs of each parent class in IRI order
+            Map<String, Set<String>> parentClassObjectProperties = 
+                    new TreeMap<>();
+            List<OWLAxiom> owlClassReferencingAxioms = axiomIndex == null ? 
+                    OWLAPI.getReferencingAxioms(ontology, owlClass) : 
+                    axiomIndex.getSubClassOfAxioms(owlClass.getIRI());
             for (OWLAxiom owlClassReferencingAxiom : owlClassReferencingAxioms) {
                 if (owlClassReferencingAxiom
                         .getAxiomType() == AxiomType.SUBCLASS_OF) {
@@ -787,13 +1180,12 @@ public class OWLAPI {
                             && owlClassReferencingAxiom.getSignature()
                                     .size() == 2) {
 
-                        String superClassIRI =
+                        String superClassIRI = iriString(iriDictionary,
                                 owlClassSubClassOfAxiom.getSuperClass()
-                                        .asOWLClass().getIRI().toString();
-                        if (!classIri.equals(superClassIRI)) {
-                            if ( !parentClasses.containsKey(superClassIRI) )
-                                parentClasses.put(superClassIRI, null);
-                        };
+                                        .asOWLClass().getIRI());
+                        if (!classIri.equals(superClassIRI))
+                            parentClassObjectProperties.computeIfAbsent(
+                                    superClassIRI, key -> new TreeSet<>());
 
                     }
 
@@ -809,37 +1201,31 @@ public class OWLAPI {
                         OWLObjectSomeValuesFrom owlObjectPropertySomeValuesFrom =
                                 (OWLObjectSomeValuesFrom) owlClassSubClassOfAxiom
                                         .getSuperClass();
-                        String objectPropertyIRI =
+                        String objectPropertyIRI = iriString(iriDictionary,
                                 ((OWLObjectProperty) owlObjectPropertySomeValuesFrom
-                                        .getProperty()).getIRI().toString();
-                        String superClassIRI =
+                                        .getProperty()).getIRI());
+                        String superClassIRI = iriString(iriDictionary,
                                 ((OWLClass) owlObjectPropertySomeValuesFrom
-                                        .getFiller()).getIRI().toString();
-                        if (!classIri.equals(superClassIRI)) {
-                            if ( parentClasses.containsKey(superClassIRI) ) {
-                                String currentObjectPropertyIRI = 
-                                        parentClasses.get(superClassIRI);
-                                if ( currentObjectPropertyIRI == null ) {
-                                    parentClasses.put(superClassIRI, 
-                                            objectPropertyIRI);
-                                } else {
-                                    parentClasses.put(superClassIRI, 
-                                            currentObjectPropertyIRI 
-                                                + " " + DELIMITER + " " 
-                                                +  objectPropertyIRI);
-                                }
-                            } else {
-                                parentClasses.put(superClassIRI, 
-                                        objectPropertyIRI);
-                            }
-                        }
+                                        .getFiller()).getIRI());
+                        if (!classIri.equals(superClassIRI))
+                            parentClassObjectProperties.computeIfAbsent(
+                                    superClassIRI, key -> new TreeSet<>())
+                                .add(objectPropertyIRI);
 
                     }
 
                 }
             }
 
-            // Set the parent class IRI <> object property IRI mapping
+            // Set the parent class IRI <> object property IRI mapping, 
+            // where parent classes without OWL restrictions map to null
+            Map<String, String> parentClasses = new LinkedHashMap<>();
+            parentClassObjectProperties.forEach(
+                    (superClassIRI, objectPropertyIRIs) -> 
+                        parentClasses.put(superClassIRI, 
+                                objectPropertyIRIs.isEmpty() ? null : 
+                                    String.join(" " + DELIMITER + " ", 
+                                            objectPropertyIRIs)));
             simpleClass.setParentClasses(parentClasses);
 
             // Add the new Simple Class object to the map of 
@@ -852,6 +1238,81 @@ public class OWLAPI {
 
     }
 
+    /**************************************************************************
+     * Parallel Parsing
+     *************************************************************************/
+
+    /**
+     * Parse the ontology into a Simple Ontology object, parsing the 
+     * annotation properties, object properties, named individuals and 
+     * chunks of the classes concurrently on a given ForkJoin pool. The 
+     * ontology and axiom index are only read, and the results are merged 
+     * in signature order so that they are identical to a sequential parse.
+     * 
+     * @param ontologyId
+     * @param gitWebhookId
+     * @param ontology
+     * @param axiomIndex the axiom index, or null to look up the axioms
+     *                   of each entity in the ontology
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @param forkJoinPool
+     * @param classChunkSize
+     * @return
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+
+    public static SimpleOntology parseOntology(int ontologyId, 
+            long gitWebhookId, OWLOntology ontology, 
+            OWLEntityAxiomIndex axiomIndex, IRIDictionary iriDictionary, 
+            ForkJoinPool forkJoinPool, int classChunkSize) 
+                    throws InterruptedException, ExecutionException {
+
+        // Submit the annotation property, object property and named
+        // individual categories as independent tasks
+        ForkJoinTask<Map<String, SimpleAnnotationProperty>> 
+            annotationPropertiesTask = forkJoinPool.submit(
+                    () -> parseAnnotationProperties(
+                            ontology, axiomIndex, iriDictionary));
+        ForkJoinTask<Map<String, SimpleObjectProperty>> 
+            objectPropertiesTask = forkJoinPool.submit(
+                    () -> parseObjectProperties(
+                            ontology, axiomIndex, iriDictionary));
+        ForkJoinTask<Map<String, SimpleNamedIndividual>> 
+            namedIndividualsTask = forkJoinPool.submit(
+                    () -> parseNamedIndividuals(
+                            ontology, axiomIndex, iriDictionary));
+
+        // Submit the classes as chunks of the class signature
+        List<OWLClass> owlClasses = new ArrayList<>(getClasses(ontology));
+        int chunkSize = Math.max(1, classChunkSize);
+        List<ForkJoinTask<Map<String, SimpleClass>>> classTasks = 
+                new ArrayList<>();
+        for (int from = 0; from < owlClasses.size(); from += chunkSize) {
+            List<OWLClass> chunk = owlClasses.subList(
+                    from, Math.min(from + chunkSize, owlClasses.size()));
+            classTasks.add(forkJoinPool.submit(
+                    () -> parseClasses(
+                            ontology, axiomIndex, iriDictionary, chunk)));
+        }
+
+        // Merge the class chunks in signature order
+        Map<String, SimpleClass> simpleClassMap = 
+                new LinkedHashMap<>((int) (owlClasses.size() / 0.75f) + 1);
+        for (ForkJoinTask<Map<String, SimpleClass>> classTask : classTasks)
+            simpleClassMap.putAll(classTask.get());
+
+        SimpleOntology simpleOntology = new SimpleOntology(
+                ontologyId, gitWebhookId, 
+                annotationPropertiesTask.get(), 
+                objectPropertiesTask.get(), 
+                simpleClassMap, 
+                namedIndividualsTask.get());
+        simpleOntology.setIriDictionary(iriDictionary);
+        return simpleOntology;
+
+    }
+
     /**************************************************************************
      * Axioms
      *************************************************************************/
@@ -861,6 +1322,34 @@ public class OWLAPI {
         return OWLAPIStreamUtils.asList(
                 EntitySearcher.getReferencingAxioms(owlEntity, ontology));
     }
+
+    /**
+     * Compute the statistics of a parsed ontology, including the axiom 
+     * counts of the ontology from which it was parsed
+     * 
+     * @param simpleOntology
+     * @param ontology the parsed ontology, or null if it was not parsed 
+     *                 by the OWL API
+     * @return
+     */
+
+    public static SimpleOntologyStatistics computeStatistics(
+            SimpleOntology simpleOntology, OWLOntology ontology) {
+        SimpleOntologyStatistics statistics = 
+                SimpleOntologyStatistics.of(simpleOntology);
+        if (ontology != null) {
+            Map<String, Integer> axiomTypeCounts = new TreeMap<>();
+            for (AxiomType<?> axiomType : AxiomType.AXIOM_TYPES) {
+                int axiomTypeCount = ontology.getAxiomCount(axiomType);
+                if (axiomTypeCount > 0)
+                    axiomTypeCounts.put(axiomType.getName(), axiomTypeCount);
+            }
+            statistics.setAxiomCount(ontology.getAxiomCount());
+            statistics.setLogicalAxiomCount(ontology.getLogicalAxiomCount());
+            statistics.setAxiomTypeCounts(axiomTypeCounts);
+        }
+        return statistics;
+    }
     
     /**************************************************************************
      * Diff
@@ -879,6 +1368,7 @@ public class OWLAPI {
                 OWLAPI.parseObjectProperties(leftOntology);
         Map<String, SimpleClass> leftSimpleClassMap = 
                 OWLAPI.parseClasses(leftOntology);
+        OWLOntologyManagerPool.release(leftOntology);
         String leftOntologyXml = OWLRDFXMLAPI.read(leftOwlFile);
         
         // Load and parse the right OWL ontology
@@ -889,6 +1379,7 @@ public class OWLAPI {
                 OWLAPI.parseObjectProperties(rightOntology);
         Map<String, SimpleClass> rightSimpleClassMap = 
                 OWLAPI.parseClasses(rightOntology);
+        OWLOntologyManagerPool.release(rightOntology);
         String rightOntologyXml = OWLRDFXMLAPI.read(rightOwlFile);
         
         // Resolve the diffs
@@ -0,0 +1,192 @@
+package ai.hyperlearning.ontopop.owl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAnnotation;
+import org.semanticweb.owlapi.model.OWLAnnotationAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClassAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLIndividual;
+import org.semanticweb.owlapi.model.OWLObjectPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLSubClassOfAxiom;
+import org.semanticweb.owlapi.model.OWLSubObjectPropertyOfAxiom;
+
+/**
+ * OWL Entity Axiom Index - buckets the axioms of an ontology by subject IRI in a
+ * single pass so that entities can be parsed without per-entity
+ * EntitySearcher and referencing axiom lookups
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OWLEntityAxiomIndex {
+
+    private final Map<IRI, List<OWLAnnotation>> annotations;
+    private final Map<IRI, List<OWLAxiom>> subClassOfAxioms;
+    private final Map<IRI, List<OWLAxiom>> subObjectPropertyOfAxioms;
+    private final Map<IRI, List<OWLAxiom>> classAssertionAxioms;
+    private final Map<IRI, List<OWLAxiom>> objectPropertyAssertionAxioms;
+
+    private OWLEntityAxiomIndex(OWLOntology ontology) {
+
+        // Pre-size each bucket map using the axiom count of its type,
+        // which is an upper bound on the number of distinct subjects
+        annotations = new HashMap<>(capacity(
+                ontology.getAxiomCount(AxiomType.ANNOTATION_ASSERTION)));
+        subClassOfAxioms = new HashMap<>(capacity(
+                ontology.getAxiomCount(AxiomType.SUBCLASS_OF)));
+        subObjectPropertyOfAxioms = new HashMap<>(capacity(
+                ontology.getAxiomCount(AxiomType.SUB_OBJECT_PROPERTY)));
+        classAssertionAxioms = new HashMap<>(capacity(
+                ontology.getAxiomCount(AxiomType.CLASS_ASSERTION)));
+        objectPropertyAssertionAxioms = new HashMap<>(capacity(
+                2 * ontology.getAxiomCount(
+                        AxiomType.OBJECT_PROPERTY_ASSERTION)));
+
+        // Walk the axioms of the ontology exactly once
+        ontology.axioms().forEach(this::index);
+
+    }
+
+    /**
+     * Build an axiom index for a given OWL ontology
+     *
+     * @param ontology
+     * @return
+     */
+
+    public static OWLEntityAxiomIndex build(OWLOntology ontology) {
+        return new OWLEntityAxiomIndex(ontology);
+    }
+
+    private void index(OWLAxiom axiom) {
+
+        AxiomType<?> axiomType = axiom.getAxiomType();
+
+        // Annotation assertions keyed by their subject IRI
+        if (axiomType == AxiomType.ANNOTATION_ASSERTION) {
+            OWLAnnotationAssertionAxiom annotationAssertion =
+                    (OWLAnnotationAssertionAxiom) axiom;
+            annotationAssertion.getSubject().asIRI().ifPresent(iri ->
+                    bucket(annotations, iri)
+                        .add(annotationAssertion.getAnnotation()));
+        }
+
+        // SubClassOf axioms keyed by their named subclass IRI
+        else if (axiomType == AxiomType.SUBCLASS_OF) {
+            OWLSubClassOfAxiom subClassOf = (OWLSubClassOfAxiom) axiom;
+            if (!subClassOf.getSubClass().isAnonymous())
+                bucket(subClassOfAxioms, subClassOf.getSubClass()
+                        .asOWLClass().getIRI()).add(axiom);
+        }
+
+        // SubObjectPropertyOf axioms keyed by their named subproperty IRI
+        else if (axiomType == AxiomType.SUB_OBJECT_PROPERTY) {
+            OWLSubObjectPropertyOfAxiom subObjectPropertyOf =
+                    (OWLSubObjectPropertyOfAxiom) axiom;
+            bucket(subObjectPropertyOfAxioms, subObjectPropertyOf
+                    .getSubProperty().getNamedProperty().getIRI()).add(axiom);
+        }
+
+        // Class assertions keyed by their named individual IRI
+        else if (axiomType == AxiomType.CLASS_ASSERTION) {
+            OWLIndividual individual =
+                    ((OWLClassAssertionAxiom) axiom).getIndividual();
+            if (individual.isNamed())
+                bucket(classAssertionAxioms, individual.asOWLNamedIndividual()
+                        .getIRI()).add(axiom);
+        }
+
+        // Object property assertions keyed by both their subject and
+        // object named individual IRIs, as both individuals reference them
+        else if (axiomType == AxiomType.OBJECT_PROPERTY_ASSERTION) {
+            OWLObjectPropertyAssertionAxiom objectPropertyAssertion =
+                    (OWLObjectPropertyAssertionAxiom) axiom;
+            OWLIndividual subject = objectPropertyAssertion.getSubject();
+            OWLIndividual object = objectPropertyAssertion.getObject();
+            if (subject.isNamed())
+                bucket(objectPropertyAssertionAxioms,
+                        subject.asOWLNamedIndividual().getIRI()).add(axiom);
+            if (object.isNamed() && !object.equals(subject))
+                bucket(objectPropertyAssertionAxioms,
+                        object.asOWLNamedIndividual().getIRI()).add(axiom);
+        }
+
+    }
+
+    private static <T> List<T> bucket(Map<IRI, List<T>> buckets, IRI iri) {
+        return buckets.computeIfAbsent(iri, key -> new ArrayList<>(2));
+    }
+
+    private static int capacity(int expectedSize) {
+        return (int) (expectedSize / 0.75f) + 1;
+    }
+
+    /**
+     * Get the annotations asserted on a given subject IRI
+     *
+     * @param iri
+     * @return
+     */
+
+    public List<OWLAnnotation> getAnnotations(IRI iri) {
+        return annotations.getOrDefault(iri, Collections.emptyList());
+    }
+
+    /**
+     * Get the SubClassOf axioms whose subclass is a given class IRI
+     *
+     * @param iri
+     * @return
+     */
+
+    public List<OWLAxiom> getSubClassOfAxioms(IRI iri) {
+        return subClassOfAxioms.getOrDefault(iri, Collections.emptyList());
+    }
+
+    /**
+     * Get the SubObjectPropertyOf axioms whose subproperty is a given
+     * object property IRI
+     *
+     * @param iri
+     * @return
+     */
+
+    public List<OWLAxiom> getSubObjectPropertyOfAxioms(IRI iri) {
+        return subObjectPropertyOfAxioms.getOrDefault(
+                iri, Collections.emptyList());
+    }
+
+    /**
+     * Get the class assertions and object property assertions that
+     * reference a given named individual IRI
+     *
+     * @param iri
+     * @return
+     */
+
+    public List<OWLAxiom> getNamedIndividualAxioms(IRI iri) {
+        List<OWLAxiom> classAssertions = classAssertionAxioms.getOrDefault(
+                iri, Collections.emptyList());
+        List<OWLAxiom> objectPropertyAssertions = objectPropertyAssertionAxioms
+                .getOrDefault(iri, Collections.emptyList());
+        if (objectPropertyAssertions.isEmpty())
+            return classAssertions;
+        if (classAssertions.isEmpty())
+            return objectPropertyAssertions;
+        List<OWLAxiom> axioms = new ArrayList<>(
+                classAssertions.size() + objectPropertyAssertions.size());
+        axioms.addAll(classAssertions);
+        axioms.addAll(objectPropertyAssertions);
+        return axioms;
+    }
+
+}
@@ -0,0 +1,168 @@
+package ai.hyperlearning.ontopop.owl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
+import org.semanticweb.owlapi.model.OWLOntologyLoaderConfiguration;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * OWL Ontology Manager Pool - reuses pre-built OWL ontology managers,
+ * which are expensive to create since every parser and storer factory is
+ * registered through the service loader, sharing a single data factory
+ * and loader configuration. Managers are emptied of their ontologies
+ * when they are released, and their IRI mappers and loader configuration
+ * are reset to those of the pool whenever they are borrowed or released.
+ * Only managers that are currently borrowed can be released, so a manager
+ * that is released twice is never handed to two borrowers. A borrowed
+ * manager that is never released is simply garbage collected along with
+ * its ontologies.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OWLOntologyManagerPool {
+
+    private static final int MAX_IDLE_MANAGERS =
+            Runtime.getRuntime().availableProcessors() * 2;
+    private static final BlockingQueue<OWLOntologyManager> IDLE_MANAGERS =
+            new ArrayBlockingQueue<>(MAX_IDLE_MANAGERS);
+    // Managers do not override equals, so this weakly referenced set is an
+    // identity set that does not prevent unreleased managers from being
+    // garbage collected
+    private static final Set<OWLOntologyManager> LEASED_MANAGERS =
+            Collections.synchronizedSet(
+                    Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final List<OWLOntologyIRIMapper> IRI_MAPPERS =
+            new CopyOnWriteArrayList<>();
+    private static volatile OWLOntologyLoaderConfiguration 
+        loaderConfiguration = new OWLOntologyLoaderConfiguration();
+    private static final OWLDataFactory SHARED_OWL_DATA_FACTORY =
+            createSharedDataFactory();
+
+    private OWLOntologyManagerPool() {
+        throw new IllegalStateException("The OWLOntologyManagerPool "
+                + "utility class cannot be instantiated.");
+    }
+
+    private static OWLDataFactory createSharedDataFactory() {
+        OWLOntologyManager manager = borrow();
+        release(manager);
+        return manager.getOWLDataFactory();
+    }
+
+    /**
+     * Get the data factory shared by all pooled managers
+     *
+     * @return
+     */
+
+    public static OWLDataFactory getOWLDataFactory() {
+        return SHARED_OWL_DATA_FACTORY;
+    }
+
+    /**
+     * Borrow an empty OWL ontology manager, creating one if none are idle
+     *
+     * @return
+     */
+
+    public static OWLOntologyManager borrow() {
+        OWLOntologyManager manager = IDLE_MANAGERS.poll();
+        if (manager == null)
+            manager = OWLManager.createOWLOntologyManager();
+        manager.setOntologyLoaderConfiguration(loaderConfiguration);
+        manager.getIRIMappers().set(IRI_MAPPERS);
+        LEASED_MANAGERS.add(manager);
+        return manager;
+    }
+
+    /**
+     * Register an IRI mapper with every borrowed OWL ontology manager, 
+     * for example to resolve imported ontologies from a local cache
+     *
+     * @param iriMapper
+     */
+
+    public static void addIRIMapper(OWLOntologyIRIMapper iriMapper) {
+        if (!IRI_MAPPERS.contains(iriMapper))
+            IRI_MAPPERS.add(iriMapper);
+    }
+
+    /**
+     * Unregister an IRI mapper from subsequently borrowed managers
+     *
+     * @param iriMapper
+     */
+
+    public static void removeIRIMapper(OWLOntologyIRIMapper iriMapper) {
+        IRI_MAPPERS.remove(iriMapper);
+    }
+
+    /**
+     * Set how subsequently borrowed managers handle imports that cannot be
+     * loaded, for example to skip the imports that an offline cache does
+     * not hold rather than failing to load the importing ontology
+     *
+     * @param missingImportHandlingStrategy
+     */
+
+    public static void setMissingImportHandlingStrategy(
+            MissingImportHandlingStrategy missingImportHandlingStrategy) {
+        loaderConfiguration = loaderConfiguration
+                .setMissingImportHandlingStrategy(
+                        missingImportHandlingStrategy);
+    }
+
+    /**
+     * Remove all ontologies from a borrowed OWL ontology manager and
+     * return it to the pool, discarding it if the pool is full. Releasing
+     * a manager that is not currently borrowed has no effect.
+     *
+     * @param manager
+     */
+
+    public static void release(OWLOntologyManager manager) {
+        if (manager == null || !LEASED_MANAGERS.remove(manager))
+            return;
+        manager.clearOntologies();
+        manager.setOntologyLoaderConfiguration(loaderConfiguration);
+        manager.getIRIMappers().set(IRI_MAPPERS);
+        IDLE_MANAGERS.offer(manager);
+    }
+
+    /**
+     * Release the OWL ontology manager of an ontology that was loaded
+     * with a borrowed manager, after which the ontology must not be used.
+     * Releasing an ontology that has already been released has no effect.
+     *
+     * @param ontology
+     */
+
+    public static void release(OWLOntology ontology) {
+        if (ontology == null)
+            return;
+        OWLOntologyManager manager;
+        try {
+            manager = ontology.getOWLOntologyManager();
+        } catch (IllegalStateException e) {
+            
+            // The ontology has already been removed from its manager
+            return;
+            
+        }
+        release(manager);
+    }
+
+}
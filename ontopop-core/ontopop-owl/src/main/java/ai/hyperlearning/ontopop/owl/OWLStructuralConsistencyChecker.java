@@ -0,0 +1,145 @@
+package ai.hyperlearning.ontopop.owl;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.ClassExpressionType;
+import org.semanticweb.owlapi.model.OWLClassExpression;
+import org.semanticweb.owlapi.model.OWLDataHasValue;
+import org.semanticweb.owlapi.model.OWLDataPropertyAssertionAxiom;
+import org.semanticweb.owlapi.model.OWLDataRange;
+import org.semanticweb.owlapi.model.OWLDataSomeValuesFrom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLLiteral;
+import org.semanticweb.owlapi.model.OWLLogicalAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+/**
+ * OWL Structural Consistency Checker - proves an ontology consistent
+ * without a reasoner when none of its logical axioms can give rise to a
+ * clash. Such an ontology always has a model in which every class and
+ * property is universal over an infinite domain, with every individual
+ * interpreted as the same element. Any ontology using negation,
+ * disjointness, nominals, upper bounds or bottom entities is reported as
+ * inconclusive and must be checked by a reasoner.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OWLStructuralConsistencyChecker {
+
+    // Axiom types that are satisfied by the universal model
+    private static final Set<AxiomType<?>> CLASH_FREE_AXIOM_TYPES = Set.of(
+            AxiomType.SUBCLASS_OF,
+            AxiomType.EQUIVALENT_CLASSES,
+            AxiomType.SUB_OBJECT_PROPERTY,
+            AxiomType.EQUIVALENT_OBJECT_PROPERTIES,
+            AxiomType.INVERSE_OBJECT_PROPERTIES,
+            AxiomType.OBJECT_PROPERTY_DOMAIN,
+            AxiomType.OBJECT_PROPERTY_RANGE,
+            AxiomType.TRANSITIVE_OBJECT_PROPERTY,
+            AxiomType.REFLEXIVE_OBJECT_PROPERTY,
+            AxiomType.SYMMETRIC_OBJECT_PROPERTY,
+            AxiomType.SUB_PROPERTY_CHAIN_OF,
+            AxiomType.SUB_DATA_PROPERTY,
+            AxiomType.EQUIVALENT_DATA_PROPERTIES,
+            AxiomType.DATA_PROPERTY_DOMAIN,
+            AxiomType.CLASS_ASSERTION,
+            AxiomType.OBJECT_PROPERTY_ASSERTION,
+            AxiomType.DATA_PROPERTY_ASSERTION,
+            AxiomType.SAME_INDIVIDUAL);
+
+    // Class expressions that denote the whole domain in the universal model
+    private static final Set<ClassExpressionType> CLASH_FREE_CLASS_EXPRESSION_TYPES =
+            EnumSet.of(
+                    ClassExpressionType.OWL_CLASS,
+                    ClassExpressionType.OBJECT_INTERSECTION_OF,
+                    ClassExpressionType.OBJECT_UNION_OF,
+                    ClassExpressionType.OBJECT_SOME_VALUES_FROM,
+                    ClassExpressionType.OBJECT_ALL_VALUES_FROM,
+                    ClassExpressionType.OBJECT_HAS_VALUE,
+                    ClassExpressionType.OBJECT_HAS_SELF,
+                    ClassExpressionType.OBJECT_MIN_CARDINALITY,
+                    ClassExpressionType.DATA_SOME_VALUES_FROM,
+                    ClassExpressionType.DATA_HAS_VALUE);
+
+    private OWLStructuralConsistencyChecker() {
+        throw new IllegalStateException("The OWLStructuralConsistencyChecker "
+                + "utility class cannot be instantiated.");
+    }
+
+    /**
+     * Test whether a given ontology, including its imports closure, is
+     * provably consistent from its structure alone
+     *
+     * @param ontology
+     * @return true if the ontology is consistent, or false if its
+     *         consistency cannot be decided without a reasoner
+     */
+
+    public static boolean isConsistent(OWLOntology ontology) {
+        return ontology.logicalAxioms(Imports.INCLUDED)
+                .allMatch(OWLStructuralConsistencyChecker::isClashFree);
+    }
+
+    /**
+     * Test whether a given set of logical axioms is provably consistent 
+     * from its structure alone. Since clash-free axioms are all satisfied 
+     * by the same universal model, they may also be added to any 
+     * structurally consistent ontology without making it inconsistent.
+     *
+     * @param logicalAxioms
+     * @return true if the axioms are consistent, or false if their
+     *         consistency cannot be decided without a reasoner
+     */
+
+    public static boolean isConsistent(
+            Collection<? extends OWLLogicalAxiom> logicalAxioms) {
+        return logicalAxioms.stream()
+                .allMatch(OWLStructuralConsistencyChecker::isClashFree);
+    }
+
+    private static boolean isClashFree(OWLLogicalAxiom axiom) {
+        if (!CLASH_FREE_AXIOM_TYPES.contains(axiom.getAxiomType()))
+            return false;
+        if (axiom.signature().anyMatch(OWLEntity::isBottomEntity))
+            return false;
+        if (axiom instanceof OWLDataPropertyAssertionAxiom
+                && !isValid(((OWLDataPropertyAssertionAxiom) axiom)
+                        .getObject()))
+            return false;
+        return axiom.nestedClassExpressions()
+                .allMatch(OWLStructuralConsistencyChecker::isClashFree);
+    }
+
+    private static boolean isClashFree(OWLClassExpression classExpression) {
+        if (!CLASH_FREE_CLASS_EXPRESSION_TYPES.contains(
+                classExpression.getClassExpressionType()))
+            return false;
+        if (classExpression instanceof OWLDataSomeValuesFrom)
+            return isNonEmpty(
+                    ((OWLDataSomeValuesFrom) classExpression).getFiller());
+        if (classExpression instanceof OWLDataHasValue)
+            return isValid(((OWLDataHasValue) classExpression).getFiller());
+        return true;
+    }
+
+    private static boolean isNonEmpty(OWLDataRange dataRange) {
+        return dataRange.isOWLDatatype()
+                && OWL2Datatype.isBuiltIn(dataRange.asOWLDatatype().getIRI());
+    }
+
+    private static boolean isValid(OWLLiteral literal) {
+        if (literal.hasLang())
+            return true;
+        return OWL2Datatype.isBuiltIn(literal.getDatatype().getIRI())
+                && OWL2Datatype.getDatatype(literal.getDatatype().getIRI())
+                    .isInLexicalSpace(literal.getLiteral());
+    }
+
+}
@@ -0,0 +1,503 @@
+package ai.hyperlearning.ontopop.owl.imports;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyIRIMapper;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
+
+/**
+ * OWL Imports Cache - a local, content-addressed store of imported
+ * ontology documents exposed as an OWL API IRI mapper. Each document is
+ * stored once under the SHA-256 digest of its content, and the imported
+ * IRIs are mapped to their documents by an OASIS XML catalog in the same
+ * directory, which editors such as Protege can also use. Imports that are
+ * not yet cached, or whose cached documents have expired, are fetched over 
+ * HTTP unless the cache is offline, in which case imports that are not
+ * cached are never fetched. Concurrent resolutions of the same IRI 
+ * share a single fetch while other IRIs resolve independently, and the 
+ * least recently fetched entries are evicted beyond the maximum size.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OWLImportsCache implements OWLOntologyIRIMapper {
+
+    private static final long serialVersionUID = -3022476420633717931L;
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(OWLImportsCache.class);
+
+    public static final String CATALOG_FILENAME = "catalog-v001.xml";
+    private static final String MISSING_DOCUMENT_FILENAME = ".missing";
+    private static final String CATALOG_NAMESPACE =
+            "urn:oasis:names:tc:entity:xmlns:xml:catalog";
+    private static final String CATALOG_ENTRY = "uri";
+    private static final String CATALOG_ENTRY_NAME = "name";
+    private static final String CATALOG_ENTRY_URI = "uri";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final String ACCEPT_HEADER = "application/rdf+xml, "
+            + "application/owl+xml;q=0.9, text/turtle;q=0.8, "
+            + "application/n-triples;q=0.7, */*;q=0.1";
+
+    /**
+     * Listener notified whenever a new document is added to the cache
+     */
+
+    @FunctionalInterface
+    public interface DocumentListener {
+        void cached(String iri, File document, File catalog)
+                throws IOException;
+    }
+
+    private final Path directory;
+    private final boolean offline;
+    private final Duration timeout;
+    private final Duration expiry;
+    private final int maxEntries;
+    private final transient HttpClient httpClient;
+    private final Map<String, String> catalog = new ConcurrentHashMap<>();
+    private final transient Map<String, CompletableFuture<File>> fetches = 
+            new ConcurrentHashMap<>();
+    private transient DocumentListener documentListener;
+
+    /**
+     * @param directory the local cache directory, created if required
+     * @param offline whether to resolve imports from the cache only
+     * @param timeout the timeout of each HTTP request
+     * @throws IOException
+     */
+
+    public OWLImportsCache(Path directory, boolean offline, Duration timeout)
+            throws IOException {
+        this(directory, offline, timeout, Duration.ZERO, 0);
+    }
+
+    /**
+     * @param directory the local cache directory, created if required
+     * @param offline whether to resolve imports from the cache only
+     * @param timeout the timeout of each HTTP request
+     * @param expiry the age after which a cached document is fetched 
+     *          again, or zero if cached documents never expire
+     * @param maxEntries the maximum number of cached IRIs, or zero if 
+     *          unbounded
+     * @throws IOException
+     */
+
+    public OWLImportsCache(Path directory, boolean offline, Duration timeout, 
+            Duration expiry, int maxEntries) throws IOException {
+        this.directory = directory;
+        this.offline = offline;
+        this.timeout = timeout;
+        this.expiry = expiry;
+        this.maxEntries = maxEntries;
+        this.httpClient = offline ? null : HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(timeout)
+                .build();
+        Files.createDirectories(directory);
+        readCatalog(getCatalogFile());
+    }
+
+    @Override
+    public IRI getDocumentIRI(IRI ontologyIRI) {
+        String iri = ontologyIRI.toString();
+        File document = resolve(iri);
+        if (document != null)
+            return IRI.create(document);
+
+        // Map imports that an offline cache does not hold to a document 
+        // that never exists, as the OWL API would otherwise fall back to 
+        // fetching the import itself
+        if (offline && isFetchable(iri)) {
+            LOGGER.warn("The imported ontology '{}' is not cached and the "
+                    + "owl:imports cache is offline.", iri);
+            return IRI.create(directory.resolve(MISSING_DOCUMENT_FILENAME)
+                    .toFile());
+        }
+        return null;
+    }
+
+    /**
+     * Resolve the cached document of a given imported IRI, fetching and
+     * caching it first if required and the cache is not offline
+     *
+     * @param iri
+     * @return the cached document, or null if it is not available
+     */
+
+    public File resolve(String iri) {
+        File document = getCachedDocument(iri);
+        if (offline || !isFetchable(iri) 
+                || (document != null && !isExpired(document)))
+            return document;
+
+        // Only the first resolution of an IRI fetches it, while any 
+        // concurrent resolutions of the same IRI wait for that fetch
+        CompletableFuture<File> fetching = new CompletableFuture<>();
+        CompletableFuture<File> inFlight = fetches.putIfAbsent(iri, fetching);
+        if (inFlight != null)
+            return inFlight.join();
+        try {
+            document = getCachedDocument(iri);
+            if (document == null || isExpired(document))
+                document = fetchOrDefault(iri, document);
+            return document;
+        } finally {
+            fetches.remove(iri, fetching);
+            fetching.complete(document);
+        }
+    }
+
+    /**
+     * Load the given ontologies through the cache so that they and their
+     * imports closures are fetched and cached if they are not already
+     *
+     * @param iris
+     * @return the number of the given ontologies that could be loaded
+     */
+
+    public int prewarm(Collection<String> iris) {
+        int loaded = 0;
+        for (String iri : iris) {
+            OWLOntologyManager manager = OWLOntologyManagerPool.borrow();
+            try {
+                manager.getIRIMappers().add(this);
+                manager.loadOntology(IRI.create(iri));
+                loaded++;
+            } catch (OWLOntologyCreationException e) {
+                LOGGER.warn("Could not prewarm the imports cache with "
+                        + "the ontology '{}'.", iri, e);
+            } finally {
+                OWLOntologyManagerPool.release(manager);
+            }
+        }
+        LOGGER.debug("Prewarmed the imports cache with {} of {} "
+                + "ontologies.", loaded, iris.size());
+        return loaded;
+    }
+
+    /**
+     * Add a document to the cache, mapping the given IRI to it
+     *
+     * @param iri
+     * @param inputStream the document content, which is not closed
+     * @return the cached document
+     * @throws IOException
+     */
+
+    public File put(String iri, InputStream inputStream) throws IOException {
+        Path temporaryFile = Files.createTempFile(directory, "", ".tmp");
+        Path document;
+        try {
+            MessageDigest messageDigest = newMessageDigest();
+            try (OutputStream outputStream =
+                    Files.newOutputStream(temporaryFile)) {
+                new DigestInputStream(inputStream, messageDigest)
+                    .transferTo(outputStream);
+            }
+            String filename = toHex(messageDigest.digest());
+            document = directory.resolve(filename);
+            synchronized (this) {
+                if (Files.exists(document)) {
+                    Files.delete(temporaryFile);
+                    Files.setLastModifiedTime(document, 
+                            FileTime.fromMillis(System.currentTimeMillis()));
+                } else
+                    Files.move(temporaryFile, document,
+                            StandardCopyOption.ATOMIC_MOVE);
+                catalog.put(iri, filename);
+                evict();
+                writeCatalog();
+            }
+            LOGGER.debug("Cached the imported ontology '{}' as '{}'.",
+                    iri, filename);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        notifyDocumentListener(iri, document.toFile());
+        return document.toFile();
+    }
+
+    /**
+     * Get the cached document of a given imported IRI without fetching it
+     *
+     * @param iri
+     * @return the cached document, or null if it is not cached
+     */
+
+    public File getCachedDocument(String iri) {
+        String filename = catalog.get(iri);
+        if (filename == null)
+            return null;
+        File document = directory.resolve(filename).toFile();
+        return document.isFile() ? document : null;
+    }
+
+    /**
+     * Get the cached documents keyed by their imported IRIs
+     *
+     * @return
+     */
+
+    public Map<String, String> getCatalog() {
+        return Collections.unmodifiableMap(catalog);
+    }
+
+    public File getCatalogFile() {
+        return directory.resolve(CATALOG_FILENAME).toFile();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    public void setDocumentListener(DocumentListener documentListener) {
+        this.documentListener = documentListener;
+    }
+
+    /**
+     * Merge the entries of another catalog, for example one that has been
+     * downloaded from persistent storage, into the catalog of this cache
+     *
+     * @param catalogFile
+     * @return the imported IRIs whose documents are not in the cache
+     * @throws IOException
+     */
+
+    public synchronized Map<String, String> mergeCatalog(File catalogFile)
+            throws IOException {
+        readCatalog(catalogFile);
+        writeCatalog();
+        Map<String, String> missing = new TreeMap<>();
+        for (Map.Entry<String, String> entry : catalog.entrySet()) {
+            if (!Files.isRegularFile(directory.resolve(entry.getValue())))
+                missing.put(entry.getKey(), entry.getValue());
+        }
+        return missing;
+    }
+
+    private void readCatalog(File catalogFile) throws IOException {
+        if (!catalogFile.isFile())
+            return;
+        try {
+            DocumentBuilderFactory documentBuilderFactory =
+                    DocumentBuilderFactory.newInstance();
+            documentBuilderFactory.setNamespaceAware(true);
+            documentBuilderFactory.setFeature(
+                    XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            documentBuilderFactory.setFeature(
+                    "http://apache.org/xml/features/disallow-doctype-decl",
+                    true);
+            Document document = documentBuilderFactory.newDocumentBuilder()
+                    .parse(catalogFile);
+            NodeList entries = document.getElementsByTagNameNS(
+                    CATALOG_NAMESPACE, CATALOG_ENTRY);
+            for (int i = 0; i < entries.getLength(); i++) {
+                Element entry = (Element) entries.item(i);
+                catalog.put(entry.getAttribute(CATALOG_ENTRY_NAME),
+                        entry.getAttribute(CATALOG_ENTRY_URI));
+            }
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Could not read the imports catalog '"
+                    + catalogFile + "'.", e);
+        }
+    }
+
+    private void writeCatalog() throws IOException {
+        File catalogFile = getCatalogFile();
+        try {
+            Document document = DocumentBuilderFactory.newInstance()
+                    .newDocumentBuilder().newDocument();
+            Element root = document.createElementNS(
+                    CATALOG_NAMESPACE, "catalog");
+            root.setAttribute("prefer", "public");
+            document.appendChild(root);
+            for (Map.Entry<String, String> entry :
+                    new TreeMap<>(catalog).entrySet()) {
+                Element element = document.createElementNS(
+                        CATALOG_NAMESPACE, CATALOG_ENTRY);
+                element.setAttribute(CATALOG_ENTRY_NAME, entry.getKey());
+                element.setAttribute(CATALOG_ENTRY_URI, entry.getValue());
+                root.appendChild(element);
+            }
+            Path temporaryFile = Files.createTempFile(directory, "", ".tmp");
+            Transformer transformer =
+                    TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.transform(new DOMSource(document),
+                    new StreamResult(temporaryFile.toFile()));
+            Files.move(temporaryFile, catalogFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (ParserConfigurationException | TransformerException e) {
+            throw new IOException("Could not write the imports catalog '"
+                    + catalogFile + "'.", e);
+        }
+    }
+
+    /**
+     * Evict the least recently fetched entries beyond the maximum size, 
+     * deleting their documents unless other entries share them
+     * 
+     * @throws IOException
+     */
+
+    private void evict() throws IOException {
+        int excess = catalog.size() - maxEntries;
+        if (maxEntries <= 0 || excess <= 0)
+            return;
+        List<String> iris = new ArrayList<>(catalog.keySet());
+        iris.sort(Comparator.comparingLong(this::getCachedTime));
+        for (String iri : iris.subList(0, excess)) {
+            String filename = catalog.remove(iri);
+            if (filename != null && !catalog.containsValue(filename))
+                Files.deleteIfExists(directory.resolve(filename));
+            LOGGER.debug("Evicted the imported ontology '{}' from the "
+                    + "imports cache.", iri);
+        }
+    }
+
+    private long getCachedTime(String iri) {
+        File document = directory.resolve(catalog.getOrDefault(iri, ""))
+                .toFile();
+        return document.isFile() ? document.lastModified() : 0L;
+    }
+
+    private boolean isExpired(File document) {
+        return expiry != null && !expiry.isZero() && !expiry.isNegative()
+                && System.currentTimeMillis() - document.lastModified() 
+                    > expiry.toMillis();
+    }
+
+    /**
+     * Fetch an imported ontology into the cache, falling back to a 
+     * given (for example an expired) document if it cannot be fetched
+     * 
+     * @param iri
+     * @param defaultDocument
+     * @return
+     */
+
+    private File fetchOrDefault(String iri, File defaultDocument) {
+        try {
+            return fetch(iri);
+        } catch (IOException e) {
+            LOGGER.warn("Could not fetch the imported ontology "
+                    + "'{}' into the imports cache.", iri, e);
+        } catch (InterruptedException e) {
+            LOGGER.warn("Interrupted while fetching the imported "
+                    + "ontology '{}' into the imports cache.", iri);
+            Thread.currentThread().interrupt();
+        }
+        return defaultDocument;
+    }
+
+    private void notifyDocumentListener(String iri, File document) {
+        if (documentListener == null)
+            return;
+        try {
+            documentListener.cached(iri, document, getCatalogFile());
+        } catch (IOException e) {
+            LOGGER.warn("The imports cache listener could not handle the "
+                    + "cached ontology '{}'.", iri, e);
+        }
+    }
+
+    private File fetch(String iri) throws IOException, InterruptedException {
+        LOGGER.info("Fetching the imported ontology '{}' into the "
+                + "imports cache.", iri);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(iri))
+                .header("Accept", ACCEPT_HEADER)
+                .timeout(timeout)
+                .GET()
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request,
+                HttpResponse.BodyHandlers.ofInputStream());
+        try (InputStream inputStream = response.body()) {
+            if (response.statusCode() != 200)
+                throw new IOException("Unexpected HTTP status "
+                        + response.statusCode() + " for '" + iri + "'.");
+            return put(iri, inputStream);
+        }
+    }
+
+    private static boolean isFetchable(String iri) {
+        return iri.startsWith("http://") || iri.startsWith("https://");
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes)
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16))
+                .append(Character.forDigit(b & 0xF, 16));
+        return hex.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "OWLImportsCache ["
+                + "directory=" + directory + ", "
+                + "offline=" + offline + ", "
+                + "expiry=" + expiry + ", "
+                + "maxEntries=" + maxEntries + ", "
+                + "size=" + catalog.size()
+                + "]";
+    }
+
+}
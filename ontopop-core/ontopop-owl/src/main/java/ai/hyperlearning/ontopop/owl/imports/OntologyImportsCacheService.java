@@ -0,0 +1,225 @@
+package ai.hyperlearning.ontopop.owl.imports;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
+import ai.hyperlearning.ontopop.storage.ObjectStorageService;
+import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
+import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+
+/**
+ * Ontology Imports Cache Service - maintains the local owl:imports cache
+ * shared by every stage that loads ontologies with a pooled OWL API
+ * manager, backed by the imports container in persistent storage so that
+ * imports fetched by one instance are available offline to all others.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Service
+public class OntologyImportsCacheService {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(OntologyImportsCacheService.class);
+    private static final String DEFAULT_DIRECTORY_NAME = "ontopop-imports";
+
+    @Autowired
+    private ObjectStorageServiceFactory objectStorageServiceFactory;
+
+    @Value("${storage.object.service}")
+    private String storageObjectService;
+
+    @Value("${storage.object.local.baseUri}")
+    private String storageLocalBaseUri;
+
+    @Value("${storage.object.containers.imports:imports}")
+    private String importsDirectoryName;
+
+    @Value("${pipeline.imports.cache.enabled:true}")
+    private Boolean enabled;
+
+    @Value("${pipeline.imports.cache.directory:}")
+    private String directory;
+
+    @Value("${pipeline.imports.cache.offline:false}")
+    private Boolean offline;
+
+    @Value("${pipeline.imports.cache.timeoutSeconds:30}")
+    private int timeoutSeconds;
+
+    @Value("${pipeline.imports.cache.expiryHours:168}")
+    private int expiryHours;
+
+    @Value("${pipeline.imports.cache.maxEntries:1000}")
+    private int maxEntries;
+
+    @Value("${pipeline.imports.cache.prewarm:}")
+    private List<String> prewarmIris;
+
+    private ObjectStorageService objectStorageService;
+    private String importsDirectoryUri;
+    private OWLImportsCache importsCache;
+
+    @PostConstruct
+    private void postConstruct() throws IOException {
+
+        if (!Boolean.TRUE.equals(enabled)) {
+            LOGGER.debug("The owl:imports cache is disabled.");
+            return;
+        }
+
+        // 1. Select the relevant persistent storage service
+        ObjectStorageServiceType objectStorageServiceType =
+                ObjectStorageServiceType
+                        .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+
+        // 2. Define and create (if required) the imports directory
+        // in persistent storage
+        importsDirectoryUri = objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ?
+                        storageLocalBaseUri + File.separator
+                            + importsDirectoryName :
+                        importsDirectoryName;
+        if (!objectStorageService.doesContainerExist(importsDirectoryUri))
+            objectStorageService.createContainer(importsDirectoryUri);
+
+        // 3. Open the local cache and synchronize it with the
+        // imports directory in persistent storage
+        Path cacheDirectory = directory == null || directory.isBlank() ?
+                Paths.get(System.getProperty("java.io.tmpdir"),
+                        DEFAULT_DIRECTORY_NAME) :
+                Paths.get(directory);
+        importsCache = new OWLImportsCache(cacheDirectory,
+                Boolean.TRUE.equals(offline),
+                Duration.ofSeconds(timeoutSeconds),
+                Duration.ofHours(expiryHours), maxEntries);
+        synchronize();
+        importsCache.setDocumentListener(this::upload);
+
+        // 4. Resolve imports from the cache in every pooled manager, 
+        // skipping the imports that an offline cache does not hold
+        OWLOntologyManagerPool.addIRIMapper(importsCache);
+        if (Boolean.TRUE.equals(offline))
+            OWLOntologyManagerPool.setMissingImportHandlingStrategy(
+                    MissingImportHandlingStrategy.SILENT);
+        LOGGER.debug("Using the owl:imports cache {}.", importsCache);
+
+        // 5. Prewarm the cache with the configured ontologies
+        if (prewarmIris != null && !prewarmIris.isEmpty())
+            importsCache.prewarm(prewarmIris);
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws IOException {
+
+        if (importsCache != null) {
+            OWLOntologyManagerPool.removeIRIMapper(importsCache);
+            OWLOntologyManagerPool.setMissingImportHandlingStrategy(
+                    MissingImportHandlingStrategy.THROW_EXCEPTION);
+        }
+
+        // Close any storage service clients
+        if (objectStorageService != null)
+            objectStorageService.cleanup();
+
+    }
+
+    /**
+     * Merge the catalog in persistent storage into the local cache and
+     * download any documents that are not cached locally
+     *
+     * @throws IOException
+     */
+
+    private void synchronize() throws IOException {
+
+        String catalogUri = importsDirectoryUri + "/"
+                + OWLImportsCache.CATALOG_FILENAME;
+        if (!objectStorageService.doesObjectExist(catalogUri))
+            return;
+        String downloadedCatalogUri = objectStorageService.downloadObject(
+                catalogUri, "_" + OWLImportsCache.CATALOG_FILENAME);
+        Map<String, String> missingDocuments;
+        try {
+            missingDocuments = importsCache.mergeCatalog(
+                    new File(downloadedCatalogUri));
+        } finally {
+            Files.deleteIfExists(Paths.get(downloadedCatalogUri));
+        }
+        for (String filename : missingDocuments.values()) {
+            try {
+                String downloadedDocumentUri = objectStorageService
+                        .downloadObject(importsDirectoryUri + "/" + filename, 
+                                "_" + filename);
+                Files.move(Paths.get(downloadedDocumentUri), 
+                        importsCache.getDirectory().resolve(filename), 
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                LOGGER.warn("Could not download the imported ontology "
+                        + "document '{}'.", filename, e);
+            }
+        }
+        LOGGER.debug("Synchronized {} imported ontologies from '{}'.",
+                missingDocuments.size(), importsDirectoryUri);
+
+    }
+
+    /**
+     * Upload a newly cached document to the imports directory in persistent
+     * storage, and then merge the catalog in persistent storage into the 
+     * local catalog before uploading it, so that the entries added by other
+     * instances are kept. Any entries lost to a concurrent upload by 
+     * another instance are restored by the next upload of this instance.
+     *
+     * @param iri
+     * @param document
+     * @param catalog
+     * @throws IOException
+     */
+
+    private synchronized void upload(String iri, File document, File catalog)
+            throws IOException {
+        String documentUri = importsDirectoryUri + "/" + document.getName();
+        if (!objectStorageService.doesObjectExist(documentUri))
+            objectStorageService.uploadObject(
+                    document.getAbsolutePath(), documentUri);
+        synchronize();
+        objectStorageService.uploadObject(catalog.getAbsolutePath(),
+                importsDirectoryUri + "/" + catalog.getName());
+        LOGGER.debug("Persisted the imported ontology '{}' to '{}'.",
+                iri, documentUri);
+    }
+
+    /**
+     * Get the local owl:imports cache
+     *
+     * @return the cache, or null if it is disabled
+     */
+
+    public OWLImportsCache getImportsCache() {
+        return importsCache;
+    }
+
+}
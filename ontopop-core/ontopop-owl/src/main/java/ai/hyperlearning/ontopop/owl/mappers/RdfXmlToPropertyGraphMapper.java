@@ -2,15 +2,12 @@ package ai.hyperlearning.ontopop.owl.mappers;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.semanticweb.HermiT.Configuration;
 import org.semanticweb.HermiT.Reasoner;
-import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.model.OWLOntologyStorageException;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
@@ -35,10 +32,9 @@ import ai.hyperlearning.ontopop.model.owl.SimpleNamedIndividual;
 import ai.hyperlearning.ontopop.model.owl.SimpleObjectProperty;
 import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
 import ai.hyperlearning.ontopop.owl.OWLAPI;
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
 import ai.hyperlearning.ontopop.owl.mappers.ontopop.RdfXmlNativeMapper;
-import ai.hyperlearning.ontopop.rdf.DCMI;
-import ai.hyperlearning.ontopop.rdf.RDFSchema;
-import ai.hyperlearning.ontopop.rdf.SKOSVocabulary;
+import ai.hyperlearning.ontopop.rdf.StandardVocabularyRegistry;
 
 /**
  * RDF/XML to target graph-based format mapper
@@ -114,15 +110,16 @@ public class RdfXmlToPropertyGraphMapper {
      */
     
     public static boolean isSemanticallyValid(String owlFile) {
-        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLOntology ontology = null;
         try {
-            OWLOntology ontology = manager
-                    .loadOntologyFromOntologyDocument(new File(owlFile));
+            ontology = OWLAPI.loadOntology(new File(owlFile));
             Configuration configuration = new Configuration();
             OWLReasoner reasoner = new Reasoner(configuration, ontology);
             return reasoner.isConsistent();
         } catch (OWLOntologyCreationException e) {
             return false;
+        } finally {
+            OWLOntologyManagerPool.release(ontology);
         }
     }
     
@@ -144,6 +141,7 @@ public class RdfXmlToPropertyGraphMapper {
                     OWLAPI.parseClasses(ontology);
             Map<String, SimpleNamedIndividual> simpleNamedIndividualMap = 
                     OWLAPI.parseNamedIndividuals(ontology);
+            OWLOntologyManagerPool.release(ontology);
             return new SimpleOntology(DEFAULT_ONTOLOGY_ID, 
                     DEFAULT_LATEST_GIT_WEBHOOK_ID,
                     simpleAnnotationPropertyMap, 
@@ -169,27 +167,11 @@ public class RdfXmlToPropertyGraphMapper {
         
         try {
             
-            // Load the SKOS Vocabulary and parse its annotation properties
-            OWLOntology skos = SKOSVocabulary.loadSKOSRDF();
-            Map<String, SimpleAnnotationProperty> skosAnnotationProperties =
-                    SKOSVocabulary.parseAnnotationProperties(skos);
-
-            // Load the RDF Schema and parse its annotation properties
-            OWLOntology rdf = RDFSchema.loadRdfSchema();
-            Map<String, SimpleAnnotationProperty> rdfSchemaAnnotationProperties =
-                    RDFSchema.parseAnnotationProperties(rdf);
-
-            // Load the DCMI RDF Schema and parse its annotation properties
-            Map<String, SimpleAnnotationProperty> dcmiSchemaAnnotationProperties =
-                    DCMI.parseAnnotationProperties();
-
-            // Aggregate the standard schema annotation properties
+            // Get the standard schema annotation properties, which are 
+            // loaded only once per JVM
             Map<String, SimpleAnnotationProperty> standardSchemaAnnotationProperties =
-                    new LinkedHashMap<>(skosAnnotationProperties);
-            standardSchemaAnnotationProperties
-                    .putAll(rdfSchemaAnnotationProperties);
-            standardSchemaAnnotationProperties
-                    .putAll(dcmiSchemaAnnotationProperties);
+                    StandardVocabularyRegistry.getInstance()
+                        .getAnnotationProperties();
             
             // Transform the SimpleOntology object into a
             // SimpleOntologyPropertyGraph object
@@ -0,0 +1,672 @@
+package ai.hyperlearning.ontopop.rdf;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.RiotException;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.apache.jena.vocabulary.OWL2;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.apache.jena.vocabulary.XSD;
+import org.semanticweb.owlapi.model.IRI;
+
+import com.apicatalog.jsonld.StringUtils;
+
+import ai.hyperlearning.ontopop.model.ontology.OntologySourceFormat;
+import ai.hyperlearning.ontopop.model.owl.IRIDictionary;
+import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
+import ai.hyperlearning.ontopop.model.owl.SimpleClass;
+import ai.hyperlearning.ontopop.model.owl.SimpleNamedIndividual;
+import ai.hyperlearning.ontopop.model.owl.SimpleObjectProperty;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.owl.OWLAPI;
+
+/**
+ * Streaming RDF Parser - parses an RDF serialisation of an OWL ontology
+ * directly into a Simple Ontology object from the Apache Jena triple
+ * stream, without building an OWL API ontology. Entities, annotations,
+ * subClassOf (including someValuesFrom restrictions), subPropertyOf,
+ * inverseOf, domains, ranges and types are mapped following the same
+ * rules, and in the same order, as the OWL API parsing methods in OWLAPI.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class RDFStreamParser {
+
+    private static final String DELIMITER = "|";
+    private static final String RDF_TYPE = RDF.type.getURI();
+    private static final String RDFS_LABEL = RDFS.label.getURI();
+    private static final String RDFS_SUBCLASSOF = RDFS.subClassOf.getURI();
+    private static final String RDFS_SUBPROPERTYOF =
+            RDFS.subPropertyOf.getURI();
+    private static final String RDFS_DOMAIN = RDFS.domain.getURI();
+    private static final String RDFS_RANGE = RDFS.range.getURI();
+    private static final String OWL_THING = OWL2.Thing.getURI();
+    private static final String OWL_ON_PROPERTY = OWL2.onProperty.getURI();
+    private static final String OWL_SOME_VALUES_FROM =
+            OWL2.someValuesFrom.getURI();
+    private static final String OWL_ALL_VALUES_FROM =
+            OWL2.allValuesFrom.getURI();
+    private static final String OWL_XML_ROOT_ELEMENT = "Ontology";
+    private static final String OWL_INVERSE_OF = OWL2.inverseOf.getURI();
+    private static final Set<String> CLASS_AXIOM_PREDICATES = Set.of(
+            OWL2.equivalentClass.getURI(),
+            OWL2.disjointWith.getURI());
+
+    // Annotations are ordered by property IRI and then value, as in OWLAPI
+    private static final Comparator<String[]> ANNOTATION_ORDER =
+            Comparator.comparing((String[] annotation) -> annotation[0])
+                .thenComparing(annotation -> annotation[1]);
+
+    // Types that declare each kind of entity
+    private static final Set<String> CLASS_TYPES = Set.of(
+            OWL2.Class.getURI(),
+            RDFS.Class.getURI());
+    private static final Set<String> OBJECT_PROPERTY_TYPES = Set.of(
+            OWL2.ObjectProperty.getURI(),
+            OWL2.TransitiveProperty.getURI(),
+            OWL2.SymmetricProperty.getURI(),
+            OWL2.AsymmetricProperty.getURI(),
+            OWL2.ReflexiveProperty.getURI(),
+            OWL2.IrreflexiveProperty.getURI(),
+            OWL2.InverseFunctionalProperty.getURI());
+    private static final String DATA_PROPERTY_TYPE =
+            OWL2.DatatypeProperty.getURI();
+    private static final String ANNOTATION_PROPERTY_TYPE =
+            OWL2.AnnotationProperty.getURI();
+    private static final String NAMED_INDIVIDUAL_TYPE =
+            OWL2.NamedIndividual.getURI();
+    private static final String ONTOLOGY_TYPE = OWL2.Ontology.getURI();
+
+    // Built-in vocabulary namespaces whose terms are structural rather
+    // than annotation properties or classes, other than the built-in
+    // annotation properties
+    private static final Set<String> RESERVED_NAMESPACES = Set.of(
+            RDF.getURI(), RDFS.getURI(), OWL2.getURI(), XSD.getURI());
+    private static final Set<String> BUILT_IN_ANNOTATION_PROPERTIES = Set.of(
+            RDFS.label.getURI(),
+            RDFS.comment.getURI(),
+            RDFS.seeAlso.getURI(),
+            RDFS.isDefinedBy.getURI(),
+            OWL2.versionInfo.getURI(),
+            OWL2.deprecated.getURI(),
+            OWL2.priorVersion.getURI(),
+            OWL2.backwardCompatibleWith.getURI(),
+            OWL2.incompatibleWith.getURI());
+
+    private RDFStreamParser() {
+        throw new IllegalStateException("The RDFStreamParser "
+                + "utility class cannot be instantiated.");
+    }
+
+    /**
+     * Parse a given RDF file into a Simple Ontology object, detecting the
+     * RDF syntax from the file extension and defaulting to RDF/XML
+     *
+     * @param ontologyId
+     * @param gitWebhookId
+     * @param rdfFile
+     * @return
+     * @throws RiotException if the file is not a valid RDF serialisation
+     */
+
+    public static SimpleOntology parse(int ontologyId, long gitWebhookId,
+            Path rdfFile) {
+        return parse(ontologyId, gitWebhookId, rdfFile, null);
+    }
+
+    /**
+     * Parse a given RDF file into a Simple Ontology object, interning the
+     * IRIs of the streamed triples in a given IRI dictionary
+     *
+     * @param ontologyId
+     * @param gitWebhookId
+     * @param rdfFile
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @return
+     * @throws RiotException if the file is not a valid RDF serialisation
+     */
+
+    public static SimpleOntology parse(int ontologyId, long gitWebhookId,
+            Path rdfFile, IRIDictionary iriDictionary) {
+        return parse(ontologyId, gitWebhookId, rdfFile, iriDictionary, null);
+    }
+
+    /**
+     * Parse a given RDF file in a known source format into a Simple 
+     * Ontology object, interning the IRIs of the streamed triples in a 
+     * given IRI dictionary
+     *
+     * @param ontologyId
+     * @param gitWebhookId
+     * @param rdfFile
+     * @param iriDictionary the IRI dictionary, or null to not intern IRIs
+     * @param sourceFormat the source format, or null to detect the RDF 
+     *                     syntax from the file extension
+     * @return
+     * @throws RiotException if the file is not a valid RDF serialisation
+     */
+
+    public static SimpleOntology parse(int ontologyId, long gitWebhookId,
+            Path rdfFile, IRIDictionary iriDictionary, 
+            OntologySourceFormat sourceFormat) {
+        Lang lang = sourceFormat == null ? 
+                RDFLanguages.filenameToLang(rdfFile.toString(), Lang.RDFXML) : 
+                toLang(sourceFormat);
+        if (lang == null || (sourceFormat == null 
+                && lang.equals(Lang.RDFXML) && isOwlXml(rdfFile)))
+            throw new RiotException("'" + rdfFile + "' is serialised as "
+                    + "OWL/XML which is not an RDF syntax.");
+        SimpleOntologyStream stream = new SimpleOntologyStream(iriDictionary);
+        RDFParser.source(rdfFile).lang(lang).parse(stream);
+        SimpleOntology simpleOntology =
+                stream.toSimpleOntology(ontologyId, gitWebhookId);
+        simpleOntology.setIriDictionary(iriDictionary);
+        return simpleOntology;
+    }
+
+    /**
+     * Get the Jena language of a given ontology source format
+     *
+     * @param sourceFormat
+     * @return the language, or null if the format is not an RDF syntax
+     */
+
+    public static Lang toLang(OntologySourceFormat sourceFormat) {
+        switch (sourceFormat) {
+            case RDF_XML:
+                return Lang.RDFXML;
+            case TURTLE:
+                return Lang.TURTLE;
+            case N_TRIPLES:
+                return Lang.NTRIPLES;
+            case JSON_LD:
+                return Lang.JSONLD;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Check whether a given XML file is an OWL/XML document, which the
+     * RDF/XML parser would otherwise read as unrelated triples
+     *
+     * @param xmlFile
+     * @return
+     */
+
+    private static boolean isOwlXml(Path xmlFile) {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        try (InputStream inputStream = Files.newInputStream(xmlFile)) {
+            XMLStreamReader reader =
+                    xmlInputFactory.createXMLStreamReader(inputStream);
+            try {
+                while (reader.hasNext())
+                    if (reader.next() == XMLStreamReader.START_ELEMENT)
+                        return OWL2.getURI().equals(reader.getNamespaceURI())
+                                && OWL_XML_ROOT_ELEMENT.equals(
+                                        reader.getLocalName());
+                return false;
+            } finally {
+                reader.close();
+            }
+        } catch (IOException | XMLStreamException e) {
+            throw new RiotException(e);
+        }
+    }
+
+    private static boolean isReserved(String iri) {
+        for (String namespace : RESERVED_NAMESPACES)
+            if (iri.startsWith(namespace))
+                return true;
+        return false;
+    }
+
+    /**
+     * Collects the triples relevant to the Simple Ontology model, keyed
+     * by subject, as they are streamed by the Jena parser. Restrictions
+     * are held by blank node label until the end of the stream since
+     * they are typically serialised after the axiom that uses them.
+     */
+
+    private static class SimpleOntologyStream extends StreamRDFBase {
+
+        private final Set<String> classes = new HashSet<>();
+        private final Set<String> objectProperties = new HashSet<>();
+        private final Set<String> dataProperties = new HashSet<>();
+        private final Set<String> annotationProperties = new HashSet<>();
+        private final Set<String> namedIndividuals = new HashSet<>();
+        private final Set<String> ontologies = new HashSet<>();
+
+        private final Map<String, List<String>> types = new HashMap<>();
+        private final Map<String, List<Node>> subClassOf = new HashMap<>();
+        private final Map<String, List<String>> subPropertyOf =
+                new HashMap<>();
+        private final Map<String, List<String>> domainsAndRanges =
+                new HashMap<>();
+        private final Map<String, List<String[]>> statements =
+                new HashMap<>();
+        private final Map<String, String[]> restrictions = new HashMap<>();
+        private final IRIDictionary iriDictionary;
+
+        SimpleOntologyStream(IRIDictionary iriDictionary) {
+            this.iriDictionary = iriDictionary;
+        }
+
+        private String iri(Node node) {
+            return iriDictionary == null ?
+                    node.getURI() : iriDictionary.intern(node.getURI());
+        }
+
+        @Override
+        public void triple(Triple triple) {
+
+            Node subject = triple.getSubject();
+            String predicate = iri(triple.getPredicate());
+            Node object = triple.getObject();
+            String objectIri = object.isURI() ? iri(object) : null;
+
+            // Restrictions: [onProperty, someValuesFrom, allValuesFrom]
+            if (subject.isBlank()) {
+                int index = predicate.equals(OWL_ON_PROPERTY) ? 0 :
+                    predicate.equals(OWL_SOME_VALUES_FROM) ? 1 :
+                        predicate.equals(OWL_ALL_VALUES_FROM) ? 2 : -1;
+                if (index > -1 && object.isURI())
+                    restrictions.computeIfAbsent(
+                            subject.getBlankNodeLabel(),
+                            key -> new String[3])[index] = objectIri;
+                return;
+            }
+
+            if (!subject.isURI())
+                return;
+            String subjectIri = iri(subject);
+
+            // Entity declarations and class assertions
+            if (predicate.equals(RDF_TYPE)) {
+                if (object.isURI())
+                    type(subjectIri, objectIri);
+            }
+
+            // SubClassOf axioms with named or restriction superclasses
+            else if (predicate.equals(RDFS_SUBCLASSOF)) {
+                classes.add(subjectIri);
+                if (object.isURI())
+                    classes.add(objectIri);
+                subClassOf.computeIfAbsent(subjectIri,
+                        key -> new ArrayList<>(2)).add(object);
+            }
+
+            // SubPropertyOf axioms between named properties
+            else if (predicate.equals(RDFS_SUBPROPERTYOF)) {
+                if (object.isURI())
+                    subPropertyOf.computeIfAbsent(subjectIri,
+                            key -> new ArrayList<>(1)).add(objectIri);
+            }
+
+            // Domains and ranges, whose classes depend on the property type
+            else if (predicate.equals(RDFS_DOMAIN)
+                    || predicate.equals(RDFS_RANGE)) {
+                if (object.isURI())
+                    domainsAndRanges.computeIfAbsent(subjectIri,
+                            key -> new ArrayList<>(2)).add(objectIri);
+            }
+
+            // Inverse properties are always object properties
+            else if (predicate.equals(OWL_INVERSE_OF)) {
+                objectProperties.add(subjectIri);
+                if (object.isURI())
+                    objectProperties.add(objectIri);
+            }
+
+            // Equivalent and disjoint named classes
+            else if (CLASS_AXIOM_PREDICATES.contains(predicate)) {
+                classes.add(subjectIri);
+                if (object.isURI())
+                    classes.add(objectIri);
+            }
+
+            // Annotation, object property and data property assertions,
+            // which can only be told apart once all declarations are known
+            else if (!isReserved(predicate)
+                    || BUILT_IN_ANNOTATION_PROPERTIES.contains(predicate)) {
+                String value = object.isLiteral() ?
+                        object.getLiteralLexicalForm() :
+                            objectIri;
+                if (value != null)
+                    statements.computeIfAbsent(subjectIri,
+                            key -> new ArrayList<>(4)).add(new String[] {
+                                    predicate, value,
+                                    object.isURI() ? value : null});
+            }
+
+        }
+
+        private void type(String subjectIri, String typeIri) {
+            if (CLASS_TYPES.contains(typeIri))
+                classes.add(subjectIri);
+            else if (OBJECT_PROPERTY_TYPES.contains(typeIri))
+                objectProperties.add(subjectIri);
+            else if (typeIri.equals(DATA_PROPERTY_TYPE))
+                dataProperties.add(subjectIri);
+            else if (typeIri.equals(ANNOTATION_PROPERTY_TYPE))
+                annotationProperties.add(subjectIri);
+            else if (typeIri.equals(NAMED_INDIVIDUAL_TYPE))
+                namedIndividuals.add(subjectIri);
+            else if (typeIri.equals(ONTOLOGY_TYPE))
+                ontologies.add(subjectIri);
+            else if (typeIri.equals(OWL_THING) || !isReserved(typeIri)) {
+                namedIndividuals.add(subjectIri);
+                classes.add(typeIri);
+                types.computeIfAbsent(subjectIri,
+                        key -> new ArrayList<>(1)).add(typeIri);
+            }
+        }
+
+        /**
+         * Resolve the collected triples into a Simple Ontology object
+         *
+         * @param ontologyId
+         * @param gitWebhookId
+         * @return
+         */
+
+        private SimpleOntology toSimpleOntology(
+                int ontologyId, long gitWebhookId) {
+
+            // Properties used in restrictions are object properties unless
+            // declared otherwise, and their fillers are classes
+            for (String[] restriction : restrictions.values()) {
+                if (restriction[0] == null
+                        || dataProperties.contains(restriction[0]))
+                    continue;
+                objectProperties.add(restriction[0]);
+                for (int i = 1; i < restriction.length; i++)
+                    if (restriction[i] != null)
+                        classes.add(restriction[i]);
+            }
+
+            // SubPropertyOf axioms relate properties of the same type
+            subPropertyOf.forEach((property, superProperties) -> {
+                for (String superProperty : superProperties) {
+                    if (objectProperties.contains(property)
+                            || objectProperties.contains(superProperty)) {
+                        objectProperties.add(property);
+                        objectProperties.add(superProperty);
+                    } else if (annotationProperties.contains(property)
+                            || annotationProperties.contains(superProperty)) {
+                        annotationProperties.add(property);
+                        annotationProperties.add(superProperty);
+                    }
+                }
+            });
+
+            // Object property domains and ranges are classes
+            domainsAndRanges.forEach((property, iris) -> {
+                if (objectProperties.contains(property))
+                    classes.addAll(iris);
+            });
+
+            // Split the remaining statements into annotation assertions
+            // and object property assertions
+            Map<String, List<String[]>> annotations =
+                    new HashMap<>(statements.size());
+            Map<String, List<String[]>> objectPropertyAssertions =
+                    new HashMap<>();
+            statements.forEach((subjectIri, subjectStatements) -> {
+                for (String[] statement : subjectStatements) {
+                    String predicate = statement[0];
+                    String objectIri = statement[2];
+                    if (objectProperties.contains(predicate)) {
+                        if (objectIri != null) {
+                            namedIndividuals.add(subjectIri);
+                            namedIndividuals.add(objectIri);
+                            objectPropertyAssertions.computeIfAbsent(
+                                    subjectIri, key -> new ArrayList<>(2))
+                                .add(statement);
+                        }
+                    } else if (!dataProperties.contains(predicate)) {
+                        annotationProperties.add(predicate);
+                        if (!ontologies.contains(subjectIri))
+                            annotations.computeIfAbsent(subjectIri,
+                                    key -> new ArrayList<>(4))
+                                .add(statement);
+                    }
+                }
+            });
+            statements.clear();
+            for (List<String[]> entityAnnotations : annotations.values())
+                entityAnnotations.sort(ANNOTATION_ORDER);
+
+            return new SimpleOntology(ontologyId, gitWebhookId,
+                    toSimpleAnnotationProperties(annotations),
+                    toSimpleObjectProperties(annotations),
+                    toSimpleClasses(annotations),
+                    toSimpleNamedIndividuals(annotations,
+                            objectPropertyAssertions));
+
+        }
+
+        private Map<String, SimpleAnnotationProperty>
+            toSimpleAnnotationProperties(
+                    Map<String, List<String[]>> annotations) {
+            Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap =
+                    new LinkedHashMap<>();
+            for (String iri : sort(annotationProperties)) {
+                List<String[]> entityAnnotations =
+                        annotations.getOrDefault(iri, List.of());
+                simpleAnnotationPropertyMap.put(iri,
+                        new SimpleAnnotationProperty(iri,
+                                getLabel(entityAnnotations),
+                                toAnnotationMap(entityAnnotations)));
+            }
+            return simpleAnnotationPropertyMap;
+        }
+
+        private Map<String, SimpleObjectProperty> toSimpleObjectProperties(
+                Map<String, List<String[]>> annotations) {
+            Map<String, SimpleObjectProperty> simpleObjectPropertyMap =
+                    new LinkedHashMap<>();
+            for (String iri : sort(objectProperties)) {
+                SimpleObjectProperty simpleObjectProperty =
+                        new SimpleObjectProperty();
+                populate(iri, annotations, simpleObjectProperty::setIri,
+                        simpleObjectProperty::setLabel,
+                        simpleObjectProperty::setAnnotations);
+                for (String superProperty : subPropertyOf.getOrDefault(
+                        iri, List.of())) {
+                    String parentObjectPropertyIri =
+                            simpleObjectProperty.getParentObjectPropertyIRI();
+                    if (!iri.equals(superProperty)
+                            && objectProperties.contains(superProperty)
+                            && (parentObjectPropertyIri == null
+                                || superProperty.compareTo(
+                                        parentObjectPropertyIri) < 0))
+                        simpleObjectProperty.setParentObjectPropertyIRI(
+                                superProperty);
+                }
+                simpleObjectPropertyMap.put(iri, simpleObjectProperty);
+            }
+            return simpleObjectPropertyMap;
+        }
+
+        private Map<String, SimpleClass> toSimpleClasses(
+                Map<String, List<String[]>> annotations) {
+            Map<String, SimpleClass> simpleClassMap = new LinkedHashMap<>();
+            for (String iri : sort(classes)) {
+                SimpleClass simpleClass = new SimpleClass();
+                populate(iri, annotations, simpleClass::setIri,
+                        simpleClass::setLabel, simpleClass::setAnnotations);
+                Map<String, Set<String>> parentClassObjectProperties =
+                        new TreeMap<>();
+                for (Node superClass : subClassOf.getOrDefault(
+                        iri, List.of())) {
+
+                    // Named parent classes without OWL restrictions
+                    if (superClass.isURI()) {
+                        String superClassIri = iri(superClass);
+                        if (!iri.equals(superClassIri))
+                            parentClassObjectProperties.computeIfAbsent(
+                                    superClassIri, key -> new TreeSet<>());
+                        continue;
+                    }
+
+                    // Named parent classes with someValuesFrom restrictions
+                    String[] restriction = superClass.isBlank() ?
+                            restrictions.get(superClass.getBlankNodeLabel()) :
+                                null;
+                    if (restriction == null || restriction[0] == null
+                            || restriction[1] == null
+                            || !objectProperties.contains(restriction[0])
+                            || iri.equals(restriction[1]))
+                        continue;
+                    parentClassObjectProperties.computeIfAbsent(
+                            restriction[1], key -> new TreeSet<>())
+                        .add(restriction[0]);
+
+                }
+                Map<String, String> parentClasses = new LinkedHashMap<>();
+                parentClassObjectProperties.forEach(
+                        (superClassIri, objectPropertyIris) ->
+                            parentClasses.put(superClassIri,
+                                    objectPropertyIris.isEmpty() ? null :
+                                        String.join(" " + DELIMITER + " ",
+                                                objectPropertyIris)));
+                simpleClass.setParentClasses(parentClasses);
+                simpleClassMap.put(iri, simpleClass);
+            }
+            return simpleClassMap;
+        }
+
+        private Map<String, SimpleNamedIndividual> toSimpleNamedIndividuals(
+                Map<String, List<String[]>> annotations,
+                Map<String, List<String[]>> objectPropertyAssertions) {
+
+            // An object property assertion links the named individual
+            // whose IRI sorts first to the other, keeping the first object
+            // property IRI when there are several, as in OWLAPI
+            Map<String, Map<String, String>> linkedNamedIndividuals =
+                    new HashMap<>();
+            objectPropertyAssertions.forEach((subjectIri, assertions) -> {
+                IRI subject = IRI.create(subjectIri);
+                for (String[] assertion : assertions) {
+                    if (subjectIri.equals(assertion[2]))
+                        continue;
+                    boolean subjectFirst =
+                            subject.compareTo(IRI.create(assertion[2])) < 0;
+                    linkedNamedIndividuals.computeIfAbsent(
+                            subjectFirst ? subjectIri : assertion[2],
+                            key -> new TreeMap<>())
+                        .merge(subjectFirst ? assertion[2] : subjectIri,
+                                assertion[0],
+                                (current, objectPropertyIri) ->
+                                    current.compareTo(objectPropertyIri) <= 0 ?
+                                        current : objectPropertyIri);
+                }
+            });
+
+            Map<String, SimpleNamedIndividual> simpleNamedIndividualMap =
+                    new LinkedHashMap<>();
+            for (String iri : sort(namedIndividuals)) {
+                SimpleNamedIndividual simpleNamedIndividual =
+                        new SimpleNamedIndividual();
+                populate(iri, annotations, simpleNamedIndividual::setIri,
+                        simpleNamedIndividual::setLabel,
+                        simpleNamedIndividual::setAnnotations);
+                Set<String> instanceOfClassIris = new TreeSet<>();
+                for (String classIri : types.getOrDefault(iri, List.of()))
+                    if (!iri.equals(classIri))
+                        instanceOfClassIris.add(classIri);
+                simpleNamedIndividual.setInstanceOfClassIris(
+                        new LinkedHashSet<>(instanceOfClassIris));
+                simpleNamedIndividual.setLinkedNamedIndividuals(
+                        new LinkedHashMap<>(linkedNamedIndividuals
+                                .getOrDefault(iri, Map.of())));
+                simpleNamedIndividualMap.put(iri, simpleNamedIndividual);
+            }
+            return simpleNamedIndividualMap;
+
+        }
+
+        private void populate(String iri,
+                Map<String, List<String[]>> annotations,
+                Consumer<String> iriSetter, Consumer<String> labelSetter,
+                Consumer<Map<String, String>> annotationsSetter) {
+
+            // Generate a label from the IRI if none is annotated, and
+            // ensure that the label annotation exists as a minimum
+            List<String[]> entityAnnotations =
+                    annotations.getOrDefault(iri, List.of());
+            String label = getLabel(entityAnnotations);
+            if (StringUtils.isBlank(label))
+                label = OWLAPI.generateRDFSLabel(iri);
+            Map<String, String> annotationMap =
+                    toAnnotationMap(entityAnnotations);
+            annotationMap.putIfAbsent(RDFS_LABEL, label);
+            iriSetter.accept(iri);
+            labelSetter.accept(label);
+            annotationsSetter.accept(annotationMap);
+
+        }
+
+        private static String getLabel(List<String[]> entityAnnotations) {
+            for (String[] annotation : entityAnnotations)
+                if (annotation[0].equals(RDFS_LABEL))
+                    return annotation[1];
+            return null;
+        }
+
+        private static Map<String, String> toAnnotationMap(
+                List<String[]> entityAnnotations) {
+            Map<String, String> annotationMap = new LinkedHashMap<>();
+            for (String[] annotation : entityAnnotations)
+                annotationMap.merge(annotation[0], annotation[1],
+                        (current, value) ->
+                            current + " " + DELIMITER + " " + value);
+            return annotationMap;
+        }
+
+        private static List<String> sort(Set<String> iris) {
+
+            // Order entities as the OWL API orders its signatures
+            List<IRI> sortedIris = new ArrayList<>(iris.size());
+            for (String iri : iris)
+                sortedIris.add(IRI.create(iri));
+            sortedIris.sort(null);
+            List<String> sorted = new ArrayList<>(sortedIris.size());
+            for (IRI iri : sortedIris)
+                sorted.add(iri.toString());
+            return sorted;
+
+        }
+
+    }
+
+}
@@ -1,8 +1,6 @@
 package ai.hyperlearning.ontopop.rdf;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
@@ -11,6 +9,7 @@ import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 
 import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
 
 /**
  * Standard RDF Schema
@@ -35,11 +34,13 @@ public class StandardRDFSchema {
         OWLOntology skos = SKOSVocabulary.loadSKOSRDF();
         Map<String, SimpleAnnotationProperty> skosAnnotationProperties =
                 SKOSVocabulary.parseAnnotationProperties(skos);
+        OWLOntologyManagerPool.release(skos);
 
         // Load the RDF Schema and parse its annotation properties
         OWLOntology rdf = RDFSchema.loadRdfSchema();
         Map<String, SimpleAnnotationProperty> rdfSchemaAnnotationProperties =
                 RDFSchema.parseAnnotationProperties(rdf);
+        OWLOntologyManagerPool.release(rdf);
 
         // Load the DCMI RDF Schema and parse its annotation properties
         Map<String, SimpleAnnotationProperty> dcmiSchemaAnnotationProperties =
@@ -57,8 +58,8 @@ public class StandardRDFSchema {
     }
     
     /**
-     * Transform the standard schema map and generate a map between
-     * label and SimpleAnnotationProperty.
+     * Get the map between label and SimpleAnnotationProperty of the 
+     * standard schema, as loaded once per JVM by the registry.
      * @return
      * @throws OWLOntologyCreationException
      * @throws IOException
@@ -67,22 +68,13 @@ public class StandardRDFSchema {
     public static Map<String, SimpleAnnotationProperty> 
             getLabelStandardSchemaAnnotationPropertyMap() 
                     throws OWLOntologyCreationException, IOException {
-        Map<String, SimpleAnnotationProperty> labelStandardSchemaAnnotationPropertyMap = 
-                new HashMap<>();
-        Map<String, SimpleAnnotationProperty> standardSchema = 
-                loadStandardSchema();
-        for ( SimpleAnnotationProperty simpleAnnotationProperty : 
-            standardSchema.values() ) {
-            if ( simpleAnnotationProperty.getLabel() != null )
-                labelStandardSchemaAnnotationPropertyMap.put(
-                        simpleAnnotationProperty.getLabel().strip().toUpperCase(), 
-                        simpleAnnotationProperty);
-        }
-        return labelStandardSchemaAnnotationPropertyMap;
+        return StandardVocabularyRegistry.getInstance()
+                .getLabelAnnotationProperties();
     }
     
     /**
-     * Generate a unique set of standard schema annotation property labels
+     * Get the unique set of standard schema annotation property labels, 
+     * as loaded once per JVM by the registry.
      * @return
      * @throws OWLOntologyCreationException
      * @throws IOException
@@ -90,16 +82,8 @@ public class StandardRDFSchema {
     
     public static Set<String> getUniqueStandardSchemaAnnotationPropertyLabels() 
             throws OWLOntologyCreationException, IOException {
-        Map<String, SimpleAnnotationProperty> standardSchema = loadStandardSchema();
-        Set<String> standardSchemaAnnotationPropertyLabels = new HashSet<>();
-        for ( SimpleAnnotationProperty simpleAnnotationProperty : 
-            standardSchema.values() ) {
-            if ( simpleAnnotationProperty.getLabel() != null )
-                standardSchemaAnnotationPropertyLabels.add(
-                        simpleAnnotationProperty.getLabel()
-                            .strip().toUpperCase());
-        }
-        return standardSchemaAnnotationPropertyLabels;
+        return StandardVocabularyRegistry.getInstance()
+                .getUniqueAnnotationPropertyLabels();
     }
 
 }
@@ -0,0 +1,126 @@
+package ai.hyperlearning.ontopop.rdf;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
+
+/**
+ * Standard Vocabulary Registry - holds the merged SKOS, RDF Schema and
+ * DCMI annotation properties, which are loaded from the bundled RDF
+ * resources at most once per JVM and then shared by every caller. The
+ * registered maps are unmodifiable, and the annotation properties that
+ * they contain must be treated as read-only. A failed load is not
+ * remembered, so that it may be attempted again by the next caller.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class StandardVocabularyRegistry {
+
+    private static volatile StandardVocabularyRegistry instance;
+
+    // Map between annotation property IRI and SimpleAnnotationProperty
+    private final Map<String, SimpleAnnotationProperty> annotationProperties;
+
+    // Map between normalised label and SimpleAnnotationProperty
+    private final Map<String, SimpleAnnotationProperty> labelAnnotationProperties;
+
+    private final Set<String> uniqueAnnotationPropertyLabels;
+
+    private StandardVocabularyRegistry(
+            Map<String, SimpleAnnotationProperty> annotationProperties) {
+        Map<String, SimpleAnnotationProperty> labelAnnotationPropertyMap =
+                new HashMap<>();
+        for (SimpleAnnotationProperty simpleAnnotationProperty :
+                annotationProperties.values()) {
+            if (simpleAnnotationProperty.getLabel() != null)
+                labelAnnotationPropertyMap.put(
+                        normaliseLabel(simpleAnnotationProperty.getLabel()),
+                        simpleAnnotationProperty);
+        }
+        this.annotationProperties =
+                Collections.unmodifiableMap(annotationProperties);
+        this.labelAnnotationProperties =
+                Collections.unmodifiableMap(labelAnnotationPropertyMap);
+        this.uniqueAnnotationPropertyLabels = Collections.unmodifiableSet(
+                new HashSet<>(labelAnnotationPropertyMap.keySet()));
+    }
+
+    /**
+     * Get the registry, loading the standard vocabularies if they have
+     * not already been loaded by this JVM
+     *
+     * @return
+     * @throws OWLOntologyCreationException
+     * @throws IOException
+     */
+
+    public static StandardVocabularyRegistry getInstance()
+            throws OWLOntologyCreationException, IOException {
+        StandardVocabularyRegistry registry = instance;
+        if (registry == null) {
+            synchronized (StandardVocabularyRegistry.class) {
+                registry = instance;
+                if (registry == null) {
+                    registry = new StandardVocabularyRegistry(
+                            StandardRDFSchema.loadStandardSchema());
+                    instance = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * Normalise an annotation property label for label-based lookups
+     *
+     * @param label
+     * @return
+     */
+
+    public static String normaliseLabel(String label) {
+        return label.strip().toUpperCase();
+    }
+
+    /**
+     * Get the unmodifiable map between standard annotation property IRI
+     * and SimpleAnnotationProperty
+     *
+     * @return
+     */
+
+    public Map<String, SimpleAnnotationProperty> getAnnotationProperties() {
+        return annotationProperties;
+    }
+
+    /**
+     * Get the unmodifiable map between normalised standard annotation
+     * property label and SimpleAnnotationProperty
+     *
+     * @return
+     */
+
+    public Map<String, SimpleAnnotationProperty> getLabelAnnotationProperties() {
+        return labelAnnotationProperties;
+    }
+
+    /**
+     * Get the unmodifiable set of normalised standard annotation property
+     * labels
+     *
+     * @return
+     */
+
+    public Set<String> getUniqueAnnotationPropertyLabels() {
+        return uniqueAnnotationPropertyLabels;
+    }
+
+}
@@ -0,0 +1,160 @@
+package ai.hyperlearning.ontopop.owl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.search.EntitySearcher;
+
+/**
+ * Unit Tests - OWL Entity Axiom Index
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@TestInstance(Lifecycle.PER_CLASS)
+class TestOWLEntityAxiomIndex {
+
+    private static final String TEST_ONTOLOGY_FILENAME =
+            "test-ontology.owl";
+    private static final String NAMESPACE = "http://example.org/ontology#";
+    private OWLOntology ontology = null;
+    private OWLEntityAxiomIndex axiomIndex = null;
+
+    @BeforeAll
+    public void loadOntology()
+            throws OWLOntologyCreationException {
+        ClassLoader classLoader =
+                TestOWLEntityAxiomIndex.class.getClassLoader();
+        ontology = OWLAPI.loadOntology(new File(classLoader
+                .getResource(TEST_ONTOLOGY_FILENAME).getFile()));
+        axiomIndex = OWLEntityAxiomIndex.build(ontology);
+    }
+
+    /**************************************************************************
+     * Index Lookups
+     *************************************************************************/
+
+    @Test
+    void testAnnotationsMatchEntitySearcher() {
+        ontology.signature().forEach(entity -> assertEquals(
+                EntitySearcher.getAnnotations(entity, ontology)
+                    .collect(Collectors.toSet()),
+                new HashSet<>(axiomIndex.getAnnotations(entity.getIRI())),
+                entity.getIRI().toString()));
+    }
+
+    @Test
+    void testSubClassOfAxiomsMatchOntology() {
+        for (OWLClass owlClass : OWLAPI.getClasses(ontology))
+            assertEquals(ontology.subClassAxiomsForSubClass(owlClass)
+                    .collect(Collectors.toSet()),
+                    new HashSet<>(axiomIndex.getSubClassOfAxioms(
+                            owlClass.getIRI())),
+                    owlClass.getIRI().toString());
+    }
+
+    @Test
+    void testSubObjectPropertyOfAxiomsMatchOntology() {
+        for (OWLObjectProperty objectProperty :
+            OWLAPI.getObjectProperties(ontology))
+            assertEquals(ontology.objectSubPropertyAxiomsForSubProperty(
+                    objectProperty).collect(Collectors.toSet()),
+                    new HashSet<>(axiomIndex.getSubObjectPropertyOfAxioms(
+                            objectProperty.getIRI())),
+                    objectProperty.getIRI().toString());
+    }
+
+    @Test
+    void testAbsentIrisHaveNoAxioms() {
+        IRI absentIri = IRI.create(NAMESPACE, "Absent");
+        assertTrue(axiomIndex.getAnnotations(absentIri).isEmpty());
+        assertTrue(axiomIndex.getSubClassOfAxioms(absentIri).isEmpty());
+        assertTrue(axiomIndex.getSubObjectPropertyOfAxioms(absentIri)
+                .isEmpty());
+        assertTrue(axiomIndex.getNamedIndividualAxioms(absentIri).isEmpty());
+    }
+
+    @Test
+    void testNamedIndividualAxiomsReferenceBothIndividuals()
+            throws OWLOntologyCreationException {
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLDataFactory dataFactory = manager.getOWLDataFactory();
+        OWLOntology individuals = manager.createOntology();
+        OWLClass person = dataFactory.getOWLClass(NAMESPACE, "Person");
+        OWLObjectProperty knows =
+                dataFactory.getOWLObjectProperty(NAMESPACE, "knows");
+        OWLNamedIndividual alice =
+                dataFactory.getOWLNamedIndividual(NAMESPACE, "alice");
+        OWLNamedIndividual bob =
+                dataFactory.getOWLNamedIndividual(NAMESPACE, "bob");
+        OWLAxiom aliceIsPerson =
+                dataFactory.getOWLClassAssertionAxiom(person, alice);
+        OWLAxiom aliceKnowsBob = dataFactory
+                .getOWLObjectPropertyAssertionAxiom(knows, alice, bob);
+        OWLAxiom bobKnowsBob = dataFactory
+                .getOWLObjectPropertyAssertionAxiom(knows, bob, bob);
+        OWLAxiom anonymousSubClassOf = dataFactory.getOWLSubClassOfAxiom(
+                dataFactory.getOWLObjectSomeValuesFrom(knows, person),
+                person);
+        individuals.add(aliceIsPerson, aliceKnowsBob, bobKnowsBob,
+                anonymousSubClassOf);
+
+        OWLEntityAxiomIndex individualsIndex =
+                OWLEntityAxiomIndex.build(individuals);
+        assertEquals(Set.of(aliceIsPerson, aliceKnowsBob), new HashSet<>(
+                individualsIndex.getNamedIndividualAxioms(alice.getIRI())));
+
+        // Self-referencing assertions are indexed once
+        List<OWLAxiom> bobAxioms =
+                individualsIndex.getNamedIndividualAxioms(bob.getIRI());
+        assertEquals(2, bobAxioms.size());
+        assertEquals(Set.of(aliceKnowsBob, bobKnowsBob),
+                new HashSet<>(bobAxioms));
+
+        // Anonymous subclasses are not indexed
+        assertTrue(individualsIndex.getSubClassOfAxioms(person.getIRI())
+                .isEmpty());
+    }
+
+    /**************************************************************************
+     * Parsing
+     *************************************************************************/
+
+    @Test
+    void testParsingWithIndexMatchesParsingWithoutIndex() {
+        assertEquals(
+                OWLAPI.parseAnnotationProperties(ontology).toString(),
+                OWLAPI.parseAnnotationProperties(ontology, axiomIndex)
+                    .toString());
+        assertEquals(OWLAPI.parseObjectProperties(ontology).toString(),
+                OWLAPI.parseObjectProperties(ontology, axiomIndex)
+                    .toString());
+        assertEquals(OWLAPI.parseClasses(ontology).toString(),
+                OWLAPI.parseClasses(ontology, axiomIndex).toString());
+        assertEquals(OWLAPI.parseNamedIndividuals(ontology).toString(),
+                OWLAPI.parseNamedIndividuals(ontology, axiomIndex)
+                    .toString());
+    }
+
+}
@@ -0,0 +1,107 @@
+package ai.hyperlearning.ontopop.owl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+/**
+ * Unit Tests - OWL Ontology Manager Pool
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOWLOntologyManagerPool {
+
+    // Enough borrowers to drain every idle manager from the shared pool
+    private static final int BORROWERS =
+            Runtime.getRuntime().availableProcessors() * 2 + 2;
+
+    @Test
+    void testReleasedManagersAreEmpty()
+            throws OWLOntologyCreationException {
+        OWLOntologyManager manager = OWLOntologyManagerPool.borrow();
+        manager.createOntology();
+        OWLOntologyManagerPool.release(manager);
+        List<OWLOntologyManager> borrowed = borrowAll();
+        try {
+            assertTrue(containsSame(borrowed, manager));
+            for (OWLOntologyManager reused : borrowed)
+                assertEquals(0, reused.ontologies().count());
+        } finally {
+            borrowed.forEach(OWLOntologyManagerPool::release);
+        }
+    }
+
+    @Test
+    void testDoubleReleaseDoesNotHandTheManagerToTwoBorrowers()
+            throws OWLOntologyCreationException {
+
+        // Empty the pool so that it has room for both releases
+        List<OWLOntologyManager> drained = borrowAll();
+        List<OWLOntologyManager> borrowed = new ArrayList<>();
+        try {
+            OWLOntologyManager manager = OWLOntologyManagerPool.borrow();
+            OWLOntology ontology = manager.createOntology();
+            OWLOntologyManagerPool.release(manager);
+            OWLOntologyManagerPool.release(manager);
+            OWLOntologyManagerPool.release(ontology);
+            borrowed.add(OWLOntologyManagerPool.borrow());
+            borrowed.add(OWLOntologyManagerPool.borrow());
+            assertEquals(2, distinct(borrowed).size());
+        } finally {
+            borrowed.forEach(OWLOntologyManagerPool::release);
+            drained.forEach(OWLOntologyManagerPool::release);
+        }
+
+    }
+
+    @Test
+    void testManagersThatWereNotBorrowedAreNotPooled() {
+        List<OWLOntologyManager> drained = borrowAll();
+        OWLOntologyManager borrowed = null;
+        try {
+            OWLOntologyManager foreign =
+                    OWLManager.createOWLOntologyManager();
+            OWLOntologyManagerPool.release(foreign);
+            borrowed = OWLOntologyManagerPool.borrow();
+            assertNotSame(foreign, borrowed);
+        } finally {
+            OWLOntologyManagerPool.release(borrowed);
+            drained.forEach(OWLOntologyManagerPool::release);
+        }
+    }
+
+    private List<OWLOntologyManager> borrowAll() {
+        List<OWLOntologyManager> borrowed = new ArrayList<>();
+        for (int i = 0; i < BORROWERS; i++)
+            borrowed.add(OWLOntologyManagerPool.borrow());
+        return borrowed;
+    }
+
+    private boolean containsSame(List<OWLOntologyManager> managers,
+            OWLOntologyManager manager) {
+        return managers.stream().anyMatch(m -> m == manager);
+    }
+
+    private Set<OWLOntologyManager> distinct(
+            List<OWLOntologyManager> managers) {
+        Set<OWLOntologyManager> distinct =
+                Collections.newSetFromMap(new IdentityHashMap<>());
+        distinct.addAll(managers);
+        return distinct;
+    }
+
+}
@@ -0,0 +1,221 @@
+package ai.hyperlearning.ontopop.owl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.semanticweb.HermiT.ReasonerFactory;
+import org.semanticweb.HermiT.datatypes.MalformedLiteralException;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
+
+/**
+ * Unit Tests - OWL Structural Consistency Checker. Every ontology that
+ * uses a construct able to give rise to a clash must fall through to
+ * HermiT, which is shown to find each of these ontologies inconsistent,
+ * while ontologies in the clash-free fragments of OWL 2 EL and QL are
+ * proved consistent without it.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOWLStructuralConsistencyChecker {
+
+    private static final String NAMESPACE = "http://example.org/ontology#";
+    private static final OWLDataFactory DATA_FACTORY =
+            OWLManager.getOWLDataFactory();
+    private static final OWLClass A = DATA_FACTORY.getOWLClass(
+            IRI.create(NAMESPACE + "A"));
+    private static final OWLClass B = DATA_FACTORY.getOWLClass(
+            IRI.create(NAMESPACE + "B"));
+    private static final OWLClass C = DATA_FACTORY.getOWLClass(
+            IRI.create(NAMESPACE + "C"));
+    private static final OWLObjectProperty R =
+            DATA_FACTORY.getOWLObjectProperty(IRI.create(NAMESPACE + "r"));
+    private static final OWLObjectProperty S =
+            DATA_FACTORY.getOWLObjectProperty(IRI.create(NAMESPACE + "s"));
+    private static final OWLDataProperty D =
+            DATA_FACTORY.getOWLDataProperty(IRI.create(NAMESPACE + "d"));
+    private static final OWLNamedIndividual X =
+            DATA_FACTORY.getOWLNamedIndividual(IRI.create(NAMESPACE + "x"));
+    private static final OWLNamedIndividual Y =
+            DATA_FACTORY.getOWLNamedIndividual(IRI.create(NAMESPACE + "y"));
+    private static final OWLNamedIndividual Z =
+            DATA_FACTORY.getOWLNamedIndividual(IRI.create(NAMESPACE + "z"));
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inconsistentOntologies")
+    void testClashingConstructsFallThroughToHermiT(String name,
+            List<OWLAxiom> axioms) throws OWLOntologyCreationException {
+        OWLOntology ontology = createOntology(axioms);
+        assertFalse(OWLStructuralConsistencyChecker.isConsistent(ontology));
+        assertFalse(OWLStructuralConsistencyChecker.isConsistent(
+                ontology.getLogicalAxioms()));
+        assertFalse(isConsistentWithHermiT(ontology));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("clashFreeOntologies")
+    void testClashFreeOntologiesAreConsistentWithoutHermiT(String name,
+            List<OWLAxiom> axioms) throws OWLOntologyCreationException {
+        OWLOntology ontology = createOntology(axioms);
+        assertTrue(OWLStructuralConsistencyChecker.isConsistent(ontology));
+        assertTrue(isConsistentWithHermiT(ontology));
+    }
+
+    static Stream<Arguments> inconsistentOntologies() {
+        return Stream.of(
+                Arguments.of("Disjoint classes", List.of(
+                        DATA_FACTORY.getOWLDisjointClassesAxiom(A, B),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(A, X),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(B, X))),
+                Arguments.of("Disjoint object properties", List.of(
+                        DATA_FACTORY.getOWLDisjointObjectPropertiesAxiom(
+                                R, S),
+                        DATA_FACTORY.getOWLObjectPropertyAssertionAxiom(
+                                R, X, Y),
+                        DATA_FACTORY.getOWLObjectPropertyAssertionAxiom(
+                                S, X, Y))),
+                Arguments.of("Complement of", List.of(
+                        DATA_FACTORY.getOWLSubClassOfAxiom(A,
+                                DATA_FACTORY.getOWLObjectComplementOf(B)),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(A, X),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(B, X))),
+                Arguments.of("Max cardinality", List.of(
+                        DATA_FACTORY.getOWLSubClassOfAxiom(A,
+                                DATA_FACTORY.getOWLObjectMaxCardinality(
+                                        0, R)),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(A, X),
+                        DATA_FACTORY.getOWLObjectPropertyAssertionAxiom(
+                                R, X, Y))),
+                Arguments.of("Exact cardinality", List.of(
+                        DATA_FACTORY.getOWLSubClassOfAxiom(A,
+                                DATA_FACTORY.getOWLObjectExactCardinality(
+                                        0, R)),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(A, X),
+                        DATA_FACTORY.getOWLObjectPropertyAssertionAxiom(
+                                R, X, Y))),
+                Arguments.of("Nominals", List.of(
+                        DATA_FACTORY.getOWLSubClassOfAxiom(
+                                DATA_FACTORY.getOWLThing(),
+                                DATA_FACTORY.getOWLObjectOneOf(X)),
+                        DATA_FACTORY.getOWLSubClassOfAxiom(
+                                DATA_FACTORY.getOWLThing(),
+                                DATA_FACTORY.getOWLObjectMinCardinality(
+                                        2, R)))),
+                Arguments.of("Functional object property", List.of(
+                        DATA_FACTORY.getOWLFunctionalObjectPropertyAxiom(R),
+                        DATA_FACTORY.getOWLObjectPropertyAssertionAxiom(
+                                R, X, Y),
+                        DATA_FACTORY.getOWLObjectPropertyAssertionAxiom(
+                                R, X, Z),
+                        DATA_FACTORY.getOWLDifferentIndividualsAxiom(Y, Z))),
+                Arguments.of("Functional data property", List.of(
+                        DATA_FACTORY.getOWLFunctionalDataPropertyAxiom(D),
+                        DATA_FACTORY.getOWLDataPropertyAssertionAxiom(
+                                D, X, 1),
+                        DATA_FACTORY.getOWLDataPropertyAssertionAxiom(
+                                D, X, 2))),
+                Arguments.of("Different individuals", List.of(
+                        DATA_FACTORY.getOWLSameIndividualAxiom(X, Y),
+                        DATA_FACTORY.getOWLDifferentIndividualsAxiom(X, Y))),
+                Arguments.of("Invalid literal", List.of(
+                        DATA_FACTORY.getOWLDataPropertyAssertionAxiom(D, X,
+                                DATA_FACTORY.getOWLLiteral("one",
+                                        OWL2Datatype.XSD_INTEGER)))),
+                Arguments.of("Invalid literal in a data has value", List.of(
+                        DATA_FACTORY.getOWLClassAssertionAxiom(
+                                DATA_FACTORY.getOWLDataHasValue(D,
+                                        DATA_FACTORY.getOWLLiteral("one",
+                                                OWL2Datatype.XSD_INTEGER)),
+                                X))),
+                Arguments.of("Empty data range", List.of(
+                        DATA_FACTORY.getOWLClassAssertionAxiom(
+                                DATA_FACTORY.getOWLDataSomeValuesFrom(D,
+                                        DATA_FACTORY.getOWLDataIntersectionOf(
+                                                DATA_FACTORY.getIntegerOWLDatatype(),
+                                                DATA_FACTORY.getStringOWLDatatype())),
+                                X))),
+                Arguments.of("Bottom class", List.of(
+                        DATA_FACTORY.getOWLClassAssertionAxiom(
+                                DATA_FACTORY.getOWLNothing(), X))));
+    }
+
+    static Stream<Arguments> clashFreeOntologies() {
+        return Stream.of(
+                Arguments.of("OWL 2 EL", List.of(
+                        DATA_FACTORY.getOWLSubClassOfAxiom(A, B),
+                        DATA_FACTORY.getOWLEquivalentClassesAxiom(C,
+                                DATA_FACTORY.getOWLObjectIntersectionOf(A,
+                                        DATA_FACTORY.getOWLObjectSomeValuesFrom(
+                                                R, B))),
+                        DATA_FACTORY.getOWLTransitiveObjectPropertyAxiom(R),
+                        DATA_FACTORY.getOWLReflexiveObjectPropertyAxiom(S),
+                        DATA_FACTORY.getOWLSubPropertyChainOfAxiom(
+                                List.of(R, S), R),
+                        DATA_FACTORY.getOWLObjectPropertyDomainAxiom(R, A),
+                        DATA_FACTORY.getOWLObjectPropertyRangeAxiom(R, B),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(
+                                DATA_FACTORY.getOWLObjectHasValue(R, Y), X),
+                        DATA_FACTORY.getOWLObjectPropertyAssertionAxiom(
+                                R, X, Y),
+                        DATA_FACTORY.getOWLDataPropertyAssertionAxiom(
+                                D, X, 1),
+                        DATA_FACTORY.getOWLSameIndividualAxiom(Y, Z))),
+                Arguments.of("OWL 2 QL", List.of(
+                        DATA_FACTORY.getOWLSubClassOfAxiom(A,
+                                DATA_FACTORY.getOWLObjectSomeValuesFrom(
+                                        R.getInverseProperty(), B)),
+                        DATA_FACTORY.getOWLInverseObjectPropertiesAxiom(R, S),
+                        DATA_FACTORY.getOWLSymmetricObjectPropertyAxiom(S),
+                        DATA_FACTORY.getOWLSubObjectPropertyOfAxiom(S, R),
+                        DATA_FACTORY.getOWLDataPropertyDomainAxiom(D, A),
+                        DATA_FACTORY.getOWLSubClassOfAxiom(B,
+                                DATA_FACTORY.getOWLDataSomeValuesFrom(D,
+                                        DATA_FACTORY.getIntegerOWLDatatype())),
+                        DATA_FACTORY.getOWLClassAssertionAxiom(A, X),
+                        DATA_FACTORY.getOWLDataPropertyAssertionAxiom(D, X,
+                                DATA_FACTORY.getOWLLiteral("one", "en")))));
+    }
+
+    private OWLOntology createOntology(List<OWLAxiom> axioms)
+            throws OWLOntologyCreationException {
+        return OWLManager.createOWLOntologyManager().createOntology(
+                axioms.stream());
+    }
+
+    private boolean isConsistentWithHermiT(OWLOntology ontology) {
+
+        // HermiT rejects literals outside the lexical space of their
+        // datatype rather than reporting the ontology inconsistent
+        OWLReasoner reasoner;
+        try {
+            reasoner = new ReasonerFactory().createReasoner(ontology);
+        } catch (MalformedLiteralException e) {
+            return false;
+        }
+        try {
+            return reasoner.isConsistent();
+        } finally {
+            reasoner.dispose();
+        }
+
+    }
+
+}
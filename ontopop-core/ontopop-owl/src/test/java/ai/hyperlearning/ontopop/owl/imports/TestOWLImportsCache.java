@@ -0,0 +1,242 @@
+package ai.hyperlearning.ontopop.owl.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.semanticweb.owlapi.io.StringDocumentSource;
+import org.semanticweb.owlapi.model.MissingImportHandlingStrategy;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
+
+/**
+ * Unit Tests - OWL Imports Cache
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOWLImportsCache {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String SLOW_PATH = "/slow";
+    private static final String FAST_PATH = "/fast";
+    private static final String FAILING_PATH = "/failing";
+    private static final String UNCACHED_PATH = "/uncached";
+
+    @TempDir
+    Path tempDirectory;
+
+    private HttpServer httpServer;
+    private ExecutorService executorService;
+    private final Map<String, AtomicInteger> requests =
+            new ConcurrentHashMap<>();
+    private final CountDownLatch slowRequestStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseSlowRequest = new CountDownLatch(1);
+    private volatile boolean failing = false;
+
+    @BeforeEach
+    void startHttpServer() throws IOException {
+        executorService = Executors.newCachedThreadPool();
+        httpServer = HttpServer.create(
+                new InetSocketAddress("127.0.0.1", 0), 0);
+        httpServer.setExecutor(executorService);
+        httpServer.createContext(SLOW_PATH, exchange -> {
+            slowRequestStarted.countDown();
+            try {
+                releaseSlowRequest.await(TIMEOUT.toSeconds(),
+                        TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200);
+        });
+        httpServer.createContext(FAST_PATH,
+                exchange -> respond(exchange, 200));
+        httpServer.createContext(FAILING_PATH,
+                exchange -> respond(exchange, failing ? 500 : 200));
+        httpServer.createContext(UNCACHED_PATH,
+                exchange -> respond(exchange, 200));
+        httpServer.start();
+    }
+
+    @AfterEach
+    void stopHttpServer() {
+        releaseSlowRequest.countDown();
+        httpServer.stop(0);
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testSlowImportDoesNotBlockOtherImports() throws Exception {
+        OWLImportsCache cache = new OWLImportsCache(
+                tempDirectory, false, TIMEOUT);
+        Future<File> slow = executorService.submit(
+                () -> cache.resolve(iri(SLOW_PATH)));
+        assertTrue(slowRequestStarted.await(
+                TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        assertNotNull(cache.resolve(iri(FAST_PATH)));
+        assertFalse(slow.isDone());
+        releaseSlowRequest.countDown();
+        assertNotNull(slow.get(TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testConcurrentResolutionsShareOneFetch() throws Exception {
+        OWLImportsCache cache = new OWLImportsCache(
+                tempDirectory, false, TIMEOUT);
+        List<Future<File>> resolutions = new ArrayList<>();
+        for (int i = 0; i < 4; i++)
+            resolutions.add(executorService.submit(
+                    () -> cache.resolve(iri(SLOW_PATH))));
+        assertTrue(slowRequestStarted.await(
+                TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        releaseSlowRequest.countDown();
+        File document = resolutions.get(0).get(
+                TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+        for (Future<File> resolution : resolutions)
+            assertEquals(document, resolution.get(
+                    TIMEOUT.toSeconds(), TimeUnit.SECONDS));
+        assertEquals(1, requests.get(SLOW_PATH).get());
+    }
+
+    @Test
+    void testExpiredDocumentsAreFetchedAgain() throws Exception {
+        OWLImportsCache cache = new OWLImportsCache(tempDirectory, false,
+                TIMEOUT, Duration.ofHours(1), 0);
+        File document = cache.resolve(iri(FAILING_PATH));
+        cache.resolve(iri(FAILING_PATH));
+        assertEquals(1, requests.get(FAILING_PATH).get());
+
+        // Age the cached document beyond the expiry
+        assertTrue(document.setLastModified(System.currentTimeMillis()
+                - Duration.ofHours(2).toMillis()));
+        assertEquals(document, cache.resolve(iri(FAILING_PATH)));
+        assertEquals(2, requests.get(FAILING_PATH).get());
+
+        // An expired document is still used if it cannot be fetched again
+        assertTrue(document.setLastModified(System.currentTimeMillis()
+                - Duration.ofHours(2).toMillis()));
+        failing = true;
+        assertEquals(document, cache.resolve(iri(FAILING_PATH)));
+        assertEquals(3, requests.get(FAILING_PATH).get());
+    }
+
+    @Test
+    void testLeastRecentlyFetchedEntriesAreEvicted() throws IOException {
+        OWLImportsCache cache = new OWLImportsCache(tempDirectory, true,
+                TIMEOUT, Duration.ZERO, 2);
+        File first = put(cache, "http://example.org/first");
+        assertTrue(first.setLastModified(System.currentTimeMillis()
+                - Duration.ofHours(1).toMillis()));
+        put(cache, "http://example.org/second");
+        put(cache, "http://example.org/third");
+        assertEquals(2, cache.getCatalog().size());
+        assertFalse(cache.getCatalog().containsKey(
+                "http://example.org/first"));
+        assertFalse(first.exists());
+
+        // The catalog persisted on disk is bounded too
+        OWLImportsCache reopened = new OWLImportsCache(
+                tempDirectory, true, TIMEOUT);
+        assertEquals(cache.getCatalog(), reopened.getCatalog());
+    }
+
+    @Test
+    void testOfflineCacheNeverFetchesUncachedImports() throws Exception {
+        OWLImportsCache cache = new OWLImportsCache(
+                tempDirectory, true, TIMEOUT);
+        OWLOntologyManagerPool.addIRIMapper(cache);
+        OWLOntologyManagerPool.setMissingImportHandlingStrategy(
+                MissingImportHandlingStrategy.SILENT);
+        OWLOntologyManager manager = OWLOntologyManagerPool.borrow();
+        try {
+            OWLOntology ontology = manager.loadOntologyFromOntologyDocument(
+                    new StringDocumentSource(importingDocument(
+                            iri(UNCACHED_PATH))));
+            assertEquals(1, ontology.importsDeclarations().count());
+            assertEquals(0, ontology.imports().count());
+            assertFalse(requests.containsKey(UNCACHED_PATH));
+        } finally {
+            OWLOntologyManagerPool.release(manager);
+            OWLOntologyManagerPool.removeIRIMapper(cache);
+            OWLOntologyManagerPool.setMissingImportHandlingStrategy(
+                    MissingImportHandlingStrategy.THROW_EXCEPTION);
+        }
+    }
+
+    private File put(OWLImportsCache cache, String iri) throws IOException {
+        return cache.put(iri, new ByteArrayInputStream(
+                document(iri).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void respond(HttpExchange exchange, int status)
+            throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        requests.computeIfAbsent(path, p -> new AtomicInteger())
+            .incrementAndGet();
+        byte[] body = document(path).getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private String iri(String path) {
+        return "http://127.0.0.1:" + httpServer.getAddress().getPort()
+                + path;
+    }
+
+    private static String document(String name) {
+        return "<?xml version=\"1.0\"?>\n"
+                + "<rdf:RDF xmlns:rdf="
+                + "\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\" "
+                + "xmlns:owl=\"http://www.w3.org/2002/07/owl#\">\n"
+                + "    <owl:Ontology rdf:about=\"" + name + "\"/>\n"
+                + "</rdf:RDF>\n";
+    }
+
+    private static String importingDocument(String importedIri) {
+        return "<?xml version=\"1.0\"?>\n"
+                + "<rdf:RDF xmlns:rdf="
+                + "\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\" "
+                + "xmlns:owl=\"http://www.w3.org/2002/07/owl#\">\n"
+                + "    <owl:Ontology "
+                + "rdf:about=\"http://example.org/importing\">\n"
+                + "        <owl:imports rdf:resource=\"" + importedIri
+                + "\"/>\n"
+                + "    </owl:Ontology>\n"
+                + "</rdf:RDF>\n";
+    }
+
+}
@@ -0,0 +1,85 @@
+package ai.hyperlearning.ontopop.owl.imports;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ai.hyperlearning.ontopop.storage.local.LocalFileStorageService;
+
+/**
+ * Unit Tests - Ontology Imports Cache Service
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOntologyImportsCacheService {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+    private static final String FIRST_IRI = "http://example.org/first";
+    private static final String SECOND_IRI = "http://example.org/second";
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void testUploadsKeepTheEntriesOfOtherInstances() throws IOException {
+        Path importsDirectory = tempDirectory.resolve("imports");
+        OntologyImportsCacheService first = service(importsDirectory, "first");
+        OntologyImportsCacheService second =
+                service(importsDirectory, "second");
+
+        // Each instance caches a different import
+        put(first, FIRST_IRI);
+        put(second, SECOND_IRI);
+
+        // The shared catalog holds the imports of both instances
+        OWLImportsCache shared = new OWLImportsCache(
+                importsDirectory, true, TIMEOUT);
+        assertEquals(Set.of(FIRST_IRI, SECOND_IRI),
+                shared.getCatalog().keySet());
+        assertNotNull(shared.getCachedDocument(FIRST_IRI));
+        assertNotNull(shared.getCachedDocument(SECOND_IRI));
+
+        // The imports of the first instance are available offline
+        // to the second instance
+        assertNotNull(second.getImportsCache().getCachedDocument(FIRST_IRI));
+    }
+
+    private OntologyImportsCacheService service(Path importsDirectory,
+            String name) throws IOException {
+        OntologyImportsCacheService service =
+                new OntologyImportsCacheService();
+        OWLImportsCache importsCache = new OWLImportsCache(
+                tempDirectory.resolve(name), true, TIMEOUT);
+        ReflectionTestUtils.setField(service, "objectStorageService",
+                new LocalFileStorageService());
+        ReflectionTestUtils.setField(service, "importsDirectoryUri",
+                importsDirectory.toString());
+        ReflectionTestUtils.setField(service, "importsCache", importsCache);
+        Files.createDirectories(importsDirectory);
+        return service;
+    }
+
+    private void put(OntologyImportsCacheService service, String iri)
+            throws IOException {
+        OWLImportsCache importsCache = service.getImportsCache();
+        File document = importsCache.put(iri, new ByteArrayInputStream(
+                iri.getBytes(StandardCharsets.UTF_8)));
+        ReflectionTestUtils.invokeMethod(service, "upload", iri, document,
+                importsCache.getCatalogFile());
+    }
+
+}
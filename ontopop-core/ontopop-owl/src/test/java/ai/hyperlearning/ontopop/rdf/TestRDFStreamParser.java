@@ -0,0 +1,177 @@
+package ai.hyperlearning.ontopop.rdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+
+import org.apache.jena.riot.RiotException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import ai.hyperlearning.ontopop.model.owl.IRIDictionary;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.owl.OWLAPI;
+import ai.hyperlearning.ontopop.owl.OWLEntityAxiomIndex;
+
+/**
+ * Unit Tests - RDF Stream Parser parity with the OWL API parser
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@TestInstance(Lifecycle.PER_CLASS)
+class TestRDFStreamParser {
+
+    private static final String TEST_ONTOLOGY_OWL_XML_FILENAME =
+            "test-ontology-owl-xml.owl";
+    private static final String TEST_ONTOLOGY_INGESTED_FILENAME =
+            "test-ontology-ingested-ontokai-ontology-data-mapper.owl";
+    private static final String TEST_ONTOLOGY_PARSED_FILENAME =
+            "test-ontology-parsed-ontokai-ontology-data-mapper.owl.json";
+    private static final String OWL_TOP_OBJECT_PROPERTY =
+            "http://www.w3.org/2002/07/owl#topObjectProperty";
+    private static final String OWL_THING =
+            "http://www.w3.org/2002/07/owl#Thing";
+    private static final String JOINED_VALUE_DELIMITER = " | ";
+    private static final int ONTOLOGY_ID = 1;
+    private static final long GIT_WEBHOOK_ID = 1L;
+    private static final int CLASS_CHUNK_SIZE = 16;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private ForkJoinPool forkJoinPool = null;
+
+    @BeforeAll
+    public void createForkJoinPool() {
+        forkJoinPool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    public void shutdownForkJoinPool() {
+        forkJoinPool.shutdownNow();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "test-ontology.owl",
+            "test-ontology.ttl",
+            "test-ontology-diff.owl",
+            TEST_ONTOLOGY_INGESTED_FILENAME})
+    void testStreamOutputIsIdenticalToOWLAPIOutput(String filename)
+            throws OWLOntologyCreationException, JsonProcessingException,
+            InterruptedException, ExecutionException {
+        Path path = resource(filename);
+        OWLOntology ontology = OWLAPI.loadOntology(path.toFile());
+
+        // The legacy per-entity lookups
+        SimpleOntology legacy = new SimpleOntology(
+                ONTOLOGY_ID, GIT_WEBHOOK_ID,
+                OWLAPI.parseAnnotationProperties(ontology),
+                OWLAPI.parseObjectProperties(ontology),
+                OWLAPI.parseClasses(ontology),
+                OWLAPI.parseNamedIndividuals(ontology));
+
+        // The indexed, interned and parallel parse used by the pipeline
+        SimpleOntology indexed = OWLAPI.parseOntology(
+                ONTOLOGY_ID, GIT_WEBHOOK_ID, ontology,
+                OWLEntityAxiomIndex.build(ontology), new IRIDictionary(),
+                forkJoinPool, CLASS_CHUNK_SIZE);
+
+        SimpleOntology streamed = RDFStreamParser.parse(
+                ONTOLOGY_ID, GIT_WEBHOOK_ID, path, new IRIDictionary());
+
+        String expected = MAPPER.writeValueAsString(legacy);
+        assertFalse(legacy.getSimpleClassMap().isEmpty());
+        assertEquals(expected, MAPPER.writeValueAsString(indexed));
+        assertEquals(expected, MAPPER.writeValueAsString(streamed));
+    }
+
+    @Test
+    void testOWLAPIOutputMatchesThePreviouslyParsedFixture()
+            throws OWLOntologyCreationException, IOException {
+
+        // The OWL API output is now sorted, which must only have changed
+        // the order and not the content of the parsed components
+        OWLOntology ontology = OWLAPI.loadOntology(
+                resource(TEST_ONTOLOGY_INGESTED_FILENAME).toFile());
+        JsonNode parsed = MAPPER.valueToTree(new SimpleOntology(
+                ONTOLOGY_ID, GIT_WEBHOOK_ID,
+                OWLAPI.parseAnnotationProperties(ontology),
+                OWLAPI.parseObjectProperties(ontology),
+                OWLAPI.parseClasses(ontology),
+                OWLAPI.parseNamedIndividuals(ontology)));
+        JsonNode fixture = MAPPER.readTree(
+                resource(TEST_ONTOLOGY_PARSED_FILENAME).toFile());
+
+        // The fixture predates the labels generated for built-in
+        // entities without an RDFS label
+        for (JsonNode simpleOntology : List.of(parsed, fixture)) {
+            ((ObjectNode) simpleOntology.get("simpleObjectPropertyMap"))
+                .remove(OWL_TOP_OBJECT_PROPERTY);
+            ((ObjectNode) simpleOntology.get("simpleClassMap"))
+                .remove(OWL_THING);
+        }
+
+        // Object nodes are compared regardless of field order, while
+        // multiple annotation values and restriction fillers are now
+        // joined in sorted order
+        for (String field : List.of("simpleAnnotationPropertyMap",
+                "simpleObjectPropertyMap", "simpleClassMap"))
+            assertEquals(sortJoinedValues(fixture.get(field)),
+                    parsed.get(field), field);
+
+    }
+
+    @Test
+    void testOwlXmlIsRejected() {
+        Path path = resource(TEST_ONTOLOGY_OWL_XML_FILENAME);
+        assertThrows(RiotException.class, () ->
+                RDFStreamParser.parse(ONTOLOGY_ID, GIT_WEBHOOK_ID, path));
+    }
+
+    private JsonNode sortJoinedValues(JsonNode node) {
+        if (node.isObject()) {
+            node.fields().forEachRemaining(field -> {
+                JsonNode value = field.getValue();
+                if (value.isTextual()) {
+                    String[] values = value.asText().split(
+                            Pattern.quote(JOINED_VALUE_DELIMITER), -1);
+                    Arrays.sort(values);
+                    field.setValue(new TextNode(String.join(
+                            JOINED_VALUE_DELIMITER, values)));
+                } else
+                    sortJoinedValues(value);
+            });
+        }
+        return node;
+    }
+
+    private Path resource(String filename) {
+        ClassLoader classLoader = TestRDFStreamParser.class.getClassLoader();
+        return Paths.get(new File(classLoader.getResource(filename)
+                .getFile()).getAbsolutePath());
+    }
+
+}
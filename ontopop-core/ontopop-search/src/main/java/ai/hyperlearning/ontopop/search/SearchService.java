@@ -51,6 +51,10 @@ public interface SearchService {
     public void deleteDocumentsByPropertyKeyValue(String indexName, 
             String propertyKey, Object propertyValue, Class<?> cls);
     
+    public void updateDocumentsByPropertyKeyValue(String indexName, 
+            String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue);
+    
     /**************************************************************************
      * SEARCH
      *************************************************************************/
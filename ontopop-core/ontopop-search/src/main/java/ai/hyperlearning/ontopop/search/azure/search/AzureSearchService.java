@@ -1,6 +1,8 @@
 package ai.hyperlearning.ontopop.search.azure.search;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -15,12 +17,14 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.azure.core.util.Context;
 import com.azure.search.documents.SearchClient;
 import com.azure.search.documents.indexes.SearchIndexClient;
 import com.azure.search.documents.indexes.models.FieldBuilderOptions;
 import com.azure.search.documents.indexes.models.SearchField;
 import com.azure.search.documents.indexes.models.SearchIndex;
 import com.azure.search.documents.models.IndexDocumentsResult;
+import com.azure.search.documents.models.SearchOptions;
 import com.azure.search.documents.models.SearchResult;
 
 import ai.hyperlearning.ontopop.search.SearchService;
@@ -248,6 +252,38 @@ public class AzureSearchService implements SearchService {
         // createIndex(indexName);
     }
     
+    /**
+     * Merge the given property into every document matching a filter on
+     * the given property. Both properties must be filterable fields of
+     * AzureSimpleIndexVertex.
+     */
+    
+    @Override
+    public void updateDocumentsByPropertyKeyValue(String indexName, 
+            String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue) {
+        SearchClient client =
+                beanFactory.getBean(SearchClient.class, indexName);
+        String filter = propertyKey + " eq " + (propertyValue instanceof String ? 
+                "'" + propertyValue.toString().replace("'", "''") + "'" : 
+                    propertyValue.toString());
+        List<Map<String, Object>> documents = new ArrayList<>();
+        for (SearchResult searchResult : client.search("*", 
+                new SearchOptions().setFilter(filter).setSelect("vertexId"), 
+                Context.NONE)) {
+            Map<String, Object> document = new HashMap<>();
+            document.put("vertexId", searchResult.getDocument(
+                    AzureSimpleIndexVertex.class).getVertexId());
+            document.put(updatePropertyKey, updatePropertyValue);
+            documents.add(document);
+        }
+        if (!documents.isEmpty()) {
+            IndexDocumentsResult result = client.mergeDocuments(documents);
+            LOGGER.debug("Updated {} document(s).", 
+                    result.getResults().size());
+        }
+    }
+    
     /**************************************************************************
      * SEARCH
      *************************************************************************/
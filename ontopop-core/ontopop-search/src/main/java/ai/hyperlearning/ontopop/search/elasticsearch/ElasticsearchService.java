@@ -19,11 +19,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.ScriptType;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.ByQueryResponse;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
 import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
 import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
 import org.springframework.stereotype.Service;
 
 import ai.hyperlearning.ontopop.search.SearchService;
@@ -188,6 +191,27 @@ public class ElasticsearchService implements SearchService {
         }
     }
     
+    @Override
+    public void updateDocumentsByPropertyKeyValue(String indexName, 
+            String propertyKey, Object propertyValue, 
+            String updatePropertyKey, Object updatePropertyValue) {
+        final Query searchQuery = new NativeSearchQueryBuilder()
+                .withQuery(matchQuery("properties." + propertyKey, 
+                        propertyValue))
+                .build();
+        final UpdateQuery updateQuery = UpdateQuery.builder(searchQuery)
+                .withScriptType(ScriptType.INLINE)
+                .withLang("painless")
+                .withScript("ctx._source.properties[params.key] = params.value")
+                .withParams(Map.of(
+                        "key", updatePropertyKey, 
+                        "value", updatePropertyValue))
+                .build();
+        ByQueryResponse response = elasticsearchTemplate.updateByQuery(
+                updateQuery, IndexCoordinates.of(indexName));
+        LOGGER.debug("Updated {} document(s).", response.getUpdated());
+    }
+    
     /**************************************************************************
      * SEARCH
      *************************************************************************/
@@ -30,6 +30,10 @@ public interface ObjectStorageService {
     void downloadObject(String sourceUri, String targetContainerUri,
             String filename) throws IOException;
 
+    void deleteObject(String uri) throws IOException;
+
+    void deleteContainerContents(String uri) throws IOException;
+
     void cleanup() throws IOException;
 
 }
@@ -0,0 +1,47 @@
+package ai.hyperlearning.ontopop.storage.artifacts;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Supported Pipeline Artifact Compression Codecs
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum ArtifactCompression {
+
+    NONE("NONE", ""), 
+    ZSTD("ZSTD", ".zst");
+
+    private final String label;
+    private final String extension;
+    private static final Map<String, ArtifactCompression> LABEL_MAP =
+            new HashMap<>();
+
+    static {
+        for (ArtifactCompression f : values()) {
+            LABEL_MAP.put(f.label, f);
+        }
+    }
+
+    private ArtifactCompression(final String label, final String extension) {
+        this.label = label;
+        this.extension = extension;
+    }
+
+    public static ArtifactCompression valueOfLabel(String label) {
+        return LABEL_MAP.get(label);
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
@@ -0,0 +1,46 @@
+package ai.hyperlearning.ontopop.storage.artifacts;
+
+import java.io.File;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Artifact Converter Application - converts an existing parsed ontology 
+ * or property graph artifact to the format and compression selected by 
+ * the extension of the target filename, for example 
+ * {@code 1_1.owl.json 1_1.owl.smile.zst}
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class ArtifactConverterApp {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(ArtifactConverterApp.class);
+
+    public static void main(String[] args) {
+        LOGGER.info("Running the artifact conversion service.");
+        int status = 0;
+        try {
+            File source = new File(args[0]);
+            File target = new File(args[1]);
+            ArtifactFormat format = ArtifactSerializer.getFormat(args[1]);
+            ArtifactCompression compression = 
+                    ArtifactSerializer.getCompression(args[1]);
+            LOGGER.info("Converting '{}' to {} with {} compression.", 
+                    source, format, compression);
+            ArtifactSerializer.convert(source, target, format, compression);
+            LOGGER.info("Converted {} bytes to {} bytes.", 
+                    source.length(), target.length());
+        } catch (Exception e) {
+            LOGGER.error("Error encountered when converting the artifact.", 
+                    e);
+            status = 1;
+        }
+        LOGGER.info("Finished running the artifact conversion service.");
+        System.exit(status);
+    }
+
+}
@@ -0,0 +1,48 @@
+package ai.hyperlearning.ontopop.storage.artifacts;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Supported Pipeline Artifact Serialization Formats
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum ArtifactFormat {
+
+    JSON("JSON", ".json"), 
+    SMILE("SMILE", ".smile"), 
+    CBOR("CBOR", ".cbor");
+
+    private final String label;
+    private final String extension;
+    private static final Map<String, ArtifactFormat> LABEL_MAP =
+            new HashMap<>();
+
+    static {
+        for (ArtifactFormat f : values()) {
+            LABEL_MAP.put(f.label, f);
+        }
+    }
+
+    private ArtifactFormat(final String label, final String extension) {
+        this.label = label;
+        this.extension = extension;
+    }
+
+    public static ArtifactFormat valueOfLabel(String label) {
+        return LABEL_MAP.get(label);
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
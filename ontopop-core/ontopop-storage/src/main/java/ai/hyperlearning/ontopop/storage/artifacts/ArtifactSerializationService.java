@@ -0,0 +1,194 @@
+package ai.hyperlearning.ontopop.storage.artifacts;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.annotation.PostConstruct;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * Artifact Serialization Service - serializes pipeline artifacts in the 
+ * configured format and compression, and deserializes them in any 
+ * supported format
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Service
+public class ArtifactSerializationService {
+
+    private static final Logger LOGGER = 
+            LoggerFactory.getLogger(ArtifactSerializationService.class);
+
+    @Value("${storage.object.artifacts.format:json}")
+    private String storageArtifactsFormat;
+
+    @Value("${storage.object.artifacts.compression:none}")
+    private String storageArtifactsCompression;
+
+    private ArtifactFormat artifactFormat;
+    private ArtifactCompression artifactCompression;
+
+    @PostConstruct
+    private void postConstruct() {
+        artifactFormat = ArtifactFormat.valueOfLabel(
+                storageArtifactsFormat.toUpperCase());
+        if (artifactFormat == null) {
+            LOGGER.warn("Unsupported artifact format '{}', defaulting to "
+                    + "JSON.", storageArtifactsFormat);
+            artifactFormat = ArtifactFormat.JSON;
+        }
+        artifactCompression = ArtifactCompression.valueOfLabel(
+                storageArtifactsCompression.toUpperCase());
+        if (artifactCompression == null) {
+            LOGGER.warn("Unsupported artifact compression '{}', defaulting "
+                    + "to none.", storageArtifactsCompression);
+            artifactCompression = ArtifactCompression.NONE;
+        }
+    }
+
+    /**
+     * Get the filename of an artifact in the configured format and 
+     * compression
+     * 
+     * @param baseFilename
+     * @return the filename, or null if the base filename is null
+     */
+
+    public String getArtifactFilename(String baseFilename) {
+        return baseFilename == null ? null : ArtifactSerializer.getFilename(
+                baseFilename, artifactFormat, artifactCompression);
+    }
+
+    /**
+     * Get every filename under which an artifact may have been persisted, 
+     * starting with the configured format and compression, followed by the 
+     * legacy uncompressed JSON filename and then every other supported 
+     * format and compression
+     * 
+     * @param baseFilename
+     * @return the candidate filenames, or an empty list if the base 
+     *          filename is null
+     */
+
+    public List<String> getArtifactFilenames(String baseFilename) {
+        List<String> filenames = new ArrayList<>();
+        if (baseFilename == null)
+            return filenames;
+        filenames.add(getArtifactFilename(baseFilename));
+        String legacyFilename = ArtifactSerializer.getFilename(
+                baseFilename, ArtifactFormat.JSON, ArtifactCompression.NONE);
+        if (!filenames.contains(legacyFilename))
+            filenames.add(legacyFilename);
+        for (ArtifactFormat format : ArtifactFormat.values()) {
+            for (ArtifactCompression compression : 
+                ArtifactCompression.values()) {
+                String filename = ArtifactSerializer.getFilename(
+                        baseFilename, format, compression);
+                if (!filenames.contains(filename))
+                    filenames.add(filename);
+            }
+        }
+        return filenames;
+    }
+
+    /**
+     * Resolve the filename of an existing artifact so that artifacts 
+     * persisted before the configured format or compression was changed 
+     * remain readable. The leading bytes of the resolved artifact then 
+     * determine how it is deserialized.
+     * 
+     * @param baseFilename
+     * @param exists tests whether an artifact filename exists in storage
+     * @return the first candidate filename that exists, otherwise the 
+     *          filename in the configured format and compression
+     */
+
+    public String resolveArtifactFilename(String baseFilename, 
+            Predicate<String> exists) {
+        for (String filename : getArtifactFilenames(baseFilename)) {
+            if (exists.test(filename)) {
+                if (!filename.equals(getArtifactFilename(baseFilename)))
+                    LOGGER.debug("Resolved artifact '{}' in a format other "
+                            + "than the configured one.", filename);
+                return filename;
+            }
+        }
+        return getArtifactFilename(baseFilename);
+    }
+
+    /**
+     * Serialize an object to an artifact file in the configured format
+     * and compression
+     * 
+     * @param value
+     * @param file
+     * @throws IOException
+     */
+
+    public void write(Object value, File file) throws IOException {
+        ArtifactSerializer.write(
+                value, file, artifactFormat, artifactCompression);
+    }
+
+    /**
+     * Deserialize an artifact file in any supported format and compression
+     * 
+     * @param <T>
+     * @param file
+     * @param valueType
+     * @return
+     * @throws IOException
+     */
+
+    public <T> T read(File file, Class<T> valueType) throws IOException {
+        return ArtifactSerializer.read(file, valueType);
+    }
+
+    /**
+     * Create a streaming parser over an artifact file in any supported 
+     * format and compression
+     * 
+     * @param file
+     * @return
+     * @throws IOException
+     */
+
+    public JsonParser createParser(File file) throws IOException {
+        return ArtifactSerializer.createParser(file);
+    }
+
+    /**
+     * Create a streaming generator to write an artifact file in the 
+     * configured format and compression
+     * 
+     * @param file
+     * @return
+     * @throws IOException
+     */
+
+    public JsonGenerator createGenerator(File file) throws IOException {
+        return ArtifactSerializer.createGenerator(
+                file, artifactFormat, artifactCompression);
+    }
+
+    public ArtifactFormat getArtifactFormat() {
+        return artifactFormat;
+    }
+
+    public ArtifactCompression getArtifactCompression() {
+        return artifactCompression;
+    }
+
+}
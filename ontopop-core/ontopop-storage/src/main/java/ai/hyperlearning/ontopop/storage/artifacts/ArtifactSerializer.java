@@ -0,0 +1,302 @@
+package ai.hyperlearning.ontopop.storage.artifacts;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+/**
+ * Pipeline Artifact Serializer - writes the parsed ontology and property 
+ * graph artifacts as pretty-printed JSON, Smile or CBOR, optionally 
+ * compressed with Zstandard. Readers detect the format and compression 
+ * from the leading bytes of the artifact, so artifacts written in any 
+ * supported format can always be read.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class ArtifactSerializer {
+
+    private static final int MAGIC_LENGTH = 4;
+    private static final byte[] ZSTD_MAGIC = 
+            {(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD};
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+    private static final byte[] CBOR_SELF_DESCRIBE_TAG = 
+            {(byte) 0xD9, (byte) 0xD9, (byte) 0xF7};
+
+    private static final ObjectMapper JSON_MAPPER = 
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final ObjectMapper SMILE_MAPPER = new SmileMapper(
+            SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper(
+            CBORFactory.builder()
+                .enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+                .build());
+
+    private ArtifactSerializer() {
+        throw new IllegalStateException("The ArtifactSerializer "
+                + "utility class cannot be instantiated.");
+    }
+
+    /**
+     * Get the object mapper of a given artifact format
+     * 
+     * @param format
+     * @return
+     */
+
+    public static ObjectMapper getObjectMapper(ArtifactFormat format) {
+        switch (format) {
+            case SMILE:
+                return SMILE_MAPPER;
+            case CBOR:
+                return CBOR_MAPPER;
+            default:
+                return JSON_MAPPER;
+        }
+    }
+
+    /**
+     * Get the filename of an artifact in a given format and compression
+     * 
+     * @param baseFilename
+     * @param format
+     * @param compression
+     * @return
+     */
+
+    public static String getFilename(String baseFilename, 
+            ArtifactFormat format, ArtifactCompression compression) {
+        return baseFilename + format.getExtension() 
+                + compression.getExtension();
+    }
+
+    /**
+     * Select the artifact format from the extension of a given filename
+     * 
+     * @param filename
+     * @return the format, defaulting to JSON
+     */
+
+    public static ArtifactFormat getFormat(String filename) {
+        String name = stripCompressionExtension(filename);
+        for (ArtifactFormat format : ArtifactFormat.values())
+            if (name.endsWith(format.getExtension()))
+                return format;
+        return ArtifactFormat.JSON;
+    }
+
+    /**
+     * Select the artifact compression from the extension of a given 
+     * filename
+     * 
+     * @param filename
+     * @return
+     */
+
+    public static ArtifactCompression getCompression(String filename) {
+        return filename.endsWith(ArtifactCompression.ZSTD.getExtension()) ? 
+                ArtifactCompression.ZSTD : ArtifactCompression.NONE;
+    }
+
+    private static String stripCompressionExtension(String filename) {
+        String extension = ArtifactCompression.ZSTD.getExtension();
+        return filename.endsWith(extension) ? 
+                filename.substring(0, filename.length() - extension.length()) : 
+                    filename;
+    }
+
+    /**
+     * Serialize an object to an artifact file
+     * 
+     * @param value
+     * @param file
+     * @param format
+     * @param compression
+     * @throws IOException
+     */
+
+    public static void write(Object value, File file, 
+            ArtifactFormat format, ArtifactCompression compression) 
+                    throws IOException {
+        try (OutputStream outputStream = newOutputStream(file, compression)) {
+            getObjectMapper(format).writeValue(outputStream, value);
+        }
+    }
+
+    /**
+     * Deserialize an artifact file, detecting its format and compression
+     * 
+     * @param <T>
+     * @param file
+     * @param valueType
+     * @return
+     * @throws IOException
+     */
+
+    public static <T> T read(File file, Class<T> valueType) 
+            throws IOException {
+        try (InputStream inputStream = newInputStream(file)) {
+            return getObjectMapper(detectFormat(inputStream))
+                    .readValue(inputStream, valueType);
+        }
+    }
+
+    /**
+     * Create a streaming parser over an artifact file, detecting its 
+     * format and compression. The parser must be closed by the caller.
+     * 
+     * @param file
+     * @return
+     * @throws IOException
+     */
+
+    public static JsonParser createParser(File file) throws IOException {
+        InputStream inputStream = newInputStream(file);
+        try {
+            return getObjectMapper(detectFormat(inputStream))
+                    .createParser(inputStream);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Create a streaming generator to write an artifact file in a given 
+     * format and compression. The generator must be closed by the caller.
+     * 
+     * @param file
+     * @param format
+     * @param compression
+     * @return
+     * @throws IOException
+     */
+
+    public static JsonGenerator createGenerator(File file, 
+            ArtifactFormat format, ArtifactCompression compression) 
+                    throws IOException {
+        OutputStream outputStream = newOutputStream(file, compression);
+        try {
+            JsonGenerator generator = getObjectMapper(format)
+                    .createGenerator(outputStream);
+            if (format == ArtifactFormat.JSON)
+                generator.useDefaultPrettyPrinter();
+            return generator;
+        } catch (IOException e) {
+            outputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Convert an artifact file, in any supported format, to a given format 
+     * and compression by copying its tokens without binding them to the 
+     * model objects
+     * 
+     * @param source
+     * @param target
+     * @param format
+     * @param compression
+     * @throws IOException
+     */
+
+    public static void convert(File source, File target, 
+            ArtifactFormat format, ArtifactCompression compression) 
+                    throws IOException {
+        try (JsonParser parser = createParser(source);
+                JsonGenerator generator = 
+                        createGenerator(target, format, compression)) {
+            if (parser.nextToken() != null)
+                generator.copyCurrentStructure(parser);
+        }
+    }
+
+    /**
+     * Open a buffered stream over the decompressed bytes of an artifact 
+     * file, which supports marking for format detection
+     * 
+     * @param file
+     * @return
+     * @throws IOException
+     */
+
+    public static InputStream newInputStream(File file) throws IOException {
+        InputStream inputStream = new BufferedInputStream(
+                Files.newInputStream(file.toPath()));
+        try {
+            if (startsWith(inputStream, ZSTD_MAGIC))
+                return new BufferedInputStream(
+                        new ZstdInputStream(inputStream));
+            return inputStream;
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open a buffered stream to write an artifact file with a given 
+     * compression
+     * 
+     * @param file
+     * @param compression
+     * @return
+     * @throws IOException
+     */
+
+    public static OutputStream newOutputStream(File file, 
+            ArtifactCompression compression) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(file.toPath());
+        if (compression == ArtifactCompression.ZSTD)
+            outputStream = new ZstdOutputStream(outputStream);
+        return new BufferedOutputStream(outputStream);
+    }
+
+    /**
+     * Detect the format of an artifact from the leading bytes of a stream 
+     * opened with newInputStream, without consuming them
+     * 
+     * @param inputStream
+     * @return
+     * @throws IOException
+     */
+
+    public static ArtifactFormat detectFormat(InputStream inputStream) 
+            throws IOException {
+        if (startsWith(inputStream, SMILE_HEADER))
+            return ArtifactFormat.SMILE;
+        if (startsWith(inputStream, CBOR_SELF_DESCRIBE_TAG))
+            return ArtifactFormat.CBOR;
+        return ArtifactFormat.JSON;
+    }
+
+    private static boolean startsWith(InputStream inputStream, byte[] magic) 
+            throws IOException {
+        inputStream.mark(MAGIC_LENGTH);
+        byte[] leadingBytes = inputStream.readNBytes(magic.length);
+        inputStream.reset();
+        return Arrays.equals(leadingBytes, magic);
+    }
+
+}
@@ -12,8 +12,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
 
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 
@@ -59,6 +62,9 @@ public class AwsS3StorageService implements ObjectStorageService {
     public void copyObject(String sourceUri, String targetUri)
             throws IOException {
 
+        // Server-side copy of the source object within the bucket
+        s3.copyObject(bucketName, sourceUri, bucketName, targetUri);
+
     }
 
     @Override
@@ -98,6 +104,32 @@ public class AwsS3StorageService implements ObjectStorageService {
 
     }
 
+    @Override
+    public void deleteObject(String uri) throws IOException {
+
+        // Delete the object, which succeeds if it does not exist
+        s3.deleteObject(bucketName, uri);
+
+    }
+
+    @Override
+    public void deleteContainerContents(String uri) throws IOException {
+
+        // Containers are key prefixes within the bucket, so delete every
+        // object under the prefix one listing page at a time
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(bucketName)
+                .withPrefix(uri + "/");
+        ListObjectsV2Result result;
+        do {
+            result = s3.listObjectsV2(request);
+            for (S3ObjectSummary objectSummary : result.getObjectSummaries())
+                s3.deleteObject(bucketName, objectSummary.getKey());
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+
+    }
+
     @Override
     public void cleanup() throws IOException {
 
@@ -12,7 +12,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import com.azure.storage.blob.BlobClient;
 import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.specialized.BlockBlobClient;
 
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
@@ -64,6 +67,17 @@ public class AzureStorageBlobStorageService implements ObjectStorageService {
     public void copyObject(String sourceUri, String targetUri)
             throws IOException {
 
+        // Instantiate clients that reference the source blob and the
+        // to-be-created target blob in the given Azure Storage account
+        BlockBlobClient sourceBlobClient = blobContainerClient
+                .getBlobClient(sourceUri).getBlockBlobClient();
+        BlockBlobClient targetBlobClient = blobContainerClient
+                .getBlobClient(targetUri).getBlockBlobClient();
+
+        // Server-side copy of the source blob and wait for its completion
+        targetBlobClient.beginCopy(sourceBlobClient.getBlobUrl(), null)
+                .waitForCompletion();
+
     }
 
     @Override
@@ -113,6 +127,28 @@ public class AzureStorageBlobStorageService implements ObjectStorageService {
 
     }
 
+    @Override
+    public void deleteObject(String uri) throws IOException {
+
+        // Delete the blob if it exists
+        BlobClient blobClient = blobContainerClient.getBlobClient(uri);
+        if (blobClient.exists())
+            blobClient.delete();
+
+    }
+
+    @Override
+    public void deleteContainerContents(String uri) throws IOException {
+
+        // Containers are blob name prefixes within the Azure Storage
+        // container, so delete every blob under the prefix
+        ListBlobsOptions options = new ListBlobsOptions()
+                .setPrefix(uri + "/");
+        for (BlobItem blobItem : blobContainerClient.listBlobs(options, null))
+            blobContainerClient.getBlobClient(blobItem.getName()).delete();
+
+    }
+
     @Override
     public void cleanup() throws IOException {
 
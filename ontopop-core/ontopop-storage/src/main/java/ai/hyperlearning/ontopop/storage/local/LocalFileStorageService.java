@@ -73,6 +73,18 @@ public class LocalFileStorageService implements ObjectStorageService {
         copyObject(sourceUri, targeContainertUri + File.separator + filename);
     }
 
+    @Override
+    public void deleteObject(String uri) throws IOException {
+        Files.deleteIfExists(Paths.get(uri));
+    }
+
+    @Override
+    public void deleteContainerContents(String uri) throws IOException {
+        File directory = new File(uri);
+        if (directory.isDirectory())
+            FileUtils.cleanDirectory(directory);
+    }
+
     @Override
     public void cleanup() throws IOException {
 
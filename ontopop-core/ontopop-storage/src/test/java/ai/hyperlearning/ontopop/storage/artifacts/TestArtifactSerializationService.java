@@ -0,0 +1,82 @@
+package ai.hyperlearning.ontopop.storage.artifacts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Unit Tests - Pipeline Artifact Serialization Service
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestArtifactSerializationService {
+
+    private static final String BASE_FILENAME = "1_1.owl";
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void testConfiguredAndLegacyFilenamesAreProbedFirst() {
+        List<String> filenames = service("smile", "zstd")
+                .getArtifactFilenames(BASE_FILENAME);
+        assertEquals("1_1.owl.smile.zst", filenames.get(0));
+        assertEquals("1_1.owl.json", filenames.get(1));
+        assertEquals(ArtifactFormat.values().length
+                * ArtifactCompression.values().length, filenames.size());
+        assertTrue(service("json", "none")
+                .getArtifactFilenames(null).isEmpty());
+    }
+
+    @Test
+    void testArtifactsPersistedInAnotherFormatRemainReadable()
+            throws IOException {
+
+        // An artifact persisted before the configured format was changed
+        Map<String, Object> artifact = Map.of("id", 1,
+                "latestGitWebhookId", 10);
+        ArtifactSerializer.write(artifact, file("1_1.owl.json"),
+                ArtifactFormat.JSON, ArtifactCompression.NONE);
+
+        ArtifactSerializationService service = service("cbor", "zstd");
+        String filename = service.resolveArtifactFilename(BASE_FILENAME,
+                candidate -> file(candidate).exists());
+        assertEquals("1_1.owl.json", filename);
+        assertEquals(artifact, service.read(file(filename), Map.class));
+
+    }
+
+    @Test
+    void testTheConfiguredFilenameIsUsedWhenNoArtifactExists() {
+        assertEquals("1_1.owl.cbor", service("cbor", "none")
+                .resolveArtifactFilename(BASE_FILENAME, candidate -> false));
+    }
+
+    private ArtifactSerializationService service(String format,
+            String compression) {
+        ArtifactSerializationService service =
+                new ArtifactSerializationService();
+        ReflectionTestUtils.setField(service, "storageArtifactsFormat",
+                format);
+        ReflectionTestUtils.setField(service, "storageArtifactsCompression",
+                compression);
+        ReflectionTestUtils.invokeMethod(service, "postConstruct");
+        return service;
+    }
+
+    private File file(String filename) {
+        return tempDirectory.resolve(filename).toFile();
+    }
+
+}
@@ -0,0 +1,159 @@
+package ai.hyperlearning.ontopop.storage.artifacts;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Unit Tests - Pipeline Artifact Serializer
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestArtifactSerializer {
+
+    private static final String BASE_FILENAME = "1_1.owl";
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void testRoundTripInEveryFormatAndCompression() throws IOException {
+        Map<String, Object> artifact = artifact();
+        for (ArtifactFormat format : ArtifactFormat.values()) {
+            for (ArtifactCompression compression :
+                ArtifactCompression.values()) {
+                File file = file(ArtifactSerializer.getFilename(
+                        BASE_FILENAME, format, compression));
+                ArtifactSerializer.write(artifact, file, format, compression);
+                assertEquals(artifact,
+                        ArtifactSerializer.read(file, Map.class),
+                        format + "/" + compression);
+            }
+        }
+    }
+
+    @Test
+    void testFormatIsDetectedFromTheLeadingBytes() throws IOException {
+        for (ArtifactFormat format : ArtifactFormat.values()) {
+            for (ArtifactCompression compression :
+                ArtifactCompression.values()) {
+
+                // Filenames that do not reflect the serialization
+                File file = file(format + "-" + compression + ".bin");
+                ArtifactSerializer.write(artifact(), file, format,
+                        compression);
+                try (InputStream inputStream =
+                        ArtifactSerializer.newInputStream(file)) {
+                    assertEquals(format,
+                            ArtifactSerializer.detectFormat(inputStream),
+                            format + "/" + compression);
+                }
+
+            }
+        }
+    }
+
+    @Test
+    void testStreamingRoundTripInEveryFormatAndCompression()
+            throws IOException {
+        Map<String, Object> artifact = artifact();
+        JsonNode expected = ArtifactSerializer
+                .getObjectMapper(ArtifactFormat.JSON).valueToTree(artifact);
+        for (ArtifactFormat format : ArtifactFormat.values()) {
+            for (ArtifactCompression compression :
+                ArtifactCompression.values()) {
+                File file = file(ArtifactSerializer.getFilename(
+                        "streamed", format, compression));
+                try (JsonGenerator generator = ArtifactSerializer
+                        .createGenerator(file, format, compression)) {
+                    generator.writeObject(artifact);
+                }
+                try (JsonParser parser =
+                        ArtifactSerializer.createParser(file)) {
+                    assertEquals(expected, parser.readValueAsTree(),
+                            format + "/" + compression);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConvertBetweenFormats() throws IOException {
+        Map<String, Object> artifact = artifact();
+        File json = file(ArtifactSerializer.getFilename(BASE_FILENAME,
+                ArtifactFormat.JSON, ArtifactCompression.NONE));
+        ArtifactSerializer.write(artifact, json, ArtifactFormat.JSON,
+                ArtifactCompression.NONE);
+        File smile = file(ArtifactSerializer.getFilename(BASE_FILENAME,
+                ArtifactFormat.SMILE, ArtifactCompression.ZSTD));
+        ArtifactSerializer.convert(json, smile, ArtifactFormat.SMILE,
+                ArtifactCompression.ZSTD);
+        File cbor = file(ArtifactSerializer.getFilename(BASE_FILENAME,
+                ArtifactFormat.CBOR, ArtifactCompression.NONE));
+        ArtifactSerializer.convert(smile, cbor, ArtifactFormat.CBOR,
+                ArtifactCompression.NONE);
+        File roundTripped = file("round-tripped.json");
+        ArtifactSerializer.convert(cbor, roundTripped, ArtifactFormat.JSON,
+                ArtifactCompression.NONE);
+        assertEquals(artifact, ArtifactSerializer.read(smile, Map.class));
+        assertEquals(artifact, ArtifactSerializer.read(cbor, Map.class));
+        assertEquals(artifact,
+                ArtifactSerializer.read(roundTripped, Map.class));
+        assertTrue(new String(Files.readAllBytes(roundTripped.toPath()),
+                StandardCharsets.UTF_8).startsWith("{"));
+    }
+
+    @Test
+    void testFormatAndCompressionAreSelectedFromTheFilename() {
+        assertEquals(ArtifactFormat.SMILE,
+                ArtifactSerializer.getFormat("1_1.owl.smile.zst"));
+        assertEquals(ArtifactCompression.ZSTD,
+                ArtifactSerializer.getCompression("1_1.owl.smile.zst"));
+        assertEquals(ArtifactFormat.CBOR,
+                ArtifactSerializer.getFormat("1_1.owl.cbor"));
+        assertEquals(ArtifactCompression.NONE,
+                ArtifactSerializer.getCompression("1_1.owl.cbor"));
+        assertEquals(ArtifactFormat.JSON,
+                ArtifactSerializer.getFormat("1_1.owl.json"));
+        assertEquals(ArtifactFormat.JSON,
+                ArtifactSerializer.getFormat("1_1.owl"));
+    }
+
+    private File file(String filename) {
+        return tempDirectory.resolve(filename).toFile();
+    }
+
+    private Map<String, Object> artifact() {
+        Map<String, Object> vertex = new LinkedHashMap<>();
+        vertex.put("iri", "http://example.org/ontology#A");
+        vertex.put("vertexId", 1234567890123L);
+        vertex.put("properties", Map.of("label", "A",
+                "definition", List.of("First", "Second")));
+        Map<String, Object> artifact = new LinkedHashMap<>();
+        artifact.put("id", 1);
+        artifact.put("latestGitWebhookId", 10);
+        artifact.put("vertices", Map.of("http://example.org/ontology#A_1",
+                vertex));
+        artifact.put("edges", List.of());
+        return artifact;
+    }
+
+}
@@ -13,6 +13,8 @@ import org.springframework.http.ResponseEntity;
 
 public interface TriplestoreService {
 
+    static final String RDF_XML_CONTENT_TYPE = "application/rdf+xml";
+
     /**************************************************************************
      * TRIPLESTORE MANAGEMENT
      *************************************************************************/
@@ -23,7 +25,45 @@ public interface TriplestoreService {
 
     void deleteRepository(int id) throws IOException;
 
-    void loadOntologyOwlRdfXml(int id, String owlSourceUri) throws IOException;
+    default void loadOntologyOwlRdfXml(int id, String owlSourceUri) 
+            throws IOException {
+        loadOntology(id, owlSourceUri, RDF_XML_CONTENT_TYPE);
+    }
+
+    default void updateOntologyOwlRdfXml(int id, String previousOwlSourceUri, 
+            String owlSourceUri) throws IOException {
+        updateOntology(id, previousOwlSourceUri, RDF_XML_CONTENT_TYPE, 
+                owlSourceUri, RDF_XML_CONTENT_TYPE);
+    }
+
+    /**
+     * Load an ontology serialized in the given RDF syntax, 
+     * replacing the entire repository
+     * 
+     * @param id
+     * @param sourceUri
+     * @param contentType the MIME type of the RDF syntax
+     * @throws IOException
+     */
+
+    void loadOntology(int id, String sourceUri, String contentType) 
+            throws IOException;
+
+    /**
+     * Apply only the triples that have changed between two versions of 
+     * an ontology, each serialized in the given RDF syntax
+     * 
+     * @param id
+     * @param previousSourceUri
+     * @param previousContentType the MIME type of the previous RDF syntax
+     * @param sourceUri
+     * @param contentType the MIME type of the current RDF syntax
+     * @throws IOException
+     */
+
+    void updateOntology(int id, String previousSourceUri, 
+            String previousContentType, String sourceUri, String contentType) 
+                    throws IOException;
 
     void cleanup() throws IOException;
     
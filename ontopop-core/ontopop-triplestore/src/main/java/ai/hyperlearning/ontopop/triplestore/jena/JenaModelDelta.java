@@ -0,0 +1,316 @@
+package ai.hyperlearning.ontopop.triplestore.jena;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.sparql.modify.request.QuadDataAcc;
+import org.apache.jena.sparql.modify.request.UpdateDataDelete;
+import org.apache.jena.sparql.modify.request.UpdateDataInsert;
+import org.apache.jena.sparql.util.FmtUtils;
+import org.apache.jena.update.UpdateRequest;
+
+/**
+ * Apache Jena Model Delta - generates the SPARQL update that transforms a
+ * triplestore holding a previous revision of an ontology into one holding
+ * its current revision. Triples without blank nodes are deleted and
+ * inserted individually. Blank node labels are not stable between parses
+ * and cannot be referenced by SPARQL, so blank nodes are instead compared
+ * by the canonical form of the tree of blank nodes, such as restrictions
+ * and RDF lists, hanging off each named subject. When any of the trees of
+ * a named subject has changed, all of them are deleted by pattern and
+ * the current trees are inserted.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class JenaModelDelta {
+
+    private JenaModelDelta() {
+        throw new IllegalStateException("The JenaModelDelta utility "
+                + "class cannot be instantiated.");
+    }
+
+    /**
+     * Parse the previous and current revisions of an ontology and generate
+     * the SPARQL update request that transforms the previous revision into
+     * the current revision
+     *
+     * @param previousSourceUri
+     * @param previousContentType
+     * @param sourceUri
+     * @param contentType
+     * @return the update request, which is empty if the revisions are
+     *         equivalent, or null if the delta cannot be expressed and the
+     *         current revision must be loaded in full instead
+     * @throws IOException
+     */
+
+    public static UpdateRequest toUpdateRequest(
+            String previousSourceUri, String previousContentType, 
+            String sourceUri, String contentType) throws IOException {
+        return toUpdateRequest(loadModel(previousSourceUri, 
+                previousContentType), loadModel(sourceUri, contentType));
+    }
+
+    /**
+     * Generate the SPARQL update request that transforms the previous
+     * model into the current model
+     *
+     * @param previousModel
+     * @param currentModel
+     * @return the update request, which is empty if the models are
+     *         equivalent, or null if the delta cannot be expressed and the
+     *         current model must be loaded in full instead
+     */
+
+    public static UpdateRequest toUpdateRequest(
+            Model previousModel, Model currentModel) {
+
+        // Index the trees of blank nodes of each model, which are only
+        // comparable if every blank node is reachable along exactly one
+        // path from a named subject or from a root blank node
+        BlankNodeTrees previousTrees =
+                BlankNodeTrees.of(previousModel.getGraph());
+        BlankNodeTrees currentTrees =
+                BlankNodeTrees.of(currentModel.getGraph());
+        if (previousTrees == null || currentTrees == null)
+            return null;
+
+        // Blank node trees that do not hang off a named subject, such as
+        // owl:AllDisjointClasses axioms, cannot be addressed by pattern
+        if (!previousTrees.rootSignatures.equals(
+                currentTrees.rootSignatures))
+            return null;
+
+        // Identify the named subjects whose blank node trees have changed
+        Set<Node> changedSubjects = new HashSet<>(
+                previousTrees.subjectSignatures.keySet());
+        changedSubjects.addAll(currentTrees.subjectSignatures.keySet());
+        changedSubjects.removeIf(subject -> Objects.equals(
+                previousTrees.subjectSignatures.get(subject),
+                currentTrees.subjectSignatures.get(subject)));
+
+        // Delete the triples without blank nodes that have been removed
+        UpdateRequest updateRequest = new UpdateRequest();
+        QuadDataAcc deletedQuads = new QuadDataAcc();
+        previousModel.getGraph().find()
+            .filterKeep(triple -> isGround(triple)
+                    && !currentModel.getGraph().contains(triple))
+            .forEachRemaining(deletedQuads::addTriple);
+        if (!deletedQuads.getQuads().isEmpty())
+            updateRequest.add(new UpdateDataDelete(deletedQuads));
+
+        // Delete the previous blank node trees of the changed subjects
+        for (Node subject : changedSubjects) {
+            Integer depth = previousTrees.subjectDepths.get(subject);
+            if (depth != null)
+                updateRequest.add(toDeleteTreesUpdate(subject, depth));
+        }
+
+        // Insert the triples without blank nodes that have been added
+        // along with the current blank node trees of the changed subjects
+        QuadDataAcc addedQuads = new QuadDataAcc();
+        currentModel.getGraph().find()
+            .filterKeep(triple -> isGround(triple)
+                    && !previousModel.getGraph().contains(triple))
+            .forEachRemaining(addedQuads::addTriple);
+        for (Node subject : changedSubjects)
+            currentTrees.addTreeTriples(subject, addedQuads);
+        if (!addedQuads.getQuads().isEmpty())
+            updateRequest.add(new UpdateDataInsert(addedQuads));
+
+        return updateRequest;
+
+    }
+
+    private static Model loadModel(String sourceUri, String contentType) 
+            throws IOException {
+
+        // Force the language as the file extension of the source may not
+        // reflect its serialization
+        Lang lang = RDFLanguages.contentTypeToLang(contentType);
+        if (lang == null)
+            throw new IOException(
+                    "Unsupported RDF content type " + contentType);
+        Model model = ModelFactory.createDefaultModel();
+        RDFParser.source(sourceUri).forceLang(lang).parse(model.getGraph());
+        return model;
+
+    }
+
+    private static boolean isGround(Triple triple) {
+        return !triple.getSubject().isBlank() && !triple.getObject().isBlank();
+    }
+
+    /**
+     * Generate a SPARQL update that deletes every triple reachable from a
+     * given named subject through up to the given number of blank nodes
+     *
+     * @param subject
+     * @param depth
+     * @return
+     */
+
+    private static String toDeleteTreesUpdate(Node subject, int depth) {
+        StringBuilder template = new StringBuilder();
+        StringBuilder pattern = new StringBuilder();
+        template.append(FmtUtils.stringForNode(subject))
+            .append(" ?p0 ?b0 . ");
+        pattern.append(FmtUtils.stringForNode(subject))
+            .append(" ?p0 ?b0 . FILTER(isBlank(?b0)) ");
+        for (int level = 1; level <= depth; level++) {
+            template.append("?b").append(level - 1).append(" ?p").append(level)
+                .append(" ?b").append(level).append(" . ");
+            pattern.append("OPTIONAL { ?b").append(level - 1)
+                .append(" ?p").append(level).append(" ?b").append(level)
+                .append(" . FILTER(isBlank(?b").append(level - 1)
+                .append(")) ");
+        }
+        pattern.append("} ".repeat(depth));
+        return "DELETE { " + template + "} WHERE { " + pattern + "}";
+    }
+
+    /**
+     * Trees of blank nodes of a graph
+     */
+
+    private static class BlankNodeTrees {
+
+        // Triples keyed by their blank node subject
+        private final Map<Node, List<Triple>> blankSubjectTriples =
+                new HashMap<>();
+
+        // Triples with a blank node object keyed by their named subject
+        private final Map<Node, List<Triple>> namedSubjectTriples =
+                new HashMap<>();
+
+        // Sorted canonical forms of the trees of each named subject
+        private final Map<Node, List<String>> subjectSignatures =
+                new HashMap<>();
+
+        // Maximum number of blank nodes along any path from each named
+        // subject
+        private final Map<Node, Integer> subjectDepths = new HashMap<>();
+
+        // Sorted canonical forms of the trees with a root blank node
+        private final List<String> rootSignatures = new ArrayList<>();
+
+        private int visitedBlankNodes = 0;
+
+        /**
+         * Index the trees of blank nodes of a given graph
+         *
+         * @param graph
+         * @return the trees, or null if a blank node is shared or forms
+         *         part of a cycle
+         */
+
+        private static BlankNodeTrees of(Graph graph) {
+
+            BlankNodeTrees trees = new BlankNodeTrees();
+            Set<Node> blankNodes = new HashSet<>();
+            Set<Node> referencedBlankNodes = new HashSet<>();
+            for (Triple triple : graph.find().toList()) {
+                Node subject = triple.getSubject();
+                Node object = triple.getObject();
+                if (subject.isBlank()) {
+                    blankNodes.add(subject);
+                    trees.blankSubjectTriples
+                        .computeIfAbsent(subject, key -> new ArrayList<>())
+                        .add(triple);
+                }
+                if (object.isBlank()) {
+                    blankNodes.add(object);
+                    if (!referencedBlankNodes.add(object))
+                        return null;
+                    if (!subject.isBlank())
+                        trees.namedSubjectTriples
+                            .computeIfAbsent(subject,
+                                    key -> new ArrayList<>())
+                            .add(triple);
+                }
+            }
+
+            // Canonicalise the trees hanging off each named subject
+            for (Map.Entry<Node, List<Triple>> entry :
+                trees.namedSubjectTriples.entrySet()) {
+                List<String> signature = new ArrayList<>();
+                int depth = 0;
+                for (Triple triple : entry.getValue()) {
+                    int[] treeDepth = new int[1];
+                    signature.add(FmtUtils.stringForNode(
+                            triple.getPredicate()) + " "
+                            + trees.canonicalise(triple.getObject(), 1,
+                                    treeDepth));
+                    depth = Math.max(depth, treeDepth[0]);
+                }
+                Collections.sort(signature);
+                trees.subjectSignatures.put(entry.getKey(), signature);
+                trees.subjectDepths.put(entry.getKey(), depth);
+            }
+
+            // Canonicalise the trees with a root blank node
+            for (Node blankNode : blankNodes) {
+                if (!referencedBlankNodes.contains(blankNode))
+                    trees.rootSignatures.add(trees.canonicalise(
+                            blankNode, 1, new int[1]));
+            }
+            Collections.sort(trees.rootSignatures);
+
+            // Blank nodes that were never reached form a cycle
+            return trees.visitedBlankNodes == blankNodes.size() ?
+                    trees : null;
+
+        }
+
+        private String canonicalise(Node node, int level, int[] depth) {
+            if (!node.isBlank())
+                return FmtUtils.stringForNode(node);
+            visitedBlankNodes++;
+            depth[0] = Math.max(depth[0], level);
+            List<String> properties = new ArrayList<>();
+            for (Triple triple : blankSubjectTriples.getOrDefault(
+                    node, Collections.emptyList()))
+                properties.add(FmtUtils.stringForNode(triple.getPredicate())
+                        + " " + canonicalise(triple.getObject(), level + 1,
+                                depth));
+            Collections.sort(properties);
+            return "[" + String.join("; ", properties) + "]";
+        }
+
+        private void addTreeTriples(Node subject, QuadDataAcc quads) {
+            for (Triple triple : namedSubjectTriples.getOrDefault(
+                    subject, Collections.emptyList())) {
+                quads.addTriple(triple);
+                addBlankNodeTriples(triple.getObject(), quads);
+            }
+        }
+
+        private void addBlankNodeTriples(Node blankNode, QuadDataAcc quads) {
+            for (Triple triple : blankSubjectTriples.getOrDefault(
+                    blankNode, Collections.emptyList())) {
+                quads.addTriple(triple);
+                if (triple.getObject().isBlank())
+                    addBlankNodeTriples(triple.getObject(), quads);
+            }
+        }
+
+    }
+
+}
@@ -4,7 +4,11 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.io.IOUtils;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.update.UpdateRequest;
 import org.eclipse.jetty.http.HttpStatus;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -49,6 +53,8 @@ public class JenaTriplestoreService implements TriplestoreService {
     private static final String FUSEKI_DATASET_NAME_KEY = "dbName";
     private static final String FUSEKI_DATASET_TYPE_KEY = "dbType";
     private static final String FUSEKI_DATASET_TYPE_VALUE = "tdb2";
+    private static final String FUSEKI_SPARQL_UPDATE_ENDPOINT = "/{id}/update";
+    private static final String FUSEKI_SPARQL_UPDATE_FORM_KEY = "update";
     
     // Triplestore Query Paths
     
@@ -133,7 +139,7 @@ public class JenaTriplestoreService implements TriplestoreService {
     }
 
     @Override
-    public void loadOntologyOwlRdfXml(int id, String owlSourceUri)
+    public void loadOntology(int id, String sourceUri, String contentType)
             throws IOException {
 
         // Create the dataset if it does not already exist
@@ -142,11 +148,19 @@ public class JenaTriplestoreService implements TriplestoreService {
 
         // Build the multipart file
         final MultipartBodyBuilder builder = new MultipartBodyBuilder();
-        File file = new File(owlSourceUri);
+        // Fuseki selects the RDF parser from the file extension, so 
+        // name the part after the canonical extension of its syntax
+        Lang lang = toLang(contentType);
+        File file = new File(sourceUri);
         try (FileInputStream input = new FileInputStream(file)) {
             MultipartFile multipartFile = new MockMultipartFile("file",
-                    file.getName(), "text/plain", IOUtils.toByteArray(input));
-            builder.part("file", multipartFile.getResource());
+                    FilenameUtils.getBaseName(file.getName()) + "." 
+                            + lang.getFileExtensions().get(0), 
+                    lang.getContentType().getContentTypeStr(), 
+                    IOUtils.toByteArray(input));
+            builder.part("file", multipartFile.getResource())
+                .contentType(MediaType.parseMediaType(
+                        lang.getContentType().getContentTypeStr()));
         }
 
         // Send a HTTP PUT request to the Fuskei server to upload data
@@ -171,6 +185,54 @@ public class JenaTriplestoreService implements TriplestoreService {
 
     }
 
+    @Override
+    public void updateOntology(int id, String previousSourceUri, 
+            String previousContentType, String sourceUri, String contentType) 
+                    throws IOException {
+
+        // Compute the SPARQL update between the previous and current
+        // revisions, reverting to a full load if it cannot be expressed
+        UpdateRequest updateRequest = JenaModelDelta.toUpdateRequest(
+                previousSourceUri, previousContentType, sourceUri, contentType);
+        if (getRepository(id) == null || updateRequest == null) {
+            loadOntology(id, sourceUri, contentType);
+            return;
+        }
+        if (updateRequest.getOperations().isEmpty())
+            return;
+
+        // Prepare the form data
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add(FUSEKI_SPARQL_UPDATE_FORM_KEY, updateRequest.toString());
+
+        // Send a HTTP POST request to the Fuseki server to update the dataset
+        ResponseEntity<String> response = webClient.post()
+                .uri(FUSEKI_SPARQL_UPDATE_ENDPOINT, String.valueOf(id))
+                .header(HttpHeaders.CONTENT_TYPE,
+                        MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(formData)).retrieve()
+                .onStatus(status -> !status.is2xxSuccessful(),
+                        clientResponse -> Mono.empty())
+                .toEntity(String.class).block();
+
+        // Throw an exception if the HTTP response status is not successful
+        if (response == null)
+            throw new IOException("Null HTTP Response");
+        if (!HttpStatus.isSuccess(response.getStatusCodeValue()))
+            throw new IOException(
+                    "Invalid HTTP Response " + response.getStatusCodeValue());
+
+    }
+
+    private Lang toLang(String contentType) throws IOException {
+        Lang lang = RDFLanguages.contentTypeToLang(contentType);
+        if (lang == null)
+            throw new IOException(
+                    "Unsupported RDF content type " + contentType);
+        return lang;
+    }
+
     @Override
     public void cleanup() throws IOException {
 
@@ -4,10 +4,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.apache.jena.update.UpdateRequest;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.impl.TreeModel;
 import org.eclipse.rdf4j.model.util.Models;
 import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.query.QueryLanguage;
 import org.eclipse.rdf4j.repository.Repository;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.config.RepositoryConfig;
@@ -25,6 +27,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
 import ai.hyperlearning.ontopop.triplestore.TriplestoreService;
+import ai.hyperlearning.ontopop.triplestore.jena.JenaModelDelta;
 
 /**
  * Ontotext GraphDB Triplestore Service
@@ -110,7 +113,7 @@ public class OntotextGraphDBTriplestoreService implements TriplestoreService {
     }
 
     @Override
-    public void loadOntologyOwlRdfXml(int id, String owlSourceUri)
+    public void loadOntology(int id, String sourceUri, String contentType)
             throws IOException {
 
         // Naively (delete and) create a repository (POC only)
@@ -123,9 +126,10 @@ public class OntotextGraphDBTriplestoreService implements TriplestoreService {
         RepositoryConnection connection = getRepositoryConnection(id);
 
         // Add RDF data
-        try (InputStream input = new FileInputStream(owlSourceUri)) {
+        RDFFormat format = toRDFFormat(contentType);
+        try (InputStream input = new FileInputStream(sourceUri)) {
             connection.begin();
-            connection.add(input, null, RDFFormat.RDFXML);
+            connection.add(input, null, format);
             connection.commit();
         } finally {
             connection.close();
@@ -133,6 +137,41 @@ public class OntotextGraphDBTriplestoreService implements TriplestoreService {
 
     }
 
+    @Override
+    public void updateOntology(int id, String previousSourceUri, 
+            String previousContentType, String sourceUri, String contentType) 
+                    throws IOException {
+
+        // Compute the SPARQL update between the previous and current
+        // revisions, reverting to a full load if it cannot be expressed
+        UpdateRequest updateRequest = JenaModelDelta.toUpdateRequest(
+                previousSourceUri, previousContentType, sourceUri, contentType);
+        if (getRepository(id) == null || updateRequest == null) {
+            loadOntology(id, sourceUri, contentType);
+            return;
+        }
+        if (updateRequest.getOperations().isEmpty())
+            return;
+
+        // Apply the update in a single transaction
+        RepositoryConnection connection = getRepositoryConnection(id);
+        try {
+            connection.begin();
+            connection.prepareUpdate(QueryLanguage.SPARQL, 
+                    updateRequest.toString()).execute();
+            connection.commit();
+        } finally {
+            connection.close();
+        }
+
+    }
+
+    private RDFFormat toRDFFormat(String contentType) throws IOException {
+        return Rio.getParserFormatForMIMEType(contentType)
+                .orElseThrow(() -> new IOException(
+                        "Unsupported RDF content type " + contentType));
+    }
+
     @Override
     public void cleanup() throws IOException {
 
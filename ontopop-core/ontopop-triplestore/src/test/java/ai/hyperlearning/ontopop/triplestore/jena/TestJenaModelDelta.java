@@ -0,0 +1,150 @@
+package ai.hyperlearning.ontopop.triplestore.jena;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.update.UpdateAction;
+import org.apache.jena.update.UpdateRequest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests - Apache Jena Model Delta
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestJenaModelDelta {
+
+    private static final String TEST_ONTOLOGY_FILENAME = "test-ontology.owl";
+    private static final String TEST_ONTOLOGY_DIFF_FILENAME =
+            "test-ontology-diff.owl";
+    private static final String RDF_XML_CONTENT_TYPE = "application/rdf+xml";
+    private static final String PREFIXES =
+            "@prefix : <http://example.org/ontology#> . "
+            + "@prefix owl: <http://www.w3.org/2002/07/owl#> . "
+            + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> . ";
+    private static final String RESTRICTIONS = PREFIXES
+            + ":A a owl:Class ; rdfs:label \"A\" ; "
+            + "rdfs:subClassOf [ a owl:Restriction ; owl:onProperty :p ; "
+            + "owl:someValuesFrom :B ] , [ a owl:Restriction ; "
+            + "owl:onProperty :q ; owl:someValuesFrom [ a owl:Class ; "
+            + "owl:unionOf ( :B :C ) ] ] . "
+            + ":D a owl:Class ; rdfs:subClassOf [ a owl:Restriction ; "
+            + "owl:onProperty :p ; owl:someValuesFrom :B ] . ";
+    private static final String RESTRICTIONS_CHANGED = PREFIXES
+            + ":A a owl:Class ; rdfs:label \"A\" ; "
+            + "rdfs:subClassOf [ a owl:Restriction ; owl:onProperty :p ; "
+            + "owl:someValuesFrom :B ] , [ a owl:Restriction ; "
+            + "owl:onProperty :q ; owl:someValuesFrom [ a owl:Class ; "
+            + "owl:unionOf ( :B :E ) ] ] . "
+            + ":D a owl:Class ; rdfs:subClassOf [ a owl:Restriction ; "
+            + "owl:onProperty :p ; owl:someValuesFrom :B ] . ";
+    private static final String RESTRICTIONS_REMOVED = PREFIXES
+            + ":A a owl:Class ; rdfs:label \"A2\" . "
+            + ":D a owl:Class ; rdfs:subClassOf [ a owl:Restriction ; "
+            + "owl:onProperty :p ; owl:someValuesFrom :B ] . ";
+    private static final String DISJOINT_CLASSES = PREFIXES
+            + "[ a owl:AllDisjointClasses ; owl:members ( :A :B :C ) ] . ";
+    private static final String DISJOINT_CLASSES_CHANGED = PREFIXES
+            + "[ a owl:AllDisjointClasses ; owl:members ( :A :B :D ) ] . ";
+
+    @Test
+    void testUpdateRequestTransformsOntologyWithRestrictions()
+            throws IOException {
+        ClassLoader classLoader = TestJenaModelDelta.class.getClassLoader();
+        UpdateRequest updateRequest = JenaModelDelta.toUpdateRequest(
+                classLoader.getResource(TEST_ONTOLOGY_FILENAME).getFile(),
+                RDF_XML_CONTENT_TYPE,
+                classLoader.getResource(TEST_ONTOLOGY_DIFF_FILENAME).getFile(),
+                RDF_XML_CONTENT_TYPE);
+        assertNotNull(updateRequest);
+        assertFalse(updateRequest.getOperations().isEmpty());
+        Model previousModel = ModelFactory.createDefaultModel();
+        RDFParser.source(classLoader.getResource(TEST_ONTOLOGY_FILENAME)
+                .getFile()).forceLang(Lang.RDFXML)
+            .parse(previousModel.getGraph());
+        Model currentModel = ModelFactory.createDefaultModel();
+        RDFParser.source(classLoader.getResource(TEST_ONTOLOGY_DIFF_FILENAME)
+                .getFile()).forceLang(Lang.RDFXML)
+            .parse(currentModel.getGraph());
+        assertTrue(apply(previousModel, updateRequest)
+                .isIsomorphicWith(currentModel));
+    }
+
+    @Test
+    void testUpdateRequestIsEmptyForEquivalentModels() {
+        UpdateRequest updateRequest = JenaModelDelta.toUpdateRequest(
+                parse(RESTRICTIONS), parse(RESTRICTIONS));
+        assertNotNull(updateRequest);
+        assertTrue(updateRequest.getOperations().isEmpty());
+    }
+
+    @Test
+    void testUpdateRequestReplacesChangedBlankNodeTrees() {
+        Model previousModel = parse(RESTRICTIONS);
+        Model currentModel = parse(RESTRICTIONS_CHANGED);
+        UpdateRequest updateRequest =
+                JenaModelDelta.toUpdateRequest(previousModel, currentModel);
+        assertNotNull(updateRequest);
+        Model updatedModel = apply(previousModel, updateRequest);
+        assertTrue(updatedModel.isIsomorphicWith(currentModel));
+        assertEquals(currentModel.size(), updatedModel.size());
+    }
+
+    @Test
+    void testUpdateRequestRemovesBlankNodeTrees() {
+        Model previousModel = parse(RESTRICTIONS);
+        Model currentModel = parse(RESTRICTIONS_REMOVED);
+        UpdateRequest updateRequest =
+                JenaModelDelta.toUpdateRequest(previousModel, currentModel);
+        assertNotNull(updateRequest);
+        assertTrue(apply(previousModel, updateRequest)
+                .isIsomorphicWith(currentModel));
+    }
+
+    @Test
+    void testUpdateRequestAddsBlankNodeTrees() {
+        Model previousModel = parse(RESTRICTIONS_REMOVED);
+        Model currentModel = parse(RESTRICTIONS);
+        UpdateRequest updateRequest =
+                JenaModelDelta.toUpdateRequest(previousModel, currentModel);
+        assertNotNull(updateRequest);
+        assertTrue(apply(previousModel, updateRequest)
+                .isIsomorphicWith(currentModel));
+    }
+
+    @Test
+    void testChangedRootBlankNodeTreesRequireFullLoad() {
+        assertNull(JenaModelDelta.toUpdateRequest(
+                parse(DISJOINT_CLASSES), parse(DISJOINT_CLASSES_CHANGED)));
+        assertNotNull(JenaModelDelta.toUpdateRequest(
+                parse(DISJOINT_CLASSES), parse(DISJOINT_CLASSES)));
+    }
+
+    private Model parse(String turtle) {
+        Model model = ModelFactory.createDefaultModel();
+        RDFParser.fromString(turtle).lang(Lang.TURTLE)
+            .parse(model.getGraph());
+        return model;
+    }
+
+    private Model apply(Model model, UpdateRequest updateRequest) {
+        Dataset dataset = DatasetFactory.create(
+                ModelFactory.createDefaultModel().add(model));
+        UpdateAction.execute(updateRequest, dataset);
+        return dataset.getDefaultModel();
+    }
+
+}
@@ -16,6 +16,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -42,6 +43,7 @@ import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
  */
 
 @Service
+@DependsOn("ontologyImportsCacheService")
 @Transactional
 public class OntologyDiffService {
     
@@ -441,12 +443,12 @@ public class OntologyDiffService {
         // Timestamp diff
         if ( timestampDiff ) {
             if ( simpleOntologyTimestampDiff.doChangesExist() ) {
-                String beforeFilename = ontology.generateFilenameForPersistence(
+                String beforeFilename = generateFilenameForPersistence(
                         simpleOntologyTimestampDiff
                             .getLatestGitWebhookIdBeforeRequestedTimestamp());
                 beforeDownloadedFileUri = 
                         checkExistenceBeforeDownload(beforeFilename);
-                String afterFilename = ontology.generateFilenameForPersistence(
+                String afterFilename = generateFilenameForPersistence(
                         simpleOntologyTimestampDiff
                             .getLatestGitWebhookIdAfterRequestedTimestamp());
                 afterDownloadedFileUri = 
@@ -458,11 +460,11 @@ public class OntologyDiffService {
         else {
             if ( simpleOntologyLeftRightDiff.getLeftGitWebhookId() != 
                     simpleOntologyLeftRightDiff.getRightGitWebhookId()) {
-                String beforeFilename = ontology.generateFilenameForPersistence(
+                String beforeFilename = generateFilenameForPersistence(
                         simpleOntologyLeftRightDiff.getLeftGitWebhookId());
                 beforeDownloadedFileUri = 
                         checkExistenceBeforeDownload(beforeFilename);
-                String afterFilename = ontology.generateFilenameForPersistence(
+                String afterFilename = generateFilenameForPersistence(
                         simpleOntologyLeftRightDiff.getRightGitWebhookId());
                 afterDownloadedFileUri = 
                         checkExistenceBeforeDownload(afterFilename);
@@ -471,6 +473,22 @@ public class OntologyDiffService {
         
     }
     
+    /**
+     * Generate the filename of the persisted OWL file for a given Git 
+     * webhook ID, resolving unchanged ontology revisions to the Git
+     * webhook whose artifacts they reuse
+     * @param gitWebhookId
+     * @return
+     */
+    
+    private String generateFilenameForPersistence(long gitWebhookId) {
+        long artifactsGitWebhookId = gitWebhookRepository
+                .findByOntologyIdAndGitWebhookId(ontology.getId(), gitWebhookId)
+                .map(GitWebhook::resolveArtifactsGitWebhookId)
+                .orElse(gitWebhookId);
+        return ontology.generateFilenameForPersistence(artifactsGitWebhookId);
+    }
+    
     /**
      * Check for the existence of a file before downloading it again
      * from object storage
@@ -10,6 +10,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
@@ -22,9 +23,11 @@ import org.springframework.stereotype.Service;
 
 import ai.hyperlearning.ontopop.data.jpa.repositories.GitWebhookRepository;
 import ai.hyperlearning.ontopop.model.git.GitWebhook;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntologyStatistics;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+import ai.hyperlearning.ontopop.storage.artifacts.ArtifactSerializationService;
 
 /**
  * Ontology Downloader Service
@@ -44,6 +47,9 @@ public class OntologyDownloaderService {
     
     @Autowired
     private ObjectStorageServiceFactory objectStorageServiceFactory;
+
+    @Autowired
+    private ArtifactSerializationService artifactSerializationService;
     
     @Value("${storage.object.service}")
     private String storageObjectService;
@@ -65,6 +71,8 @@ public class OntologyDownloaderService {
     private Map<String, String> downloadedIngestedOwlFiles = new HashMap<>();
     private Map<String, String> downloadedParsedSimpleOntologyFiles = new HashMap<>();
     private Map<String, String> downloadedModelledPropetryGraphFiles = new HashMap<>();
+    private Map<String, String> downloadedParsedStatisticsFiles = 
+            new ConcurrentHashMap<>();
     
     @PostConstruct
     private void postConstruct() {
@@ -101,12 +109,14 @@ public class OntologyDownloaderService {
     }
     
     private String generateKey(GitWebhook gitWebhook) {
-        return gitWebhook.getOntology().getId() + "_" + gitWebhook.getId();
+        return gitWebhook.getOntology().getId() + "_" 
+                + gitWebhook.resolveArtifactsGitWebhookId();
     }
     
     private String generateProcessedFilename(GitWebhook gitWebhook) {
         return gitWebhook.getOntology()
-                .generateFilenameForPersistence(gitWebhook.getId());
+                .generateFilenameForPersistence(
+                        gitWebhook.resolveArtifactsGitWebhookId());
     }
     
     private String getReadObjectUri(String stageDirectoryName, 
@@ -173,12 +183,8 @@ public class OntologyDownloaderService {
             throws IOException {
         
         String key = generateKey(gitWebhook);
-        String processedFilename = generateProcessedFilename(gitWebhook) 
-                + ".json";
-        String readObjectUri = getReadObjectUri(parsedDirectoryName, 
-                processedFilename);
         
-        // Check whether the JSON file has been downloaded recently.
+        // Check whether the artifact has been downloaded recently.
         // If so, and if the file still exists, then return the path to it
         if ( downloadedParsedSimpleOntologyFiles != null ) {
             if ( downloadedParsedSimpleOntologyFiles.containsKey(key) ) {
@@ -194,7 +200,15 @@ public class OntologyDownloaderService {
             downloadedParsedSimpleOntologyFiles = new HashMap<>();
         }
         
-        // If not, download the JSON file from object storage
+        // If not, download the artifact from object storage under 
+        // whichever supported format and compression it was persisted in
+        String processedFilename = artifactSerializationService
+                .resolveArtifactFilename(generateProcessedFilename(gitWebhook), 
+                        filename -> objectStorageService.doesObjectExist(
+                                getReadObjectUri(parsedDirectoryName, 
+                                        filename)));
+        String readObjectUri = getReadObjectUri(parsedDirectoryName, 
+                processedFilename);
         String downloadedUri = objectStorageService
                 .downloadObject(readObjectUri, processedFilename);
         downloadedParsedSimpleOntologyFiles.put(key, downloadedUri);
@@ -202,6 +216,46 @@ public class OntologyDownloaderService {
         
     }
     
+    /**
+     * Retrieve the statistics of a parsed ontology from the object storage 
+     * parsed container given a Git webhook object, and return the locally 
+     * downloaded absolute file path, or null if the revision was parsed 
+     * without persisting its statistics.
+     * @param gitWebhook
+     * @return
+     * @throws IOException
+     */
+    
+    public String retrieveParsedStatisticsFile(GitWebhook gitWebhook) 
+            throws IOException {
+        
+        String key = generateKey(gitWebhook);
+        String processedFilename = SimpleOntologyStatistics
+                .getFilename(generateProcessedFilename(gitWebhook));
+        String readObjectUri = getReadObjectUri(parsedDirectoryName, 
+                processedFilename);
+        
+        // Check whether the statistics have been downloaded recently.
+        // If so, and if the file still exists, then return the path to it
+        if ( downloadedParsedStatisticsFiles.containsKey(key) ) {
+            String previouslyDownloadedUri = 
+                    downloadedParsedStatisticsFiles.get(key);
+            if ( Files.exists(Paths.get(previouslyDownloadedUri)) )
+                return previouslyDownloadedUri;
+            else
+                downloadedParsedStatisticsFiles.remove(key);
+        }
+        
+        // If not, download the statistics from object storage
+        if ( !objectStorageService.doesObjectExist(readObjectUri) )
+            return null;
+        String downloadedUri = objectStorageService
+                .downloadObject(readObjectUri, processedFilename);
+        downloadedParsedStatisticsFiles.put(key, downloadedUri);
+        return downloadedUri;
+        
+    }
+    
     /**
      * Retrieve a modelled property graph file from the object storage 
      * loaded container given a Git webhook object, and return the locally 
@@ -215,12 +269,8 @@ public class OntologyDownloaderService {
             throws IOException {
         
         String key = generateKey(gitWebhook);
-        String processedFilename = generateProcessedFilename(gitWebhook) 
-                + ".json";
-        String readObjectUri = getReadObjectUri(loadedDirectoryName, 
-                processedFilename);
         
-        // Check whether the JSON file has been downloaded recently.
+        // Check whether the artifact has been downloaded recently.
         // If so, and if the file still exists, then return the path to it
         if ( downloadedModelledPropetryGraphFiles != null ) {
             if ( downloadedModelledPropetryGraphFiles.containsKey(key) ) {
@@ -236,7 +286,15 @@ public class OntologyDownloaderService {
             downloadedModelledPropetryGraphFiles = new HashMap<>();
         } 
         
-        // If not, download the JSON file from object storage
+        // If not, download the artifact from object storage under 
+        // whichever supported format and compression it was persisted in
+        String processedFilename = artifactSerializationService
+                .resolveArtifactFilename(generateProcessedFilename(gitWebhook), 
+                        filename -> objectStorageService.doesObjectExist(
+                                getReadObjectUri(loadedDirectoryName, 
+                                        filename)));
+        String readObjectUri = getReadObjectUri(loadedDirectoryName, 
+                processedFilename);
         String downloadedUri = objectStorageService
                 .downloadObject(readObjectUri, processedFilename);
         downloadedModelledPropetryGraphFiles.put(key, downloadedUri);
@@ -2,9 +2,13 @@ package ai.hyperlearning.ontopop.data.ontology.indexer.graph;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,11 +20,17 @@ import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Timer;
+
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
 import ai.hyperlearning.ontopop.messaging.processors.DataPipelineIndexerGraphSource;
+import ai.hyperlearning.ontopop.metrics.OntologyPipelineMetricsService;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraph;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraphDelta;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraphReader;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyVertex;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineStageContext;
 import ai.hyperlearning.ontopop.search.SearchService;
 import ai.hyperlearning.ontopop.search.SearchServiceFactory;
 import ai.hyperlearning.ontopop.search.SearchServiceType;
@@ -28,6 +38,7 @@ import ai.hyperlearning.ontopop.search.model.SimpleIndexVertex;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+import ai.hyperlearning.ontopop.storage.artifacts.ArtifactSerializationService;
 
 /**
  * Ontology Graph Indexing Service
@@ -43,16 +54,28 @@ public class OntologyGraphIndexerService {
 
     private static final Logger LOGGER =
             LoggerFactory.getLogger(OntologyGraphIndexerService.class);
+    private static final String METRICS_STAGE = "INDEXER_GRAPH";
+
+    private static final String VERTEX_ID_PROPERTY_KEY = "vertexId";
+    private static final String ONTOLOGY_ID_PROPERTY_KEY = "ontologyId";
+    private static final String LATEST_GIT_WEBHOOK_ID_PROPERTY_KEY = 
+            "latestGitWebhookId";
 
     @Autowired
     private ObjectStorageServiceFactory objectStorageServiceFactory;
 
+    @Autowired
+    private ArtifactSerializationService artifactSerializationService;
+
     @Autowired
     private SearchServiceFactory searchServiceFactory;
 
     @Autowired
     private DataPipelineIndexerGraphSource dataPipelineIndexerGraphSource;
 
+    @Autowired
+    private OntologyPipelineMetricsService ontologyPipelineMetricsService;
+
     @Value("${storage.object.service}")
     private String storageObjectService;
 
@@ -77,13 +100,74 @@ public class OntologyGraphIndexerService {
     @Value("${storage.search.elasticsearch.replicas}")
     private Integer searchNumberOfReplicas;
 
-    private OntologyMessage ontologyMessage;
+    @Value("${pipeline.delta.enabled:false}")
+    private Boolean deltaEnabled;
+
+    @Value("${pipeline.streaming.enabled:false}")
+    private Boolean streamingEnabled;
+
+    @Value("${pipeline.streaming.batchSize:10000}")
+    private int streamingBatchSize;
+
+    private ObjectStorageServiceType objectStorageServiceType;
     private ObjectStorageService objectStorageService;
+    private SearchServiceType searchServiceType;
     private SearchService searchService;
-    private String readObjectUri;
     private String writeDirectoryUri;
-    private String downloadedFileUri;
-    private String indexName;
+
+    @PostConstruct
+    private void postConstruct() throws IOException {
+
+        // 1. Select the relevant persistent storage service
+        objectStorageServiceType = ObjectStorageServiceType
+                .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+        LOGGER.debug("Using the {} object storage service.",
+                objectStorageServiceType);
+
+        // 2. Define and create (if required) the relevant
+        // target indexed directory
+        switch (objectStorageServiceType) {
+
+            case LOCAL:
+
+                // Create (if required) the local target indexed directory
+                writeDirectoryUri = storageLocalBaseUri + File.separator
+                        + indexedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+                break;
+
+            default:
+
+                // Create (if required) the Azure Storage container
+                // or AWS S3 bucket
+                writeDirectoryUri = indexedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+
+        }
+
+        // 3. Select the relevant search service
+        searchServiceType = SearchServiceType
+                .valueOfLabel(storageSearchService.toUpperCase());
+        searchService =
+                searchServiceFactory.getSearchService(searchServiceType);
+        LOGGER.debug("Using the {} search service.", searchServiceType);
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws Exception {
+
+        // Close any storage service clients
+        objectStorageService.cleanup();
+
+        // Close any search service clients
+        searchService.cleanup();
+
+    }
 
     /**
      * Run the Ontology Indexing service end-to-end pipeline
@@ -91,30 +175,93 @@ public class OntologyGraphIndexerService {
 
     public void run(OntologyMessage ontologyMessage) 
             throws OntologyDataPipelineException {
+        runInMemory(ontologyMessage, null);
+    }
+
+    /**
+     * Run the Ontology Indexing service end-to-end pipeline given a
+     * property graph that has already been modelled by an upstream stage
+     * 
+     * @param ontologyMessage
+     * @param simpleOntologyPropertyGraph the modelled property graph, 
+     *          or null to download it
+     * @throws OntologyDataPipelineException
+     */
+
+    public void runInMemory(OntologyMessage ontologyMessage, 
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) 
+                    throws OntologyDataPipelineException {
 
         LOGGER.info("Ontology Indexing Service started.");
-        this.ontologyMessage = ontologyMessage;
+        OntologyPipelineStageContext context = 
+                new OntologyPipelineStageContext(ontologyMessage);
+        String indexName = searchIndexNamePrefix 
+                + ontologyMessage.getOntologyId();
+        int ontologyId = ontologyMessage.getOntologyId();
+        Timer.Sample sample = ontologyPipelineMetricsService.start();
+        boolean success = false;
+
+        // Stream the modelled ontology into the index in batches unless
+        // it is already in memory or is needed in full to resolve a delta
+        boolean streaming = simpleOntologyPropertyGraph == null 
+                && Boolean.TRUE.equals(streamingEnabled) 
+                && (!Boolean.TRUE.equals(deltaEnabled) 
+                        || ontologyMessage.getPreviousProcessedFilename() 
+                            == null);
 
         try {
 
             // 1. Environment setup
-            setup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_SETUP, ontologyId, 
+                    () -> setup(context, indexName));
 
             // 2. Download the modelled ontology from persistent storage
-            download();
-
-            // 3. Index the ontology into a search index
-            index();
+            // unless it has already been modelled by an upstream stage
+            SimpleOntologyPropertyGraph modelledGraph = 
+                simpleOntologyPropertyGraph != null ? 
+                    simpleOntologyPropertyGraph : 
+                    ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                        OntologyPipelineMetricsService.STEP_DOWNLOAD, 
+                        ontologyId, () -> {
+                            download(context);
+                            return streaming ? null : 
+                                artifactSerializationService.read(
+                                    new File(context.getDownloadedFileUri()),
+                                    SimpleOntologyPropertyGraph.class);
+                        });
+
+            // 3. Index the ontology into a search index, applying only the
+            // changes since the previously indexed version if available
+            int documentCount = ontologyPipelineMetricsService.recordStep(
+                    METRICS_STAGE, "index", ontologyId, () -> {
+                        if (streaming)
+                            return indexStream(context, indexName);
+                        SimpleOntologyPropertyGraphDelta 
+                            simpleOntologyPropertyGraphDelta = 
+                                Boolean.TRUE.equals(deltaEnabled) ? 
+                                        resolveDelta(context, 
+                                                modelledGraph) : null;
+                        return simpleOntologyPropertyGraphDelta != null ? 
+                                indexDelta(context, indexName, 
+                                        simpleOntologyPropertyGraphDelta) : 
+                                index(indexName, modelledGraph);
+                    });
+            ontologyPipelineMetricsService.recordGauge(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.GAUGE_DOCUMENTS, ontologyId, 
+                    documentCount);
 
             // 4. Copy the modelled ontology to the indexed directory
             // in persistent storage
-            copy();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PERSIST, ontologyId, 
+                    () -> copy(context));
 
             // 5. Publish a message to the shared messaging system
-            publish();
-
-            // 6. Cleanup resources
-            cleanup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PUBLISH, ontologyId, 
+                    () -> publish(context));
+            success = true;
 
         } catch (Exception e) {
             LOGGER.error("Ontology Graph Indexing Service encountered "
@@ -122,6 +269,9 @@ public class OntologyGraphIndexerService {
             throw new OntologyDataPipelineException(
                     OntologyDataPipelineException.
                         ErrorKey.INDEXER_GRAPH);
+        } finally {
+            ontologyPipelineMetricsService.recordRun(sample, METRICS_STAGE, 
+                    ontologyId, success);
         }
 
         LOGGER.info("Ontology Indexing Service finished.");
@@ -129,62 +279,40 @@ public class OntologyGraphIndexerService {
     }
 
     /**
-     * Instantiate the relevant object storage service
+     * Generate the URI of the indexed ontology in persistent storage
      * 
-     * @throws IOException
+     * @param ontologyMessage
+     * @return
      */
 
-    private void setup() throws IOException {
-
-        // 1. Select the relevant persistent storage service and
-        // create the target directory if it does not already exist
-        ObjectStorageServiceType objectStorageServiceType =
-                ObjectStorageServiceType
-                        .valueOfLabel(storageObjectService.toUpperCase());
-        objectStorageService = objectStorageServiceFactory
-                .getObjectStorageService(objectStorageServiceType);
-        LOGGER.debug("Using the {} object storage service.",
-                objectStorageServiceType);
-
-        // 2. Define and create (if required) the relevant
-        // target indexed directory
-        switch (objectStorageServiceType) {
-
-            case LOCAL:
-
-                // Create (if required) the local target indexed directory
-                readObjectUri = storageLocalBaseUri + File.separator
-                        + modelledDirectoryName + File.separator
-                        + ontologyMessage.getJsonProcessedFilename();
-                writeDirectoryUri = storageLocalBaseUri + File.separator
-                        + indexedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
-                break;
-
-            default:
+    public String generateArtifactUri(OntologyMessage ontologyMessage) {
+        return writeDirectoryUri + "/" + artifactSerializationService
+                .getArtifactFilename(ontologyMessage.getProcessedFilename());
+    }
 
-                // Create (if required) the Azure Storage container
-                // or AWS S3 bucket
-                readObjectUri = modelledDirectoryName + "/"
-                        + ontologyMessage.getJsonProcessedFilename();
-                writeDirectoryUri = indexedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
+    /**
+     * Resolve the location of the modelled ontology for this run and
+     * create the search index if required
+     * 
+     * @param context
+     * @param indexName
+     */
 
-        }
+    private void setup(OntologyPipelineStageContext context, 
+            String indexName) {
 
-        // 3. Select the relevant search service
-        SearchServiceType searchServiceType = SearchServiceType
-                .valueOfLabel(storageSearchService.toUpperCase());
-        searchService =
-                searchServiceFactory.getSearchService(searchServiceType);
-        LOGGER.debug("Using the {} search service.", searchServiceType);
+        // 1. Resolve the location of the modelled ontology
+        String artifactFilename = artifactSerializationService
+                .resolveArtifactFilename(context.getOntologyMessage()
+                        .getProcessedFilename(), filename -> 
+                            objectStorageService.doesObjectExist(
+                                    getReadObjectUri(filename)));
+        context.setReadArtifactFilename(artifactFilename);
+        context.setReadObjectUri(getReadObjectUri(artifactFilename));
 
-        // 4. Create the search index if required
-        indexName = searchIndexNamePrefix + ontologyMessage.getOntologyId();
+        // 2. Create the search index if required
         LOGGER.debug("Creating index: {}", indexName);
-        if ( searchServiceType.equals(SearchServiceType.ELASTICSEARCH) )
+        if ( SearchServiceType.ELASTICSEARCH.equals(searchServiceType) )
             searchService.createIndex(indexName, 
                     searchNumberOfShards, searchNumberOfReplicas);
         else
@@ -192,21 +320,40 @@ public class OntologyGraphIndexerService {
 
     }
 
+    /**
+     * Generate the URI of a modelled artifact in persistent storage
+     * 
+     * @param artifactFilename
+     * @return
+     */
+
+    private String getReadObjectUri(String artifactFilename) {
+        return objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ? 
+                        storageLocalBaseUri + File.separator
+                            + modelledDirectoryName + File.separator
+                            + artifactFilename : 
+                        modelledDirectoryName + "/" + artifactFilename;
+    }
+
     /**
      * Download the modelled ontology from persistent storage to a temporary
      * file in local storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void download() throws IOException {
+    private void download(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Indexing Service - "
                 + "Started downloading the modelled resource.");
-        downloadedFileUri = objectStorageService.downloadObject(readObjectUri,
-                "_" + ontologyMessage.getJsonProcessedFilename());
+        context.setDownloadedFileUri(objectStorageService.downloadObject(
+                context.getReadObjectUri(), 
+                "_" + context.getReadArtifactFilename()));
         LOGGER.debug("Downloaded modelled resource to '{}'.",
-                downloadedFileUri);
+                context.getDownloadedFileUri());
         LOGGER.info("Ontology Indexing Service - "
                 + "Finished downloading the modelled resource.");
 
@@ -215,29 +362,184 @@ public class OntologyGraphIndexerService {
     /**
      * Index the modelled ontology into the relevant search index
      * 
-     * @throws IOException
+     * @param indexName
+     * @param simpleOntologyPropertyGraph
+     * @return the number of documents indexed
      */
 
-    private void index() throws IOException {
+    private int index(String indexName, 
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) {
 
         LOGGER.info("Ontology Indexing Service - "
                 + "Started indexing the modelled resource into "
                 + "the search index.");
 
-        // Deserialize the Simple Ontology Property Graph object from JSON
-        ObjectMapper mapper = new ObjectMapper();
-        SimpleOntologyPropertyGraph simpleOntologyPropertyGraph =
-                mapper.readValue(new File(downloadedFileUri),
-                        SimpleOntologyPropertyGraph.class);
-
         // Delete all documents in this index
         LOGGER.debug("Deleting all documents in index: {}", indexName);
         searchService.deleteAllDocuments(indexName, SimpleIndexVertex.class);
         
+        // Bulk index the vertices/classes
+        int documentCount = indexDocuments(indexName, 
+                simpleOntologyPropertyGraph.getVertices().values());
+
+        LOGGER.info("Ontology Indexing Service - "
+                + "Finished indexing the modelled resource into "
+                + "the search index.");
+        return documentCount;
+
+    }
+
+    /**
+     * Stream the vertices of the downloaded modelled ontology into the 
+     * relevant search index in batches without materializing the full graph
+     * 
+     * @param context
+     * @param indexName
+     * @return the number of documents indexed
+     * @throws Exception
+     */
+
+    private int indexStream(OntologyPipelineStageContext context, 
+            String indexName) throws Exception {
+
+        LOGGER.info("Ontology Indexing Service - "
+                + "Started streaming the modelled resource into "
+                + "the search index.");
+
+        // Delete all documents in this index
+        LOGGER.debug("Deleting all documents in index: {}", indexName);
+        searchService.deleteAllDocuments(indexName, SimpleIndexVertex.class);
+
+        // Bulk index the vertices batch by batch, skipping the edges
+        int[] documentCount = {0};
+        try (SimpleOntologyPropertyGraphReader reader = 
+                new SimpleOntologyPropertyGraphReader(
+                        artifactSerializationService.createParser(
+                                new File(context.getDownloadedFileUri())))) {
+            reader.read(streamingBatchSize, 
+                    batch -> documentCount[0] += 
+                        indexDocuments(indexName, batch), 
+                    null);
+        }
+
+        LOGGER.info("Ontology Indexing Service - "
+                + "Finished streaming the modelled resource into "
+                + "the search index.");
+        return documentCount[0];
+
+    }
+
+    /**
+     * Resolve the delta between the previously indexed version of the
+     * modelled ontology and the current version
+     * 
+     * @param context
+     * @param simpleOntologyPropertyGraph
+     * @return the delta, or null if the previously indexed version 
+     *          is not available
+     */
+
+    private SimpleOntologyPropertyGraphDelta resolveDelta(
+            OntologyPipelineStageContext context,
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) {
+
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        if (ontologyMessage.getPreviousProcessedFilename() == null)
+            return null;
+        String previousArtifactFilename = artifactSerializationService
+                .resolveArtifactFilename(
+                        ontologyMessage.getPreviousProcessedFilename(),
+                        filename -> objectStorageService.doesObjectExist(
+                                writeDirectoryUri + "/" + filename));
+        try {
+            String previousDownloadedFileUri = objectStorageService
+                    .downloadObject(writeDirectoryUri + "/"
+                            + previousArtifactFilename,
+                            "_" + previousArtifactFilename);
+            SimpleOntologyPropertyGraph previousSimpleOntologyPropertyGraph = 
+                    artifactSerializationService.read(
+                            new File(previousDownloadedFileUri),
+                            SimpleOntologyPropertyGraph.class);
+            SimpleOntologyPropertyGraphDelta simpleOntologyPropertyGraphDelta = 
+                    new SimpleOntologyPropertyGraphDelta(
+                            previousSimpleOntologyPropertyGraph, 
+                            simpleOntologyPropertyGraph);
+            LOGGER.debug("Resolved delta: {}", 
+                    simpleOntologyPropertyGraphDelta);
+            return simpleOntologyPropertyGraphDelta;
+        } catch (Exception e) {
+            LOGGER.warn("Ontology Indexing Service - The previously "
+                    + "indexed resource '{}' could not be read. Reverting to "
+                    + "a full index.", 
+                    previousArtifactFilename);
+            return null;
+        }
+
+    }
+
+    /**
+     * Apply only the changed vertices to the relevant search index
+     * 
+     * @param context
+     * @param indexName
+     * @param simpleOntologyPropertyGraphDelta
+     * @return the number of documents indexed
+     */
+
+    private int indexDelta(OntologyPipelineStageContext context, 
+            String indexName, 
+            SimpleOntologyPropertyGraphDelta simpleOntologyPropertyGraphDelta) {
+
+        LOGGER.info("Ontology Indexing Service - "
+                + "Started indexing the modelled resource delta into "
+                + "the search index.");
+
+        // Delete the documents of the deleted vertices
+        for (SimpleOntologyVertex vertex : simpleOntologyPropertyGraphDelta
+                .getDeletedVertices().values())
+            searchService.deleteDocumentsByPropertyKeyValue(indexName, 
+                    VERTEX_ID_PROPERTY_KEY, vertex.getVertexId(), 
+                    SimpleIndexVertex.class);
+        LOGGER.debug("Deleted {} documents.", 
+                simpleOntologyPropertyGraphDelta.getDeletedVertices().size());
+
+        // Bulk index the added and updated vertices, replacing the
+        // existing documents of the updated vertices
+        Set<SimpleOntologyVertex> vertices = new LinkedHashSet<>(
+                simpleOntologyPropertyGraphDelta.getAddedVertices().values());
+        vertices.addAll(
+                simpleOntologyPropertyGraphDelta.getUpdatedVertices().values());
+        int documentCount = indexDocuments(indexName, vertices);
+
+        // Stamp the unchanged documents with the current revision, which
+        // the delta deliberately ignores
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        searchService.updateDocumentsByPropertyKeyValue(indexName, 
+                ONTOLOGY_ID_PROPERTY_KEY, ontologyMessage.getOntologyId(), 
+                LATEST_GIT_WEBHOOK_ID_PROPERTY_KEY, 
+                ontologyMessage.getGitWebhookId());
+
+        LOGGER.info("Ontology Indexing Service - "
+                + "Finished indexing the modelled resource delta into "
+                + "the search index.");
+        return documentCount;
+
+    }
+
+    /**
+     * Bulk index the given vertices into the relevant search index
+     * 
+     * @param indexName
+     * @param simpleOntologyVertices
+     * @return the number of documents indexed
+     */
+
+    private int indexDocuments(String indexName, 
+            Collection<SimpleOntologyVertex> simpleOntologyVertices) {
+
         // Generate a set of SimpleIndexVertex objects
         Set<SimpleIndexVertex> vertices = new LinkedHashSet<>();
-        for (var entry : simpleOntologyPropertyGraph.getVertices().entrySet()) {
-            SimpleOntologyVertex vertex = entry.getValue();
+        for (SimpleOntologyVertex vertex : simpleOntologyVertices) {
             vertex.preparePropertiesForLoading();
             SimpleIndexVertex simpleIndexVertex = new SimpleIndexVertex(
                     vertex.getVertexId(), 
@@ -246,29 +548,35 @@ public class OntologyGraphIndexerService {
             vertices.add(simpleIndexVertex);
         }
 
-        // Bulk index the vertices/classes
-        searchService.indexDocuments(indexName, vertices);
+        // Bulk index the vertices
+        if (!vertices.isEmpty())
+            searchService.indexDocuments(indexName, vertices);
         LOGGER.debug("Indexed {} vertices.", vertices.size());
-
-        LOGGER.info("Ontology Indexing Service - "
-                + "Finished indexing the modelled resource into "
-                + "the search index.");
+        return vertices.size();
 
     }
 
     /**
      * Copy the modelled ontology to the indexed directory in persistent storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void copy() throws IOException {
+    private void copy(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Indexing Service - "
                 + "Started the persistence of the loaded resource.");
         String targetFilepath = writeDirectoryUri + "/"
-                + ontologyMessage.getJsonProcessedFilename();
-        objectStorageService.uploadObject(downloadedFileUri, targetFilepath);
+                + artifactSerializationService.getArtifactFilename(
+                        context.getOntologyMessage().getProcessedFilename());
+        if (context.getDownloadedFileUri() != null)
+            objectStorageService.uploadObject(context.getDownloadedFileUri(), 
+                    targetFilepath);
+        else
+            objectStorageService.copyObject(context.getReadObjectUri(), 
+                    targetFilepath);
         LOGGER.debug(
                 "Successfully persisted loaded ontology " + "resource to '{}'.",
                 targetFilepath);
@@ -280,37 +588,24 @@ public class OntologyGraphIndexerService {
     /**
      * Publish a message to the shared messaging system
      * 
+     * @param context
      * @throws JsonProcessingException
      */
 
-    private void publish() throws JsonProcessingException {
+    private void publish(OntologyPipelineStageContext context) 
+            throws JsonProcessingException {
 
         LOGGER.info(
                 "Ontology Indexing Service - " + "Started publishing message.");
         ObjectMapper mapper = new ObjectMapper();
         dataPipelineIndexerGraphSource.graphIndexedPublicationChannel()
                 .send(MessageBuilder
-                        .withPayload(mapper.writeValueAsString(ontologyMessage))
+                        .withPayload(mapper.writeValueAsString(
+                                context.getOntologyMessage()))
                         .build());
         LOGGER.info("Ontology Indexing Service - "
                 + "Finished publishing message.");
 
     }
 
-    /**
-     * Cleanup any open resources
-     * 
-     * @throws Exception
-     */
-
-    private void cleanup() throws Exception {
-
-        // Close any storage service clients
-        objectStorageService.cleanup();
-
-        // Close any search service clients
-        searchService.cleanup();
-
-    }
-
 }
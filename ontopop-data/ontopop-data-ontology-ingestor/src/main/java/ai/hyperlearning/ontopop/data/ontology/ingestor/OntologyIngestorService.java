@@ -5,7 +5,9 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -23,6 +25,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
+import com.google.common.hash.Hashing;
 
 import ai.hyperlearning.ontopop.data.jpa.repositories.GitWebhookRepository;
 import ai.hyperlearning.ontopop.data.jpa.repositories.OntologyRepository;
@@ -33,6 +36,7 @@ import ai.hyperlearning.ontopop.messaging.processors.DataPipelineIngestorSource;
 import ai.hyperlearning.ontopop.model.git.GitWebhook;
 import ai.hyperlearning.ontopop.model.ontology.Ontology;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologySourceFormat;
 import ai.hyperlearning.ontopop.security.secrets.managers.OntologySecretDataManager;
 import ai.hyperlearning.ontopop.security.secrets.model.OntologySecretData;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
@@ -110,10 +114,10 @@ public class OntologyIngestorService {
             parse();
 
             // 3. Save the relevant modified resources to persistent storage
-            save();
+            Map<Long, OntologySourceFormat> sourceFormats = save();
 
             // 4. Publish messages for each valid Git webhook
-            publish();
+            publish(sourceFormats);
 
             // 5. Cleanup resources
             cleanup();
@@ -267,13 +271,15 @@ public class OntologyIngestorService {
      * location, and then upload these resources to the relevant persistent
      * storage service.
      * 
+     * @return map between Git webhook ID and detected source format
      * @throws IOException
      */
 
-    private void save() throws IOException {
+    private Map<Long, OntologySourceFormat> save() throws IOException {
 
         LOGGER.info("Ontology Ingestion Service - "
                 + "Started downloading modified resources.");
+        Map<Long, OntologySourceFormat> sourceFormats = new HashMap<>();
 
         // 1. Download and write the modified resources to persistent storage
         for (GitWebhook gitWebhook : gitWebhooks) {
@@ -300,12 +306,13 @@ public class OntologyIngestorService {
 
                 // Write the string contents to a temporary file
                 // in the local file system
+                byte[] contents =
+                        response.getBody().getBytes(StandardCharsets.UTF_8);
                 Path temporaryFile = Files.createTempFile("",
                         "_" + gitWebhook.getOntology()
                                 .generateFilenameForPersistence(
                                         gitWebhook.getId()));
-                Files.write(temporaryFile,
-                        response.getBody().getBytes(StandardCharsets.UTF_8));
+                Files.write(temporaryFile, contents);
                 LOGGER.debug(
                         "Successfully downloaded ontology resource '{}' "
                                 + "to a local temporary file at '{}'.",
@@ -314,6 +321,14 @@ public class OntologyIngestorService {
                                         .getRepoResourcePath(),
                         temporaryFile.toAbsolutePath().toString());
 
+                // Detect the serialization of the resource so that
+                // downstream stages may read it natively
+                OntologySourceFormat sourceFormat =
+                        OntologySourceFormat.detect(temporaryFile);
+                sourceFormats.put(gitWebhook.getId(), sourceFormat);
+                LOGGER.debug("Detected ontology resource format: {}",
+                        sourceFormat);
+
                 // 1.3. Upload the file to the relevant persistent storage
                 // service
                 String temporaryFilename =
@@ -333,24 +348,88 @@ public class OntologyIngestorService {
                                         .getRepoResourcePath(),
                         targetFilepath);
 
+
+                // 1.4. Record the content hash and, if the contents are
+                // unchanged since the previous revision of this ontology,
+                // point this revision to the previous artifacts
+                hash(gitWebhook, contents);
+
             }
 
         }
 
         LOGGER.info("Ontology Ingestion Service - "
                 + "Finished downloading modified resources.");
+        return sourceFormats;
 
     }
 
+    /**
+     * Compute the SHA-256 hash of the ingested resource contents and
+     * compare it to the hash of the previous revision of the same ontology.
+     * If the contents are unchanged and the pipeline has run to completion
+     * for the previous revision, then this revision reuses its artifacts.
+     * Otherwise, for example if the previous revision failed validation,
+     * failed mid-pipeline, was superseded or is still in flight, then this
+     * revision is processed in full.
+     * 
+     * @param gitWebhook
+     * @param contents
+     */
+
+    private void hash(GitWebhook gitWebhook, byte[] contents) {
+
+        String contentHash = Hashing.sha256().hashBytes(contents).toString();
+        gitWebhook.setContentHash(contentHash);
+        GitWebhook previousGitWebhook = getPreviousGitWebhook(gitWebhook);
+        if (previousGitWebhook != null
+                && contentHash.equals(previousGitWebhook.getContentHash())) {
+            long artifactsGitWebhookId = 
+                    previousGitWebhook.resolveArtifactsGitWebhookId();
+            if (gitWebhookRepository.findById(artifactsGitWebhookId)
+                    .map(GitWebhook::isPipelineComplete).orElse(false)) {
+                gitWebhook.setArtifactsGitWebhookId(artifactsGitWebhookId);
+                LOGGER.info("Ontology Ingestion Service - Ontology resource "
+                        + "for Git webhook ID {} is unchanged since Git "
+                        + "webhook ID {}.", gitWebhook.getId(),
+                        previousGitWebhook.getId());
+            } else {
+                LOGGER.info("Ontology Ingestion Service - Ontology resource "
+                        + "for Git webhook ID {} is unchanged since Git "
+                        + "webhook ID {}, which has not been fully processed. "
+                        + "Reprocessing.", gitWebhook.getId(),
+                        previousGitWebhook.getId());
+            }
+        }
+        gitWebhookRepository.save(gitWebhook);
+
+    }
+
+    /**
+     * Get the previous Git webhook consumed for the same ontology
+     * 
+     * @param gitWebhook
+     * @return
+     */
+
+    private GitWebhook getPreviousGitWebhook(GitWebhook gitWebhook) {
+        List<GitWebhook> previousGitWebhooks = gitWebhookRepository
+                .findPreviousByOntologyIdAndGitWebhookId(
+                        gitWebhook.getOntology().getId(), gitWebhook.getId());
+        return previousGitWebhooks.isEmpty() ? 
+                null : previousGitWebhooks.get(0);
+    }
+
     /**
      * Publish messages to the shared messaging system for each valid webhook
      * event indicating successful ingestion of an updated ontology.
      * 
+     * @param sourceFormats
      * @throws JsonProcessingException
-     * @throws IOException
      */
 
-    private void publish() throws JsonProcessingException {
+    private void publish(Map<Long, OntologySourceFormat> sourceFormats) 
+            throws JsonProcessingException {
 
         LOGGER.info("Ontology Ingestion Service - "
                 + "Started publishing messages.");
@@ -359,6 +438,17 @@ public class OntologyIngestorService {
         // object and publish it to the shared messaging system
         for (GitWebhook gitWebhook : gitWebhooks) {
 
+            // Skip unchanged ontology revisions given that their
+            // artifacts have already been generated
+            if (gitWebhook.getArtifactsGitWebhookId() != null) {
+                LOGGER.info("Ontology Ingestion Service - Skipping "
+                        + "publication for unchanged Git webhook ID {} "
+                        + "which reuses the artifacts of Git webhook ID {}.",
+                        gitWebhook.getId(),
+                        gitWebhook.getArtifactsGitWebhookId());
+                continue;
+            }
+
             // Create an ontology message
             OntologyMessage ontologyMessage = new OntologyMessage();
             ontologyMessage.setOntologyId(gitWebhook.getOntology().getId());
@@ -366,6 +456,18 @@ public class OntologyIngestorService {
             ontologyMessage.setProcessedFilename(
                     gitWebhook.getOntology().generateFilenameForPersistence(
                             gitWebhook.getId()));
+            if (sourceFormats.containsKey(gitWebhook.getId()))
+                ontologyMessage.setSourceFormat(
+                        sourceFormats.get(gitWebhook.getId()).toString());
+
+            // Reference the artifacts of the previous revision so that
+            // downstream stages may apply only the changes between them
+            GitWebhook previousGitWebhook = getPreviousGitWebhook(gitWebhook);
+            if (previousGitWebhook != null)
+                ontologyMessage.setPreviousProcessedFilename(
+                        gitWebhook.getOntology().generateFilenameForPersistence(
+                                previousGitWebhook
+                                    .resolveArtifactsGitWebhookId()));
 
             // Publish the message to the shared messaging system
             ObjectMapper mapper = new ObjectMapper();
@@ -3,12 +3,16 @@ package ai.hyperlearning.ontopop.data.ontology.loader.graph;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +24,8 @@ import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Timer;
+
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
 import ai.hyperlearning.ontopop.graph.GraphDatabaseService;
 import ai.hyperlearning.ontopop.graph.GraphDatabaseServiceFactory;
@@ -27,14 +33,19 @@ import ai.hyperlearning.ontopop.graph.GraphDatabaseServiceType;
 import ai.hyperlearning.ontopop.graph.model.SimpleGraphEdge;
 import ai.hyperlearning.ontopop.graph.model.SimpleGraphVertex;
 import ai.hyperlearning.ontopop.messaging.processors.DataPipelineLoaderGraphSource;
+import ai.hyperlearning.ontopop.metrics.OntologyPipelineMetricsService;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyEdge;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraph;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraphDelta;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraphReader;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyVertex;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyVertexLabel;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineStageContext;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+import ai.hyperlearning.ontopop.storage.artifacts.ArtifactSerializationService;
 
 /**
  * Ontology Graph Loading Service
@@ -50,18 +61,30 @@ public class OntologyGraphLoaderService {
 
     private static final Logger LOGGER =
             LoggerFactory.getLogger(OntologyGraphLoaderService.class);
+    private static final String METRICS_STAGE = "LOADER_GRAPH";
 
     private static final String ONTOLOGY_ID_PROPERTY_KEY = "ontologyId";
+    private static final String VERTEX_ID_PROPERTY_KEY = "vertexId";
+    private static final String LATEST_GIT_WEBHOOK_ID_PROPERTY_KEY = 
+            "latestGitWebhookId";
+    private static final String SOURCE_VERTEX_ID_PROPERTY_KEY = 
+            "sourceVertexId";
 
     @Autowired
     private ObjectStorageServiceFactory objectStorageServiceFactory;
 
+    @Autowired
+    private ArtifactSerializationService artifactSerializationService;
+
     @Autowired
     private GraphDatabaseServiceFactory graphDatabaseServiceFactory;
 
     @Autowired
     private DataPipelineLoaderGraphSource dataPipelineLoaderGraphSource;
 
+    @Autowired
+    private OntologyPipelineMetricsService ontologyPipelineMetricsService;
+
     @Value("${storage.object.service}")
     private String storageObjectService;
 
@@ -77,12 +100,79 @@ public class OntologyGraphLoaderService {
     @Value("${storage.graph.service}")
     private String storageGraphService;
 
-    private OntologyMessage ontologyMessage;
+    @Value("${pipeline.delta.enabled:false}")
+    private Boolean deltaEnabled;
+
+    @Value("${pipeline.streaming.enabled:false}")
+    private Boolean streamingEnabled;
+
+    @Value("${pipeline.streaming.batchSize:10000}")
+    private int streamingBatchSize;
+
+    private ObjectStorageServiceType objectStorageServiceType;
     private ObjectStorageService objectStorageService;
     private GraphDatabaseService graphDatabaseService;
-    private String readObjectUri;
     private String writeDirectoryUri;
-    private String downloadedFileUri;
+
+    @PostConstruct
+    private void postConstruct() throws Exception {
+
+        // 1. Select the relevant persistent storage service
+        objectStorageServiceType = ObjectStorageServiceType
+                .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+        LOGGER.debug("Using the {} object storage service.",
+                objectStorageServiceType);
+
+        // 2. Define and create (if required) the relevant
+        // target loaded directory
+        switch (objectStorageServiceType) {
+
+            case LOCAL:
+
+                // Create (if required) the local target loaded directory
+                writeDirectoryUri = storageLocalBaseUri + File.separator
+                        + loadedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+                break;
+
+            default:
+
+                // Create (if required) the Azure Storage container
+                // or AWS S3 bucket
+                writeDirectoryUri = loadedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+
+        }
+
+        // 3. Select the relevant graph database service
+        GraphDatabaseServiceType graphDatabaseServiceType =
+                GraphDatabaseServiceType
+                        .valueOfLabel(storageGraphService.toUpperCase());
+        graphDatabaseService = graphDatabaseServiceFactory
+                .getGraphDatabaseService(graphDatabaseServiceType);
+        LOGGER.debug("Using the {} graph database service.",
+                graphDatabaseServiceType);
+
+        // 4. Open and create the graph database schema if required
+        graphDatabaseService.openGraph();
+        graphDatabaseService.createSchema();
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws Exception {
+
+        // Close any storage service clients
+        objectStorageService.cleanup();
+
+        // Close any graph service clients
+        graphDatabaseService.cleanup();
+
+    }
 
     /**
      * Run the Ontology Graph Loading service end-to-end pipeline
@@ -90,30 +180,104 @@ public class OntologyGraphLoaderService {
 
     public void run(OntologyMessage ontologyMessage) 
             throws OntologyDataPipelineException {
+        runInMemory(ontologyMessage, null);
+    }
+
+    /**
+     * Run the Ontology Graph Loading service end-to-end pipeline given a
+     * property graph that has already been modelled by an upstream stage
+     * 
+     * @param ontologyMessage
+     * @param simpleOntologyPropertyGraph the modelled property graph, 
+     *          or null to download it
+     * @throws OntologyDataPipelineException
+     */
+
+    public void runInMemory(OntologyMessage ontologyMessage, 
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) 
+                    throws OntologyDataPipelineException {
 
         LOGGER.info("Ontology Graph Loading Service started.");
-        this.ontologyMessage = ontologyMessage;
+        OntologyPipelineStageContext context = 
+                new OntologyPipelineStageContext(ontologyMessage);
+        int ontologyId = ontologyMessage.getOntologyId();
+        Timer.Sample sample = ontologyPipelineMetricsService.start();
+        boolean success = false;
+
+        // Stream the modelled ontology into the graph in batches unless
+        // it is already in memory or is needed in full to resolve a delta
+        boolean streaming = simpleOntologyPropertyGraph == null 
+                && Boolean.TRUE.equals(streamingEnabled) 
+                && (!Boolean.TRUE.equals(deltaEnabled) 
+                        || ontologyMessage.getPreviousProcessedFilename() 
+                            == null);
 
         try {
 
             // 1. Environment setup
-            setup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_SETUP, ontologyId, 
+                    () -> setup(context));
 
             // 2. Download the modelled ontology from persistent storage
-            download();
-
-            // 3. Load the ontology into a graph
-            load();
+            // unless it has already been modelled by an upstream stage
+            SimpleOntologyPropertyGraph modelledGraph = 
+                simpleOntologyPropertyGraph != null ? 
+                    simpleOntologyPropertyGraph : 
+                    ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                        OntologyPipelineMetricsService.STEP_DOWNLOAD, 
+                        ontologyId, () -> {
+                            download(context);
+                            return streaming ? null : 
+                                artifactSerializationService.read(
+                                    new File(context.getDownloadedFileUri()),
+                                    SimpleOntologyPropertyGraph.class);
+                        });
+
+            // 3. Load the ontology into a graph, applying only the
+            // changes since the previously loaded version if available
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    "load", ontologyId, () -> {
+                        if (streaming) {
+                            loadStream(context);
+                            return;
+                        }
+                        SimpleOntologyPropertyGraphDelta 
+                            simpleOntologyPropertyGraphDelta = 
+                                Boolean.TRUE.equals(deltaEnabled) ? 
+                                        resolveDelta(context, 
+                                                modelledGraph) : null;
+                        if (simpleOntologyPropertyGraphDelta != null) {
+                            loadDelta(context, 
+                                    simpleOntologyPropertyGraphDelta);
+                            recordLoaded(ontologyId, 
+                                    simpleOntologyPropertyGraphDelta
+                                        .getAddedVertices().size()
+                                    + simpleOntologyPropertyGraphDelta
+                                        .getUpdatedVertices().size()
+                                    + simpleOntologyPropertyGraphDelta
+                                        .getDeletedVertices().size(), 
+                                    simpleOntologyPropertyGraphDelta
+                                        .getUpdatedEdges().size());
+                        } else {
+                            load(context, modelledGraph);
+                            recordLoaded(ontologyId, 
+                                    modelledGraph.getVertices().size(), 
+                                    modelledGraph.getEdges().size());
+                        }
+                    });
 
             // 4. Copy the modelled ontology to the loaded directory
             // in persistent storage
-            copy();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PERSIST, ontologyId, 
+                    () -> copy(context));
 
             // 5. Publish a message to the shared messaging system
-            publish();
-
-            // 6. Cleanup resources
-            cleanup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PUBLISH, ontologyId, 
+                    () -> publish(context));
+            success = true;
 
         } catch (Exception e) {
             LOGGER.error(
@@ -121,6 +285,9 @@ public class OntologyGraphLoaderService {
             throw new OntologyDataPipelineException(
                     OntologyDataPipelineException.
                         ErrorKey.LOADER_GRAPH);
+        } finally {
+            ontologyPipelineMetricsService.recordRun(sample, METRICS_STAGE, 
+                    ontologyId, success);
         }
 
         LOGGER.info("Ontology Graph Loading Service finished.");
@@ -128,81 +295,87 @@ public class OntologyGraphLoaderService {
     }
 
     /**
-     * Instantiate the relevant object storage service
+     * Generate the URI of the loaded ontology in persistent storage
      * 
-     * @throws IOException
+     * @param ontologyMessage
+     * @return
      */
 
-    private void setup() throws IOException {
-
-        // 1. Select the relevant persistent storage service and
-        // create the target directory if it does not already exist
-        ObjectStorageServiceType objectStorageServiceType =
-                ObjectStorageServiceType
-                        .valueOfLabel(storageObjectService.toUpperCase());
-        objectStorageService = objectStorageServiceFactory
-                .getObjectStorageService(objectStorageServiceType);
-        LOGGER.debug("Using the {} object storage service.",
-                objectStorageServiceType);
-
-        // 2. Define and create (if required) the relevant
-        // target loaded directory
-        switch (objectStorageServiceType) {
+    public String generateArtifactUri(OntologyMessage ontologyMessage) {
+        return writeDirectoryUri + "/" + artifactSerializationService
+                .getArtifactFilename(ontologyMessage.getProcessedFilename());
+    }
 
-            case LOCAL:
+    /**
+     * Record the number of vertices and edges written to the graph
+     * 
+     * @param ontologyId
+     * @param vertexCount
+     * @param edgeCount
+     */
 
-                // Create (if required) the local target loaded directory
-                readObjectUri = storageLocalBaseUri + File.separator
-                        + modelledDirectoryName + File.separator
-                        + ontologyMessage.getJsonProcessedFilename();
-                writeDirectoryUri = storageLocalBaseUri + File.separator
-                        + loadedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
-                break;
+    private void recordLoaded(int ontologyId, long vertexCount, 
+            long edgeCount) {
+        ontologyPipelineMetricsService.recordGauge(METRICS_STAGE, 
+                OntologyPipelineMetricsService.GAUGE_VERTICES, ontologyId, 
+                vertexCount);
+        ontologyPipelineMetricsService.recordGauge(METRICS_STAGE, 
+                OntologyPipelineMetricsService.GAUGE_EDGES, ontologyId, 
+                edgeCount);
+    }
 
-            default:
+    /**
+     * Resolve the location of the modelled ontology for this run
+     * 
+     * @param context
+     */
 
-                // Create (if required) the Azure Storage container
-                // or AWS S3 bucket
-                readObjectUri = modelledDirectoryName + "/"
-                        + ontologyMessage.getJsonProcessedFilename();
-                writeDirectoryUri = loadedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
+    private void setup(OntologyPipelineStageContext context) {
 
-        }
+        String artifactFilename = artifactSerializationService
+                .resolveArtifactFilename(context.getOntologyMessage()
+                        .getProcessedFilename(), filename -> 
+                            objectStorageService.doesObjectExist(
+                                    getReadObjectUri(filename)));
+        context.setReadArtifactFilename(artifactFilename);
+        context.setReadObjectUri(getReadObjectUri(artifactFilename));
 
-        // 3. Select the relevant graph database service
-        GraphDatabaseServiceType graphDatabaseServiceType =
-                GraphDatabaseServiceType
-                        .valueOfLabel(storageGraphService.toUpperCase());
-        graphDatabaseService = graphDatabaseServiceFactory
-                .getGraphDatabaseService(graphDatabaseServiceType);
-        LOGGER.debug("Using the {} graph database service.",
-                graphDatabaseServiceType);
+    }
 
-        // 4. Open and create the graph database schema if required
-        graphDatabaseService.openGraph();
-        graphDatabaseService.createSchema();
+    /**
+     * Generate the URI of a modelled artifact in persistent storage
+     * 
+     * @param artifactFilename
+     * @return
+     */
 
+    private String getReadObjectUri(String artifactFilename) {
+        return objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ? 
+                        storageLocalBaseUri + File.separator
+                            + modelledDirectoryName + File.separator
+                            + artifactFilename : 
+                        modelledDirectoryName + "/" + artifactFilename;
     }
 
     /**
      * Download the modelled ontology from persistent storage to a temporary
      * file in local storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void download() throws IOException {
+    private void download(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Graph Loading Service - "
                 + "Started downloading the modelled resource.");
-        downloadedFileUri = objectStorageService.downloadObject(readObjectUri,
-                "_" + ontologyMessage.getJsonProcessedFilename());
+        context.setDownloadedFileUri(objectStorageService.downloadObject(
+                context.getReadObjectUri(), 
+                "_" + context.getReadArtifactFilename()));
         LOGGER.debug("Downloaded modelled resource to '{}'.",
-                downloadedFileUri);
+                context.getDownloadedFileUri());
         LOGGER.info("Ontology Graph Loading Service - "
                 + "Finished downloading the modelled resource.");
 
@@ -211,24 +384,22 @@ public class OntologyGraphLoaderService {
     /**
      * Load the modelled ontology into the relevant graph database
      * 
-     * @throws IOException
+     * @param context
+     * @param simpleOntologyPropertyGraph
      * @throws ExecutionException
      * @throws InterruptedException
      */
 
-    private void load()
-            throws IOException, InterruptedException, ExecutionException {
+    private void load(OntologyPipelineStageContext context, 
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph)
+                    throws InterruptedException, ExecutionException {
+
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
 
         LOGGER.info("Ontology Graph Loading Service - "
                 + "Started loading the modelled resource into "
                 + "the graph database.");
 
-        // Deserialize the Simple Ontology Property Graph object from JSON
-        ObjectMapper mapper = new ObjectMapper();
-        SimpleOntologyPropertyGraph simpleOntologyPropertyGraph =
-                mapper.readValue(new File(downloadedFileUri),
-                        SimpleOntologyPropertyGraph.class);
-
         // Delete all existing vertices with this ontology ID
         LOGGER.debug("Deleting all vertices with ontology ID: {}",
                 ontologyMessage.getOntologyId());
@@ -236,10 +407,196 @@ public class OntologyGraphLoaderService {
                 ontologyMessage.getOntologyId());
         graphDatabaseService.commit();
 
+        // Bulk load the vertices
+        addVertices(simpleOntologyPropertyGraph.getVertices().values());
+
+        // Delete all existing edges with this ontology ID
+        LOGGER.debug("Deleting all edges with ontology ID: {}",
+                ontologyMessage.getOntologyId());
+        graphDatabaseService.deleteEdges(ONTOLOGY_ID_PROPERTY_KEY,
+                ontologyMessage.getOntologyId());
+        graphDatabaseService.commit();
+
+        // Bulk load the edges/subClassOf relationships
+        addEdges(simpleOntologyPropertyGraph.getEdges());
+
+        LOGGER.info("Ontology Graph Loading Service - "
+                + "Finished loading the modelled resource into "
+                + "the graph database.");
+
+    }
+
+    /**
+     * Stream the downloaded modelled ontology into the relevant graph 
+     * database in batches without materializing the full graph
+     * 
+     * @param context
+     * @throws Exception
+     */
+
+    private void loadStream(OntologyPipelineStageContext context) 
+            throws Exception {
+
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+
+        LOGGER.info("Ontology Graph Loading Service - "
+                + "Started streaming the modelled resource into "
+                + "the graph database.");
+
+        // Delete all existing vertices and edges with this ontology ID
+        LOGGER.debug("Deleting all vertices and edges with ontology ID: {}",
+                ontologyMessage.getOntologyId());
+        graphDatabaseService.deleteVertices(ONTOLOGY_ID_PROPERTY_KEY,
+                ontologyMessage.getOntologyId());
+        graphDatabaseService.deleteEdges(ONTOLOGY_ID_PROPERTY_KEY,
+                ontologyMessage.getOntologyId());
+        graphDatabaseService.commit();
+
+        // Bulk load the vertices and then the edges batch by batch
+        try (SimpleOntologyPropertyGraphReader reader = 
+                new SimpleOntologyPropertyGraphReader(
+                        artifactSerializationService.createParser(
+                                new File(context.getDownloadedFileUri())))) {
+            reader.read(streamingBatchSize, 
+                    this::addVertices, this::addEdges);
+            recordLoaded(ontologyMessage.getOntologyId(), 
+                    reader.getVertexCount(), reader.getEdgeCount());
+        }
+
+        LOGGER.info("Ontology Graph Loading Service - "
+                + "Finished streaming the modelled resource into "
+                + "the graph database.");
+
+    }
+
+    /**
+     * Resolve the delta between the previously loaded version of the
+     * modelled ontology and the current version
+     * 
+     * @param context
+     * @param simpleOntologyPropertyGraph
+     * @return the delta, or null if the previously loaded version 
+     *          is not available
+     */
+
+    private SimpleOntologyPropertyGraphDelta resolveDelta(
+            OntologyPipelineStageContext context,
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) {
+
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        if (ontologyMessage.getPreviousProcessedFilename() == null)
+            return null;
+        String previousArtifactFilename = artifactSerializationService
+                .resolveArtifactFilename(
+                        ontologyMessage.getPreviousProcessedFilename(),
+                        filename -> objectStorageService.doesObjectExist(
+                                writeDirectoryUri + "/" + filename));
+        try {
+            String previousDownloadedFileUri = objectStorageService
+                    .downloadObject(writeDirectoryUri + "/"
+                            + previousArtifactFilename,
+                            "_" + previousArtifactFilename);
+            SimpleOntologyPropertyGraph previousSimpleOntologyPropertyGraph = 
+                    artifactSerializationService.read(
+                            new File(previousDownloadedFileUri),
+                            SimpleOntologyPropertyGraph.class);
+            SimpleOntologyPropertyGraphDelta simpleOntologyPropertyGraphDelta = 
+                    new SimpleOntologyPropertyGraphDelta(
+                            previousSimpleOntologyPropertyGraph, 
+                            simpleOntologyPropertyGraph);
+            LOGGER.debug("Resolved delta: {}", 
+                    simpleOntologyPropertyGraphDelta);
+            return simpleOntologyPropertyGraphDelta;
+        } catch (Exception e) {
+            LOGGER.warn("Ontology Graph Loading Service - The previously "
+                    + "loaded resource '{}' could not be read. Reverting to "
+                    + "a full load.", 
+                    previousArtifactFilename);
+            return null;
+        }
+
+    }
+
+    /**
+     * Apply only the changed vertices and edges to the relevant 
+     * graph database
+     * 
+     * @param context
+     * @param simpleOntologyPropertyGraphDelta
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+
+    private void loadDelta(OntologyPipelineStageContext context, 
+            SimpleOntologyPropertyGraphDelta simpleOntologyPropertyGraphDelta)
+                    throws InterruptedException, ExecutionException {
+
+        LOGGER.info("Ontology Graph Loading Service - "
+                + "Started loading the modelled resource delta into "
+                + "the graph database.");
+
+        // Delete the deleted and updated vertices along with their
+        // incident edges
+        List<SimpleOntologyVertex> obsoleteVertices = new ArrayList<>(
+                simpleOntologyPropertyGraphDelta.getDeletedVertices().values());
+        obsoleteVertices.addAll(
+                simpleOntologyPropertyGraphDelta.getUpdatedVertices().values());
+        for (SimpleOntologyVertex vertex : obsoleteVertices)
+            graphDatabaseService.deleteVertices(VERTEX_ID_PROPERTY_KEY,
+                    vertex.getVertexId());
+
+        // Delete the outgoing edges that are to be replaced
+        for (Long sourceVertexId : simpleOntologyPropertyGraphDelta
+                .getUpdatedEdgeSourceVertexIds())
+            graphDatabaseService.deleteEdges(SOURCE_VERTEX_ID_PROPERTY_KEY,
+                    sourceVertexId);
+        graphDatabaseService.commit();
+        LOGGER.debug("Deleted {} vertices.", obsoleteVertices.size());
+
+        // Bulk load the added and updated vertices
+        List<SimpleOntologyVertex> vertices = new ArrayList<>(
+                simpleOntologyPropertyGraphDelta.getAddedVertices().values());
+        vertices.addAll(
+                simpleOntologyPropertyGraphDelta.getUpdatedVertices().values());
+        addVertices(vertices);
+
+        // Bulk load the replacement edges
+        addEdges(simpleOntologyPropertyGraphDelta.getUpdatedEdges());
+
+        // Stamp the unchanged vertices and edges with the current 
+        // revision, which the delta deliberately ignores
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        graphDatabaseService.updateVertices(ONTOLOGY_ID_PROPERTY_KEY, 
+                ontologyMessage.getOntologyId(), 
+                LATEST_GIT_WEBHOOK_ID_PROPERTY_KEY, 
+                ontologyMessage.getGitWebhookId());
+        graphDatabaseService.updateEdges(ONTOLOGY_ID_PROPERTY_KEY, 
+                ontologyMessage.getOntologyId(), 
+                LATEST_GIT_WEBHOOK_ID_PROPERTY_KEY, 
+                ontologyMessage.getGitWebhookId());
+        graphDatabaseService.commit();
+
+        LOGGER.info("Ontology Graph Loading Service - "
+                + "Finished loading the modelled resource delta into "
+                + "the graph database.");
+
+    }
+
+    /**
+     * Bulk load the given vertices into the relevant graph database
+     * 
+     * @param simpleOntologyVertices
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+
+    private void addVertices(
+            Collection<SimpleOntologyVertex> simpleOntologyVertices)
+                    throws InterruptedException, ExecutionException {
+
         // Generate a set of SimpleGraphVertex objects
         Set<SimpleGraphVertex> vertices = new LinkedHashSet<>();
-        for (var entry : simpleOntologyPropertyGraph.getVertices().entrySet()) {
-            SimpleOntologyVertex vertex = entry.getValue();
+        for (SimpleOntologyVertex vertex : simpleOntologyVertices) {
             vertex.preparePropertiesForLoading();
             vertices.add(new SimpleGraphVertex(
                     vertex.getVertexId(),
@@ -269,16 +626,22 @@ public class OntologyGraphLoaderService {
         graphDatabaseService.commit();
         LOGGER.debug("Loaded {} vertices.", vertices.size());
 
-        // Delete all existing edges with this ontology ID
-        LOGGER.debug("Deleting all edges with ontology ID: {}",
-                ontologyMessage.getOntologyId());
-        graphDatabaseService.deleteEdges(ONTOLOGY_ID_PROPERTY_KEY,
-                ontologyMessage.getOntologyId());
-        graphDatabaseService.commit();
+    }
+
+    /**
+     * Bulk load the given edges into the relevant graph database
+     * 
+     * @param simpleOntologyEdges
+     * @throws ExecutionException
+     * @throws InterruptedException
+     */
+
+    private void addEdges(Collection<SimpleOntologyEdge> simpleOntologyEdges)
+            throws InterruptedException, ExecutionException {
 
         // Generate a set of SimpleGraphEdge objects
         List<SimpleGraphEdge> edges = new ArrayList<>();
-        for (SimpleOntologyEdge edge : simpleOntologyPropertyGraph.getEdges()) {
+        for (SimpleOntologyEdge edge : simpleOntologyEdges) {
             edge.preparePropertiesForLoading();
             edges.add(new SimpleGraphEdge(
                     edge.getLabel().toLowerCase().replace(" ", "_"), 
@@ -287,30 +650,34 @@ public class OntologyGraphLoaderService {
                     edge.getProperties()));
         }
 
-        // Bulk load the edges/subClassOf relationships
+        // Bulk load the edges
         graphDatabaseService.addEdges(edges);
         graphDatabaseService.commit();
         LOGGER.debug("Loaded {} edges.", edges.size());
 
-        LOGGER.info("Ontology Graph Loading Service - "
-                + "Finished loading the modelled resource into "
-                + "the graph database.");
-
     }
 
     /**
      * Copy the modelled ontology to the loaded directory in persistent storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void copy() throws IOException {
+    private void copy(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Graph Loading Service - "
                 + "Started the persistence of the loaded resource.");
         String targetFilepath = writeDirectoryUri + "/"
-                + ontologyMessage.getJsonProcessedFilename();
-        objectStorageService.uploadObject(downloadedFileUri, targetFilepath);
+                + artifactSerializationService.getArtifactFilename(
+                        context.getOntologyMessage().getProcessedFilename());
+        if (context.getDownloadedFileUri() != null)
+            objectStorageService.uploadObject(context.getDownloadedFileUri(), 
+                    targetFilepath);
+        else
+            objectStorageService.copyObject(context.getReadObjectUri(), 
+                    targetFilepath);
         LOGGER.debug(
                 "Successfully persisted loaded ontology " + "resource to '{}'.",
                 targetFilepath);
@@ -322,37 +689,24 @@ public class OntologyGraphLoaderService {
     /**
      * Publish a message to the shared messaging system
      * 
+     * @param context
      * @throws JsonProcessingException
      */
 
-    private void publish() throws JsonProcessingException {
+    private void publish(OntologyPipelineStageContext context) 
+            throws JsonProcessingException {
 
         LOGGER.info("Ontology Graph Loading Service - "
                 + "Started publishing message.");
         ObjectMapper mapper = new ObjectMapper();
         dataPipelineLoaderGraphSource.graphLoadedPublicationChannel()
                 .send(MessageBuilder
-                        .withPayload(mapper.writeValueAsString(ontologyMessage))
+                        .withPayload(mapper.writeValueAsString(
+                                context.getOntologyMessage()))
                         .build());
         LOGGER.info("Ontology Graph Loading Service - "
                 + "Finished publishing message.");
 
     }
 
-    /**
-     * Cleanup any open resources
-     * 
-     * @throws Exception
-     */
-
-    private void cleanup() throws Exception {
-
-        // Close any storage service clients
-        objectStorageService.cleanup();
-
-        // Close any graph service clients
-        graphDatabaseService.cleanup();
-
-    }
-
 }
@@ -2,6 +2,10 @@ package ai.hyperlearning.ontopop.data.ontology.loader.triplestore;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,9 +18,14 @@ import org.springframework.stereotype.Service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Timer;
+
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
 import ai.hyperlearning.ontopop.messaging.processors.DataPipelineLoaderTriplestoreSource;
+import ai.hyperlearning.ontopop.metrics.OntologyPipelineMetricsService;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineStageContext;
+import ai.hyperlearning.ontopop.model.ontology.OntologySourceFormat;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
@@ -38,6 +47,7 @@ public class OntologyTriplestoreLoaderService {
 
     private static final Logger LOGGER =
             LoggerFactory.getLogger(OntologyTriplestoreLoaderService.class);
+    private static final String METRICS_STAGE = "LOADER_TRIPLESTORE";
 
     @Autowired
     private ObjectStorageServiceFactory objectStorageServiceFactory;
@@ -48,27 +58,89 @@ public class OntologyTriplestoreLoaderService {
     @Autowired
     private DataPipelineLoaderTriplestoreSource dataPipelineLoaderTriplestoreSource;
 
+    @Autowired
+    private OntologyPipelineMetricsService ontologyPipelineMetricsService;
+
     @Value("${storage.object.service}")
     private String storageObjectService;
 
     @Value("${storage.object.local.baseUri}")
     private String storageLocalBaseUri;
 
+    @Value("${storage.object.containers.ingested}")
+    private String ingestedDirectoryName;
+
     @Value("${storage.object.containers.validated}")
     private String validatedDirectoryName;
 
     @Value("${storage.object.containers.loaded.triplestore}")
     private String loadedDirectoryName;
 
+    @Value("${pipeline.delta.enabled:false}")
+    private Boolean deltaEnabled;
+
     @Value("${storage.triplestore.service}")
     private String storageTriplestoreService;
 
-    private OntologyMessage ontologyMessage;
+    private ObjectStorageServiceType objectStorageServiceType;
     private ObjectStorageService objectStorageService;
     private TriplestoreService triplestoreService;
-    private String readObjectUri;
     private String writeDirectoryUri;
-    private String downloadedFileUri;
+
+    @PostConstruct
+    private void postConstruct() throws IOException {
+
+        // 1. Select the relevant persistent storage service
+        objectStorageServiceType = ObjectStorageServiceType
+                .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+        LOGGER.debug("Using the {} object storage service.",
+                objectStorageServiceType);
+
+        // 2. Define and create (if required) the relevant
+        // target loaded directory
+        switch (objectStorageServiceType) {
+
+            case LOCAL:
+
+                // Create (if required) the local target loaded directory
+                writeDirectoryUri = storageLocalBaseUri + File.separator
+                        + loadedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+                break;
+
+            default:
+
+                // Create (if required) the Azure Storage container
+                // or AWS S3 bucket
+                writeDirectoryUri = loadedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+
+        }
+
+        // 3. Select the relevant triplestore service
+        TriplestoreServiceType triplestoreServiceType = TriplestoreServiceType
+                .valueOfLabel(storageTriplestoreService.toUpperCase());
+        triplestoreService = triplestoreServiceFactory
+                .getTriplestoreService(triplestoreServiceType);
+        LOGGER.debug("Using the {} triplestore service.",
+                triplestoreServiceType);
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws IOException {
+
+        // Close any storage service clients
+        objectStorageService.cleanup();
+
+        // Close any triplestore service clients
+        triplestoreService.cleanup();
+
+    }
 
     /**
      * Run the Ontology Triplestore Loading service end-to-end pipeline
@@ -78,28 +150,41 @@ public class OntologyTriplestoreLoaderService {
             OntologyDataPipelineException {
 
         LOGGER.info("Ontology Triplestore Loading Service started.");
-        this.ontologyMessage = ontologyMessage;
+        OntologyPipelineStageContext context = 
+                new OntologyPipelineStageContext(ontologyMessage);
+        int ontologyId = ontologyMessage.getOntologyId();
+        Timer.Sample sample = ontologyPipelineMetricsService.start();
+        boolean success = false;
 
         try {
 
             // 1. Environment setup
-            setup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_SETUP, ontologyId, 
+                    () -> setup(context));
 
             // 2. Download the validated ontology from persistent storage
-            download();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_DOWNLOAD, ontologyId, 
+                    () -> download(context));
+            ontologyPipelineMetricsService.recordArtifactBytes(METRICS_STAGE, 
+                    ontologyId, context.getDownloadedFileUri());
 
             // 3. Load the ontology into a triplestore
-            load();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    "load", ontologyId, () -> load(context));
 
             // 4. Copy the validated ontology to the loaded directory
             // in persistent storage
-            copy();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PERSIST, ontologyId, 
+                    () -> copy(context));
 
             // 5. Publish a message to the shared messaging system
-            publish();
-
-            // 6. Cleanup resources
-            cleanup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PUBLISH, ontologyId, 
+                    () -> publish(context));
+            success = true;
 
         } catch (Exception e) {
             LOGGER.error("Ontology Triplestore Loading Service "
@@ -107,6 +192,9 @@ public class OntologyTriplestoreLoaderService {
             throw new OntologyDataPipelineException(
                     OntologyDataPipelineException.
                         ErrorKey.LOADER_TRIPLESTORE);
+        } finally {
+            ontologyPipelineMetricsService.recordRun(sample, METRICS_STAGE, 
+                    ontologyId, success);
         }
 
         LOGGER.info("Ontology Triplestore Loading Service finished.");
@@ -114,58 +202,66 @@ public class OntologyTriplestoreLoaderService {
     }
 
     /**
-     * Instantiate the relevant object storage service
+     * Copy the ingested ontology of a revision that will not be loaded into
+     * the triplestore to the loaded directory in persistent storage, so that
+     * it remains available for diffing against other revisions
      * 
-     * @throws IOException
+     * @param ontologyMessage
+     * @throws OntologyDataPipelineException
      */
 
-    private void setup() throws IOException {
-
-        // 1. Select the relevant persistent storage service and
-        // create the target directory if it does not already exist
-        ObjectStorageServiceType objectStorageServiceType =
-                ObjectStorageServiceType
-                        .valueOfLabel(storageObjectService.toUpperCase());
-        objectStorageService = objectStorageServiceFactory
-                .getObjectStorageService(objectStorageServiceType);
-        LOGGER.debug("Using the {} object storage service.",
-                objectStorageServiceType);
-
-        // 2. Define and create (if required) the relevant
-        // target loaded directory
-        switch (objectStorageServiceType) {
+    public void copyIngested(OntologyMessage ontologyMessage) 
+            throws OntologyDataPipelineException {
+
+        String processedFilename = ontologyMessage.getProcessedFilename();
+        String readObjectUri = objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ? 
+                        storageLocalBaseUri + File.separator
+                            + ingestedDirectoryName + File.separator
+                            + processedFilename : 
+                        ingestedDirectoryName + "/" + processedFilename;
+        String targetFilepath = writeDirectoryUri + "/" + processedFilename;
+        try {
+            objectStorageService.copyObject(readObjectUri, targetFilepath);
+        } catch (IOException e) {
+            LOGGER.error("Ontology Triplestore Loading Service "
+                    + "encountered an error.", e);
+            throw new OntologyDataPipelineException(
+                    OntologyDataPipelineException.
+                        ErrorKey.LOADER_TRIPLESTORE);
+        }
+        LOGGER.debug("Successfully persisted ingested ontology "
+                + "resource to '{}'.", targetFilepath);
 
-            case LOCAL:
+    }
 
-                // Create (if required) the local target loaded directory
-                readObjectUri = storageLocalBaseUri + File.separator
-                        + validatedDirectoryName + File.separator
-                        + ontologyMessage.getProcessedFilename();
-                writeDirectoryUri = storageLocalBaseUri + File.separator
-                        + loadedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
-                break;
+    /**
+     * Generate the URI of the loaded ontology in persistent storage
+     * 
+     * @param ontologyMessage
+     * @return
+     */
 
-            default:
+    public String generateArtifactUri(OntologyMessage ontologyMessage) {
+        return writeDirectoryUri + "/" + ontologyMessage.getProcessedFilename();
+    }
 
-                // Create (if required) the Azure Storage container
-                // or AWS S3 bucket
-                readObjectUri = validatedDirectoryName + "/"
-                        + ontologyMessage.getProcessedFilename();
-                writeDirectoryUri = loadedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
+    /**
+     * Resolve the location of the validated ontology for this run
+     * 
+     * @param context
+     */
 
-        }
+    private void setup(OntologyPipelineStageContext context) {
 
-        // 3. Select the relevant triplestore service
-        TriplestoreServiceType triplestoreServiceType = TriplestoreServiceType
-                .valueOfLabel(storageTriplestoreService.toUpperCase());
-        triplestoreService = triplestoreServiceFactory
-                .getTriplestoreService(triplestoreServiceType);
-        LOGGER.debug("Using the {} triplestore service.",
-                triplestoreServiceType);
+        String processedFilename = 
+                context.getOntologyMessage().getProcessedFilename();
+        context.setReadObjectUri(objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ? 
+                        storageLocalBaseUri + File.separator
+                            + validatedDirectoryName + File.separator
+                            + processedFilename : 
+                        validatedDirectoryName + "/" + processedFilename);
 
     }
 
@@ -173,17 +269,20 @@ public class OntologyTriplestoreLoaderService {
      * Download the validated ontology from persistent storage to a temporary
      * file in local storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void download() throws IOException {
+    private void download(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Triplestore Loading Service - "
                 + "Started downloading the validated resource.");
-        downloadedFileUri = objectStorageService.downloadObject(readObjectUri,
-                "_" + ontologyMessage.getProcessedFilename());
+        context.setDownloadedFileUri(objectStorageService.downloadObject(
+                context.getReadObjectUri(), "_" + context.getOntologyMessage()
+                    .getProcessedFilename()));
         LOGGER.debug("Downloaded validated resource to '{}'.",
-                downloadedFileUri);
+                context.getDownloadedFileUri());
         LOGGER.info("Ontology Triplestore Loading Service - "
                 + "Finished downloading the validated resource.");
 
@@ -192,35 +291,96 @@ public class OntologyTriplestoreLoaderService {
     /**
      * Load the validated ontology into the relevant triplestore
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void load() throws IOException {
+    private void load(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Triplestore Loading Service - "
                 + "Started loading the validated resource into "
                 + "the triplestore.");
-        triplestoreService.loadOntologyOwlRdfXml(
-                ontologyMessage.getOntologyId(), downloadedFileUri);
+
+        // Triplestores read RDF syntaxes only, whereas OWL/XML
+        // must first be converted by the OWL API
+        OntologySourceFormat sourceFormat = OntologySourceFormat.resolve(
+                context.getOntologyMessage().getSourceFormat(), 
+                Paths.get(context.getDownloadedFileUri()));
+        if (!sourceFormat.isRdf())
+            throw new IOException("The " + sourceFormat + " source format "
+                    + "cannot be loaded into a triplestore.");
+
+        // The previous version may have been committed in another format
+        String previousDownloadedFileUri = Boolean.TRUE.equals(deltaEnabled) ? 
+                downloadPrevious(context) : null;
+        OntologySourceFormat previousSourceFormat = 
+                previousDownloadedFileUri == null ? null : 
+                    OntologySourceFormat.detect(
+                            Paths.get(previousDownloadedFileUri));
+        if (previousSourceFormat != null && previousSourceFormat.isRdf())
+            triplestoreService.updateOntology(
+                    context.getOntologyMessage().getOntologyId(), 
+                    previousDownloadedFileUri, 
+                    previousSourceFormat.getContentType(), 
+                    context.getDownloadedFileUri(), 
+                    sourceFormat.getContentType());
+        else
+            triplestoreService.loadOntology(
+                    context.getOntologyMessage().getOntologyId(), 
+                    context.getDownloadedFileUri(), 
+                    sourceFormat.getContentType());
         LOGGER.info("Ontology Triplestore Loading Service - "
                 + "Finished loading the validated resource into "
                 + "the triplestore.");
 
     }
 
+    /**
+     * Download the previously loaded version of the ontology so that only
+     * the changed triples are applied to the triplestore
+     * 
+     * @param context
+     * @return the downloaded file path, or null if the previously loaded
+     *          version is not available
+     */
+
+    private String downloadPrevious(OntologyPipelineStageContext context) {
+
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        if (ontologyMessage.getPreviousProcessedFilename() == null)
+            return null;
+        try {
+            return objectStorageService.downloadObject(
+                    writeDirectoryUri + "/" 
+                            + ontologyMessage.getPreviousProcessedFilename(),
+                    "_" + ontologyMessage.getPreviousProcessedFilename());
+        } catch (Exception e) {
+            LOGGER.warn("Ontology Triplestore Loading Service - The "
+                    + "previously loaded resource '{}' could not be read. "
+                    + "Reverting to a full load.", 
+                    ontologyMessage.getPreviousProcessedFilename());
+            return null;
+        }
+
+    }
+
     /**
      * Copy the validated ontology to the loaded directory in persistent storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void copy() throws IOException {
+    private void copy(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Triplestore Loading Service - "
                 + "Started the persistence of the loaded resource.");
         String targetFilepath = writeDirectoryUri + "/"
-                + ontologyMessage.getProcessedFilename();
-        objectStorageService.uploadObject(downloadedFileUri, targetFilepath);
+                + context.getOntologyMessage().getProcessedFilename();
+        objectStorageService.uploadObject(context.getDownloadedFileUri(), 
+                targetFilepath);
         LOGGER.debug(
                 "Successfully persisted loaded ontology " + "resource to '{}'.",
                 targetFilepath);
@@ -232,35 +392,24 @@ public class OntologyTriplestoreLoaderService {
     /**
      * Publish a message to the shared messaging system
      * 
+     * @param context
      * @throws JsonProcessingException
      */
 
-    private void publish() throws JsonProcessingException {
+    private void publish(OntologyPipelineStageContext context) 
+            throws JsonProcessingException {
 
         LOGGER.info("Ontology Triplestore Loading Service - "
                 + "Started publishing message.");
         ObjectMapper mapper = new ObjectMapper();
         dataPipelineLoaderTriplestoreSource.triplestoreLoadedPublicationChannel()
                 .send(MessageBuilder
-                        .withPayload(mapper.writeValueAsString(ontologyMessage))
+                        .withPayload(mapper.writeValueAsString(
+                                context.getOntologyMessage()))
                         .build());
         LOGGER.info("Ontology Triplestore Loading Service - "
                 + "Finished publishing message.");
 
     }
 
-    /**
-     * Cleanup any open resources
-     */
-
-    private void cleanup() throws IOException {
-
-        // Close any storage service clients
-        objectStorageService.cleanup();
-
-        // Close any triplestore service clients
-        triplestoreService.cleanup();
-
-    }
-
 }
@@ -4,10 +4,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
-import org.semanticweb.owlapi.model.OWLOntology;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,20 +19,22 @@ import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.Timer;
 
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
 import ai.hyperlearning.ontopop.messaging.processors.DataPipelineModellerGraphSource;
+import ai.hyperlearning.ontopop.metrics.OntologyPipelineMetricsService;
 import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraph;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraphWriter;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
-import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineStageContext;
 import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
-import ai.hyperlearning.ontopop.rdf.DCMI;
-import ai.hyperlearning.ontopop.rdf.RDFSchema;
-import ai.hyperlearning.ontopop.rdf.SKOSVocabulary;
+import ai.hyperlearning.ontopop.rdf.StandardVocabularyRegistry;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+import ai.hyperlearning.ontopop.storage.artifacts.ArtifactSerializationService;
 
 /**
  * Ontology Property Graph Modelling Service
@@ -48,13 +50,20 @@ public class OntologyGraphModellerService {
 
     private static final Logger LOGGER = LoggerFactory
             .getLogger(OntologyGraphModellerService.class);
+    private static final String METRICS_STAGE = "MODELLER_GRAPH";
 
     @Autowired
     private ObjectStorageServiceFactory objectStorageServiceFactory;
 
+    @Autowired
+    private ArtifactSerializationService artifactSerializationService;
+
     @Autowired
     private DataPipelineModellerGraphSource dataPipelineModellerGraphSource;
 
+    @Autowired
+    private OntologyPipelineMetricsService ontologyPipelineMetricsService;
+
     @Value("${storage.object.service}")
     private String storageObjectService;
 
@@ -67,13 +76,61 @@ public class OntologyGraphModellerService {
     @Value("${storage.object.containers.modelled}")
     private String modelledDirectoryName;
 
-    private OntologyMessage ontologyMessage;
+    private ObjectStorageServiceType objectStorageServiceType;
     private ObjectStorageService objectStorageService;
-    private String readObjectUri;
     private String writeDirectoryUri;
-    private String downloadedFileUri;
-    private SimpleOntology simpleOntology;
-    private SimpleOntologyPropertyGraph simpleOntologyPropertyGraph;
+    private StandardVocabularyRegistry standardVocabularyRegistry;
+
+    @PostConstruct
+    private void postConstruct() 
+            throws IOException, OWLOntologyCreationException {
+
+        // 1. Select the relevant persistent storage service
+        objectStorageServiceType = ObjectStorageServiceType
+                .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+        LOGGER.debug("Using the {} object storage service.",
+                objectStorageServiceType);
+
+        // 2. Define and create (if required) the relevant
+        // target modelled directory
+        switch (objectStorageServiceType) {
+
+            case LOCAL:
+
+                // Create (if required) the local target modelled directory
+                writeDirectoryUri = storageLocalBaseUri + File.separator
+                        + modelledDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+                break;
+
+            default:
+
+                // Create (if required) the Azure Storage container
+                // or AWS S3 bucket
+                writeDirectoryUri = modelledDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+
+        }
+
+        // 3. Load the standard SKOS, RDF and DCMI schema annotation 
+        // properties once at startup rather than once per ontology
+        standardVocabularyRegistry = StandardVocabularyRegistry.getInstance();
+        LOGGER.debug("Registered {} standard schema annotation properties.",
+                standardVocabularyRegistry.getAnnotationProperties().size());
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws IOException {
+
+        // Close any storage service clients
+        objectStorageService.cleanup();
+
+    }
 
     /**
      * Run the Ontology Parsing service end-to-end pipeline
@@ -81,29 +138,78 @@ public class OntologyGraphModellerService {
 
     public void run(OntologyMessage ontologyMessage) 
             throws OntologyDataPipelineException {
+        runInMemory(ontologyMessage, null);
+    }
+
+    /**
+     * Run the Ontology Property Graph Modelling service end-to-end pipeline
+     * given an ontology that has already been parsed by an upstream stage,
+     * and return the modelled property graph for in-memory reuse by
+     * downstream stages
+     * 
+     * @param ontologyMessage
+     * @param simpleOntology the parsed ontology, or null to download it
+     * @return
+     * @throws OntologyDataPipelineException
+     */
+
+    public SimpleOntologyPropertyGraph runInMemory(
+            OntologyMessage ontologyMessage, SimpleOntology simpleOntology) 
+                    throws OntologyDataPipelineException {
 
         LOGGER.info("Ontology Property Graph Modelling Service started.");
-        this.ontologyMessage = ontologyMessage;
+        OntologyPipelineStageContext context = 
+                new OntologyPipelineStageContext(ontologyMessage);
+        SimpleOntologyPropertyGraph simpleOntologyPropertyGraph = null;
+        int ontologyId = ontologyMessage.getOntologyId();
+        Timer.Sample sample = ontologyPipelineMetricsService.start();
+        boolean success = false;
 
         try {
 
             // 1. Environment setup
-            setup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_SETUP, ontologyId, 
+                    () -> setup(context));
 
             // 2. Download the parsed ontology from persistent storage
-            download();
+            // unless it has already been parsed by an upstream stage
+            SimpleOntology parsedOntology = simpleOntology != null ? 
+                simpleOntology : 
+                ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_DOWNLOAD, ontologyId, 
+                    () -> {
+                        download(context);
+                        return artifactSerializationService.read(
+                                new File(context.getDownloadedFileUri()), 
+                                SimpleOntology.class);
+                    });
 
             // 3. Model the ontology as a directed property graph
-            model();
+            SimpleOntologyPropertyGraph modelledGraph = 
+                    ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                            "model", ontologyId, 
+                            () -> model(context, parsedOntology));
+            simpleOntologyPropertyGraph = modelledGraph;
+            ontologyPipelineMetricsService.recordGauge(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.GAUGE_VERTICES, ontologyId, 
+                    modelledGraph.getVertices().size());
+            ontologyPipelineMetricsService.recordGauge(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.GAUGE_EDGES, ontologyId, 
+                    modelledGraph.getEdges().size());
 
             // 4. Persist the modelled ontology
-            persist();
+            String jsonFileUri = ontologyPipelineMetricsService.recordStep(
+                    METRICS_STAGE, OntologyPipelineMetricsService.STEP_PERSIST, 
+                    ontologyId, () -> persist(context, modelledGraph));
+            ontologyPipelineMetricsService.recordArtifactBytes(METRICS_STAGE, 
+                    ontologyId, jsonFileUri);
 
             // 5. Publish a message to the shared messaging system
-            publish();
-
-            // 6. Cleanup resources
-            cleanup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PUBLISH, ontologyId, 
+                    () -> publish(context));
+            success = true;
 
         } catch (Exception e) {
             LOGGER.error("Ontology Property Graph Modelling Service "
@@ -111,72 +217,80 @@ public class OntologyGraphModellerService {
             throw new OntologyDataPipelineException(
                     OntologyDataPipelineException.
                         ErrorKey.MODELLER_GRAPH);
+        } finally {
+            ontologyPipelineMetricsService.recordRun(sample, METRICS_STAGE, 
+                    ontologyId, success);
         }
 
+        LOGGER.info("Ontology Property Graph Modelling Service finished.");
+        return simpleOntologyPropertyGraph;
+
     }
 
     /**
-     * Instantiate the relevant object storage service
+     * Generate the URI of the modelled ontology in persistent storage
      * 
-     * @throws IOException
+     * @param ontologyMessage
+     * @return
      */
 
-    private void setup() throws IOException {
-
-        // 1. Select the relevant persistent storage service and
-        // create the target directory if it does not already exist
-        ObjectStorageServiceType objectStorageServiceType =
-                ObjectStorageServiceType
-                        .valueOfLabel(storageObjectService.toUpperCase());
-        objectStorageService = objectStorageServiceFactory
-                .getObjectStorageService(objectStorageServiceType);
-        LOGGER.debug("Using the {} object storage service.",
-                objectStorageServiceType);
-
-        // 2. Define and create (if required) the relevant
-        // target parsed directory
-        switch (objectStorageServiceType) {
+    public String generateArtifactUri(OntologyMessage ontologyMessage) {
+        return writeDirectoryUri + "/" + artifactSerializationService
+                .getArtifactFilename(ontologyMessage.getProcessedFilename());
+    }
 
-            case LOCAL:
+    /**
+     * Resolve the location of the parsed ontology for this run
+     * 
+     * @param context
+     */
 
-                // Create (if required) the local target modelled directory
-                readObjectUri = storageLocalBaseUri + File.separator
-                        + parsedDirectoryName + File.separator
-                        + ontologyMessage.getJsonProcessedFilename();
-                writeDirectoryUri = storageLocalBaseUri + File.separator
-                        + modelledDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
-                break;
+    private void setup(OntologyPipelineStageContext context) {
 
-            default:
+        String artifactFilename = artifactSerializationService
+                .resolveArtifactFilename(context.getOntologyMessage()
+                        .getProcessedFilename(), filename -> 
+                            objectStorageService.doesObjectExist(
+                                    getReadObjectUri(filename)));
+        context.setReadArtifactFilename(artifactFilename);
+        context.setReadObjectUri(getReadObjectUri(artifactFilename));
 
-                // Create (if required) the Azure Storage container
-                // or AWS S3 bucket
-                readObjectUri = parsedDirectoryName + "/"
-                        + ontologyMessage.getJsonProcessedFilename();
-                writeDirectoryUri = modelledDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
+    }
 
-        }
+    /**
+     * Generate the URI of a parsed artifact in persistent storage
+     * 
+     * @param artifactFilename
+     * @return
+     */
 
+    private String getReadObjectUri(String artifactFilename) {
+        return objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ? 
+                        storageLocalBaseUri + File.separator
+                            + parsedDirectoryName + File.separator
+                            + artifactFilename : 
+                        parsedDirectoryName + "/" + artifactFilename;
     }
 
     /**
      * Download the parsed ontology from persistent storage to a temporary file
      * in local storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void download() throws IOException {
+    private void download(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Started downloading the parsed resource.");
-        downloadedFileUri = objectStorageService.downloadObject(readObjectUri,
-                "_" + ontologyMessage.getJsonProcessedFilename());
-        LOGGER.debug("Downloaded parsed resource to '{}'.", downloadedFileUri);
+        context.setDownloadedFileUri(objectStorageService.downloadObject(
+                context.getReadObjectUri(), 
+                "_" + context.getReadArtifactFilename()));
+        LOGGER.debug("Downloaded parsed resource to '{}'.", 
+                context.getDownloadedFileUri());
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Finished downloading the parsed resource.");
 
@@ -185,48 +299,27 @@ public class OntologyGraphModellerService {
     /**
      * Model the ontology as a directed property graph
      * 
+     * @param context
+     * @param simpleOntology
+     * @return
      * @throws IOException
-     * @throws OWLOntologyCreationException
      */
 
-    private void model() throws IOException, OWLOntologyCreationException {
+    private SimpleOntologyPropertyGraph model(
+            OntologyPipelineStageContext context, 
+            SimpleOntology simpleOntology) 
+                    throws IOException {
 
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Started modelling the parsed resource.");
 
-        // Deserialize the Simple Ontology object from JSON
-        ObjectMapper mapper = new ObjectMapper();
-        simpleOntology = mapper.readValue(new File(downloadedFileUri),
-                SimpleOntology.class);
-
-        // Load the SKOS Vocabulary and parse its annotation properties
-        OWLOntology skos = SKOSVocabulary.loadSKOSRDF();
-        Map<String, SimpleAnnotationProperty> skosAnnotationProperties =
-                SKOSVocabulary.parseAnnotationProperties(skos);
-
-        // Load the RDF Schema and parse its annotation properties
-        OWLOntology rdf = RDFSchema.loadRdfSchema();
-        Map<String, SimpleAnnotationProperty> rdfSchemaAnnotationProperties =
-                RDFSchema.parseAnnotationProperties(rdf);
-
-        // Load the DCMI RDF Schema and parse its annotation properties
-        Map<String, SimpleAnnotationProperty> dcmiSchemaAnnotationProperties =
-                DCMI.parseAnnotationProperties();
-
-        // Aggregate the standard schema annotation properties
-        Map<String, SimpleAnnotationProperty> standardSchemaAnnotationProperties =
-                new LinkedHashMap<>(skosAnnotationProperties);
-        standardSchemaAnnotationProperties
-                .putAll(rdfSchemaAnnotationProperties);
-        standardSchemaAnnotationProperties
-                .putAll(dcmiSchemaAnnotationProperties);
-
         // Transform the Simple Ontology object into a
         // Simple Ontology Property Graph object
-        simpleOntologyPropertyGraph =
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        SimpleOntologyPropertyGraph simpleOntologyPropertyGraph =
                 new SimpleOntologyPropertyGraph(ontologyMessage.getOntologyId(),
                         ontologyMessage.getGitWebhookId(), simpleOntology,
-                        standardSchemaAnnotationProperties);
+                        standardVocabularyRegistry.getAnnotationProperties());
 
         LOGGER.debug("Modelled ontology: '{}'.", simpleOntologyPropertyGraph);
         LOGGER.debug("Modelled {} vertices.",
@@ -235,32 +328,39 @@ public class OntologyGraphModellerService {
                 simpleOntologyPropertyGraph.getEdges().size());
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Finished modelling the parsed resource.");
+        return simpleOntologyPropertyGraph;
 
     }
 
     /**
      * Persist the modelled ontology
      * 
+     * @param context
+     * @param simpleOntologyPropertyGraph
+     * @return the path to the serialized artifact in local storage
      * @throws IOException
      */
 
-    private void persist() throws IOException {
+    private String persist(OntologyPipelineStageContext context, 
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) 
+                    throws IOException {
 
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Started the persistence of the modelled resource.");
 
         // Serialize the Simple Ontology Property Graph object
         // to a temporary file in the local file system
-        String jsonFilename = ontologyMessage.getJsonProcessedFilename();
-        Path temporaryFile = Files.createTempFile("", jsonFilename);
+        String artifactFilename = artifactSerializationService
+                .getArtifactFilename(context.getOntologyMessage()
+                        .getProcessedFilename());
+        Path temporaryFile = Files.createTempFile("", artifactFilename);
         File file = new File(temporaryFile.toAbsolutePath().toString());
-        ObjectMapper mapper =
-                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-        mapper.writeValue(file, simpleOntologyPropertyGraph);
+        SimpleOntologyPropertyGraphWriter.write(
+                artifactSerializationService.createGenerator(file), 
+                simpleOntologyPropertyGraph);
 
-        // Upload the serialized JSON file to persistent object storage
-        String targetFilepath = writeDirectoryUri + "/"
-                + ontologyMessage.getJsonProcessedFilename();
+        // Upload the serialized artifact to persistent object storage
+        String targetFilepath = writeDirectoryUri + "/" + artifactFilename;
         objectStorageService.uploadObject(
                 temporaryFile.toAbsolutePath().toString(), targetFilepath);
 
@@ -268,38 +368,31 @@ public class OntologyGraphModellerService {
                 + "resource to '{}'.", targetFilepath);
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Finished the persistence of the modelled resource.");
+        return temporaryFile.toAbsolutePath().toString();
 
     }
 
     /**
      * Publish a message to the shared messaging system
      * 
+     * @param context
      * @throws JsonProcessingException
      */
 
-    private void publish() throws JsonProcessingException {
+    private void publish(OntologyPipelineStageContext context) 
+            throws JsonProcessingException {
 
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Started publishing message.");
         ObjectMapper mapper = new ObjectMapper();
         dataPipelineModellerGraphSource.modelledPublicationChannel()
                 .send(MessageBuilder
-                        .withPayload(mapper.writeValueAsString(ontologyMessage))
+                        .withPayload(mapper.writeValueAsString(
+                                context.getOntologyMessage()))
                         .build());
         LOGGER.info("Ontology Property Graph Modelling Service - "
                 + "Finished publishing message.");
 
     }
 
-    /**
-     * Cleanup any open resources
-     */
-
-    private void cleanup() throws IOException {
-
-        // Close any storage service clients
-        objectStorageService.cleanup();
-
-    }
-
 }
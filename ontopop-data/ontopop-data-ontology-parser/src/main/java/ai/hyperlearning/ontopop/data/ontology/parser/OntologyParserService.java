@@ -4,8 +4,16 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.apache.jena.riot.RiotException;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
 import org.slf4j.Logger;
@@ -13,25 +21,36 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.stream.annotation.EnableBinding;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.Timer;
 
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
 import ai.hyperlearning.ontopop.messaging.processors.DataPipelineParserSource;
+import ai.hyperlearning.ontopop.metrics.OntologyPipelineMetricsService;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineStageContext;
+import ai.hyperlearning.ontopop.model.ontology.OntologySourceFormat;
+import ai.hyperlearning.ontopop.model.owl.IRIDictionary;
 import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
 import ai.hyperlearning.ontopop.model.owl.SimpleClass;
 import ai.hyperlearning.ontopop.model.owl.SimpleNamedIndividual;
 import ai.hyperlearning.ontopop.model.owl.SimpleObjectProperty;
 import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntologyStatistics;
 import ai.hyperlearning.ontopop.owl.OWLAPI;
+import ai.hyperlearning.ontopop.owl.OWLEntityAxiomIndex;
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
+import ai.hyperlearning.ontopop.rdf.RDFStreamParser;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
+import ai.hyperlearning.ontopop.storage.artifacts.ArtifactSerializationService;
 
 /**
  * Ontology Parsing Service
@@ -42,18 +61,26 @@ import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
 
 @SuppressWarnings("deprecation")
 @Service
+@DependsOn("ontologyImportsCacheService")
 @EnableBinding(DataPipelineParserSource.class)
 public class OntologyParserService {
 
     private static final Logger LOGGER =
             LoggerFactory.getLogger(OntologyParserService.class);
+    private static final String METRICS_STAGE = "PARSER";
 
     @Autowired
     private ObjectStorageServiceFactory objectStorageServiceFactory;
 
+    @Autowired
+    private ArtifactSerializationService artifactSerializationService;
+
     @Autowired
     private DataPipelineParserSource dataPipelineParserSource;
 
+    @Autowired
+    private OntologyPipelineMetricsService ontologyPipelineMetricsService;
+
     @Value("${storage.object.service}")
     private String storageObjectService;
 
@@ -66,12 +93,90 @@ public class OntologyParserService {
     @Value("${storage.object.containers.parsed}")
     private String parsedDirectoryName;
 
-    private OntologyMessage ontologyMessage;
+    @Value("${pipeline.parser.type:owlapi}")
+    private String parserType;
+
+    @Value("${pipeline.parser.stream.ontologyIds:}")
+    private List<Integer> streamParserOntologyIds;
+
+    @Value("${pipeline.parser.axiomIndex.enabled:true}")
+    private Boolean axiomIndexEnabled;
+
+    @Value("${pipeline.parser.parallel.enabled:true}")
+    private Boolean parallelEnabled;
+
+    @Value("${pipeline.parser.parallel.threads:0}")
+    private Integer parallelThreads;
+
+    @Value("${pipeline.parser.parallel.classChunkSize:4096}")
+    private Integer parallelClassChunkSize;
+
+    private OntologyParserType ontologyParserType;
+    private ObjectStorageServiceType objectStorageServiceType;
     private ObjectStorageService objectStorageService;
-    private String readObjectUri;
     private String writeDirectoryUri;
-    private String downloadedFileUri;
-    private SimpleOntology simpleOntology;
+    private ForkJoinPool forkJoinPool;
+
+    @PostConstruct
+    private void postConstruct() throws IOException {
+
+        // 1. Select the relevant persistent storage service
+        objectStorageServiceType = ObjectStorageServiceType
+                .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+        LOGGER.debug("Using the {} object storage service.",
+                objectStorageServiceType);
+
+        // 2. Define and create (if required) the relevant
+        // target parsed directory
+        switch (objectStorageServiceType) {
+
+            case LOCAL:
+
+                // Create (if required) the local target parsed directory
+                writeDirectoryUri = storageLocalBaseUri + File.separator
+                        + parsedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+                break;
+
+            default:
+
+                // Create (if required) the Azure Storage container
+                // or AWS S3 bucket
+                writeDirectoryUri = parsedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+
+        }
+
+        // 3. Select the default ontology parser
+        ontologyParserType = OntologyParserType
+                .valueOfLabel(parserType.toUpperCase());
+        LOGGER.debug("Using the {} ontology parser by default.",
+                ontologyParserType);
+
+        // 4. Instantiate the bounded pool used to parse the entity 
+        // categories concurrently, defaulting to one thread per core
+        if (Boolean.TRUE.equals(parallelEnabled))
+            forkJoinPool = new ForkJoinPool(parallelThreads > 0 ? 
+                    parallelThreads : 
+                    Runtime.getRuntime().availableProcessors());
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws IOException {
+
+        // Close any storage service clients
+        objectStorageService.cleanup();
+
+        // Shutdown the parsing pool
+        if (forkJoinPool != null)
+            forkJoinPool.shutdownNow();
+
+    }
 
     /**
      * Run the Ontology Parsing service end-to-end pipeline
@@ -79,85 +184,134 @@ public class OntologyParserService {
 
     public void run(OntologyMessage ontologyMessage) 
             throws OntologyDataPipelineException {
+        runInMemory(ontologyMessage, null);
+    }
+
+    /**
+     * Run the Ontology Parsing service end-to-end pipeline given an
+     * ontology that has already been loaded by an upstream stage, and
+     * return the parsed ontology for in-memory reuse by downstream stages
+     * 
+     * @param ontologyMessage
+     * @param ontology the loaded ontology, or null to download it
+     * @return
+     * @throws OntologyDataPipelineException
+     */
+
+    public SimpleOntology runInMemory(OntologyMessage ontologyMessage, 
+            OWLOntology ontology) throws OntologyDataPipelineException {
 
         LOGGER.info("Ontology Parsing Service started.");
-        this.ontologyMessage = ontologyMessage;
+        OntologyPipelineStageContext context = 
+                new OntologyPipelineStageContext(ontologyMessage);
+        SimpleOntology simpleOntology = null;
+        int ontologyId = ontologyMessage.getOntologyId();
+        Timer.Sample sample = ontologyPipelineMetricsService.start();
+        boolean success = false;
 
         try {
 
             // 1. Environment setup
-            setup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_SETUP, ontologyId, 
+                    () -> setup(context));
 
             // 2. Download the validated ontology from persistent storage
-            download();
-
-            // 3. Parse the ontology into its constituent components
-            parse();
-
-            // 4. Persist the parsed ontology components
-            persist();
+            // unless it has already been loaded by an upstream stage, 
+            // loading it with the OWL API unless it is to be streamed
+            boolean stream = ontology == null && 
+                    getParserType(ontologyId) == OntologyParserType.STREAM;
+            OWLOntology loadedOntology = ontology != null ? ontology : 
+                ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_DOWNLOAD, ontologyId, 
+                    () -> {
+                        download(context);
+                        return stream ? null : OWLAPI.loadOntology(
+                                new File(context.getDownloadedFileUri()), 
+                                getSourceFormat(context));
+                    });
+
+            // 3. Parse the ontology into its constituent components and 
+            // compute its statistics, releasing the ontology if it was 
+            // loaded by this stage
+            SimpleOntology parsedOntology;
+            SimpleOntologyStatistics statistics;
+            try {
+                parsedOntology = ontologyPipelineMetricsService
+                        .recordStep(METRICS_STAGE, "parse", ontologyId, 
+                                () -> stream ? 
+                                        parseStream(context) : 
+                                        parse(context, loadedOntology));
+                statistics = ontologyPipelineMetricsService
+                        .recordStep(METRICS_STAGE, "statistics", ontologyId, 
+                                () -> OWLAPI.computeStatistics(
+                                        parsedOntology, loadedOntology));
+            } finally {
+                if (ontology == null)
+                    OWLOntologyManagerPool.release(loadedOntology);
+            }
+            simpleOntology = parsedOntology;
+
+            // 4. Persist the parsed ontology components and statistics
+            String jsonFileUri = ontologyPipelineMetricsService.recordStep(
+                    METRICS_STAGE, OntologyPipelineMetricsService.STEP_PERSIST, 
+                    ontologyId, 
+                    () -> persist(context, parsedOntology, statistics));
+            try {
+                ontologyPipelineMetricsService.recordArtifactBytes(
+                        METRICS_STAGE, ontologyId, jsonFileUri);
+            } finally {
+                deleteTemporaryFile(Paths.get(jsonFileUri));
+            }
 
             // 5. Publish a message to the shared messaging system
-            publish();
-
-            // 6. Cleanup resources
-            cleanup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PUBLISH, ontologyId, 
+                    () -> publish(context));
+            success = true;
 
         } catch (Exception e) {
             LOGGER.error("Ontology Parsing Service encountered an error.", e);
             throw new OntologyDataPipelineException(
                     OntologyDataPipelineException.ErrorKey.PARSER);
+        } finally {
+            ontologyPipelineMetricsService.recordRun(sample, METRICS_STAGE, 
+                    ontologyId, success);
         }
 
         LOGGER.info("Ontology Parsing Service finished.");
+        return simpleOntology;
 
     }
 
     /**
-     * Instantiate the relevant object storage service
+     * Generate the URI of the parsed ontology in persistent storage
      * 
-     * @throws IOException
+     * @param ontologyMessage
+     * @return
      */
 
-    private void setup() throws IOException {
-
-        // 1. Select the relevant persistent storage service and
-        // create the target directory if it does not already exist
-        ObjectStorageServiceType objectStorageServiceType =
-                ObjectStorageServiceType
-                        .valueOfLabel(storageObjectService.toUpperCase());
-        objectStorageService = objectStorageServiceFactory
-                .getObjectStorageService(objectStorageServiceType);
-        LOGGER.debug("Using the {} object storage service.",
-                objectStorageServiceType);
-
-        // 2. Define and create (if required) the relevant
-        // target parsed directory
-        switch (objectStorageServiceType) {
-
-            case LOCAL:
-
-                // Create (if required) the local target parsed directory
-                readObjectUri = storageLocalBaseUri + File.separator
-                        + validatedDirectoryName + File.separator
-                        + ontologyMessage.getProcessedFilename();
-                writeDirectoryUri = storageLocalBaseUri + File.separator
-                        + parsedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
-                break;
+    public String generateArtifactUri(OntologyMessage ontologyMessage) {
+        return writeDirectoryUri + "/" + artifactSerializationService
+                .getArtifactFilename(ontologyMessage.getProcessedFilename());
+    }
 
-            default:
+    /**
+     * Resolve the location of the validated ontology for this run
+     * 
+     * @param context
+     */
 
-                // Create (if required) the Azure Storage container
-                // or AWS S3 bucket
-                readObjectUri = validatedDirectoryName + "/"
-                        + ontologyMessage.getProcessedFilename();
-                writeDirectoryUri = parsedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
+    private void setup(OntologyPipelineStageContext context) {
 
-        }
+        String processedFilename = 
+                context.getOntologyMessage().getProcessedFilename();
+        context.setReadObjectUri(objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ? 
+                        storageLocalBaseUri + File.separator
+                            + validatedDirectoryName + File.separator
+                            + processedFilename : 
+                        validatedDirectoryName + "/" + processedFilename);
 
     }
 
@@ -165,61 +319,190 @@ public class OntologyParserService {
      * Download the validated ontology from persistent storage to a temporary
      * file in local storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void download() throws IOException {
+    private void download(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Parsing Service - "
                 + "Started downloading the validated resource.");
-        downloadedFileUri = objectStorageService.downloadObject(readObjectUri,
-                "_" + ontologyMessage.getProcessedFilename());
+        context.setDownloadedFileUri(objectStorageService.downloadObject(
+                context.getReadObjectUri(), "_" + context.getOntologyMessage()
+                    .getProcessedFilename()));
         LOGGER.debug("Downloaded validated resource to '{}'.",
-                downloadedFileUri);
+                context.getDownloadedFileUri());
+
+        // Resolve the serialization of the resource unless it has
+        // already been detected upstream
+        context.getOntologyMessage().setSourceFormat(OntologySourceFormat
+                .resolve(context.getOntologyMessage().getSourceFormat(), 
+                        Paths.get(context.getDownloadedFileUri()))
+                .toString());
         LOGGER.info("Ontology Parsing Service - "
                 + "Finished downloading the validated resource.");
 
     }
 
     /**
-     * Parse the ontology into its constituent components
+     * Get the source format of the downloaded ontology
      * 
-     * @throws IOException
+     * @param context
+     * @return
+     */
+
+    private OntologySourceFormat getSourceFormat(
+            OntologyPipelineStageContext context) {
+        return OntologySourceFormat.valueOfLabel(
+                context.getOntologyMessage().getSourceFormat());
+    }
+
+    /**
+     * Get the parser to use for a given ontology
+     * 
+     * @param ontologyId
+     * @return
+     */
+
+    private OntologyParserType getParserType(int ontologyId) {
+        return streamParserOntologyIds.contains(ontologyId) ? 
+                OntologyParserType.STREAM : ontologyParserType;
+    }
+
+    /**
+     * Whether a given ontology is parsed by streaming the triples of its 
+     * validated resource, in which case an ontology loaded by an upstream 
+     * stage is not required
+     * 
+     * @param ontologyId
+     * @return
+     */
+
+    public boolean isStreamed(int ontologyId) {
+        return getParserType(ontologyId) == OntologyParserType.STREAM;
+    }
+
+    /**
+     * Parse the downloaded ontology into its constituent components 
+     * directly from its RDF triples, falling back to the OWL API if it 
+     * is not serialised as RDF
+     * 
+     * @param context
+     * @return
+     * @throws InterruptedException
+     * @throws ExecutionException
      * @throws OWLOntologyCreationException
      */
 
-    private void parse() throws OWLOntologyCreationException {
+    private SimpleOntology parseStream(OntologyPipelineStageContext context) 
+            throws InterruptedException, ExecutionException, 
+                OWLOntologyCreationException {
+
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        try {
+            LOGGER.info("Ontology Parsing Service - "
+                    + "Started streaming the validated resource.");
+            SimpleOntology simpleOntology = RDFStreamParser.parse(
+                    ontologyMessage.getOntologyId(), 
+                    ontologyMessage.getGitWebhookId(), 
+                    Paths.get(context.getDownloadedFileUri()), 
+                    new IRIDictionary(), 
+                    getSourceFormat(context));
+            LOGGER.debug("Parsed {} classes.",
+                    simpleOntology.getSimpleClassMap().size());
+            LOGGER.info("Ontology Parsing Service - "
+                    + "Finished streaming the validated resource.");
+            return simpleOntology;
+        } catch (RiotException e) {
+            LOGGER.warn("Ontology Parsing Service - The validated resource "
+                    + "could not be streamed as RDF, falling back to the "
+                    + "OWL API parser.", e);
+            OWLOntology ontology = OWLAPI.loadOntology(
+                    new File(context.getDownloadedFileUri()), 
+                    getSourceFormat(context));
+            try {
+                return parse(context, ontology);
+            } finally {
+                OWLOntologyManagerPool.release(ontology);
+            }
+        }
+
+    }
+
+    /**
+     * Parse the ontology into its constituent components
+     * 
+     * @param context
+     * @param ontology
+     * @return
+     * @throws InterruptedException
+     * @throws ExecutionException
+     */
+
+    private SimpleOntology parse(OntologyPipelineStageContext context, 
+            OWLOntology ontology) 
+                    throws InterruptedException, ExecutionException {
 
         LOGGER.info("Ontology Parsing Service - "
                 + "Started parsing the validated resource.");
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+
+        // Index the axioms of the ontology by subject in a single pass
+        // rather than searching the ontology once per entity
+        OWLEntityAxiomIndex axiomIndex = 
+                Boolean.TRUE.equals(axiomIndexEnabled) ? 
+                        OWLEntityAxiomIndex.build(ontology) : null;
+
+        // Share a single instance of each IRI across the parsed 
+        // components and the property graph modelled from them
+        IRIDictionary iriDictionary = new IRIDictionary();
+
+        // Parse the entity categories, and chunks of the classes, 
+        // concurrently on the bounded parsing pool
+        SimpleOntology simpleOntology = null;
+        if (forkJoinPool != null) {
+            simpleOntology = OWLAPI.parseOntology(
+                    ontologyMessage.getOntologyId(),
+                    ontologyMessage.getGitWebhookId(), 
+                    ontology, axiomIndex, iriDictionary, forkJoinPool, 
+                    parallelClassChunkSize);
+        }
 
-        // Load the OWL ontology
-        OWLOntology ontology = OWLAPI.loadOntology(new File(downloadedFileUri));
-
-        // Get all annotation properties
-        Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap =
-                OWLAPI.parseAnnotationProperties(ontology);
-
-        // Get all object properties
-        Map<String, SimpleObjectProperty> simpleObjectPropertyMap =
-                OWLAPI.parseObjectProperties(ontology);
-
-        // Get all classes
-        Map<String, SimpleClass> simpleClassMap = 
-                OWLAPI.parseClasses(ontology);
-        
-        // Get all named individuals
-        Map<String, SimpleNamedIndividual> simpleNamedIndividualMap = 
-                OWLAPI.parseNamedIndividuals(ontology);
-
-        // Create a Simple Ontology object as a container for the
-        // parsed ontological components
-        simpleOntology = new SimpleOntology(ontologyMessage.getOntologyId(),
-                ontologyMessage.getGitWebhookId(),
-                simpleAnnotationPropertyMap, 
-                simpleObjectPropertyMap,
-                simpleClassMap, 
-                simpleNamedIndividualMap);
+        else {
+
+            // Get all annotation properties
+            Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap =
+                    OWLAPI.parseAnnotationProperties(
+                            ontology, axiomIndex, iriDictionary);
+
+            // Get all object properties
+            Map<String, SimpleObjectProperty> simpleObjectPropertyMap =
+                    OWLAPI.parseObjectProperties(
+                            ontology, axiomIndex, iriDictionary);
+
+            // Get all classes
+            Map<String, SimpleClass> simpleClassMap = 
+                    OWLAPI.parseClasses(
+                            ontology, axiomIndex, iriDictionary);
+            
+            // Get all named individuals
+            Map<String, SimpleNamedIndividual> simpleNamedIndividualMap = 
+                    OWLAPI.parseNamedIndividuals(
+                            ontology, axiomIndex, iriDictionary);
+
+            // Create a Simple Ontology object as a container for the
+            // parsed ontological components
+            simpleOntology = new SimpleOntology(
+                    ontologyMessage.getOntologyId(),
+                    ontologyMessage.getGitWebhookId(),
+                    simpleAnnotationPropertyMap, 
+                    simpleObjectPropertyMap,
+                    simpleClassMap, 
+                    simpleNamedIndividualMap);
+            simpleOntology.setIriDictionary(iriDictionary);
+
+        }
 
         // Count the number of relationships for debugging purposes
         int relationshipCount = 0;
@@ -234,72 +517,114 @@ public class OntologyParserService {
                 relationshipCount);
         LOGGER.info("Ontology Parsing Service - "
                 + "Finished parsing the validated resource.");
+        return simpleOntology;
 
     }
 
     /**
-     * Persist the parsed ontology components
+     * Persist the parsed ontology components and their statistics
      * 
+     * @param context
+     * @param simpleOntology
+     * @param statistics
+     * @return the path to the serialized artifact in local storage, 
+     *         which is to be deleted by the caller
      * @throws IOException
      */
 
-    private void persist() throws IOException {
+    private String persist(OntologyPipelineStageContext context, 
+            SimpleOntology simpleOntology, 
+            SimpleOntologyStatistics statistics) throws IOException {
 
         LOGGER.info("Ontology Parsing Service - "
                 + "Started the persistence of the parsed resource.");
 
         // Serialize the Simple Ontology object to a temporary file in
-        // the local file system
-        String jsonFilename = ontologyMessage.getJsonProcessedFilename();
-        Path temporaryFile = Files.createTempFile("", jsonFilename);
-        File file = new File(temporaryFile.toAbsolutePath().toString());
-        ObjectMapper mapper =
-                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
-        mapper.writeValue(file, simpleOntology);
-
-        // Upload the serialized JSON file to persistent object storage
-        String targetFilepath = writeDirectoryUri + "/"
-                + ontologyMessage.getJsonProcessedFilename();
-        objectStorageService.uploadObject(
-                temporaryFile.toAbsolutePath().toString(), targetFilepath);
+        // the local file system in the configured artifact format
+        String artifactFilename = artifactSerializationService
+                .getArtifactFilename(context.getOntologyMessage()
+                        .getProcessedFilename());
+        Path temporaryFile = Files.createTempFile("", artifactFilename);
+        String targetFilepath = writeDirectoryUri + "/" + artifactFilename;
+        try {
+            File file = new File(temporaryFile.toAbsolutePath().toString());
+            artifactSerializationService.write(simpleOntology, file);
+
+            // Upload the serialized artifact to persistent object storage
+            objectStorageService.uploadObject(
+                    temporaryFile.toAbsolutePath().toString(), 
+                    targetFilepath);
+        } catch (IOException | RuntimeException e) {
+            deleteTemporaryFile(temporaryFile);
+            throw e;
+        }
 
         LOGGER.debug(
                 "Successfully persisted parsed ontology " + "resource to '{}'.",
                 targetFilepath);
+
+        // Persist the statistics alongside the artifact as plain JSON 
+        // so that they may be served as-is
+        String statisticsFilename = SimpleOntologyStatistics.getFilename(
+                context.getOntologyMessage().getProcessedFilename());
+        Path statisticsFile = null;
+        try {
+            statisticsFile = Files.createTempFile("", statisticsFilename);
+            new ObjectMapper().writeValue(statisticsFile.toFile(), statistics);
+            objectStorageService.uploadObject(
+                    statisticsFile.toAbsolutePath().toString(), 
+                    writeDirectoryUri + "/" + statisticsFilename);
+        } catch (IOException | RuntimeException e) {
+            deleteTemporaryFile(temporaryFile);
+            throw e;
+        } finally {
+            deleteTemporaryFile(statisticsFile);
+        }
+        LOGGER.debug("Parsed ontology statistics: '{}'.", statistics);
         LOGGER.info("Ontology Parsing Service - "
                 + "Finished the persistence of the parsed resource.");
+        return temporaryFile.toAbsolutePath().toString();
+
+    }
 
+    /**
+     * Delete a temporary file in local storage, logging any failure
+     * 
+     * @param temporaryFile the file, or null if none was created
+     */
+
+    private void deleteTemporaryFile(Path temporaryFile) {
+        if (temporaryFile == null)
+            return;
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the temporary file '{}'.", 
+                    temporaryFile, e);
+        }
     }
 
     /**
      * Publish a message to the shared messaging system
      * 
+     * @param context
      * @throws JsonProcessingException
      */
 
-    private void publish() throws JsonProcessingException {
+    private void publish(OntologyPipelineStageContext context) 
+            throws JsonProcessingException {
 
         LOGGER.info(
                 "Ontology Parsing Service - " + "Started publishing message.");
         ObjectMapper mapper = new ObjectMapper();
         dataPipelineParserSource.parsedPublicationChannel()
                 .send(MessageBuilder
-                        .withPayload(mapper.writeValueAsString(ontologyMessage))
+                        .withPayload(mapper.writeValueAsString(
+                                context.getOntologyMessage()))
                         .build());
         LOGGER.info(
                 "Ontology Parsing Service - " + "Finished publishing message.");
 
     }
 
-    /**
-     * Cleanup any open resources
-     */
-
-    private void cleanup() throws IOException {
-
-        // Close any storage service clients
-        objectStorageService.cleanup();
-
-    }
-
 }
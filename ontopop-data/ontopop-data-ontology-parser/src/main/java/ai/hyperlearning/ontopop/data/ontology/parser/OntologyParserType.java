@@ -0,0 +1,41 @@
+package ai.hyperlearning.ontopop.data.ontology.parser;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Supported Ontology Parsers
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum OntologyParserType {
+
+    OWLAPI("OWLAPI"),
+    STREAM("STREAM");
+
+    private final String label;
+    private static final Map<String, OntologyParserType> LABEL_MAP =
+            new HashMap<>();
+
+    static {
+        for (OntologyParserType f : values()) {
+            LABEL_MAP.put(f.label, f);
+        }
+    }
+
+    private OntologyParserType(final String label) {
+        this.label = label;
+    }
+
+    public static OntologyParserType valueOfLabel(String label) {
+        return LABEL_MAP.get(label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
@@ -0,0 +1,367 @@
+package ai.hyperlearning.ontopop.data.ontology.pipeline;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import ai.hyperlearning.ontopop.data.jpa.repositories.GitWebhookRepository;
+import ai.hyperlearning.ontopop.data.ontology.loader.triplestore.OntologyTriplestoreLoaderService;
+import ai.hyperlearning.ontopop.exceptions.git.GitWebhookNotFoundException;
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
+import ai.hyperlearning.ontopop.model.git.GitWebhook;
+import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+
+/**
+ * Ontology Pipeline Keyed Executor - runs the pipeline for different
+ * ontologies in parallel whilst running the revisions of the same ontology
+ * one at a time in Git webhook ID order. Queued revisions that are
+ * superseded by a newer revision of the same ontology are coalesced.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Service
+public class OntologyPipelineExecutor {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(OntologyPipelineExecutor.class);
+
+    @Autowired
+    private OntologyPipelineService ontologyPipelineService;
+
+    @Autowired
+    private OntologyTriplestoreLoaderService ontologyTriplestoreLoaderService;
+
+    @Autowired
+    private GitWebhookRepository gitWebhookRepository;
+
+    @Value("${pipeline.executor.concurrency:4}")
+    private Integer concurrency;
+
+    @Value("${pipeline.executor.queueCapacity:256}")
+    private Integer queueCapacity;
+
+    @Value("${pipeline.executor.queueCapacityPerOntology:16}")
+    private Integer queueCapacityPerOntology;
+
+    @Value("${pipeline.executor.coalescing.enabled:true}")
+    private Boolean coalescingEnabled;
+
+    @Value("${pipeline.executor.coalescing.windowMillis:0}")
+    private Long coalescingWindowMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+
+    // Queued messages keyed by ontology ID and ordered by Git webhook ID
+    private final Map<Integer, PriorityQueue<QueuedOntologyMessage>> queues =
+            new HashMap<>();
+
+    // Git webhook ID of the latest revision started for each ontology
+    private final Map<Integer, Long> latestGitWebhookIds = new HashMap<>();
+
+    private int queuedMessageCount = 0;
+    private ScheduledExecutorService executorService;
+
+    @PostConstruct
+    private void postConstruct() {
+        executorService = Executors.newScheduledThreadPool(concurrency);
+        LOGGER.debug("Running up to {} ontology pipelines concurrently.",
+                concurrency);
+    }
+
+    @PreDestroy
+    private void preDestroy() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Queue an ontology message for processing, blocking the caller while
+     * either the global queue or the queue of the given ontology is full.
+     * If coalescing is enabled then any queued revisions of the same 
+     * ontology that are older than the given revision are superseded, and
+     * the given revision is itself superseded if a newer one is queued.
+     *
+     * @param ontologyMessage
+     * @return a future that completes once the message has been processed
+     * @throws InterruptedException
+     * @throws RejectedExecutionException if the executor has been shut down
+     */
+
+    public CompletableFuture<Void> submit(OntologyMessage ontologyMessage)
+            throws InterruptedException {
+
+        int ontologyId = ontologyMessage.getOntologyId();
+        QueuedOntologyMessage queuedOntologyMessage = 
+                new QueuedOntologyMessage(ontologyMessage);
+        List<QueuedOntologyMessage> supersededOntologyMessages = 
+                new ArrayList<>();
+        lock.lockInterruptibly();
+        try {
+
+            // Apply backpressure to the message consumer
+            while (queuedMessageCount >= queueCapacity
+                    || (queues.containsKey(ontologyId) && queues.get(ontologyId)
+                            .size() >= queueCapacityPerOntology))
+                notFull.await();
+            if (executorService.isShutdown())
+                throw new RejectedExecutionException(
+                        "The ontology pipeline executor has been shut down.");
+
+            // Coalesce the queued revisions of this ontology, removing the
+            // superseded revisions before any other revision of this 
+            // ontology is accepted
+            PriorityQueue<QueuedOntologyMessage> queue = 
+                    queues.get(ontologyId);
+            if (Boolean.TRUE.equals(coalescingEnabled) && queue != null 
+                    && !queue.isEmpty()) {
+                queue.add(queuedOntologyMessage);
+                queuedMessageCount++;
+                supersededOntologyMessages = coalesce(queue);
+            }
+
+            // Otherwise queue the message and schedule the ontology if it 
+            // is not already queued or running, allowing a burst of 
+            // revisions to arrive within the coalescing window
+            else {
+                boolean idle = queue == null;
+                if (idle) {
+                    queue = new PriorityQueue<>(Comparator.comparingLong(
+                            q -> q.ontologyMessage.getGitWebhookId()));
+                    queues.put(ontologyId, queue);
+                }
+                queue.add(queuedOntologyMessage);
+                queuedMessageCount++;
+                if (idle)
+                    executorService.schedule(() -> runNext(ontologyId),
+                            Boolean.TRUE.equals(coalescingEnabled) ? 
+                                    coalescingWindowMillis : 0,
+                            TimeUnit.MILLISECONDS);
+            }
+
+        } finally {
+            lock.unlock();
+        }
+
+        // Record the superseded revisions outside of the lock so that 
+        // their I/O does not hold up submissions for other ontologies
+        for (QueuedOntologyMessage supersededOntologyMessage : 
+            supersededOntologyMessages)
+            supersede(supersededOntologyMessage);
+        return queuedOntologyMessage.completion;
+
+    }
+
+    /**
+     * Resume the pipeline for the given ontology revision from its first
+     * incomplete stage, for example after a transient downstream failure
+     *
+     * @param ontologyId
+     * @param gitWebhookId
+     * @return a future that completes once the revision has been processed
+     * @throws InterruptedException
+     */
+
+    public CompletableFuture<Void> resume(int ontologyId, long gitWebhookId)
+            throws InterruptedException {
+
+        // Recreate the ontology message published by the ingestion service
+        GitWebhook gitWebhook = gitWebhookRepository
+                .findByOntologyIdAndGitWebhookId(ontologyId, gitWebhookId)
+                .orElseThrow(GitWebhookNotFoundException::new);
+        OntologyMessage ontologyMessage = new OntologyMessage();
+        ontologyMessage.setOntologyId(ontologyId);
+        ontologyMessage.setGitWebhookId(gitWebhookId);
+        ontologyMessage.setProcessedFilename(gitWebhook.getOntology()
+                .generateFilenameForPersistence(gitWebhookId));
+        List<GitWebhook> previousGitWebhooks = gitWebhookRepository
+                .findPreviousByOntologyIdAndGitWebhookId(
+                        ontologyId, gitWebhookId);
+        if (!previousGitWebhooks.isEmpty())
+            ontologyMessage.setPreviousProcessedFilename(
+                    gitWebhook.getOntology().generateFilenameForPersistence(
+                            previousGitWebhooks.get(0)
+                                .resolveArtifactsGitWebhookId()));
+
+        LOGGER.info("Resuming Git webhook {} of ontology {}.", 
+                gitWebhookId, ontologyId);
+        return submit(ontologyMessage);
+
+    }
+
+    /**
+     * Remove all but the newest revision from the given queue. The newest
+     * revision inherits the previous revision of the oldest one so that
+     * delta loading compares it against the last revision actually applied.
+     * Must be called whilst holding the lock.
+     *
+     * @param queue
+     * @return the superseded revisions
+     */
+
+    private List<QueuedOntologyMessage> coalesce(
+            PriorityQueue<QueuedOntologyMessage> queue) {
+
+        List<QueuedOntologyMessage> supersededOntologyMessages = 
+                new ArrayList<>();
+        int originalSize = queue.size();
+        String previousProcessedFilename = 
+                queue.peek().ontologyMessage.getPreviousProcessedFilename();
+        while (queue.size() > 1) {
+            QueuedOntologyMessage queuedOntologyMessage = queue.poll();
+            QueuedOntologyMessage newestOntologyMessage = queue.peek();
+
+            // Duplicate deliveries of the newest revision 
+            // complete along with it
+            if (queuedOntologyMessage.ontologyMessage.getGitWebhookId() 
+                    == newestOntologyMessage.ontologyMessage.getGitWebhookId())
+                newestOntologyMessage.completion.thenRun(() -> 
+                    queuedOntologyMessage.completion.complete(null));
+            else
+                supersededOntologyMessages.add(queuedOntologyMessage);
+        }
+        queue.peek().ontologyMessage.setPreviousProcessedFilename(
+                previousProcessedFilename);
+        queuedMessageCount = queuedMessageCount - originalSize + 1;
+        notFull.signalAll();
+        return supersededOntologyMessages;
+
+    }
+
+    /**
+     * Skip a superseded revision, marking its Git webhook as superseded and
+     * keeping its ingested ontology available for diffing. The revision has
+     * already been removed from its queue, so this must be called without
+     * holding the lock.
+     *
+     * @param queuedOntologyMessage
+     */
+
+    private void supersede(QueuedOntologyMessage queuedOntologyMessage) {
+
+        OntologyMessage ontologyMessage = queuedOntologyMessage.ontologyMessage;
+        LOGGER.info("Skipping Git webhook {} of ontology {} as it has been "
+                + "superseded by a newer revision.",
+                ontologyMessage.getGitWebhookId(),
+                ontologyMessage.getOntologyId());
+        try {
+            gitWebhookRepository.findById(ontologyMessage.getGitWebhookId())
+                .ifPresent(gitWebhook -> {
+                    gitWebhook.setSuperseded(true);
+                    gitWebhookRepository.save(gitWebhook);
+                });
+            ontologyTriplestoreLoaderService.copyIngested(ontologyMessage);
+        } catch (RuntimeException e) {
+            LOGGER.error("Could not record superseded Git webhook {}.",
+                    ontologyMessage.getGitWebhookId(), e);
+        } finally {
+            queuedOntologyMessage.completion.complete(null);
+        }
+
+    }
+
+    /**
+     * Run the pipeline for the oldest queued revision of the given ontology
+     * and then reschedule the ontology if further revisions are queued, so
+     * that the executor threads are shared fairly between ontologies
+     *
+     * @param ontologyId
+     */
+
+    private void runNext(int ontologyId) {
+
+        // Take the oldest queued revision of this ontology
+        QueuedOntologyMessage queuedOntologyMessage;
+        OntologyMessage ontologyMessage;
+        boolean stale;
+        lock.lock();
+        try {
+            queuedOntologyMessage = queues.get(ontologyId).poll();
+            ontologyMessage = queuedOntologyMessage.ontologyMessage;
+            queuedMessageCount--;
+            notFull.signalAll();
+            Long latestGitWebhookId = latestGitWebhookIds.get(ontologyId);
+            stale = latestGitWebhookId != null
+                    && latestGitWebhookId > ontologyMessage.getGitWebhookId();
+            if (!stale)
+                latestGitWebhookIds.put(ontologyId,
+                        ontologyMessage.getGitWebhookId());
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+
+            // Revisions older than one that has already been started would
+            // overwrite the newer version in the graph and search index,
+            // whereas the same revision may be resubmitted to resume it
+            if (stale)
+                supersede(queuedOntologyMessage);
+            else
+                ontologyPipelineService.run(ontologyMessage);
+
+        } catch (OntologyDataPipelineException e) {
+            LOGGER.error("The Ontology Data Pipeline encountered an error.", e);
+        } catch (InterruptedException e) {
+            LOGGER.error("Ontology Post-Ingestion End-to-End ETL Pipeline "
+                    + "was interrupted.", e);
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            LOGGER.error("The Ontology Data Pipeline encountered an "
+                    + "unexpected error.", e);
+        } finally {
+
+            // Reschedule this ontology or release it
+            queuedOntologyMessage.completion.complete(null);
+            lock.lock();
+            try {
+                if (queues.get(ontologyId).isEmpty())
+                    queues.remove(ontologyId);
+                else if (!executorService.isShutdown())
+                    executorService.execute(() -> runNext(ontologyId));
+            } finally {
+                lock.unlock();
+            }
+
+        }
+
+    }
+
+    /**
+     * Ontology message awaiting processing together with the future
+     * that is completed once it has been processed
+     */
+
+    private static class QueuedOntologyMessage {
+
+        private final OntologyMessage ontologyMessage;
+        private final CompletableFuture<Void> completion =
+                new CompletableFuture<>();
+
+        private QueuedOntologyMessage(OntologyMessage ontologyMessage) {
+            this.ontologyMessage = ontologyMessage;
+        }
+
+    }
+
+}
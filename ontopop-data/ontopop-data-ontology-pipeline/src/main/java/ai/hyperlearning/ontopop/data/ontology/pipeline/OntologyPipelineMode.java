@@ -0,0 +1,41 @@
+package ai.hyperlearning.ontopop.data.ontology.pipeline;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Supported Ontology Pipeline Execution Modes
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum OntologyPipelineMode {
+
+    SEQUENTIAL("SEQUENTIAL"),
+    DAG("DAG");
+
+    private final String label;
+    private static final Map<String, OntologyPipelineMode> LABEL_MAP =
+            new HashMap<>();
+
+    static {
+        for (OntologyPipelineMode f : values()) {
+            LABEL_MAP.put(f.label, f);
+        }
+    }
+
+    private OntologyPipelineMode(final String label) {
+        this.label = label;
+    }
+
+    public static OntologyPipelineMode valueOfLabel(String label) {
+        return LABEL_MAP.get(label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
@@ -0,0 +1,501 @@
+package ai.hyperlearning.ontopop.data.ontology.pipeline;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import ai.hyperlearning.ontopop.data.jpa.repositories.GitWebhookRepository;
+import ai.hyperlearning.ontopop.data.jpa.repositories.OntologyPipelineCheckpointRepository;
+import ai.hyperlearning.ontopop.data.ontology.indexer.graph.OntologyGraphIndexerService;
+import ai.hyperlearning.ontopop.data.ontology.loader.graph.OntologyGraphLoaderService;
+import ai.hyperlearning.ontopop.data.ontology.loader.triplestore.OntologyTriplestoreLoaderService;
+import ai.hyperlearning.ontopop.data.ontology.modeller.graph.OntologyGraphModellerService;
+import ai.hyperlearning.ontopop.data.ontology.parser.OntologyParserService;
+import ai.hyperlearning.ontopop.data.ontology.validator.OntologyValidatorService;
+import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyEdge;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyPropertyGraph;
+import ai.hyperlearning.ontopop.model.graph.SimpleOntologyVertex;
+import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineCheckpoint;
+import ai.hyperlearning.ontopop.model.owl.SimpleOntology;
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
+
+/**
+ * Ontology Post-Ingestion End-to-End ETL Pipeline Service
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Service
+public class OntologyPipelineService {
+
+    private static final Logger LOGGER =
+            LoggerFactory.getLogger(OntologyPipelineService.class);
+
+    @Autowired
+    private OntologyValidatorService ontologyValidatorService;
+
+    @Autowired
+    private OntologyTriplestoreLoaderService ontologyTriplestoreLoaderService;
+
+    @Autowired
+    private OntologyParserService ontologyParserService;
+
+    @Autowired
+    private OntologyGraphModellerService ontologyGraphModellerService;
+
+    @Autowired
+    private OntologyGraphLoaderService ontologyGraphLoaderService;
+
+    @Autowired
+    private OntologyGraphIndexerService ontologyGraphIndexerService;
+
+    @Autowired
+    private OntologyPipelineCheckpointRepository 
+        ontologyPipelineCheckpointRepository;
+
+    @Autowired
+    private GitWebhookRepository gitWebhookRepository;
+
+    @Value("${pipeline.mode:dag}")
+    private String pipelineMode;
+
+    @Value("${pipeline.sequential.stageIntervalWaitSeconds:5}")
+    private Integer stageIntervalWaitSeconds;
+
+    @Value("${pipeline.dag.threads:4}")
+    private Integer dagThreads;
+
+    @Value("${pipeline.checkpoints.enabled:true}")
+    private Boolean checkpointsEnabled;
+
+    private OntologyPipelineMode ontologyPipelineMode;
+    private ExecutorService executorService;
+
+    @PostConstruct
+    private void postConstruct() {
+
+        // Select the pipeline execution mode
+        ontologyPipelineMode = OntologyPipelineMode
+                .valueOfLabel(pipelineMode.toUpperCase());
+        LOGGER.debug("Using the {} ontology pipeline mode.",
+                ontologyPipelineMode);
+
+        // Instantiate the executor used to run independent DAG stages
+        if (ontologyPipelineMode.equals(OntologyPipelineMode.DAG))
+            executorService = Executors.newFixedThreadPool(dagThreads);
+
+    }
+
+    @PreDestroy
+    private void preDestroy() {
+        if (executorService != null)
+            executorService.shutdownNow();
+    }
+
+    /**
+     * Run the Ontology Pipeline end-to-end using the configured
+     * execution mode, resuming from the first incomplete stage if the
+     * given ontology revision has previously been partially processed
+     *
+     * @param ontologyMessage
+     * @throws OntologyDataPipelineException
+     * @throws InterruptedException
+     */
+
+    public void run(OntologyMessage ontologyMessage)
+            throws OntologyDataPipelineException, InterruptedException {
+
+        // Resume from the first incomplete stage
+        Set<OntologyPipelineStage> completedStages = 
+                getCompletedStages(ontologyMessage);
+        if (!completedStages.isEmpty())
+            LOGGER.info("Resuming the pipeline for Git webhook {} of "
+                    + "ontology {}. Completed stages: {}", 
+                    ontologyMessage.getGitWebhookId(), 
+                    ontologyMessage.getOntologyId(), completedStages);
+
+        // Only semantically valid ontologies are checkpointed 
+        // by the validation stage
+        if (completedStages.contains(OntologyPipelineStage.VALIDATOR))
+            ontologyMessage.setSemanticallyValid(true);
+
+        switch (ontologyPipelineMode) {
+
+            case SEQUENTIAL:
+                runSequential(ontologyMessage, completedStages);
+                break;
+
+            default:
+                runDag(ontologyMessage, completedStages);
+
+        }
+
+        // Record that the semantically valid revision has been processed
+        // in full, so that unchanged subsequent revisions may reuse its 
+        // artifacts
+        if (ontologyMessage.isSemanticallyValid())
+            recordCompletion(ontologyMessage);
+
+    }
+
+    /**
+     * Run each stage one after another, where each stage downloads its
+     * input from and persists its output to object storage
+     *
+     * @param ontologyMessage
+     * @param completedStages
+     * @throws OntologyDataPipelineException
+     * @throws InterruptedException
+     */
+
+    private void runSequential(OntologyMessage ontologyMessage, 
+            Set<OntologyPipelineStage> completedStages)
+            throws OntologyDataPipelineException, InterruptedException {
+
+        // Run the Ontology Validation Service
+        if (!completedStages.contains(OntologyPipelineStage.VALIDATOR)) {
+            ontologyValidatorService.run(ontologyMessage);
+            if (ontologyMessage.isSemanticallyValid())
+                checkpoint(ontologyMessage, OntologyPipelineStage.VALIDATOR, 
+                        ontologyValidatorService
+                            .generateArtifactUri(ontologyMessage));
+            TimeUnit.SECONDS.sleep(stageIntervalWaitSeconds);
+        }
+
+        // Run the Ontology Triplestore Loader Service
+        if (!completedStages.contains(
+                OntologyPipelineStage.LOADER_TRIPLESTORE)) {
+            ontologyTriplestoreLoaderService.run(ontologyMessage);
+            checkpoint(ontologyMessage, 
+                    OntologyPipelineStage.LOADER_TRIPLESTORE, 
+                    ontologyTriplestoreLoaderService
+                        .generateArtifactUri(ontologyMessage));
+            TimeUnit.SECONDS.sleep(stageIntervalWaitSeconds);
+        }
+
+        // Run the Ontology Parser Service
+        if (!completedStages.contains(OntologyPipelineStage.PARSER)) {
+            ontologyParserService.run(ontologyMessage);
+            checkpoint(ontologyMessage, OntologyPipelineStage.PARSER, 
+                    ontologyParserService
+                        .generateArtifactUri(ontologyMessage));
+            TimeUnit.SECONDS.sleep(stageIntervalWaitSeconds);
+        }
+
+        // Run the Ontology Graph Modeller Service
+        if (!completedStages.contains(OntologyPipelineStage.MODELLER_GRAPH)) {
+            ontologyGraphModellerService.run(ontologyMessage);
+            checkpoint(ontologyMessage, OntologyPipelineStage.MODELLER_GRAPH, 
+                    ontologyGraphModellerService
+                        .generateArtifactUri(ontologyMessage));
+            TimeUnit.SECONDS.sleep(stageIntervalWaitSeconds);
+        }
+
+        // Run the Ontology Graph Loader Service
+        if (!completedStages.contains(OntologyPipelineStage.LOADER_GRAPH)) {
+            ontologyGraphLoaderService.run(ontologyMessage);
+            checkpoint(ontologyMessage, OntologyPipelineStage.LOADER_GRAPH, 
+                    ontologyGraphLoaderService
+                        .generateArtifactUri(ontologyMessage));
+            TimeUnit.SECONDS.sleep(stageIntervalWaitSeconds);
+        }
+
+        // Run the Ontology Graph Indexer Service
+        if (!completedStages.contains(OntologyPipelineStage.INDEXER_GRAPH)) {
+            ontologyGraphIndexerService.run(ontologyMessage);
+            checkpoint(ontologyMessage, OntologyPipelineStage.INDEXER_GRAPH, 
+                    ontologyGraphIndexerService
+                        .generateArtifactUri(ontologyMessage));
+        }
+
+    }
+
+    /**
+     * Run the stages as a DAG where the loaded ontology, the parsed
+     * ontology and the modelled property graph are handed between stages
+     * in memory. The triplestore loader runs alongside the parser and
+     * modeller, and the graph loader runs alongside the graph indexer.
+     * Stages downstream of a completed stage download its output from
+     * object storage instead.
+     *
+     * @param ontologyMessage
+     * @param completedStages
+     * @throws OntologyDataPipelineException
+     * @throws InterruptedException
+     */
+
+    private void runDag(OntologyMessage ontologyMessage, 
+            Set<OntologyPipelineStage> completedStages)
+            throws OntologyDataPipelineException, InterruptedException {
+
+        // 1. Validate the ingested ontology and retain the loaded ontology
+        OWLOntology ontology = null;
+        if (!completedStages.contains(OntologyPipelineStage.VALIDATOR)) {
+            ontology = ontologyValidatorService.runInMemory(ontologyMessage);
+            if (ontology == null) {
+                LOGGER.info("The ingested ontology is NOT semantically valid. "
+                        + "Skipping the downstream pipeline stages.");
+                return;
+            }
+            checkpoint(ontologyMessage, OntologyPipelineStage.VALIDATOR, 
+                    ontologyValidatorService
+                        .generateArtifactUri(ontologyMessage));
+        }
+
+        // The stream parser reads the validated resource itself, so the 
+        // validated ontology is returned to the pool straight away rather 
+        // than being held in memory alongside the parsed ontology
+        boolean streamed = ontologyParserService.isStreamed(
+                ontologyMessage.getOntologyId());
+        if (streamed)
+            OWLOntologyManagerPool.release(ontology);
+        OWLOntology validatedOntology = streamed ? null : ontology;
+
+        // 2. Load the validated ontology into the triplestore
+        OntologyMessage triplestoreMessage = 
+                new OntologyMessage(ontologyMessage);
+        CompletableFuture<Void> triplestoreLoaded = runStageAsync(
+                triplestoreMessage, completedStages, 
+                OntologyPipelineStage.LOADER_TRIPLESTORE, 
+                () -> ontologyTriplestoreLoaderService
+                        .run(triplestoreMessage), 
+                () -> ontologyTriplestoreLoaderService
+                        .generateArtifactUri(triplestoreMessage));
+
+        // 3. Parse the loaded ontology. The parser task is never cancelled, 
+        // as it is the only reader of the validated ontology and returns 
+        // its manager to the pool itself once it has finished with it.
+        AtomicBoolean interrupted = new AtomicBoolean();
+        OntologyMessage parserMessage = new OntologyMessage(ontologyMessage);
+        CompletableFuture<SimpleOntology> parsed;
+        try {
+            parsed = CompletableFuture.supplyAsync(() -> {
+                try {
+                    if (interrupted.get() || completedStages.contains(
+                            OntologyPipelineStage.PARSER))
+                        return null;
+                    SimpleOntology simpleOntology = ontologyParserService
+                            .runInMemory(parserMessage, validatedOntology);
+                    checkpoint(parserMessage, OntologyPipelineStage.PARSER, 
+                            ontologyParserService
+                                .generateArtifactUri(parserMessage));
+                    return simpleOntology;
+                } finally {
+                    OWLOntologyManagerPool.release(validatedOntology);
+                }
+            }, executorService);
+        } catch (RejectedExecutionException e) {
+            OWLOntologyManagerPool.release(validatedOntology);
+            throw e;
+        }
+
+        // 4. Model the parsed ontology as a property graph
+        OntologyMessage modellerMessage = new OntologyMessage(ontologyMessage);
+        CompletableFuture<SimpleOntologyPropertyGraph> modelled = parsed
+                .thenApplyAsync(simpleOntology -> {
+                    if (completedStages.contains(
+                            OntologyPipelineStage.MODELLER_GRAPH))
+                        return null;
+                    SimpleOntologyPropertyGraph simpleOntologyPropertyGraph = 
+                            ontologyGraphModellerService.runInMemory(
+                                    modellerMessage, simpleOntology);
+                    checkpoint(modellerMessage, 
+                            OntologyPipelineStage.MODELLER_GRAPH, 
+                            ontologyGraphModellerService
+                                .generateArtifactUri(modellerMessage));
+                    return simpleOntologyPropertyGraph;
+                }, executorService);
+
+        // 5. Load and index the modelled property graph
+        OntologyMessage graphLoaderMessage = 
+                new OntologyMessage(ontologyMessage);
+        OntologyMessage graphIndexerMessage = 
+                new OntologyMessage(ontologyMessage);
+        CompletableFuture<Void> graphLoadedAndIndexed = modelled
+                .thenCompose(simpleOntologyPropertyGraph -> {
+                    if (simpleOntologyPropertyGraph != null)
+                        preparePropertiesForLoading(
+                                simpleOntologyPropertyGraph);
+                    return CompletableFuture.allOf(
+                            runStageAsync(graphLoaderMessage, completedStages, 
+                                    OntologyPipelineStage.LOADER_GRAPH, 
+                                    () -> ontologyGraphLoaderService
+                                        .runInMemory(graphLoaderMessage,
+                                                simpleOntologyPropertyGraph), 
+                                    () -> ontologyGraphLoaderService
+                                        .generateArtifactUri(
+                                                graphLoaderMessage)),
+                            runStageAsync(graphIndexerMessage, completedStages, 
+                                    OntologyPipelineStage.INDEXER_GRAPH, 
+                                    () -> ontologyGraphIndexerService
+                                        .runInMemory(graphIndexerMessage,
+                                                simpleOntologyPropertyGraph), 
+                                    () -> ontologyGraphIndexerService
+                                        .generateArtifactUri(
+                                                graphIndexerMessage)));
+                });
+
+        // 6. Wait for all branches of the DAG to complete
+        try {
+            CompletableFuture.allOf(triplestoreLoaded, graphLoadedAndIndexed)
+                    .get();
+        } catch (InterruptedException e) {
+
+            // Stop any stages that have not yet started. The parser task 
+            // is left to settle, skipping the parse if it has not yet 
+            // started, so that the validated ontology is only released 
+            // once nothing is reading it.
+            interrupted.set(true);
+            triplestoreLoaded.cancel(false);
+            modelled.cancel(false);
+            graphLoadedAndIndexed.cancel(false);
+            throw e;
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            while (cause instanceof CompletionException
+                    && cause.getCause() != null)
+                cause = cause.getCause();
+            if (cause instanceof OntologyDataPipelineException)
+                throw (OntologyDataPipelineException) cause;
+            LOGGER.error("Ontology Pipeline DAG encountered an error.", cause);
+            throw new OntologyDataPipelineException();
+        }
+
+    }
+
+    /**
+     * Run the given stage asynchronously and record its checkpoint, 
+     * unless it has already been completed
+     *
+     * @param ontologyMessage
+     * @param completedStages
+     * @param stage
+     * @param runnable
+     * @param artifactUriSupplier
+     * @return
+     */
+
+    private CompletableFuture<Void> runStageAsync(
+            OntologyMessage ontologyMessage, 
+            Set<OntologyPipelineStage> completedStages, 
+            OntologyPipelineStage stage, Runnable runnable, 
+            Supplier<String> artifactUriSupplier) {
+        if (completedStages.contains(stage))
+            return CompletableFuture.completedFuture(null);
+        return CompletableFuture.runAsync(() -> {
+            runnable.run();
+            checkpoint(ontologyMessage, stage, artifactUriSupplier.get());
+        }, executorService);
+    }
+
+    /**
+     * Get the stages that have already been completed for the given
+     * ontology revision
+     *
+     * @param ontologyMessage
+     * @return
+     */
+
+    private Set<OntologyPipelineStage> getCompletedStages(
+            OntologyMessage ontologyMessage) {
+        Set<OntologyPipelineStage> completedStages = 
+                EnumSet.noneOf(OntologyPipelineStage.class);
+        if (Boolean.TRUE.equals(checkpointsEnabled)) {
+            for (OntologyPipelineCheckpoint checkpoint : 
+                ontologyPipelineCheckpointRepository
+                    .findByOntologyIdAndGitWebhookId(
+                            ontologyMessage.getOntologyId(), 
+                            ontologyMessage.getGitWebhookId())) {
+                OntologyPipelineStage stage = OntologyPipelineStage
+                        .valueOfLabel(checkpoint.getStage());
+                if (stage != null)
+                    completedStages.add(stage);
+            }
+        }
+        return completedStages;
+    }
+
+    /**
+     * Record the completion of the given stage for the given 
+     * ontology revision
+     *
+     * @param ontologyMessage
+     * @param stage
+     * @param artifactUri
+     */
+
+    private void checkpoint(OntologyMessage ontologyMessage, 
+            OntologyPipelineStage stage, String artifactUri) {
+        if (Boolean.TRUE.equals(checkpointsEnabled)) {
+            ontologyPipelineCheckpointRepository.save(
+                    new OntologyPipelineCheckpoint(
+                            ontologyMessage.getOntologyId(), 
+                            ontologyMessage.getGitWebhookId(), 
+                            stage.toString(), artifactUri));
+            LOGGER.debug("Recorded the {} checkpoint for Git webhook {} "
+                    + "of ontology {}.", stage, 
+                    ontologyMessage.getGitWebhookId(), 
+                    ontologyMessage.getOntologyId());
+        }
+    }
+
+    /**
+     * Record on the Git webhook of the given ontology revision that the 
+     * pipeline has run to completion for it, whether or not checkpoints 
+     * are enabled
+     *
+     * @param ontologyMessage
+     */
+
+    private void recordCompletion(OntologyMessage ontologyMessage) {
+        gitWebhookRepository.findById(ontologyMessage.getGitWebhookId())
+            .ifPresent(gitWebhook -> {
+                gitWebhook.setPipelineComplete(true);
+                gitWebhookRepository.save(gitWebhook);
+            });
+        LOGGER.debug("Recorded the completion of the pipeline for Git "
+                + "webhook {} of ontology {}.", 
+                ontologyMessage.getGitWebhookId(), 
+                ontologyMessage.getOntologyId());
+    }
+
+    /**
+     * Add the loading properties to every vertex and edge once, before the
+     * graph loader and graph indexer read the shared property graph
+     * concurrently
+     *
+     * @param simpleOntologyPropertyGraph
+     */
+
+    private void preparePropertiesForLoading(
+            SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) {
+        for (SimpleOntologyVertex vertex :
+            simpleOntologyPropertyGraph.getVertices().values())
+            vertex.preparePropertiesForLoading();
+        for (SimpleOntologyEdge edge : simpleOntologyPropertyGraph.getEdges())
+            edge.preparePropertiesForLoading();
+    }
+
+}
@@ -0,0 +1,45 @@
+package ai.hyperlearning.ontopop.data.ontology.pipeline;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ontology Pipeline Stages
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum OntologyPipelineStage {
+
+    VALIDATOR("VALIDATOR"),
+    LOADER_TRIPLESTORE("LOADER_TRIPLESTORE"),
+    PARSER("PARSER"),
+    MODELLER_GRAPH("MODELLER_GRAPH"),
+    LOADER_GRAPH("LOADER_GRAPH"),
+    INDEXER_GRAPH("INDEXER_GRAPH");
+
+    private final String label;
+    private static final Map<String, OntologyPipelineStage> LABEL_MAP =
+            new HashMap<>();
+
+    static {
+        for (OntologyPipelineStage f : values()) {
+            LABEL_MAP.put(f.label, f);
+        }
+    }
+
+    private OntologyPipelineStage(final String label) {
+        this.label = label;
+    }
+
+    public static OntologyPipelineStage valueOfLabel(String label) {
+        return LABEL_MAP.get(label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
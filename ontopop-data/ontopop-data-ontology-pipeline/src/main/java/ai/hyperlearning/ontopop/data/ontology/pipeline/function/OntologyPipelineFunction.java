@@ -1,6 +1,6 @@
 package ai.hyperlearning.ontopop.data.ontology.pipeline.function;
 
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
@@ -11,17 +11,15 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
-import ai.hyperlearning.ontopop.data.ontology.indexer.graph.OntologyGraphIndexerService;
-import ai.hyperlearning.ontopop.data.ontology.loader.graph.OntologyGraphLoaderService;
-import ai.hyperlearning.ontopop.data.ontology.loader.triplestore.OntologyTriplestoreLoaderService;
-import ai.hyperlearning.ontopop.data.ontology.modeller.graph.OntologyGraphModellerService;
-import ai.hyperlearning.ontopop.data.ontology.parser.OntologyParserService;
-import ai.hyperlearning.ontopop.data.ontology.validator.OntologyValidatorService;
-import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
+import ai.hyperlearning.ontopop.data.ontology.pipeline.OntologyPipelineExecutor;
+import ai.hyperlearning.ontopop.exceptions.git.GitWebhookNotFoundException;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
 
 /**
- * Ontology Post-Ingestion End-to-End ETL Pipeline Function
+ * Ontology Post-Ingestion End-to-End ETL Pipeline Function. A message that
+ * identifies an ontology revision by its ontology ID and Git webhook ID
+ * alone, without a processed filename, requests that the pipeline for that
+ * revision be resumed from its first incomplete stage.
  *
  * @author jillurquddus
  * @since 2.0.0
@@ -33,25 +31,8 @@ public class OntologyPipelineFunction implements Consumer<String> {
     private static final Logger LOGGER =
             LoggerFactory.getLogger(OntologyPipelineFunction.class);
     
-    private static final int STAGE_INTERVAL_WAIT_SECONDS = 5;
-    
-    @Autowired
-    private OntologyValidatorService ontologyValidatorService;
-    
-    @Autowired
-    private OntologyTriplestoreLoaderService ontologyTriplestoreLoaderService;
-    
-    @Autowired
-    private OntologyParserService ontologyParserService;
-    
-    @Autowired
-    private OntologyGraphModellerService ontologyGraphModellerService;
-    
-    @Autowired
-    private OntologyGraphLoaderService ontologyGraphLoaderService;
-    
     @Autowired
-    private OntologyGraphIndexerService ontologyGraphIndexerService;
+    private OntologyPipelineExecutor ontologyPipelineExecutor;
     
     @Override
     public void accept(String message) {
@@ -70,33 +51,17 @@ public class OntologyPipelineFunction implements Consumer<String> {
                     + "ingestedConsumptionChannel channel.");
             LOGGER.debug("Ontology ingestion message payload: {}", message);
             
-            // Run the Ontology Validation Service
-            ontologyValidatorService.run(ontologyMessage);
-            TimeUnit.SECONDS.sleep(STAGE_INTERVAL_WAIT_SECONDS);
-            
-            // Run the Ontology Triplestore Loader Service
-            ontologyTriplestoreLoaderService.run(ontologyMessage);
-            TimeUnit.SECONDS.sleep(STAGE_INTERVAL_WAIT_SECONDS);
-                
-            // Run the Ontology Parser Service
-            ontologyParserService.run(ontologyMessage);
-            TimeUnit.SECONDS.sleep(STAGE_INTERVAL_WAIT_SECONDS);
-                
-            // Run the Ontology Graph Modeller Service
-            ontologyGraphModellerService.run(ontologyMessage);
-            TimeUnit.SECONDS.sleep(STAGE_INTERVAL_WAIT_SECONDS);
-                
-            // Run the Ontology Graph Loader Service
-            ontologyGraphLoaderService.run(ontologyMessage);
-            TimeUnit.SECONDS.sleep(STAGE_INTERVAL_WAIT_SECONDS);
-                
-             // Run the Ontology Graph Indexer Service
-            ontologyGraphIndexerService.run(ontologyMessage);
+            // Queue the Ontology Pipeline, blocking whilst the executor 
+            // queues are full, and wait for it to finish so that the 
+            // message is only acknowledged once it has been processed
+            CompletableFuture<Void> completion = 
+                    ontologyMessage.getProcessedFilename() == null ? 
+                            ontologyPipelineExecutor.resume(
+                                    ontologyMessage.getOntologyId(), 
+                                    ontologyMessage.getGitWebhookId()) : 
+                            ontologyPipelineExecutor.submit(ontologyMessage);
+            completion.join();
 
-        } catch (OntologyDataPipelineException e) {
-            
-            LOGGER.error("The Ontology Data Pipeline encountered an error.", e);
-        
         } catch (JsonProcessingException e) {
 
             LOGGER.info("New ingestion event detected and consumed via "
@@ -104,10 +69,17 @@ public class OntologyPipelineFunction implements Consumer<String> {
                     + "ingestedConsumptionChannel channel.");
             LOGGER.info("The ingested object is NOT an ontology. Skipping.");
 
+        } catch (GitWebhookNotFoundException e) {
+
+            LOGGER.warn("Could not resume the Ontology Post-Ingestion "
+                    + "End-to-End ETL Pipeline as the Git webhook "
+                    + "identified by {} does not exist.", message);
+
         } catch (InterruptedException e) {
             
             LOGGER.error("Ontology Post-Ingestion End-to-End ETL Pipeline "
                     + "was interrupted.", e);
+            Thread.currentThread().interrupt();
             
         }
         
@@ -0,0 +1,256 @@
+package ai.hyperlearning.ontopop.data.ontology.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ai.hyperlearning.ontopop.data.jpa.repositories.GitWebhookRepository;
+import ai.hyperlearning.ontopop.data.ontology.loader.triplestore.OntologyTriplestoreLoaderService;
+import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+
+/**
+ * Unit Tests - Ontology Pipeline Keyed Executor
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOntologyPipelineExecutor {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final int ONTOLOGY_ID = 1;
+    private static final int OTHER_ONTOLOGY_ID = 2;
+
+    private OntologyPipelineExecutor ontologyPipelineExecutor;
+    private OntologyPipelineService ontologyPipelineService;
+    private OntologyTriplestoreLoaderService ontologyTriplestoreLoaderService;
+
+    // Git webhook IDs in the order in which the pipeline ran them
+    private final List<Long> runGitWebhookIds = new CopyOnWriteArrayList<>();
+
+    // Blocks the pipeline run of the first revision of ONTOLOGY_ID
+    private final CountDownLatch firstRunStarted = new CountDownLatch(1);
+    private final CountDownLatch firstRunReleased = new CountDownLatch(1);
+
+    private final AtomicInteger runningPerOntology = new AtomicInteger();
+    private final AtomicInteger maximumRunningPerOntology =
+            new AtomicInteger();
+
+    @BeforeEach
+    void setup() throws Exception {
+        ontologyPipelineService = mock(OntologyPipelineService.class);
+        ontologyTriplestoreLoaderService =
+                mock(OntologyTriplestoreLoaderService.class);
+        doAnswer(invocation -> {
+            OntologyMessage ontologyMessage = invocation.getArgument(0);
+            if (ontologyMessage.getOntologyId() != ONTOLOGY_ID) {
+                runGitWebhookIds.add(ontologyMessage.getGitWebhookId());
+                return null;
+            }
+            maximumRunningPerOntology.accumulateAndGet(
+                    runningPerOntology.incrementAndGet(), Math::max);
+            runGitWebhookIds.add(ontologyMessage.getGitWebhookId());
+            if (firstRunStarted.getCount() > 0) {
+                firstRunStarted.countDown();
+                firstRunReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            }
+            runningPerOntology.decrementAndGet();
+            return null;
+        }).when(ontologyPipelineService).run(any(OntologyMessage.class));
+    }
+
+    @AfterEach
+    void teardown() {
+        firstRunReleased.countDown();
+        ReflectionTestUtils.invokeMethod(
+                ontologyPipelineExecutor, "preDestroy");
+    }
+
+    @Test
+    void testRevisionsOfTheSameOntologyRunOneAtATimeInOrder()
+            throws Exception {
+        ontologyPipelineExecutor = executor(false, 256, 16);
+        CompletableFuture<Void> first = ontologyPipelineExecutor.submit(
+                message(ONTOLOGY_ID, 1));
+        assertTrue(firstRunStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        List<CompletableFuture<Void>> queued = Arrays.asList(
+                ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 4)),
+                ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 2)),
+                ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 3)));
+
+        // Other ontologies are not held up by the running revision
+        ontologyPipelineExecutor.submit(message(OTHER_ONTOLOGY_ID, 100))
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertFalse(first.isDone());
+
+        firstRunReleased.countDown();
+        CompletableFuture.allOf(queued.toArray(new CompletableFuture[0]))
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(1L, 100L, 2L, 3L, 4L), runGitWebhookIds);
+        assertEquals(1, maximumRunningPerOntology.get());
+    }
+
+    @Test
+    void testQueuedRevisionsAreCoalescedIntoTheNewest() throws Exception {
+        ontologyPipelineExecutor = executor(true, 256, 16);
+        ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 1));
+        assertTrue(firstRunStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<Void> second =
+                ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 2));
+        CompletableFuture<Void> third =
+                ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 3));
+        OntologyMessage newestOntologyMessage = message(ONTOLOGY_ID, 4);
+        CompletableFuture<Void> newest =
+                ontologyPipelineExecutor.submit(newestOntologyMessage);
+
+        // Superseded revisions complete without running the pipeline
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        third.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        verify(ontologyTriplestoreLoaderService).copyIngested(
+                ArgumentMatchers.argThat(m -> m.getGitWebhookId() == 2));
+        verify(ontologyTriplestoreLoaderService).copyIngested(
+                ArgumentMatchers.argThat(m -> m.getGitWebhookId() == 3));
+
+        firstRunReleased.countDown();
+        newest.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(1L, 4L), runGitWebhookIds);
+        assertEquals("ontology-1",
+                newestOntologyMessage.getPreviousProcessedFilename());
+    }
+
+    @Test
+    void testSupersedingDoesNotBlockOtherOntologies() throws Exception {
+        ontologyPipelineExecutor = executor(true, 256, 16);
+        CountDownLatch copyStarted = new CountDownLatch(1);
+        CountDownLatch copyReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            copyStarted.countDown();
+            copyReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            return null;
+        }).when(ontologyTriplestoreLoaderService)
+            .copyIngested(any(OntologyMessage.class));
+        ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 1));
+        assertTrue(firstRunStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 2));
+
+        // Superseding the second revision copies its ingested ontology
+        CompletableFuture<CompletableFuture<Void>> coalesced =
+                CompletableFuture.supplyAsync(() -> submitQuietly(
+                        message(ONTOLOGY_ID, 3)));
+        assertTrue(copyStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // Other ontologies are queued and run whilst the copy is ongoing
+        ontologyPipelineExecutor.submit(message(OTHER_ONTOLOGY_ID, 100))
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertFalse(coalesced.isDone());
+
+        copyReleased.countDown();
+        firstRunReleased.countDown();
+        coalesced.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(Arrays.asList(1L, 100L, 3L), runGitWebhookIds);
+    }
+
+    @Test
+    void testSubmissionsBlockWhileTheQueueIsFull() throws Exception {
+        ontologyPipelineExecutor = executor(true, 1, 16);
+        ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 1));
+        assertTrue(firstRunStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        CompletableFuture<Void> second =
+                ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 2));
+
+        // Both a new ontology and a coalescable revision must wait
+        // for capacity
+        CompletableFuture<CompletableFuture<Void>> blockedOther =
+                CompletableFuture.supplyAsync(() -> submitQuietly(
+                        message(OTHER_ONTOLOGY_ID, 100)));
+        CompletableFuture<CompletableFuture<Void>> blockedCoalesced =
+                CompletableFuture.supplyAsync(() -> submitQuietly(
+                        message(ONTOLOGY_ID, 3)));
+        TimeUnit.MILLISECONDS.sleep(500);
+        assertFalse(blockedOther.isDone());
+        assertFalse(blockedCoalesced.isDone());
+
+        firstRunReleased.countDown();
+        blockedOther.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        blockedCoalesced.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(runGitWebhookIds.contains(100L));
+        assertTrue(runGitWebhookIds.contains(3L));
+    }
+
+    @Test
+    void testSubmissionsAreRejectedOnceShutDown() throws Exception {
+        ontologyPipelineExecutor = executor(true, 256, 16);
+        ReflectionTestUtils.invokeMethod(
+                ontologyPipelineExecutor, "preDestroy");
+        assertThrows(RejectedExecutionException.class, () ->
+                ontologyPipelineExecutor.submit(message(ONTOLOGY_ID, 1)));
+        verify(ontologyPipelineService, never())
+            .run(any(OntologyMessage.class));
+    }
+
+    private OntologyPipelineExecutor executor(boolean coalescingEnabled,
+            int queueCapacity, int queueCapacityPerOntology) {
+        OntologyPipelineExecutor executor = new OntologyPipelineExecutor();
+        ReflectionTestUtils.setField(executor, "ontologyPipelineService",
+                ontologyPipelineService);
+        ReflectionTestUtils.setField(executor,
+                "ontologyTriplestoreLoaderService",
+                ontologyTriplestoreLoaderService);
+        ReflectionTestUtils.setField(executor, "gitWebhookRepository",
+                mock(GitWebhookRepository.class));
+        ReflectionTestUtils.setField(executor, "concurrency", 4);
+        ReflectionTestUtils.setField(executor, "queueCapacity",
+                queueCapacity);
+        ReflectionTestUtils.setField(executor, "queueCapacityPerOntology",
+                queueCapacityPerOntology);
+        ReflectionTestUtils.setField(executor, "coalescingEnabled",
+                coalescingEnabled);
+        ReflectionTestUtils.setField(executor, "coalescingWindowMillis", 0L);
+        ReflectionTestUtils.invokeMethod(executor, "postConstruct");
+        return executor;
+    }
+
+    private OntologyMessage message(int ontologyId, long gitWebhookId) {
+        OntologyMessage ontologyMessage = new OntologyMessage(
+                ontologyId, gitWebhookId, "ontology-" + gitWebhookId);
+        ontologyMessage.setPreviousProcessedFilename(
+                "ontology-" + (gitWebhookId - 1));
+        return ontologyMessage;
+    }
+
+    private CompletableFuture<Void> submitQuietly(
+            OntologyMessage ontologyMessage) {
+        try {
+            return ontologyPipelineExecutor.submit(ontologyMessage);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package ai.hyperlearning.ontopop.data.ontology.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import ai.hyperlearning.ontopop.data.jpa.repositories.GitWebhookRepository;
+import ai.hyperlearning.ontopop.data.ontology.indexer.graph.OntologyGraphIndexerService;
+import ai.hyperlearning.ontopop.data.ontology.loader.graph.OntologyGraphLoaderService;
+import ai.hyperlearning.ontopop.data.ontology.loader.triplestore.OntologyTriplestoreLoaderService;
+import ai.hyperlearning.ontopop.data.ontology.modeller.graph.OntologyGraphModellerService;
+import ai.hyperlearning.ontopop.data.ontology.parser.OntologyParserService;
+import ai.hyperlearning.ontopop.data.ontology.validator.OntologyValidatorService;
+import ai.hyperlearning.ontopop.model.git.GitWebhook;
+import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
+
+/**
+ * Unit Tests - Ontology Pipeline Service
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOntologyPipelineService {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private OntologyPipelineService ontologyPipelineService;
+    private OntologyValidatorService ontologyValidatorService;
+    private OntologyParserService ontologyParserService;
+    private GitWebhookRepository gitWebhookRepository;
+
+    private final CountDownLatch parserStarted = new CountDownLatch(1);
+    private final CountDownLatch parserReleased = new CountDownLatch(1);
+    private final CountDownLatch parserFinished = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        ontologyValidatorService = mock(OntologyValidatorService.class);
+        ontologyParserService = mock(OntologyParserService.class);
+        gitWebhookRepository = mock(GitWebhookRepository.class);
+        ontologyPipelineService = new OntologyPipelineService();
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "ontologyValidatorService", ontologyValidatorService);
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "ontologyTriplestoreLoaderService",
+                mock(OntologyTriplestoreLoaderService.class));
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "ontologyParserService", ontologyParserService);
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "ontologyGraphModellerService",
+                mock(OntologyGraphModellerService.class));
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "ontologyGraphLoaderService",
+                mock(OntologyGraphLoaderService.class));
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "ontologyGraphIndexerService",
+                mock(OntologyGraphIndexerService.class));
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "gitWebhookRepository", gitWebhookRepository);
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "pipelineMode", "dag");
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "dagThreads", 2);
+        ReflectionTestUtils.setField(ontologyPipelineService,
+                "checkpointsEnabled", false);
+        ReflectionTestUtils.invokeMethod(
+                ontologyPipelineService, "postConstruct");
+    }
+
+    @AfterEach
+    void teardown() {
+        parserReleased.countDown();
+        ReflectionTestUtils.invokeMethod(
+                ontologyPipelineService, "preDestroy");
+    }
+
+    @Test
+    void testInterruptedRunReleasesTheOntologyOnlyOnceParsed()
+            throws Exception {
+
+        OWLOntologyManager manager = OWLOntologyManagerPool.borrow();
+        OWLOntology ontology = manager.createOntology(
+                IRI.create("http://example.org/ontopop/pipeline"));
+        when(ontologyValidatorService.runInMemory(any(OntologyMessage.class)))
+            .thenReturn(ontology);
+        when(ontologyParserService.isStreamed(anyInt())).thenReturn(false);
+
+        // The parser records whether the validated ontology was still
+        // loaded in its manager once it finished reading it
+        AtomicReference<Boolean> loadedWhileParsing = new AtomicReference<>();
+        doAnswer(invocation -> {
+            parserStarted.countDown();
+            parserReleased.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            loadedWhileParsing.set(manager.contains(ontology));
+            parserFinished.countDown();
+            return null;
+        }).when(ontologyParserService).runInMemory(
+                any(OntologyMessage.class), any(OWLOntology.class));
+
+        OntologyMessage ontologyMessage = message();
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread run = new Thread(() -> {
+            try {
+                ontologyPipelineService.run(ontologyMessage);
+            } catch (Throwable e) {
+                thrown.set(e);
+            }
+        });
+        run.start();
+
+        // Interrupt the run while the parser is still reading the ontology
+        assertTrue(parserStarted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        run.interrupt();
+        run.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse(run.isAlive());
+        assertTrue(thrown.get() instanceof InterruptedException);
+        assertTrue(manager.contains(ontology));
+
+        // The ontology is released once the parser has settled
+        parserReleased.countDown();
+        assertTrue(parserFinished.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(Boolean.TRUE, loadedWhileParsing.get());
+        long deadline = System.nanoTime()
+                + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (manager.contains(ontology) && System.nanoTime() < deadline)
+            TimeUnit.MILLISECONDS.sleep(10);
+        assertFalse(manager.contains(ontology));
+
+    }
+
+    @Test
+    void testCompletedRunIsRecordedOnTheGitWebhook() throws Exception {
+        GitWebhook gitWebhook = new GitWebhook();
+        when(gitWebhookRepository.findById(1L))
+            .thenReturn(Optional.of(gitWebhook));
+        doAnswer(invocation -> {
+            OntologyMessage ontologyMessage = invocation.getArgument(0);
+            ontologyMessage.setSemanticallyValid(true);
+            return OWLOntologyManagerPool.borrow().createOntology();
+        }).when(ontologyValidatorService)
+            .runInMemory(any(OntologyMessage.class));
+        ontologyPipelineService.run(message());
+        assertTrue(gitWebhook.isPipelineComplete());
+        verify(gitWebhookRepository).save(gitWebhook);
+    }
+
+    @Test
+    void testInvalidRunIsNotRecordedOnTheGitWebhook() throws Exception {
+        when(ontologyValidatorService.runInMemory(any(OntologyMessage.class)))
+            .thenReturn(null);
+        ontologyPipelineService.run(message());
+        verify(gitWebhookRepository, never()).save(any(GitWebhook.class));
+    }
+
+    private OntologyMessage message() {
+        OntologyMessage ontologyMessage = new OntologyMessage();
+        ontologyMessage.setOntologyId(1);
+        ontologyMessage.setGitWebhookId(1);
+        return ontologyMessage;
+    }
+
+}
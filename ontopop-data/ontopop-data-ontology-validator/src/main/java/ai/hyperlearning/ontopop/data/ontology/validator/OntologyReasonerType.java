@@ -0,0 +1,41 @@
+package ai.hyperlearning.ontopop.data.ontology.validator;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Supported Ontology Reasoner Selection Strategies
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum OntologyReasonerType {
+
+    AUTO("AUTO"),
+    HERMIT("HERMIT");
+
+    private final String label;
+    private static final Map<String, OntologyReasonerType> LABEL_MAP =
+            new HashMap<>();
+
+    static {
+        for (OntologyReasonerType f : values()) {
+            LABEL_MAP.put(f.label, f);
+        }
+    }
+
+    private OntologyReasonerType(final String label) {
+        this.label = label;
+    }
+
+    public static OntologyReasonerType valueOfLabel(String label) {
+        return LABEL_MAP.get(label);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
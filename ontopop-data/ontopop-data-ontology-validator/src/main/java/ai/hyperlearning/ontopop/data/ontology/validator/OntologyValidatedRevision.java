@@ -0,0 +1,136 @@
+package ai.hyperlearning.ontopop.data.ontology.validator;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.semanticweb.owlapi.model.OWLLogicalAxiom;
+
+import com.google.common.hash.Hashing;
+
+import ai.hyperlearning.ontopop.model.ontology.OntologyValidationOutcome;
+
+/**
+ * Ontology Validated Revision - the logical axiom hashes and validation 
+ * outcome of the most recently validated revision of an ontology, against 
+ * which the axiom delta of its next revision is validated. Only a sorted 
+ * array of 64-bit hashes is kept rather than the axioms themselves, so 
+ * that a revision costs eight bytes per axiom and two revisions can be 
+ * compared by a single merge of their hashes.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OntologyValidatedRevision {
+
+    private final long gitWebhookId;
+    private final long[] axiomHashes;
+    private final OntologyValidationOutcome outcome;
+    private final boolean structurallyConsistent;
+
+    public OntologyValidatedRevision(long gitWebhookId,
+            long[] axiomHashes,
+            OntologyValidationOutcome outcome,
+            boolean structurallyConsistent) {
+        this.gitWebhookId = gitWebhookId;
+        this.axiomHashes = axiomHashes;
+        this.outcome = outcome;
+        this.structurallyConsistent = structurallyConsistent;
+    }
+
+    /**
+     * Hash a logical axiom from its rendering, which is the same for 
+     * structurally equal axioms in every load of an ontology
+     * 
+     * @param logicalAxiom
+     * @return
+     */
+
+    public static long hash(OWLLogicalAxiom logicalAxiom) {
+        return Hashing.murmur3_128()
+                .hashUnencodedChars(logicalAxiom.toString()).asLong();
+    }
+
+    /**
+     * Hash the given logical axioms
+     * 
+     * @param logicalAxioms
+     * @return the sorted and distinct axiom hashes
+     */
+
+    public static long[] hash(
+            Stream<? extends OWLLogicalAxiom> logicalAxioms) {
+        return logicalAxioms
+                .mapToLong(OntologyValidatedRevision::hash)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    /**
+     * Count the axioms of this revision that a given next revision removes
+     * 
+     * @param nextAxiomHashes the sorted and distinct axiom hashes of the 
+     *        next revision
+     * @return
+     */
+
+    public int countRemoved(long[] nextAxiomHashes) {
+        int removed = 0;
+        int j = 0;
+        for (long axiomHash : axiomHashes) {
+            while (j < nextAxiomHashes.length 
+                    && nextAxiomHashes[j] < axiomHash)
+                j++;
+            if (j == nextAxiomHashes.length 
+                    || nextAxiomHashes[j] != axiomHash)
+                removed++;
+        }
+        return removed;
+    }
+
+    /**
+     * Count the axioms that a given next revision adds to this revision
+     * 
+     * @param nextAxiomHashes the sorted and distinct axiom hashes of the 
+     *        next revision
+     * @return
+     */
+
+    public int countAdded(long[] nextAxiomHashes) {
+        return nextAxiomHashes.length - axiomHashes.length 
+                + countRemoved(nextAxiomHashes);
+    }
+
+    public boolean contains(OWLLogicalAxiom logicalAxiom) {
+        return Arrays.binarySearch(axiomHashes, hash(logicalAxiom)) >= 0;
+    }
+
+    public long getGitWebhookId() {
+        return gitWebhookId;
+    }
+
+    public OntologyValidationOutcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Whether the revision was proven consistent structurally, in which
+     * case adding clash-free axioms to it cannot make it inconsistent
+     * @return
+     */
+
+    public boolean isStructurallyConsistent() {
+        return structurallyConsistent;
+    }
+
+    /**
+     * The approximate heap footprint of the revision
+     * @return
+     */
+
+    public long getSizeInBytes() {
+        return (long) axiomHashes.length * Long.BYTES;
+    }
+
+}
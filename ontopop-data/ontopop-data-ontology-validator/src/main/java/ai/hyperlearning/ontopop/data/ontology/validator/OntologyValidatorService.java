@@ -2,28 +2,64 @@ package ai.hyperlearning.ontopop.data.ontology.validator;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 
 import org.semanticweb.HermiT.Configuration;
 import org.semanticweb.HermiT.Reasoner;
-import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.io.UnparsableOntologyException;
 import org.semanticweb.owlapi.model.OWLOntology;
 import org.semanticweb.owlapi.model.OWLOntologyCreationException;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.semanticweb.owlapi.profiles.Profiles;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.ReasonerInterruptedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.stream.annotation.EnableBinding;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.stereotype.Service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Timer;
+
 import ai.hyperlearning.ontopop.exceptions.ontology.OntologyDataPipelineException;
 import ai.hyperlearning.ontopop.messaging.processors.DataPipelineValidatorSource;
+import ai.hyperlearning.ontopop.metrics.OntologyPipelineMetricsService;
 import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineStageContext;
+import ai.hyperlearning.ontopop.model.ontology.OntologySourceFormat;
+import ai.hyperlearning.ontopop.model.ontology.OntologyValidationOutcome;
+import ai.hyperlearning.ontopop.model.ontology.OntologyValidationResult;
+import ai.hyperlearning.ontopop.owl.OWLAPI;
+import ai.hyperlearning.ontopop.owl.OWLOntologyManagerPool;
+import ai.hyperlearning.ontopop.owl.OWLStructuralConsistencyChecker;
 import ai.hyperlearning.ontopop.storage.ObjectStorageService;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceFactory;
 import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
@@ -37,11 +73,14 @@ import ai.hyperlearning.ontopop.storage.ObjectStorageServiceType;
 
 @SuppressWarnings("deprecation")
 @Service
+@DependsOn("ontologyImportsCacheService")
 @EnableBinding(DataPipelineValidatorSource.class)
 public class OntologyValidatorService {
 
     private static final Logger LOGGER =
             LoggerFactory.getLogger(OntologyValidatorService.class);
+    private static final String METRICS_STAGE = "VALIDATOR";
+    private static final long WATCHDOG_INTERVAL_MILLIS = 250;
 
     @Autowired
     private ObjectStorageServiceFactory objectStorageServiceFactory;
@@ -49,6 +88,9 @@ public class OntologyValidatorService {
     @Autowired
     private DataPipelineValidatorSource dataPipelineValidatorSource;
 
+    @Autowired
+    private OntologyPipelineMetricsService ontologyPipelineMetricsService;
+
     @Value("${storage.object.service}")
     private String storageObjectService;
 
@@ -61,11 +103,115 @@ public class OntologyValidatorService {
     @Value("${storage.object.containers.validated}")
     private String validatedDirectoryName;
 
-    private OntologyMessage ontologyMessage;
+    @Value("${storage.object.containers.validations:validations}")
+    private String validationsDirectoryName;
+
+    @Value("${pipeline.validator.reasoner:auto}")
+    private String reasonerType;
+
+    @Value("${pipeline.validator.hermit.ontologyIds:}")
+    private List<Integer> hermitOntologyIds;
+
+    @Value("${pipeline.validator.cache.enabled:true}")
+    private Boolean cacheEnabled;
+
+    @Value("${pipeline.validator.limits.timeoutSeconds:0}")
+    private long timeoutSeconds;
+
+    @Value("${pipeline.validator.limits.maxHeapUsage:0.9}")
+    private double maxHeapUsage;
+
+    @Value("${pipeline.validator.limits.passSkipped:true}")
+    private Boolean passSkipped;
+
+    @Value("${pipeline.validator.incremental.enabled:true}")
+    private Boolean incrementalEnabled;
+
+    @Value("${pipeline.validator.incremental.maxMegabytes:64}")
+    private long incrementalMaxMegabytes;
+
+    private OntologyReasonerType ontologyReasonerType;
+    private ObjectStorageServiceType objectStorageServiceType;
     private ObjectStorageService objectStorageService;
-    private String readObjectUri;
     private String writeDirectoryUri;
-    private String downloadedFileUri;
+    private String validationsDirectoryUri;
+    private ScheduledExecutorService watchdogExecutorService;
+    private ExecutorService reasonerExecutorService;
+    private final Map<Integer, OntologyValidatedRevision> validatedRevisions = 
+            new LinkedHashMap<>(16, 0.75f, true);
+    private long validatedRevisionsBytes = 0;
+
+    @PostConstruct
+    private void postConstruct() throws IOException {
+
+        // 1. Select the relevant persistent storage service
+        objectStorageServiceType = ObjectStorageServiceType
+                .valueOfLabel(storageObjectService.toUpperCase());
+        objectStorageService = objectStorageServiceFactory
+                .getObjectStorageService(objectStorageServiceType);
+        LOGGER.debug("Using the {} object storage service.",
+                objectStorageServiceType);
+
+        // 2. Define and create (if required) the relevant
+        // target validation directory
+        switch (objectStorageServiceType) {
+
+            case LOCAL:
+
+                // Create (if required) the local target validation directory
+                writeDirectoryUri = storageLocalBaseUri + File.separator
+                        + validatedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+                break;
+
+            default:
+
+                // Create (if required) the Azure Storage container
+                // or AWS S3 bucket
+                writeDirectoryUri = validatedDirectoryName;
+                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
+                    objectStorageService.createContainer(writeDirectoryUri);
+
+        }
+
+        // 3. Define and create (if required) the directory of cached
+        // validation results in persistent storage
+        if (Boolean.TRUE.equals(cacheEnabled)) {
+            validationsDirectoryUri = objectStorageServiceType
+                    .equals(ObjectStorageServiceType.LOCAL) ?
+                            storageLocalBaseUri + File.separator
+                                + validationsDirectoryName :
+                            validationsDirectoryName;
+            if (!objectStorageService.doesContainerExist(
+                    validationsDirectoryUri))
+                objectStorageService.createContainer(validationsDirectoryUri);
+        }
+
+        // 4. Select the default reasoner selection strategy
+        ontologyReasonerType = OntologyReasonerType
+                .valueOfLabel(reasonerType.toUpperCase());
+        LOGGER.debug("Using the {} reasoner selection strategy by default.",
+                ontologyReasonerType);
+
+        // 5. Instantiate the reasoning threads and the watchdog that 
+        // interrupts reasoners which exceed their time or heap budget
+        watchdogExecutorService = Executors.newSingleThreadScheduledExecutor();
+        reasonerExecutorService = Executors.newCachedThreadPool();
+
+    }
+
+    @PreDestroy
+    private void preDestroy() throws IOException {
+
+        // Stop the reasoner watchdog and any reasoning threads
+        watchdogExecutorService.shutdownNow();
+        reasonerExecutorService.shutdownNow();
+
+        // Close any storage service clients
+        objectStorageService.cleanup();
+
+    }
 
     /**
      * Run the Ontology Validation service end-to-end pipeline
@@ -73,87 +219,143 @@ public class OntologyValidatorService {
 
     public void run(OntologyMessage ontologyMessage) 
             throws OntologyDataPipelineException {
+        OWLOntologyManagerPool.release(runInMemory(ontologyMessage));
+    }
+
+    /**
+     * Run the Ontology Validation service end-to-end pipeline and return
+     * the loaded ontology so that downstream stages may reuse it in memory
+     * 
+     * @param ontologyMessage
+     * @return the loaded ontology, which the caller should release to the 
+     *         OWLOntologyManagerPool, or null if it is not semantically valid
+     * @throws OntologyDataPipelineException
+     */
+
+    public OWLOntology runInMemory(OntologyMessage ontologyMessage) 
+            throws OntologyDataPipelineException {
 
         LOGGER.info("Ontology Validation Service started.");
-        this.ontologyMessage = ontologyMessage;
+        OntologyPipelineStageContext context = 
+                new OntologyPipelineStageContext(ontologyMessage);
+        OWLOntology ontology = null;
+        int ontologyId = ontologyMessage.getOntologyId();
+        Timer.Sample sample = ontologyPipelineMetricsService.start();
+        boolean success = false;
 
         try {
 
             // 1. Environment setup
-            setup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_SETUP, ontologyId, 
+                    () -> setup(context));
 
             // 2. Download the ingested ontology from persistent storage
-            download();
-
-            // 3. Semantically validate the ingested ontology
-            validate();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_DOWNLOAD, ontologyId, 
+                    () -> download(context));
+            ontologyPipelineMetricsService.recordArtifactBytes(METRICS_STAGE, 
+                    ontologyId, context.getDownloadedFileUri());
+
+            // 3. Semantically validate the ingested ontology in tiers of 
+            // increasing cost, stopping at the first conclusive tier and 
+            // skipping reasoning if the same content has been validated
+            // or if the axiom delta against the previously validated 
+            // revision is conclusive
+            ontology = ontologyPipelineMetricsService.recordStep(
+                    METRICS_STAGE, "syntax", ontologyId, 
+                    () -> load(context));
+            if (ontology != null) {
+                OWLOntology loadedOntology = ontology;
+                String contentHash = ontologyPipelineMetricsService
+                        .recordStep(METRICS_STAGE, "cache", ontologyId, 
+                                () -> hash(context, loadedOntology));
+                long[] axiomHashes = 
+                        Boolean.TRUE.equals(incrementalEnabled) ? 
+                                OntologyValidatedRevision.hash(
+                                        loadedOntology.logicalAxioms(
+                                                Imports.INCLUDED)) : 
+                                null;
+                if (!validateFromCache(context, contentHash, axiomHashes)) {
+                    boolean validated = ontologyPipelineMetricsService
+                            .recordStep(METRICS_STAGE, "delta", ontologyId, 
+                                    () -> validateIncrementally(context, 
+                                            loadedOntology, axiomHashes));
+                    if (!validated) {
+                        List<Profiles> profiles = ontologyPipelineMetricsService
+                                .recordStep(METRICS_STAGE, "profile", 
+                                        ontologyId, () -> checkProfiles(
+                                                context, loadedOntology));
+                        boolean structurallyConsistent = 
+                                ontologyPipelineMetricsService.recordStep(
+                                        METRICS_STAGE, "reasoning", 
+                                        ontologyId, () -> reason(context, 
+                                                loadedOntology, profiles));
+                        remember(context, axiomHashes, 
+                                structurallyConsistent);
+                    }
+                    cache(context, contentHash);
+                }
+            }
 
             // 4. Copy the ingested ontology to the validated directory
             // in persistent storage if it is semantically valid
-            save();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PERSIST, ontologyId, 
+                    () -> save(context));
 
             // 5. Publish a message containing the semantic validation result
-            publish();
-
-            // 6. Cleanup resources
-            cleanup();
+            ontologyPipelineMetricsService.recordStep(METRICS_STAGE, 
+                    OntologyPipelineMetricsService.STEP_PUBLISH, ontologyId, 
+                    () -> publish(context));
+            success = true;
 
         } catch (Exception e) {
+            OWLOntologyManagerPool.release(ontology);
             LOGGER.error("Ontology Validation Service encountered "
                     + "an error.", e);
             throw new OntologyDataPipelineException(
                     OntologyDataPipelineException.ErrorKey.VALIDATOR);
+        } finally {
+            ontologyPipelineMetricsService.recordRun(sample, METRICS_STAGE, 
+                    ontologyId, success);
         }
 
         LOGGER.info("Ontology Validation Service finished.");
+        if (ontologyMessage.isSemanticallyValid())
+            return ontology;
+        OWLOntologyManagerPool.release(ontology);
+        return null;
 
     }
 
     /**
-     * Instantiate the relevant object storage service
+     * Generate the URI of the validated ontology in persistent storage
      * 
-     * @throws IOException
+     * @param ontologyMessage
+     * @return
      */
 
-    private void setup() throws IOException {
-
-        // 1. Select the relevant persistent storage service and
-        // create the target directory if it does not already exist
-        ObjectStorageServiceType objectStorageServiceType =
-                ObjectStorageServiceType
-                        .valueOfLabel(storageObjectService.toUpperCase());
-        objectStorageService = objectStorageServiceFactory
-                .getObjectStorageService(objectStorageServiceType);
-        LOGGER.debug("Using the {} object storage service.",
-                objectStorageServiceType);
-
-        // 2. Define and create (if required) the relevant
-        // target validation directory
-        switch (objectStorageServiceType) {
-
-            case LOCAL:
-
-                // Create (if required) the local target validation directory
-                readObjectUri = storageLocalBaseUri + File.separator
-                        + ingestedDirectoryName + File.separator
-                        + ontologyMessage.getProcessedFilename();
-                writeDirectoryUri = storageLocalBaseUri + File.separator
-                        + validatedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
-                break;
+    public String generateArtifactUri(OntologyMessage ontologyMessage) {
+        return writeDirectoryUri + "/" + ontologyMessage.getProcessedFilename();
+    }
 
-            default:
+    /**
+     * Resolve the location of the ingested ontology for this run
+     * 
+     * @param context
+     */
 
-                // Create (if required) the Azure Storage container
-                // or AWS S3 bucket
-                readObjectUri = ingestedDirectoryName + "/"
-                        + ontologyMessage.getProcessedFilename();
-                writeDirectoryUri = validatedDirectoryName;
-                if (!objectStorageService.doesContainerExist(writeDirectoryUri))
-                    objectStorageService.createContainer(writeDirectoryUri);
+    private void setup(OntologyPipelineStageContext context) {
 
-        }
+        String processedFilename = 
+                context.getOntologyMessage().getProcessedFilename();
+        context.setReadObjectUri(objectStorageServiceType
+                .equals(ObjectStorageServiceType.LOCAL) ? 
+                        storageLocalBaseUri + File.separator
+                            + ingestedDirectoryName + File.separator
+                            + processedFilename : 
+                        ingestedDirectoryName + "/" + processedFilename);
 
     }
 
@@ -161,67 +363,542 @@ public class OntologyValidatorService {
      * Download the ingested ontology from persistent storage to a temporary
      * file in local storage
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void download() throws IOException {
+    private void download(OntologyPipelineStageContext context) 
+            throws IOException {
 
         LOGGER.info("Ontology Validation Service - "
                 + "Started downloading the ingested resource.");
-        downloadedFileUri = objectStorageService.downloadObject(readObjectUri,
-                "_" + ontologyMessage.getProcessedFilename());
+        context.setDownloadedFileUri(objectStorageService.downloadObject(
+                context.getReadObjectUri(), "_" + context.getOntologyMessage()
+                    .getProcessedFilename()));
         LOGGER.debug("Downloaded ingested resource to '{}'.",
-                downloadedFileUri);
+                context.getDownloadedFileUri());
+
+        // Resolve the serialization of the resource unless it has
+        // already been detected upstream
+        context.getOntologyMessage().setSourceFormat(OntologySourceFormat
+                .resolve(context.getOntologyMessage().getSourceFormat(), 
+                        Paths.get(context.getDownloadedFileUri()))
+                .toString());
         LOGGER.info("Ontology Validation Service - "
                 + "Finished downloading the ingested resource.");
 
     }
 
     /**
-     * Semantically validate the ingested ontology using the HermiT reasoner
+     * Get the reasoner selection strategy for a given ontology
      * 
-     * @throws IOException
+     * @param ontologyId
+     * @return
+     */
+
+    private OntologyReasonerType getReasonerType(int ontologyId) {
+        return hermitOntologyIds.contains(ontologyId) ? 
+                OntologyReasonerType.HERMIT : ontologyReasonerType;
+    }
+
+    /**
+     * Tier 1 - Check the syntax and well-formedness of the ingested 
+     * ontology by loading it into memory using a pooled OWL API manager
+     * and the parser for its source format
+     * 
+     * @param context
+     * @return the loaded ontology, or null if it could not be parsed
      * @throws OWLOntologyCreationException
      */
 
-    private void validate() throws IOException, OWLOntologyCreationException {
+    private OWLOntology load(OntologyPipelineStageContext context) 
+            throws OWLOntologyCreationException {
 
         LOGGER.info("Ontology Validation Service - "
                 + "Started the semantic validation of the ingested resource.");
+        OWLOntology ontology;
+        try {
+            ontology = OWLAPI.loadOntology(
+                    new File(context.getDownloadedFileUri()), 
+                    OntologySourceFormat.valueOfLabel(
+                            context.getOntologyMessage().getSourceFormat()));
+        } catch (UnparsableOntologyException e) {
+            LOGGER.warn("Semantic validation of '{}' result: false - the "
+                    + "resource could not be parsed.", 
+                    context.getDownloadedFileUri(), e);
+            setOutcome(context, OntologyValidationOutcome.INVALID);
+            return null;
+        }
+
+        // Triples that could not be mapped to OWL axioms are ignored 
+        // by every downstream stage
+        long unparsedTripleCount = ontology.getFormat() == null ? 0 : 
+            ontology.getFormat().getOntologyLoaderMetaData()
+                .map(metaData -> metaData.getUnparsedTriples().count())
+                .orElse(0L);
+        if (unparsedTripleCount > 0)
+            LOGGER.warn("{} triples in '{}' could not be parsed as OWL.", 
+                    unparsedTripleCount, context.getDownloadedFileUri());
+        return ontology;
 
-        // Load the OWL file into memory using the OWL API
-        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
-        OWLOntology ontology = manager
-                .loadOntologyFromOntologyDocument(new File(downloadedFileUri));
+    }
 
-        // Validate the consistency of the ontology
-        Configuration configuration = new Configuration();
-        OWLReasoner reasoner = new Reasoner(configuration, ontology);
-        ontologyMessage.setSemanticallyValid(reasoner.isConsistent());
+    /**
+     * Compute the hash of the ingested ontology and its resolved imports
+     * closure that keys its cached validation result
+     * 
+     * @param context
+     * @param ontology
+     * @return the content hash, or null if caching is disabled or the
+     *         imports closure cannot be hashed
+     * @throws IOException
+     */
+
+    private String hash(OntologyPipelineStageContext context, 
+            OWLOntology ontology) throws IOException {
+        if (!Boolean.TRUE.equals(cacheEnabled))
+            return null;
+        String contentHash = OWLAPI.getContentHash(
+                new File(context.getDownloadedFileUri()), ontology);
+        LOGGER.debug("Content hash of '{}': {}", 
+                context.getDownloadedFileUri(), contentHash);
+        return contentHash;
+    }
+
+    /**
+     * Set the semantic validation result from the cached result of a 
+     * given content hash if one exists, and keep it as the revision to 
+     * validate the axiom delta of the next revision against. Failures to 
+     * read the cache are logged and treated as a cache miss.
+     * 
+     * @param context
+     * @param contentHash
+     * @param axiomHashes the sorted and distinct logical axiom hashes of 
+     *        the imports closure, or null if incremental validation is 
+     *        disabled
+     * @return whether a cached validation result was used
+     */
+
+    private boolean validateFromCache(OntologyPipelineStageContext context, 
+            String contentHash, long[] axiomHashes) {
+        if (contentHash == null)
+            return false;
+        String validationResultUri = validationsDirectoryUri + "/" 
+                + OntologyValidationResult.getFilename(contentHash);
+        String downloadedValidationResultUri = null;
+        try {
+            if (!objectStorageService.doesObjectExist(validationResultUri))
+                return false;
+            downloadedValidationResultUri = objectStorageService
+                    .downloadObject(validationResultUri, "_" 
+                            + OntologyValidationResult.getFilename(
+                                    contentHash));
+            OntologyValidationResult validationResult = new ObjectMapper()
+                    .readValue(new File(downloadedValidationResultUri), 
+                            OntologyValidationResult.class);
+            setOutcome(context, validationResult.isSemanticallyValid() ? 
+                    OntologyValidationOutcome.VALID : 
+                        OntologyValidationOutcome.INVALID);
+        } catch (IOException e) {
+            LOGGER.warn("Could not read the cached validation result '{}'.", 
+                    validationResultUri, e);
+            return false;
+        } finally {
+            deleteTemporaryFile(downloadedValidationResultUri == null ? 
+                    null : Paths.get(downloadedValidationResultUri));
+        }
 
-        LOGGER.debug("Semantic validation of '{}' result: {}",
-                downloadedFileUri, ontologyMessage.isSemanticallyValid());
+        // The cached result does not record whether the revision was 
+        // proven structurally consistent, so only the monotonic deltas of 
+        // the next revision are conclusive against it
+        remember(context, axiomHashes, false);
+        LOGGER.debug("Semantic validation of '{}' result: {} (cached)", 
+                context.getDownloadedFileUri(), 
+                context.getOntologyMessage().isSemanticallyValid());
         LOGGER.info("Ontology Validation Service - "
                 + "Finished the semantic validation of the ingested resource.");
+        return true;
+    }
 
+    /**
+     * Cache the semantic validation result of a given content hash. 
+     * Failures to write the cache are logged and otherwise ignored.
+     * 
+     * @param context
+     * @param contentHash
+     */
+
+    private void cache(OntologyPipelineStageContext context, 
+            String contentHash) {
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        if (contentHash == null || OntologyValidationOutcome.valueOfLabel(
+                ontologyMessage.getValidationOutcome()).isSkipped())
+            return;
+        String validationResultFilename = 
+                OntologyValidationResult.getFilename(contentHash);
+        Path validationResultFile = null;
+        try {
+            validationResultFile = 
+                    Files.createTempFile("", validationResultFilename);
+            new ObjectMapper().writeValue(validationResultFile.toFile(), 
+                    new OntologyValidationResult(contentHash, 
+                            ontologyMessage.getOntologyId(), 
+                            ontologyMessage.getGitWebhookId(), 
+                            ontologyMessage.isSemanticallyValid()));
+            objectStorageService.uploadObject(
+                    validationResultFile.toAbsolutePath().toString(), 
+                    validationsDirectoryUri + "/" + validationResultFilename);
+        } catch (IOException e) {
+            LOGGER.warn("Could not cache the validation result of '{}'.", 
+                    context.getDownloadedFileUri(), e);
+        } finally {
+            deleteTemporaryFile(validationResultFile);
+        }
+    }
+
+    /**
+     * Delete a temporary file in local storage, logging any failure
+     * 
+     * @param temporaryFile the file, or null if none was created
+     */
+
+    private void deleteTemporaryFile(Path temporaryFile) {
+        if (temporaryFile == null)
+            return;
+        try {
+            Files.deleteIfExists(temporaryFile);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the temporary file '{}'.", 
+                    temporaryFile, e);
+        }
+    }
+
+    /**
+     * Validate the ingested ontology from the axiom delta against the most 
+     * recently validated revision of the same ontology, if one is kept. 
+     * The delta is conclusive when it is empty, when it only removes axioms 
+     * from a consistent revision or only adds axioms to an inconsistent 
+     * one, or when it only adds clash-free axioms to a structurally 
+     * consistent revision. Any other delta, including one that both adds 
+     * and removes axioms, falls back to full validation.
+     * 
+     * @param context
+     * @param ontology
+     * @param axiomHashes the sorted and distinct logical axiom hashes of 
+     *        the imports closure, or null if incremental validation is 
+     *        disabled
+     * @return whether the delta was conclusive
+     */
+
+    private boolean validateIncrementally(OntologyPipelineStageContext context, 
+            OWLOntology ontology, long[] axiomHashes) {
+
+        if (axiomHashes == null)
+            return false;
+        OntologyValidatedRevision previousRevision;
+        synchronized (validatedRevisions) {
+            previousRevision = validatedRevisions.get(
+                    context.getOntologyMessage().getOntologyId());
+        }
+        if (previousRevision == null)
+            return false;
+
+        // Count the axiom delta against the previous revision by merging
+        // the sorted axiom hashes of both revisions
+        int removedAxiomCount = previousRevision.countRemoved(axiomHashes);
+        int addedAxiomCount = previousRevision.countAdded(axiomHashes);
+        LOGGER.debug("Axiom delta of '{}' against Git webhook {}: "
+                + "{} added, {} removed.", context.getDownloadedFileUri(), 
+                previousRevision.getGitWebhookId(), addedAxiomCount, 
+                removedAxiomCount);
+
+        // Consistency is monotonic - removing axioms preserves it, and 
+        // adding axioms preserves inconsistency
+        OntologyValidationOutcome outcome = null;
+        boolean structurallyConsistent = false;
+        if (previousRevision.getOutcome() == OntologyValidationOutcome.VALID 
+                && addedAxiomCount == 0) {
+            outcome = OntologyValidationOutcome.VALID;
+            structurallyConsistent = 
+                    previousRevision.isStructurallyConsistent();
+        } else if (previousRevision.getOutcome() 
+                    == OntologyValidationOutcome.INVALID 
+                && removedAxiomCount == 0)
+            outcome = OntologyValidationOutcome.INVALID;
+        else if (previousRevision.isStructurallyConsistent() 
+                && OWLStructuralConsistencyChecker.isConsistent(
+                        ontology.logicalAxioms(Imports.INCLUDED)
+                            .filter(axiom -> !previousRevision.contains(axiom))
+                            .collect(Collectors.toList()))) {
+            outcome = OntologyValidationOutcome.VALID;
+            structurallyConsistent = true;
+        }
+        if (outcome == null)
+            return false;
+
+        setOutcome(context, outcome);
+        remember(context, axiomHashes, structurallyConsistent);
+        LOGGER.debug("Semantic validation of '{}' result: {} (incremental)",
+                context.getDownloadedFileUri(), 
+                context.getOntologyMessage().isSemanticallyValid());
+        LOGGER.info("Ontology Validation Service - "
+                + "Finished the semantic validation of the ingested resource.");
+        return true;
+
+    }
+
+    /**
+     * Keep the logical axiom hashes and validation outcome of the ingested 
+     * ontology to validate the axiom delta of its next revision against, 
+     * unless its validation was skipped. The least recently validated 
+     * revisions are evicted once the kept revisions exceed the configured 
+     * heap budget.
+     * 
+     * @param context
+     * @param axiomHashes the sorted and distinct logical axiom hashes of 
+     *        the imports closure, or null if incremental validation is 
+     *        disabled
+     * @param structurallyConsistent
+     */
+
+    private void remember(OntologyPipelineStageContext context, 
+            long[] axiomHashes, boolean structurallyConsistent) {
+        OntologyMessage ontologyMessage = context.getOntologyMessage();
+        OntologyValidationOutcome outcome = OntologyValidationOutcome
+                .valueOfLabel(ontologyMessage.getValidationOutcome());
+        if (axiomHashes == null || outcome.isSkipped())
+            return;
+        OntologyValidatedRevision revision = new OntologyValidatedRevision(
+                ontologyMessage.getGitWebhookId(), axiomHashes, outcome, 
+                structurallyConsistent);
+        long maxBytes = incrementalMaxMegabytes * 1024 * 1024;
+        synchronized (validatedRevisions) {
+            OntologyValidatedRevision previousRevision = 
+                    validatedRevisions.remove(ontologyMessage.getOntologyId());
+            if (previousRevision != null)
+                validatedRevisionsBytes -= previousRevision.getSizeInBytes();
+            if (revision.getSizeInBytes() > maxBytes)
+                return;
+            validatedRevisions.put(ontologyMessage.getOntologyId(), revision);
+            validatedRevisionsBytes += revision.getSizeInBytes();
+            Iterator<OntologyValidatedRevision> revisions = 
+                    validatedRevisions.values().iterator();
+            while (validatedRevisionsBytes > maxBytes) {
+                validatedRevisionsBytes -= revisions.next().getSizeInBytes();
+                revisions.remove();
+            }
+        }
+    }
+
+    /**
+     * Tier 2 - Check the tractable OWL 2 profiles that the ontology 
+     * conforms to, unless HermiT has been configured for it
+     * 
+     * @param context
+     * @param ontology
+     * @return
+     */
+
+    private List<Profiles> checkProfiles(OntologyPipelineStageContext context, 
+            OWLOntology ontology) {
+
+        if (getReasonerType(context.getOntologyMessage().getOntologyId()) 
+                == OntologyReasonerType.HERMIT)
+            return List.of();
+        List<Profiles> profiles = OWLAPI.getTractableProfiles(ontology);
+        LOGGER.debug("OWL 2 profiles of '{}': {}", 
+                context.getDownloadedFileUri(), profiles);
+        return profiles;
+
+    }
+
+    /**
+     * Tier 3 - Check the consistency of the ontology structurally if it 
+     * conforms to a tractable profile, and with the HermiT reasoner if it 
+     * does not or if its consistency could not be proven structurally
+     * 
+     * @param context
+     * @param ontology
+     * @param profiles
+     * @return whether the ontology was proven consistent structurally
+     */
+
+    private boolean reason(OntologyPipelineStageContext context, 
+            OWLOntology ontology, List<Profiles> profiles) {
+
+        boolean structurallyConsistent = !profiles.isEmpty() 
+                && OWLStructuralConsistencyChecker.isConsistent(ontology);
+        if (structurallyConsistent) {
+            LOGGER.debug("'{}' is structurally consistent.", 
+                    context.getDownloadedFileUri());
+            setOutcome(context, OntologyValidationOutcome.VALID);
+        } else
+            setOutcome(context, checkConsistency(context, ontology));
+
+        LOGGER.debug("Semantic validation of '{}' result: {} ({})",
+                context.getDownloadedFileUri(), 
+                context.getOntologyMessage().isSemanticallyValid(), 
+                context.getOntologyMessage().getValidationOutcome());
+        LOGGER.info("Ontology Validation Service - "
+                + "Finished the semantic validation of the ingested resource.");
+        return structurallyConsistent;
+
+    }
+
+    /**
+     * Check the consistency of the ontology with the HermiT reasoner under
+     * a watchdog that settles the outcome as skipped once it exceeds the 
+     * configured wall-clock timeout, if any, or once the live heap exceeds 
+     * the configured share of the maximum heap, so that a single 
+     * pathological ontology cannot hold the consumer thread indefinitely. 
+     * The reasoner is both created, which clausifies and preprocesses the 
+     * ontology, and queried on a reasoning thread under the watchdog, 
+     * which interrupts it as soon as it exists. A reasoner that is still 
+     * being created when the outcome is settled is disposed of by the 
+     * reasoning thread once its creation completes.
+     * 
+     * @param context
+     * @param ontology
+     * @return the outcome, which is skipped if the reasoner was interrupted
+     */
+
+    private OntologyValidationOutcome checkConsistency(
+            OntologyPipelineStageContext context, OWLOntology ontology) {
+
+        if (isHeapBudgetExceeded()) {
+            LOGGER.warn("Skipped reasoning over '{}' - the heap budget of "
+                    + "{} is already exceeded.", 
+                    context.getDownloadedFileUri(), maxHeapUsage);
+            return OntologyValidationOutcome.SKIPPED_HEAP_LIMIT;
+        }
+
+        CompletableFuture<OntologyValidationOutcome> outcome = 
+                new CompletableFuture<>();
+        AtomicReference<OWLReasoner> reasoner = new AtomicReference<>();
+        AtomicReference<OntologyValidationOutcome> interruption = 
+                new AtomicReference<>();
+        long deadline = System.nanoTime() 
+                + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        ScheduledFuture<?> watchdog = watchdogExecutorService
+                .scheduleAtFixedRate(() -> {
+                    if (timeoutSeconds > 0 && System.nanoTime() >= deadline)
+                        interruption.compareAndSet(null, 
+                                OntologyValidationOutcome.SKIPPED_TIMEOUT);
+                    else if (isHeapBudgetExceeded())
+                        interruption.compareAndSet(null, 
+                                OntologyValidationOutcome.SKIPPED_HEAP_LIMIT);
+                    if (interruption.get() == null)
+                        return;
+                    outcome.complete(interruption.get());
+
+                    // Interrupt on every tick since HermiT clears the 
+                    // interrupt flag whenever it starts a new task
+                    OWLReasoner createdReasoner = reasoner.get();
+                    if (createdReasoner != null)
+                        createdReasoner.interrupt();
+                }, WATCHDOG_INTERVAL_MILLIS, WATCHDOG_INTERVAL_MILLIS, 
+                        TimeUnit.MILLISECONDS);
+
+        reasonerExecutorService.execute(() -> {
+            OWLReasoner createdReasoner = null;
+            try {
+                createdReasoner = new Reasoner(new Configuration(), ontology);
+                reasoner.set(createdReasoner);
+                if (!outcome.isDone())
+                    outcome.complete(createdReasoner.isConsistent() ? 
+                            OntologyValidationOutcome.VALID : 
+                                OntologyValidationOutcome.INVALID);
+            } catch (ReasonerInterruptedException e) {
+                outcome.complete(interruption.get() != null ? 
+                        interruption.get() : 
+                            OntologyValidationOutcome.SKIPPED_TIMEOUT);
+            } catch (Throwable e) {
+                outcome.completeExceptionally(e);
+            } finally {
+                watchdog.cancel(false);
+                if (createdReasoner != null)
+                    createdReasoner.dispose();
+            }
+        });
+
+        try {
+            OntologyValidationOutcome validationOutcome = outcome.join();
+            if (validationOutcome.isSkipped())
+                LOGGER.warn("Interrupted reasoning over '{}': {}", 
+                        context.getDownloadedFileUri(), validationOutcome);
+            return validationOutcome;
+        } catch (CompletionException e) {
+
+            // Errors such as running out of heap leave the JVM in an 
+            // undefined state, so they are never treated as an outcome
+            if (e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+
+        }
+
+    }
+
+    /**
+     * Test whether the live heap, as measured after the most recent 
+     * garbage collection of each heap pool, exceeds the heap budget
+     * 
+     * @return
+     */
+
+    private boolean isHeapBudgetExceeded() {
+        if (maxHeapUsage <= 0)
+            return false;
+        long usedBytes = 0;
+        for (MemoryPoolMXBean memoryPool : 
+                ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage collectionUsage = memoryPool.getCollectionUsage();
+            if (memoryPool.getType() == MemoryType.HEAP 
+                    && collectionUsage != null)
+                usedBytes += collectionUsage.getUsed();
+        }
+        return usedBytes > maxHeapUsage * Runtime.getRuntime().maxMemory();
+    }
+
+    /**
+     * Set the validation outcome of the ontology and whether it is 
+     * semantically valid, treating skipped outcomes as configured
+     * 
+     * @param context
+     * @param outcome
+     */
+
+    private void setOutcome(OntologyPipelineStageContext context, 
+            OntologyValidationOutcome outcome) {
+        context.getOntologyMessage().setValidationOutcome(outcome.toString());
+        context.getOntologyMessage().setSemanticallyValid(
+                outcome == OntologyValidationOutcome.VALID 
+                    || (outcome.isSkipped() 
+                            && Boolean.TRUE.equals(passSkipped)));
+        if (outcome.isSkipped() && Boolean.TRUE.equals(passSkipped))
+            LOGGER.warn("The semantic validation of '{}' was skipped ({}) "
+                    + "and it is passed without having been proven "
+                    + "consistent.", context.getDownloadedFileUri(), outcome);
     }
 
     /**
      * Copy the ingested ontology to the validated directory in persistent
      * storage if it is semantically valid
      * 
+     * @param context
      * @throws IOException
      */
 
-    private void save() throws IOException {
+    private void save(OntologyPipelineStageContext context) 
+            throws IOException {
 
-        if (ontologyMessage.isSemanticallyValid()) {
+        if (context.getOntologyMessage().isSemanticallyValid()) {
 
             LOGGER.info("Ontology Validation Service - "
                     + "Started the persistence of the validated resource.");
             String targetFilepath = writeDirectoryUri + "/"
-                    + ontologyMessage.getProcessedFilename();
-            objectStorageService.uploadObject(downloadedFileUri,
+                    + context.getOntologyMessage().getProcessedFilename();
+            objectStorageService.uploadObject(context.getDownloadedFileUri(),
                     targetFilepath);
             LOGGER.debug("Successfully persisted validated ontology "
                     + "resource to '{}'.", targetFilepath);
@@ -235,32 +912,24 @@ public class OntologyValidatorService {
     /**
      * Publish a message containing the semantic validation result
      * 
+     * @param context
      * @throws JsonProcessingException
      */
 
-    private void publish() throws JsonProcessingException {
+    private void publish(OntologyPipelineStageContext context) 
+            throws JsonProcessingException {
 
         LOGGER.info("Ontology Validation Service - "
                 + "Started publishing message.");
         ObjectMapper mapper = new ObjectMapper();
         dataPipelineValidatorSource.validatedPublicationChannel()
                 .send(MessageBuilder
-                        .withPayload(mapper.writeValueAsString(ontologyMessage))
+                        .withPayload(mapper.writeValueAsString(
+                                context.getOntologyMessage()))
                         .build());
         LOGGER.info("Ontology Validation Service - "
                 + "Finished publishing message.");
 
     }
 
-    /**
-     * Cleanup any open resources
-     */
-
-    private void cleanup() throws IOException {
-
-        // Close any storage service clients
-        objectStorageService.cleanup();
-
-    }
-
 }
@@ -0,0 +1,242 @@
+package ai.hyperlearning.ontopop.data.ontology.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyCreationException;
+import org.semanticweb.owlapi.model.parameters.Imports;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ai.hyperlearning.ontopop.model.ontology.OntologyMessage;
+import ai.hyperlearning.ontopop.model.ontology.OntologyPipelineStageContext;
+import ai.hyperlearning.ontopop.model.ontology.OntologyValidationOutcome;
+import ai.hyperlearning.ontopop.model.ontology.OntologyValidationResult;
+import ai.hyperlearning.ontopop.storage.local.LocalFileStorageService;
+
+/**
+ * Unit Tests - Ontology Validation Service incremental validation
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOntologyValidatorService {
+
+    private static final String NAMESPACE = "http://example.org/ontology#";
+    private static final int ONTOLOGY_ID = 1;
+    private static final OWLDataFactory DATA_FACTORY =
+            OWLManager.getOWLDataFactory();
+    private static final OWLClass A = DATA_FACTORY.getOWLClass(
+            IRI.create(NAMESPACE + "A"));
+    private static final OWLClass B = DATA_FACTORY.getOWLClass(
+            IRI.create(NAMESPACE + "B"));
+    private static final OWLClass C = DATA_FACTORY.getOWLClass(
+            IRI.create(NAMESPACE + "C"));
+    private static final OWLNamedIndividual X =
+            DATA_FACTORY.getOWLNamedIndividual(IRI.create(NAMESPACE + "x"));
+    private static final OWLAxiom A_SUBCLASS_OF_B =
+            DATA_FACTORY.getOWLSubClassOfAxiom(A, B);
+    private static final OWLAxiom B_SUBCLASS_OF_C =
+            DATA_FACTORY.getOWLSubClassOfAxiom(B, C);
+    private static final OWLAxiom X_IS_A =
+            DATA_FACTORY.getOWLClassAssertionAxiom(A, X);
+    private static final OWLAxiom A_DISJOINT_WITH_C =
+            DATA_FACTORY.getOWLDisjointClassesAxiom(A, C);
+
+    @TempDir
+    Path tempDirectory;
+
+    private OntologyValidatorService ontologyValidatorService;
+    private long gitWebhookId = 0;
+
+    @BeforeEach
+    void createService() {
+        ontologyValidatorService = new OntologyValidatorService();
+        ReflectionTestUtils.setField(ontologyValidatorService,
+                "incrementalMaxMegabytes", 64L);
+        ReflectionTestUtils.setField(ontologyValidatorService,
+                "passSkipped", Boolean.FALSE);
+    }
+
+    @Test
+    void testAddingAndRemovingAxiomsFallsBackToFullValidation()
+            throws OWLOntologyCreationException {
+
+        // A consistent revision that was proven consistent by a reasoner
+        remember(List.of(A_SUBCLASS_OF_B, X_IS_A),
+                OntologyValidationOutcome.VALID, false);
+
+        // Removing an axiom while adding another is not monotonic
+        OntologyPipelineStageContext context =
+                validateIncrementally(List.of(X_IS_A, A_DISJOINT_WITH_C));
+        assertFalse(validated(context));
+        assertNull(context.getOntologyMessage().getValidationOutcome());
+
+        // Nor is it for an inconsistent revision
+        remember(List.of(A_SUBCLASS_OF_B, X_IS_A, A_DISJOINT_WITH_C),
+                OntologyValidationOutcome.INVALID, false);
+        assertFalse(validated(validateIncrementally(
+                List.of(A_SUBCLASS_OF_B, A_DISJOINT_WITH_C,
+                        B_SUBCLASS_OF_C))));
+
+    }
+
+    @Test
+    void testAddingClashingAxiomsFallsBackToFullValidation()
+            throws OWLOntologyCreationException {
+        remember(List.of(A_SUBCLASS_OF_B, X_IS_A),
+                OntologyValidationOutcome.VALID, true);
+        assertFalse(validated(validateIncrementally(
+                List.of(A_SUBCLASS_OF_B, X_IS_A, A_DISJOINT_WITH_C))));
+    }
+
+    @Test
+    void testMonotonicDeltasAreConclusive()
+            throws OWLOntologyCreationException {
+
+        // Removing axioms from a consistent revision
+        remember(List.of(A_SUBCLASS_OF_B, X_IS_A, A_DISJOINT_WITH_C),
+                OntologyValidationOutcome.VALID, false);
+        assertOutcome(OntologyValidationOutcome.VALID,
+                validateIncrementally(List.of(A_SUBCLASS_OF_B, X_IS_A)));
+
+        // Adding clash-free axioms to a structurally consistent revision
+        remember(List.of(A_SUBCLASS_OF_B, X_IS_A),
+                OntologyValidationOutcome.VALID, true);
+        assertOutcome(OntologyValidationOutcome.VALID,
+                validateIncrementally(List.of(A_SUBCLASS_OF_B, X_IS_A,
+                        B_SUBCLASS_OF_C)));
+
+        // Adding axioms to an inconsistent revision
+        remember(List.of(X_IS_A, A_DISJOINT_WITH_C),
+                OntologyValidationOutcome.INVALID, false);
+        assertOutcome(OntologyValidationOutcome.INVALID,
+                validateIncrementally(List.of(X_IS_A, A_DISJOINT_WITH_C,
+                        A_SUBCLASS_OF_B)));
+
+    }
+
+    @Test
+    void testCachedResultsAreKeptForTheNextRevision()
+            throws IOException, OWLOntologyCreationException {
+
+        // A revision whose validation result is cached by content hash
+        String contentHash = "0123456789abcdef";
+        ReflectionTestUtils.setField(ontologyValidatorService,
+                "objectStorageService", new LocalFileStorageService());
+        ReflectionTestUtils.setField(ontologyValidatorService,
+                "validationsDirectoryUri", tempDirectory.toString());
+        new ObjectMapper().writeValue(tempDirectory.resolve(
+                OntologyValidationResult.getFilename(contentHash)).toFile(),
+                new OntologyValidationResult(contentHash, ONTOLOGY_ID,
+                        gitWebhookId, true));
+        OntologyPipelineStageContext context = context();
+        Boolean cached = ReflectionTestUtils.invokeMethod(
+                ontologyValidatorService, "validateFromCache", context,
+                contentHash, hash(createOntology(
+                        List.of(A_SUBCLASS_OF_B, X_IS_A))));
+        assertEquals(Boolean.TRUE, cached);
+        assertOutcome(OntologyValidationOutcome.VALID, context);
+
+        // The next revision is validated against the cached revision
+        assertOutcome(OntologyValidationOutcome.VALID,
+                validateIncrementally(List.of(A_SUBCLASS_OF_B)));
+
+    }
+
+    @Test
+    void testRevisionsBeyondTheHeapBudgetAreNotKept()
+            throws OWLOntologyCreationException {
+        ReflectionTestUtils.setField(ontologyValidatorService,
+                "incrementalMaxMegabytes", 0L);
+        remember(List.of(A_SUBCLASS_OF_B, X_IS_A),
+                OntologyValidationOutcome.VALID, true);
+        assertFalse(validated(validateIncrementally(
+                List.of(A_SUBCLASS_OF_B, X_IS_A))));
+    }
+
+    @Test
+    void testAxiomDeltaIsCountedFromTheHashes() {
+        OntologyValidatedRevision revision = new OntologyValidatedRevision(
+                gitWebhookId, new long[] {1, 3, 5, 7},
+                OntologyValidationOutcome.VALID, false);
+        long[] nextAxiomHashes = new long[] {0, 3, 4, 7, 9};
+        assertEquals(2, revision.countRemoved(nextAxiomHashes));
+        assertEquals(3, revision.countAdded(nextAxiomHashes));
+        assertEquals(32, revision.getSizeInBytes());
+    }
+
+    private void remember(List<OWLAxiom> axioms,
+            OntologyValidationOutcome outcome,
+            boolean structurallyConsistent)
+            throws OWLOntologyCreationException {
+        OntologyPipelineStageContext context = context();
+        context.getOntologyMessage().setValidationOutcome(outcome.toString());
+        ReflectionTestUtils.invokeMethod(ontologyValidatorService,
+                "remember", context, hash(createOntology(axioms)),
+                structurallyConsistent);
+    }
+
+    private OntologyPipelineStageContext validateIncrementally(
+            List<OWLAxiom> axioms) throws OWLOntologyCreationException {
+        OntologyPipelineStageContext context = context();
+        OWLOntology ontology = createOntology(axioms);
+        Boolean conclusive = ReflectionTestUtils.invokeMethod(
+                ontologyValidatorService, "validateIncrementally",
+                context, ontology, hash(ontology));
+
+        // An outcome is only set when the delta is conclusive
+        assertEquals(conclusive, validated(context));
+        return context;
+    }
+
+    private boolean validated(OntologyPipelineStageContext context) {
+        return context.getOntologyMessage().getValidationOutcome() != null;
+    }
+
+    private void assertOutcome(OntologyValidationOutcome outcome,
+            OntologyPipelineStageContext context) {
+        assertTrue(validated(context));
+        assertEquals(outcome.toString(),
+                context.getOntologyMessage().getValidationOutcome());
+        assertEquals(outcome == OntologyValidationOutcome.VALID,
+                context.getOntologyMessage().isSemanticallyValid());
+    }
+
+    private OntologyPipelineStageContext context() {
+        OntologyMessage ontologyMessage = new OntologyMessage();
+        ontologyMessage.setOntologyId(ONTOLOGY_ID);
+        ontologyMessage.setGitWebhookId(++gitWebhookId);
+        return new OntologyPipelineStageContext(ontologyMessage);
+    }
+
+    private long[] hash(OWLOntology ontology) {
+        return OntologyValidatedRevision.hash(
+                ontology.logicalAxioms(Imports.INCLUDED));
+    }
+
+    private OWLOntology createOntology(List<OWLAxiom> axioms)
+            throws OWLOntologyCreationException {
+        return OWLManager.createOWLOntologyManager().createOntology(
+                axioms.stream());
+    }
+
+}
@@ -108,6 +108,15 @@ public class GitWebhook implements Serializable {
     @JsonFormat(pattern="yyyy-MM-dd HH:mm:ss")
 	private LocalDateTime dateCreated;
 	
+	@Column(length = 64)
+	private String contentHash;
+	
+	private Long artifactsGitWebhookId;
+	
+	private Boolean superseded;
+	
+	private Boolean pipelineComplete;
+	
 	@ManyToOne
     @JoinColumn(name = "ontology_id", nullable = false)
     private Ontology ontology;
@@ -306,7 +315,50 @@ public class GitWebhook implements Serializable {
         this.dateCreated = dateCreated;
     }
 
-    public Ontology getOntology() {
+    public String getContentHash() {
+		return contentHash;
+	}
+
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	public Long getArtifactsGitWebhookId() {
+		return artifactsGitWebhookId;
+	}
+
+	public void setArtifactsGitWebhookId(Long artifactsGitWebhookId) {
+		this.artifactsGitWebhookId = artifactsGitWebhookId;
+	}
+
+	/**
+	 * Resolve the ID of the Git webhook whose persisted artifacts 
+	 * represent this Git webhook, given that unchanged ontology 
+	 * revisions reuse the artifacts of a previous Git webhook
+	 * @return
+	 */
+	
+	public long resolveArtifactsGitWebhookId() {
+		return artifactsGitWebhookId == null ? id : artifactsGitWebhookId;
+	}
+
+	public boolean isSuperseded() {
+		return Boolean.TRUE.equals(superseded);
+	}
+
+	public void setSuperseded(boolean superseded) {
+		this.superseded = superseded;
+	}
+
+	public boolean isPipelineComplete() {
+		return Boolean.TRUE.equals(pipelineComplete);
+	}
+
+	public void setPipelineComplete(boolean pipelineComplete) {
+		this.pipelineComplete = pipelineComplete;
+	}
+
+	public Ontology getOntology() {
 		return ontology;
 	}
 
@@ -361,7 +413,11 @@ public class GitWebhook implements Serializable {
 				+ "latestRelevantCommitCommitterEmail=" + latestRelevantCommitCommitterEmail + ", "
 				+ "latestRelevantCommitCommitterUsername=" + latestRelevantCommitCommitterUsername + ", "
 				+ "requestHeaderSignature=" + requestHeaderSignature + ", "
-				+ "dateCreated=" + dateCreated
+				+ "dateCreated=" + dateCreated + ", "
+				+ "contentHash=" + contentHash + ", "
+				+ "artifactsGitWebhookId=" + artifactsGitWebhookId + ", "
+				+ "superseded=" + superseded + ", "
+				+ "pipelineComplete=" + pipelineComplete
 				+ "]";
 	}
 	
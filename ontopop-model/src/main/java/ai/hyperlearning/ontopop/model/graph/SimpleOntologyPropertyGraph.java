@@ -3,6 +3,7 @@ package ai.hyperlearning.ontopop.model.graph;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +15,7 @@ import org.apache.commons.text.CaseUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import ai.hyperlearning.ontopop.model.owl.IRIDictionary;
 import ai.hyperlearning.ontopop.model.owl.SimpleAnnotationProperty;
 import ai.hyperlearning.ontopop.model.owl.SimpleClass;
 import ai.hyperlearning.ontopop.model.owl.SimpleNamedIndividual;
@@ -112,19 +114,24 @@ public class SimpleOntologyPropertyGraph implements Serializable {
 						simpleOntology.getSimpleAnnotationPropertyMap());
 		simpleAnnotationPropertyMap.putAll(standardSchemaAnnotationProperties);
 		
+		// Resolve each annotation property label only once rather than
+		// once per annotation of every vertex
+		Map<String, String> annotationLabels = new HashMap<>();
+		
 		// Resolve class vertices
-		resolveAndSetClassVertices(
-		        simpleOntology, simpleAnnotationPropertyMap);
+		resolveAndSetClassVertices(simpleOntology, 
+		        simpleAnnotationPropertyMap, annotationLabels);
 		
 		// Resolve named individual vertices
-		resolveAndSetNamedIndividualVertices(
-		        simpleOntology, simpleAnnotationPropertyMap);
+		resolveAndSetNamedIndividualVertices(simpleOntology, 
+		        simpleAnnotationPropertyMap, annotationLabels);
 		
 	}
 	
 	@JsonIgnore
     private void resolveAndSetClassVertices(SimpleOntology simpleOntology, 
-            Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap) {
+            Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap, 
+            Map<String, String> annotationLabels) {
 	    
 	    // Iterate over the simple class map from the simple ontology
         Map<String, SimpleClass> simpleClassMap = 
@@ -146,16 +153,10 @@ public class SimpleOntologyPropertyGraph implements Serializable {
             for (var owlClassAnnotationsEntry : owlClassAnnotations.entrySet()) {
                 String annotationIRI = owlClassAnnotationsEntry.getKey();
                 String annotationValue = owlClassAnnotationsEntry.getValue();
-                String annotationLabel = 
-                        simpleAnnotationPropertyMap.containsKey(annotationIRI) ? 
-                                CaseUtils.toCamelCase(
-                                        simpleAnnotationPropertyMap
-                                            .get(annotationIRI).getLabel(), 
-                                        false, ' ') :
-                                annotationIRI;
                 vertexProperties.put(
-                        annotationLabel != null ? 
-                                annotationLabel : annotationIRI, 
+                        annotationLabels.computeIfAbsent(annotationIRI, 
+                                key -> getAnnotationLabel(
+                                        simpleAnnotationPropertyMap, key)), 
                         annotationValue);
             }
             
@@ -170,7 +171,8 @@ public class SimpleOntologyPropertyGraph implements Serializable {
 	@JsonIgnore
     private void resolveAndSetNamedIndividualVertices(
             SimpleOntology simpleOntology, 
-            Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap) {
+            Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap, 
+            Map<String, String> annotationLabels) {
 	    
 	    // Iterate over the simple named individual map from the simple ontology
         Map<String, SimpleNamedIndividual> simpleNamedIndividualMap = 
@@ -197,16 +199,10 @@ public class SimpleOntologyPropertyGraph implements Serializable {
                 namedIndividualAnnotations.entrySet()) {
                 String annotationIRI = namedIndividualAnnotationsEntry.getKey();
                 String annotationValue = namedIndividualAnnotationsEntry.getValue();
-                String annotationLabel = 
-                        simpleAnnotationPropertyMap.containsKey(annotationIRI) ? 
-                                CaseUtils.toCamelCase(
-                                        simpleAnnotationPropertyMap
-                                            .get(annotationIRI).getLabel(), 
-                                        false, ' ') :
-                                annotationIRI;
                 vertexProperties.put(
-                        annotationLabel != null ? 
-                                annotationLabel : annotationIRI, 
+                        annotationLabels.computeIfAbsent(annotationIRI, 
+                                key -> getAnnotationLabel(
+                                        simpleAnnotationPropertyMap, key)), 
                         annotationValue);
             }
             
@@ -218,6 +214,26 @@ public class SimpleOntologyPropertyGraph implements Serializable {
 	    
 	}
 	
+	/**
+	 * Resolve the vertex property key of a given annotation property IRI
+	 * @param simpleAnnotationPropertyMap
+	 * @param annotationIRI
+	 * @return
+	 */
+	
+	private static String getAnnotationLabel(
+	        Map<String, SimpleAnnotationProperty> simpleAnnotationPropertyMap, 
+	        String annotationIRI) {
+	    String annotationLabel = 
+	            simpleAnnotationPropertyMap.containsKey(annotationIRI) ? 
+	                    CaseUtils.toCamelCase(
+	                            simpleAnnotationPropertyMap
+	                                .get(annotationIRI).getLabel(), 
+	                            false, ' ') :
+	                    annotationIRI;
+	    return annotationLabel != null ? annotationLabel : annotationIRI;
+	}
+	
 	/**
 	 * Resolve and set the simple ontology edge objects which are a
 	 * one-to-one mapping of OWL sub class of relationships 
@@ -227,16 +243,66 @@ public class SimpleOntologyPropertyGraph implements Serializable {
 	@JsonIgnore
 	public void resolveAndSetEdges(SimpleOntology simpleOntology) {
 		
+		// Index the resolved vertices of this ontology by the dense ID 
+		// of their IRI so that edge endpoints are looked up without 
+		// building a vertex key string per edge
+		IRIDictionary iriDictionary = simpleOntology.getIriDictionary() != null ? 
+		        simpleOntology.getIriDictionary() : new IRIDictionary();
+		SimpleOntologyVertex[] vertexIndex = indexVertices(iriDictionary);
+		
 		// Resolve class edges
-	    resolveAndSetClassEdges(simpleOntology);
+	    resolveAndSetClassEdges(simpleOntology, iriDictionary, vertexIndex);
 	    
 	    // Resolve named individual edges
-	    resolveAndSetNamedIndividualEdges(simpleOntology);
+	    resolveAndSetNamedIndividualEdges(
+	            simpleOntology, iriDictionary, vertexIndex);
 		
 	}
 	
+	/**
+	 * Index the resolved vertices of this ontology by the ID of their IRI
+	 * in a given IRI dictionary, adding any IRIs not yet in the dictionary
+	 * @param iriDictionary
+	 * @return
+	 */
+	
+	private SimpleOntologyVertex[] indexVertices(IRIDictionary iriDictionary) {
+	    List<SimpleOntologyVertex> ontologyVertices = new ArrayList<>();
+	    for (SimpleOntologyVertex vertex : this.vertices.values()) {
+	        if ( vertex.getOntologyId() == this.id && vertex.getIri() != null ) {
+	            iriDictionary.getId(vertex.getIri());
+	            ontologyVertices.add(vertex);
+	        }
+	    }
+	    SimpleOntologyVertex[] vertexIndex = 
+	            new SimpleOntologyVertex[iriDictionary.size()];
+	    for (SimpleOntologyVertex vertex : ontologyVertices)
+	        vertexIndex[iriDictionary.indexOf(vertex.getIri())] = vertex;
+	    return vertexIndex;
+	}
+	
+	/**
+	 * Get the resolved vertex of a given IRI from a vertex index
+	 * @param iriDictionary
+	 * @param vertexIndex
+	 * @param iri
+	 * @return the vertex, or null if no vertex has been resolved for the IRI
+	 */
+	
+	private static SimpleOntologyVertex getVertex(IRIDictionary iriDictionary, 
+	        SimpleOntologyVertex[] vertexIndex, String iri) {
+	    int iriId = iriDictionary.indexOf(iri);
+	    return iriId > -1 && iriId < vertexIndex.length ? 
+	            vertexIndex[iriId] : null;
+	}
+	
 	@JsonIgnore
-    private void resolveAndSetClassEdges(SimpleOntology simpleOntology) {
+    private void resolveAndSetClassEdges(SimpleOntology simpleOntology, 
+            IRIDictionary iriDictionary, SimpleOntologyVertex[] vertexIndex) {
+	    
+	    // Resolve each distinct set of parent class object properties to 
+	    // its relationship description only once
+	    Map<String, String> relationshipLabels = new HashMap<>();
 	    
 	    // Iterate over the simple class map from the simple ontology
         Map<String, SimpleClass> simpleClassMap = simpleOntology
@@ -246,12 +312,8 @@ public class SimpleOntologyPropertyGraph implements Serializable {
             SimpleClass owlClass = simpleClassMapEntry.getValue();
             
             // Get the previously resolved source vertex
-            String sourceVertexKey = owlClassIRI 
-                    + SimpleOntologyVertex.VERTEX_KEY_DELIMITER 
-                    + this.id;
-            SimpleOntologyVertex sourceVertex = this.vertices
-                    .containsKey(sourceVertexKey) ? 
-                    vertices.get(sourceVertexKey) : null;
+            SimpleOntologyVertex sourceVertex = 
+                    getVertex(iriDictionary, vertexIndex, owlClassIRI);
             if ( sourceVertex != null ) {
                 
                 // Resolve relationships for this vertex
@@ -262,12 +324,8 @@ public class SimpleOntologyPropertyGraph implements Serializable {
                     String objectPropertyIRI = owlClassParentsEntry.getValue();
                     
                     // Get the previously resolved target vertex
-                    String targetVertexKey = parentClassIRI 
-                            + SimpleOntologyVertex.VERTEX_KEY_DELIMITER 
-                            + this.id;
-                    SimpleOntologyVertex targetVertex = this.vertices
-                            .containsKey(targetVertexKey) ? 
-                            vertices.get(targetVertexKey) : null;
+                    SimpleOntologyVertex targetVertex = getVertex(
+                            iriDictionary, vertexIndex, parentClassIRI);
                     if ( targetVertex != null ) {
                         
                         // Create a new simple ontology edge object for each 
@@ -289,31 +347,12 @@ public class SimpleOntologyPropertyGraph implements Serializable {
                         
                         // Resolve the relationship description
                         if ( objectPropertyIRI != null ) {
-                            
-                            // There may be many object property IRIs
-                            // delimited by the | symbol
-                            List<String> objectPropertyIRIs = 
-                                    Arrays.asList(objectPropertyIRI
-                                            .replace(" " + PARENT_CLASS_OBJECT_PROPERTY_DELIMITER + " ", 
-                                                    PARENT_CLASS_OBJECT_PROPERTY_DELIMITER)
-                                            .split("\\" + PARENT_CLASS_OBJECT_PROPERTY_DELIMITER));
-                            StringJoiner objectPropertyLabel = new StringJoiner(
-                                    " " + PARENT_CLASS_OBJECT_PROPERTY_DELIMITER + " ");
-                            for (String currentObjectPropertyIRI : 
-                                objectPropertyIRIs) {
-                                objectPropertyLabel.add(simpleOntology
-                                        .getSimpleObjectPropertyMap()
-                                        .containsKey(currentObjectPropertyIRI) ? 
-                                                simpleOntology
-                                                .getSimpleObjectPropertyMap()
-                                                .get(currentObjectPropertyIRI)
-                                                .getLabel() : 
-                                                    currentObjectPropertyIRI);
-                            }
                             edgeProperties.put(
                                     SimpleOntologyEdge.RELATIONSHIP_TYPE_KEY, 
-                                    objectPropertyLabel.toString());
-                            
+                                    relationshipLabels.computeIfAbsent(
+                                            objectPropertyIRI, 
+                                            key -> getRelationshipLabel(
+                                                    simpleOntology, key)));
                         }
                         
                         // Add the new simple ontology edge to the set of edges
@@ -330,9 +369,44 @@ public class SimpleOntologyPropertyGraph implements Serializable {
 	    
 	}
 	
+	/**
+	 * Resolve the relationship description of a given set of parent class
+	 * object property IRIs delimited by the | symbol
+	 * @param simpleOntology
+	 * @param objectPropertyIRI
+	 * @return
+	 */
+	
+	private static String getRelationshipLabel(
+	        SimpleOntology simpleOntology, String objectPropertyIRI) {
+	    
+	    // There may be many object property IRIs
+	    // delimited by the | symbol
+	    List<String> objectPropertyIRIs = 
+	            Arrays.asList(objectPropertyIRI
+	                    .replace(" " + PARENT_CLASS_OBJECT_PROPERTY_DELIMITER + " ", 
+	                            PARENT_CLASS_OBJECT_PROPERTY_DELIMITER)
+	                    .split("\\" + PARENT_CLASS_OBJECT_PROPERTY_DELIMITER));
+	    StringJoiner objectPropertyLabel = new StringJoiner(
+	            " " + PARENT_CLASS_OBJECT_PROPERTY_DELIMITER + " ");
+	    for (String currentObjectPropertyIRI : objectPropertyIRIs) {
+	        objectPropertyLabel.add(simpleOntology
+	                .getSimpleObjectPropertyMap()
+	                .containsKey(currentObjectPropertyIRI) ? 
+	                        simpleOntology
+	                        .getSimpleObjectPropertyMap()
+	                        .get(currentObjectPropertyIRI)
+	                        .getLabel() : 
+	                            currentObjectPropertyIRI);
+	    }
+	    return objectPropertyLabel.toString();
+	    
+	}
+	
 	@JsonIgnore
     private void resolveAndSetNamedIndividualEdges(
-            SimpleOntology simpleOntology) {
+            SimpleOntology simpleOntology, IRIDictionary iriDictionary, 
+            SimpleOntologyVertex[] vertexIndex) {
 	    
 	    // Iterate over the simple named individual map from the simple ontology
         Map<String, SimpleNamedIndividual> simpleNamedIndividualMap = 
@@ -345,12 +419,8 @@ public class SimpleOntologyPropertyGraph implements Serializable {
                     simpleNamedIndividualMapEntry.getValue();
             
             // Get the previously resolved source vertex
-            String sourceVertexKey = namedIndividualIRI 
-                    + SimpleOntologyVertex.VERTEX_KEY_DELIMITER 
-                    + this.id;
-            SimpleOntologyVertex sourceVertex = this.vertices
-                    .containsKey(sourceVertexKey) ? 
-                    vertices.get(sourceVertexKey) : null;
+            SimpleOntologyVertex sourceVertex = 
+                    getVertex(iriDictionary, vertexIndex, namedIndividualIRI);
             if ( sourceVertex != null ) {
                 
                 // Resolve named individual > instance of > class relationships
@@ -359,12 +429,8 @@ public class SimpleOntologyPropertyGraph implements Serializable {
                 for (String instanceOfClassIri : instanceOfClassIris) {
                     
                     // Get the previously resolved target vertex
-                    String targetVertexKey = instanceOfClassIri
-                            + SimpleOntologyVertex.VERTEX_KEY_DELIMITER 
-                            + this.id;
-                    SimpleOntologyVertex targetVertex = 
-                            this.vertices.containsKey(targetVertexKey) ? 
-                                    vertices.get(targetVertexKey) : null;
+                    SimpleOntologyVertex targetVertex = getVertex(
+                            iriDictionary, vertexIndex, instanceOfClassIri);
                     if ( targetVertex != null ) {
                         
                         // Create a new simple ontology edge object for each 
@@ -403,12 +469,9 @@ public class SimpleOntologyPropertyGraph implements Serializable {
                             linkedNamedIndividualsEntry.getValue();
                     
                     // Get the previously resolved target vertex
-                    String targetVertexKey = linkedTargetIndividualIri
-                            + SimpleOntologyVertex.VERTEX_KEY_DELIMITER 
-                            + this.id;
-                    SimpleOntologyVertex targetVertex = 
-                            this.vertices.containsKey(targetVertexKey) ? 
-                                    vertices.get(targetVertexKey) : null;
+                    SimpleOntologyVertex targetVertex = getVertex(
+                            iriDictionary, vertexIndex, 
+                            linkedTargetIndividualIri);
                     if ( targetVertex != null ) {
                         
                         // Create a new simple ontology edge object for each 
@@ -0,0 +1,235 @@
+package ai.hyperlearning.ontopop.model.graph;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Delta between two versions of the same Simple Ontology Property Graph
+ * describing the vertices and edges that must be applied to a backend
+ * holding the previous version in order for it to hold the current version
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class SimpleOntologyPropertyGraphDelta implements Serializable {
+
+	private static final long serialVersionUID = -3361804529016224458L;
+
+	// Properties that are added prior to loading and which do not
+	// describe the modelled OWL entity itself
+	private static final Set<String> VERTEX_LOADING_PROPERTY_KEYS =
+			new HashSet<>(Arrays.asList("iri", "ontologyId", "vertexKey",
+					"vertexId", "latestGitWebhookId"));
+	private static final Set<String> EDGE_LOADING_PROPERTY_KEYS =
+			new HashSet<>(Arrays.asList("sourceVertexKey", "sourceVertexId",
+					"targetVertexKey", "targetVertexId", "ontologyId",
+					"latestGitWebhookId"));
+
+	// Vertices that do not exist in the previous version
+	private Map<String, SimpleOntologyVertex> addedVertices =
+			new LinkedHashMap<>();
+
+	// Vertices whose label or properties differ from the previous version
+	private Map<String, SimpleOntologyVertex> updatedVertices =
+			new LinkedHashMap<>();
+
+	// Vertices that no longer exist in the current version
+	private Map<String, SimpleOntologyVertex> deletedVertices =
+			new LinkedHashMap<>();
+
+	// Source vertex IDs whose outgoing edges must be replaced
+	private Set<Long> updatedEdgeSourceVertexIds = new LinkedHashSet<>();
+
+	// The current outgoing edges of the updated edge source vertices
+	private List<SimpleOntologyEdge> updatedEdges = new ArrayList<>();
+
+	public SimpleOntologyPropertyGraphDelta() {
+
+	}
+
+	/**
+	 * Compute the delta between a previous and a current version
+	 * of the same property graph
+	 * @param previous
+	 * @param current
+	 */
+
+	public SimpleOntologyPropertyGraphDelta(
+			SimpleOntologyPropertyGraph previous,
+			SimpleOntologyPropertyGraph current) {
+		resolveVertices(previous, current);
+		resolveEdges(previous, current);
+	}
+
+	private void resolveVertices(
+			SimpleOntologyPropertyGraph previous,
+			SimpleOntologyPropertyGraph current) {
+
+		Map<String, SimpleOntologyVertex> previousVertices =
+				previous.getVertices();
+		for (var entry : current.getVertices().entrySet()) {
+			SimpleOntologyVertex previousVertex =
+					previousVertices.get(entry.getKey());
+			if (previousVertex == null)
+				addedVertices.put(entry.getKey(), entry.getValue());
+			else if (!Objects.equals(previousVertex.getLabel(),
+						entry.getValue().getLabel())
+					|| !modelledProperties(previousVertex.getProperties(),
+							VERTEX_LOADING_PROPERTY_KEYS)
+						.equals(modelledProperties(
+							entry.getValue().getProperties(),
+							VERTEX_LOADING_PROPERTY_KEYS)))
+				updatedVertices.put(entry.getKey(), entry.getValue());
+		}
+		for (var entry : previousVertices.entrySet()) {
+			if (!current.getVertices().containsKey(entry.getKey()))
+				deletedVertices.put(entry.getKey(), entry.getValue());
+		}
+
+	}
+
+	private void resolveEdges(
+			SimpleOntologyPropertyGraph previous,
+			SimpleOntologyPropertyGraph current) {
+
+		// Group the outgoing edges of each version by source vertex key
+		Map<String, Set<List<Object>>> previousEdges =
+				groupEdgesBySourceVertexKey(previous.getEdges());
+		Map<String, Set<List<Object>>> currentEdges =
+				groupEdgesBySourceVertexKey(current.getEdges());
+
+		// Outgoing edges must be replaced if they have changed, or if
+		// either of their vertices is recreated given that deleting a
+		// vertex also deletes its incident edges
+		Set<String> recreatedVertexKeys = new HashSet<>(
+				updatedVertices.keySet());
+		recreatedVertexKeys.addAll(deletedVertices.keySet());
+		Set<String> updatedSourceVertexKeys = new HashSet<>();
+		for (var entry : currentEdges.entrySet()) {
+			if (!entry.getValue().equals(previousEdges.get(entry.getKey())))
+				updatedSourceVertexKeys.add(entry.getKey());
+		}
+		for (var entry : previousEdges.entrySet()) {
+			if (!currentEdges.containsKey(entry.getKey()))
+				updatedSourceVertexKeys.add(entry.getKey());
+		}
+		for (SimpleOntologyEdge edge : current.getEdges()) {
+			if (recreatedVertexKeys.contains(edge.getSourceVertexKey())
+					|| recreatedVertexKeys.contains(
+							edge.getTargetVertexKey()))
+				updatedSourceVertexKeys.add(edge.getSourceVertexKey());
+		}
+
+		// Collect the affected source vertex IDs and their current edges
+		for (SimpleOntologyEdge edge : previous.getEdges()) {
+			if (updatedSourceVertexKeys.contains(edge.getSourceVertexKey()))
+				updatedEdgeSourceVertexIds.add(edge.getSourceVertexId());
+		}
+		for (SimpleOntologyEdge edge : current.getEdges()) {
+			if (updatedSourceVertexKeys.contains(edge.getSourceVertexKey())) {
+				updatedEdgeSourceVertexIds.add(edge.getSourceVertexId());
+				updatedEdges.add(edge);
+			}
+		}
+
+	}
+
+	private static Map<String, Set<List<Object>>> groupEdgesBySourceVertexKey(
+			List<SimpleOntologyEdge> edges) {
+		Map<String, Set<List<Object>>> groupedEdges = new LinkedHashMap<>();
+		for (SimpleOntologyEdge edge : edges) {
+			groupedEdges.computeIfAbsent(
+					edge.getSourceVertexKey(), k -> new HashSet<>())
+				.add(Arrays.asList(
+						edge.getLabel(),
+						edge.getTargetVertexKey(),
+						modelledProperties(edge.getProperties(),
+								EDGE_LOADING_PROPERTY_KEYS)));
+		}
+		return groupedEdges;
+	}
+
+	private static Map<String, Object> modelledProperties(
+			Map<String, Object> properties, Set<String> loadingPropertyKeys) {
+		Map<String, Object> modelledProperties = new LinkedHashMap<>();
+		if (properties != null) {
+			for (var entry : properties.entrySet()) {
+				if (!loadingPropertyKeys.contains(entry.getKey()))
+					modelledProperties.put(entry.getKey(), entry.getValue());
+			}
+		}
+		return modelledProperties;
+	}
+
+	public boolean isEmpty() {
+		return addedVertices.isEmpty() && updatedVertices.isEmpty()
+				&& deletedVertices.isEmpty()
+				&& updatedEdgeSourceVertexIds.isEmpty();
+	}
+
+	public Map<String, SimpleOntologyVertex> getAddedVertices() {
+		return addedVertices;
+	}
+
+	public void setAddedVertices(
+			Map<String, SimpleOntologyVertex> addedVertices) {
+		this.addedVertices = addedVertices;
+	}
+
+	public Map<String, SimpleOntologyVertex> getUpdatedVertices() {
+		return updatedVertices;
+	}
+
+	public void setUpdatedVertices(
+			Map<String, SimpleOntologyVertex> updatedVertices) {
+		this.updatedVertices = updatedVertices;
+	}
+
+	public Map<String, SimpleOntologyVertex> getDeletedVertices() {
+		return deletedVertices;
+	}
+
+	public void setDeletedVertices(
+			Map<String, SimpleOntologyVertex> deletedVertices) {
+		this.deletedVertices = deletedVertices;
+	}
+
+	public Set<Long> getUpdatedEdgeSourceVertexIds() {
+		return updatedEdgeSourceVertexIds;
+	}
+
+	public void setUpdatedEdgeSourceVertexIds(
+			Set<Long> updatedEdgeSourceVertexIds) {
+		this.updatedEdgeSourceVertexIds = updatedEdgeSourceVertexIds;
+	}
+
+	public List<SimpleOntologyEdge> getUpdatedEdges() {
+		return updatedEdges;
+	}
+
+	public void setUpdatedEdges(List<SimpleOntologyEdge> updatedEdges) {
+		this.updatedEdges = updatedEdges;
+	}
+
+	@Override
+	public String toString() {
+		return "SimpleOntologyPropertyGraphDelta ["
+				+ "addedVertices=" + addedVertices.size() + ", "
+				+ "updatedVertices=" + updatedVertices.size() + ", "
+				+ "deletedVertices=" + deletedVertices.size() + ", "
+				+ "updatedEdgeSourceVertexIds="
+					+ updatedEdgeSourceVertexIds.size() + ", "
+				+ "updatedEdges=" + updatedEdges.size()
+				+ "]";
+	}
+
+}
@@ -0,0 +1,167 @@
+package ai.hyperlearning.ontopop.model.graph;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Streaming reader of a serialized Simple Ontology Property Graph that
+ * binds one vertex or edge at a time and hands them to consumers in
+ * batches, so that the full graph is never held in memory. Edges that
+ * are serialized before the vertices are held back until the vertices
+ * have been consumed.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class SimpleOntologyPropertyGraphReader implements Closeable {
+	
+	private static final String ID_FIELD = "id";
+	private static final String LATEST_GIT_WEBHOOK_ID_FIELD = 
+			"latestGitWebhookId";
+	private static final String VERTICES_FIELD = "vertices";
+	private static final String EDGES_FIELD = "edges";
+	
+	private final JsonParser parser;
+	private int id;
+	private long latestGitWebhookId;
+	private long vertexCount = 0;
+	private long edgeCount = 0;
+	
+	/**
+	 * Consumer of a batch of vertices or edges
+	 */
+	
+	@FunctionalInterface
+	public interface BatchConsumer<T> {
+		void accept(List<T> batch) throws Exception;
+	}
+	
+	/**
+	 * @param parser a parser with an object codec, for example one 
+	 *               created by an ObjectMapper
+	 */
+	
+	public SimpleOntologyPropertyGraphReader(JsonParser parser) {
+		this.parser = parser;
+	}
+	
+	/**
+	 * Read the graph, handing its vertices and then its edges to the 
+	 * given consumers in batches of at most the given size
+	 * @param batchSize
+	 * @param vertexConsumer
+	 * @param edgeConsumer the edge consumer, or null to skip the edges
+	 * @throws Exception
+	 */
+	
+	public void read(int batchSize, 
+			BatchConsumer<SimpleOntologyVertex> vertexConsumer, 
+			BatchConsumer<SimpleOntologyEdge> edgeConsumer) 
+					throws Exception {
+		
+		if ( parser.currentToken() == null )
+			parser.nextToken();
+		if ( parser.currentToken() != JsonToken.START_OBJECT )
+			throw new IOException("Expected a serialized "
+					+ "SimpleOntologyPropertyGraph object.");
+		
+		boolean verticesRead = false;
+		List<SimpleOntologyEdge> pendingEdges = new ArrayList<>();
+		while ( parser.nextToken() == JsonToken.FIELD_NAME ) {
+			String field = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			if ( ID_FIELD.equals(field) )
+				id = parser.getIntValue();
+			else if ( LATEST_GIT_WEBHOOK_ID_FIELD.equals(field) )
+				latestGitWebhookId = parser.getLongValue();
+			else if ( VERTICES_FIELD.equals(field) 
+					&& token == JsonToken.START_OBJECT ) {
+				readVertices(batchSize, vertexConsumer);
+				verticesRead = true;
+				accept(pendingEdges, edgeConsumer);
+			}
+			else if ( EDGES_FIELD.equals(field) 
+					&& token == JsonToken.START_ARRAY 
+					&& edgeConsumer != null ) {
+				if ( verticesRead )
+					readEdges(batchSize, edgeConsumer);
+				else
+					readEdges(Integer.MAX_VALUE, pendingEdges::addAll);
+			}
+			else
+				parser.skipChildren();
+		}
+		accept(pendingEdges, edgeConsumer);
+		
+	}
+	
+	private void readVertices(int batchSize, 
+			BatchConsumer<SimpleOntologyVertex> vertexConsumer) 
+					throws Exception {
+		List<SimpleOntologyVertex> batch = new ArrayList<>(batchSize);
+		while ( parser.nextToken() == JsonToken.FIELD_NAME ) {
+			parser.nextToken();
+			batch.add(parser.readValueAs(SimpleOntologyVertex.class));
+			vertexCount++;
+			if ( batch.size() >= batchSize ) {
+				vertexConsumer.accept(batch);
+				batch = new ArrayList<>(batchSize);
+			}
+		}
+		if ( !batch.isEmpty() )
+			vertexConsumer.accept(batch);
+	}
+	
+	private void readEdges(int batchSize, 
+			BatchConsumer<SimpleOntologyEdge> edgeConsumer) 
+					throws Exception {
+		List<SimpleOntologyEdge> batch = new ArrayList<>();
+		while ( parser.nextToken() == JsonToken.START_OBJECT ) {
+			batch.add(parser.readValueAs(SimpleOntologyEdge.class));
+			edgeCount++;
+			if ( batch.size() >= batchSize ) {
+				edgeConsumer.accept(batch);
+				batch = new ArrayList<>();
+			}
+		}
+		if ( !batch.isEmpty() )
+			edgeConsumer.accept(batch);
+	}
+	
+	private static void accept(List<SimpleOntologyEdge> pendingEdges, 
+			BatchConsumer<SimpleOntologyEdge> edgeConsumer) 
+					throws Exception {
+		if ( !pendingEdges.isEmpty() ) {
+			edgeConsumer.accept(new ArrayList<>(pendingEdges));
+			pendingEdges.clear();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		parser.close();
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public long getLatestGitWebhookId() {
+		return latestGitWebhookId;
+	}
+
+	public long getVertexCount() {
+		return vertexCount;
+	}
+
+	public long getEdgeCount() {
+		return edgeCount;
+	}
+
+}
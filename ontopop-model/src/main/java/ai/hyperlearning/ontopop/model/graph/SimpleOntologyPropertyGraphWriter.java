@@ -0,0 +1,122 @@
+package ai.hyperlearning.ontopop.model.graph;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Streaming writer of a Simple Ontology Property Graph that serializes 
+ * one vertex or edge at a time, in the same layout as the object mapper, 
+ * so that a graph can be written without first being fully assembled. 
+ * All vertices must be written before the first edge.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class SimpleOntologyPropertyGraphWriter implements Closeable {
+	
+	private final JsonGenerator generator;
+	private boolean writingVertices = false;
+	private boolean writingEdges = false;
+	
+	/**
+	 * Start writing a graph with the given IDs
+	 * @param generator a generator with an object codec, for example one 
+	 *                  created by an ObjectMapper
+	 * @param id
+	 * @param latestGitWebhookId
+	 * @throws IOException
+	 */
+	
+	public SimpleOntologyPropertyGraphWriter(JsonGenerator generator, 
+			int id, long latestGitWebhookId) throws IOException {
+		this.generator = generator;
+		generator.writeStartObject();
+		generator.writeNumberField("id", id);
+		generator.writeNumberField("latestGitWebhookId", latestGitWebhookId);
+	}
+	
+	/**
+	 * Write a vertex under a given vertex key
+	 * @param vertexKey
+	 * @param vertex
+	 * @throws IOException
+	 */
+	
+	public void writeVertex(String vertexKey, SimpleOntologyVertex vertex) 
+			throws IOException {
+		if ( writingEdges )
+			throw new IllegalStateException(
+					"Vertices cannot be written after edges.");
+		if ( !writingVertices ) {
+			generator.writeObjectFieldStart("vertices");
+			writingVertices = true;
+		}
+		generator.writeFieldName(vertexKey);
+		generator.writeObject(vertex);
+	}
+	
+	/**
+	 * Write an edge
+	 * @param edge
+	 * @throws IOException
+	 */
+	
+	public void writeEdge(SimpleOntologyEdge edge) throws IOException {
+		if ( !writingEdges ) {
+			endVertices();
+			generator.writeArrayFieldStart("edges");
+			writingEdges = true;
+		}
+		generator.writeObject(edge);
+	}
+	
+	private void endVertices() throws IOException {
+		if ( !writingVertices )
+			generator.writeObjectFieldStart("vertices");
+		generator.writeEndObject();
+		writingVertices = false;
+	}
+	
+	/**
+	 * Finish writing the graph and close the underlying generator
+	 */
+
+	@Override
+	public void close() throws IOException {
+		if ( !writingEdges ) {
+			endVertices();
+			generator.writeArrayFieldStart("edges");
+		}
+		generator.writeEndArray();
+		generator.writeEndObject();
+		generator.close();
+	}
+	
+	/**
+	 * Write a complete graph with a given generator, closing it
+	 * @param generator
+	 * @param simpleOntologyPropertyGraph
+	 * @throws IOException
+	 */
+	
+	public static void write(JsonGenerator generator, 
+			SimpleOntologyPropertyGraph simpleOntologyPropertyGraph) 
+					throws IOException {
+		try (SimpleOntologyPropertyGraphWriter writer = 
+				new SimpleOntologyPropertyGraphWriter(generator, 
+						simpleOntologyPropertyGraph.getId(), 
+						simpleOntologyPropertyGraph.getLatestGitWebhookId())) {
+			for (Map.Entry<String, SimpleOntologyVertex> entry : 
+					simpleOntologyPropertyGraph.getVertices().entrySet())
+				writer.writeVertex(entry.getKey(), entry.getValue());
+			for (SimpleOntologyEdge edge : 
+					simpleOntologyPropertyGraph.getEdges())
+				writer.writeEdge(edge);
+		}
+	}
+
+}
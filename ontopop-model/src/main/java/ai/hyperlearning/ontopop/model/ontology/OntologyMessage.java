@@ -17,7 +17,10 @@ public class OntologyMessage implements Serializable {
 	private int ontologyId;
 	private long gitWebhookId;
 	private String processedFilename;
+	private String previousProcessedFilename;
+	private String sourceFormat;
 	private boolean semanticallyValid = false;
+	private String validationOutcome;
 	
 	public OntologyMessage() {
 		
@@ -33,6 +36,23 @@ public class OntologyMessage implements Serializable {
 		this.processedFilename = processedFilename;
 	}
 
+	/**
+	 * Copy a given ontology message so that concurrently running stages
+	 * do not share mutable state
+	 * @param ontologyMessage
+	 */
+
+	public OntologyMessage(OntologyMessage ontologyMessage) {
+		this.ontologyId = ontologyMessage.ontologyId;
+		this.gitWebhookId = ontologyMessage.gitWebhookId;
+		this.processedFilename = ontologyMessage.processedFilename;
+		this.previousProcessedFilename =
+				ontologyMessage.previousProcessedFilename;
+		this.sourceFormat = ontologyMessage.sourceFormat;
+		this.semanticallyValid = ontologyMessage.semanticallyValid;
+		this.validationOutcome = ontologyMessage.validationOutcome;
+	}
+
 	public int getOntologyId() {
 		return ontologyId;
 	}
@@ -62,6 +82,29 @@ public class OntologyMessage implements Serializable {
 		this.processedFilename = processedFilename;
 	}
 
+	public String getPreviousProcessedFilename() {
+		return previousProcessedFilename;
+	}
+	
+	@JsonIgnore
+	public String getPreviousJsonProcessedFilename() {
+		return previousProcessedFilename == null ? 
+				null : previousProcessedFilename + ".json";
+	}
+
+	public void setPreviousProcessedFilename(
+			String previousProcessedFilename) {
+		this.previousProcessedFilename = previousProcessedFilename;
+	}
+
+	public String getSourceFormat() {
+		return sourceFormat;
+	}
+
+	public void setSourceFormat(String sourceFormat) {
+		this.sourceFormat = sourceFormat;
+	}
+
 	public boolean isSemanticallyValid() {
 		return semanticallyValid;
 	}
@@ -70,6 +113,14 @@ public class OntologyMessage implements Serializable {
 		this.semanticallyValid = semanticallyValid;
 	}
 
+	public String getValidationOutcome() {
+		return validationOutcome;
+	}
+
+	public void setValidationOutcome(String validationOutcome) {
+		this.validationOutcome = validationOutcome;
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
@@ -102,7 +153,10 @@ public class OntologyMessage implements Serializable {
 				+ "ontologyId=" + ontologyId + ", "
 				+ "gitWebhookId=" + gitWebhookId + ", "
 				+ "processedFilename=" + processedFilename  + ", "
-				+ "semanticallyValid=" + semanticallyValid
+				+ "previousProcessedFilename=" + previousProcessedFilename + ", "
+				+ "sourceFormat=" + sourceFormat + ", "
+				+ "semanticallyValid=" + semanticallyValid + ", "
+				+ "validationOutcome=" + validationOutcome
 				+ "]";
 	}
 	
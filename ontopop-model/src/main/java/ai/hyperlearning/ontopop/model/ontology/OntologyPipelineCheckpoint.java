@@ -0,0 +1,130 @@
+package ai.hyperlearning.ontopop.model.ontology;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+/**
+ * Ontology Pipeline Checkpoint - records the completion of a pipeline
+ * stage for a given ontology revision along with its output artifact
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+@Entity
+@Table(name = "pipelinecheckpoints", uniqueConstraints = {
+		@UniqueConstraint(columnNames = {
+				"ontologyId", "gitWebhookId", "stage"})})
+public class OntologyPipelineCheckpoint implements Serializable {
+
+	private static final long serialVersionUID = -4290826263618731842L;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.AUTO)
+	@Column(name = "pipelinecheckpoint_id")
+	private long id;
+
+	@NotNull
+	private int ontologyId;
+
+	@NotNull
+	private long gitWebhookId;
+
+	@NotNull
+	private String stage;
+
+	private String artifactUri;
+
+	@Basic
+	@JsonSerialize(using = LocalDateTimeSerializer.class)
+	@JsonFormat(pattern="yyyy-MM-dd HH:mm:ss")
+	private LocalDateTime dateCreated;
+
+	public OntologyPipelineCheckpoint() {
+
+	}
+
+	public OntologyPipelineCheckpoint(int ontologyId, long gitWebhookId,
+			String stage, String artifactUri) {
+		this.ontologyId = ontologyId;
+		this.gitWebhookId = gitWebhookId;
+		this.stage = stage;
+		this.artifactUri = artifactUri;
+		this.dateCreated = LocalDateTime.now();
+	}
+
+	public long getId() {
+		return id;
+	}
+
+	public void setId(long id) {
+		this.id = id;
+	}
+
+	public int getOntologyId() {
+		return ontologyId;
+	}
+
+	public void setOntologyId(int ontologyId) {
+		this.ontologyId = ontologyId;
+	}
+
+	public long getGitWebhookId() {
+		return gitWebhookId;
+	}
+
+	public void setGitWebhookId(long gitWebhookId) {
+		this.gitWebhookId = gitWebhookId;
+	}
+
+	public String getStage() {
+		return stage;
+	}
+
+	public void setStage(String stage) {
+		this.stage = stage;
+	}
+
+	public String getArtifactUri() {
+		return artifactUri;
+	}
+
+	public void setArtifactUri(String artifactUri) {
+		this.artifactUri = artifactUri;
+	}
+
+	public LocalDateTime getDateCreated() {
+		return dateCreated;
+	}
+
+	public void setDateCreated(LocalDateTime dateCreated) {
+		this.dateCreated = dateCreated;
+	}
+
+	@Override
+	public String toString() {
+		return "OntologyPipelineCheckpoint ["
+				+ "id=" + id + ", "
+				+ "ontologyId=" + ontologyId + ", "
+				+ "gitWebhookId=" + gitWebhookId + ", "
+				+ "stage=" + stage + ", "
+				+ "artifactUri=" + artifactUri + ", "
+				+ "dateCreated=" + dateCreated
+				+ "]";
+	}
+
+}
@@ -0,0 +1,60 @@
+package ai.hyperlearning.ontopop.model.ontology;
+
+/**
+ * Per-run context of an Ontology Pipeline stage so that stage services
+ * hold no state between runs and may process many messages concurrently
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OntologyPipelineStageContext {
+
+	private final OntologyMessage ontologyMessage;
+	private String readObjectUri;
+	private String readArtifactFilename;
+	private String downloadedFileUri;
+
+	public OntologyPipelineStageContext(OntologyMessage ontologyMessage) {
+		this.ontologyMessage = ontologyMessage;
+	}
+
+	public OntologyMessage getOntologyMessage() {
+		return ontologyMessage;
+	}
+
+	public String getReadObjectUri() {
+		return readObjectUri;
+	}
+
+	public void setReadObjectUri(String readObjectUri) {
+		this.readObjectUri = readObjectUri;
+	}
+
+	public String getReadArtifactFilename() {
+		return readArtifactFilename;
+	}
+
+	public void setReadArtifactFilename(String readArtifactFilename) {
+		this.readArtifactFilename = readArtifactFilename;
+	}
+
+	public String getDownloadedFileUri() {
+		return downloadedFileUri;
+	}
+
+	public void setDownloadedFileUri(String downloadedFileUri) {
+		this.downloadedFileUri = downloadedFileUri;
+	}
+
+	@Override
+	public String toString() {
+		return "OntologyPipelineStageContext ["
+				+ "ontologyMessage=" + ontologyMessage + ", "
+				+ "readObjectUri=" + readObjectUri + ", "
+				+ "readArtifactFilename=" + readArtifactFilename + ", "
+				+ "downloadedFileUri=" + downloadedFileUri
+				+ "]";
+	}
+
+}
@@ -0,0 +1,190 @@
+package ai.hyperlearning.ontopop.model.ontology;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Supported Ontology Source Formats
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum OntologySourceFormat {
+
+    RDF_XML("RDF_XML", "application/rdf+xml", "owl", "rdf", "xml"),
+    OWL_XML("OWL_XML", "application/owl+xml", "owx"),
+    TURTLE("TURTLE", "text/turtle", "ttl"),
+    N_TRIPLES("N_TRIPLES", "application/n-triples", "nt"),
+    JSON_LD("JSON_LD", "application/ld+json", "jsonld");
+
+    private static final int SNIFF_BYTES = 4096;
+    private static final String OWL_XML_ROOT_ELEMENT = "<Ontology";
+
+    private final String label;
+    private final String contentType;
+    private final List<String> extensions;
+    private static final Map<String, OntologySourceFormat> LABEL_MAP =
+            new HashMap<>();
+    private static final Map<String, OntologySourceFormat> EXTENSION_MAP =
+            new HashMap<>();
+
+    static {
+        for (OntologySourceFormat f : values()) {
+            LABEL_MAP.put(f.label, f);
+            for (String extension : f.extensions)
+                EXTENSION_MAP.putIfAbsent(extension, f);
+        }
+    }
+
+    private OntologySourceFormat(final String label,
+            final String contentType, final String... extensions) {
+        this.label = label;
+        this.contentType = contentType;
+        this.extensions = List.of(extensions);
+    }
+
+    public static OntologySourceFormat valueOfLabel(String label) {
+        return label == null ? null : LABEL_MAP.get(label);
+    }
+
+    /**
+     * Get the source format implied by the extension of a given filename
+     * @param filename
+     * @return the source format, or null if the extension is unknown
+     */
+
+    public static OntologySourceFormat valueOfFilename(String filename) {
+        int indexOfExtension = filename.lastIndexOf('.');
+        return indexOfExtension < 0 ? null : EXTENSION_MAP.get(
+                filename.substring(indexOfExtension + 1)
+                    .toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Resolve the source format of a given file, preferring a format
+     * that has already been detected upstream
+     * @param label the label of a previously detected format, or null
+     * @param file
+     * @return
+     * @throws IOException
+     */
+
+    public static OntologySourceFormat resolve(String label, Path file)
+            throws IOException {
+        OntologySourceFormat format = valueOfLabel(label);
+        return format != null ? format : detect(file);
+    }
+
+    /**
+     * Detect the source format of a given file from its extension or,
+     * where the extension is ambiguous or unknown, from its first bytes.
+     * Extensions such as .owl and .xml are used for RDF/XML, OWL/XML and
+     * occasionally Turtle alike.
+     * @param file
+     * @return the detected format, defaulting to RDF/XML
+     * @throws IOException
+     */
+
+    public static OntologySourceFormat detect(Path file) throws IOException {
+        OntologySourceFormat format =
+                valueOfFilename(file.getFileName().toString());
+        if (format != null && format != RDF_XML)
+            return format;
+        byte[] bytes;
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            bytes = inputStream.readNBytes(SNIFF_BYTES);
+        }
+        return detect(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Detect the source format of the given leading content of a document
+     * @param content
+     * @return the detected format, defaulting to RDF/XML
+     */
+
+    public static OntologySourceFormat detect(String content) {
+
+        // Skip any byte order mark, whitespace and line comments
+        int i = 0;
+        int length = content.length();
+        while (i < length) {
+            char c = content.charAt(i);
+            if (c == '\uFEFF' || Character.isWhitespace(c))
+                i++;
+            else if (c == '#') {
+                while (i < length && content.charAt(i) != '\n')
+                    i++;
+            } else
+                break;
+        }
+        if (i >= length)
+            return RDF_XML;
+
+        String remainder = content.substring(i);
+        char first = remainder.charAt(0);
+        if (first == '{' || first == '[')
+            return JSON_LD;
+        if (first == '<' && !startsWithIri(remainder))
+            return remainder.contains(OWL_XML_ROOT_ELEMENT)
+                    && !remainder.contains("rdf:RDF") ? OWL_XML : RDF_XML;
+
+        // N-Triples is a subset of Turtle, so triples that are not
+        // identified as N-Triples by their extension are read as Turtle
+        return TURTLE;
+
+    }
+
+    /**
+     * Check whether the given content starts with a subject IRI rather
+     * than an XML element, whose names can never contain "://" or "#"
+     * @param content
+     * @return
+     */
+
+    private static boolean startsWithIri(String content) {
+        int end = content.indexOf('>');
+        if (end < 0)
+            return false;
+        String iri = content.substring(1, end);
+        return iri.chars().noneMatch(Character::isWhitespace)
+                && (iri.contains("://") || iri.contains("#")
+                        || iri.startsWith("urn:"));
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public List<String> getExtensions() {
+        return extensions;
+    }
+
+    public String getDefaultExtension() {
+        return "." + extensions.get(0);
+    }
+
+    /**
+     * Whether this format is an RDF serialization that triplestores
+     * and RDF parsers can read directly
+     * @return
+     */
+
+    public boolean isRdf() {
+        return this != OWL_XML;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
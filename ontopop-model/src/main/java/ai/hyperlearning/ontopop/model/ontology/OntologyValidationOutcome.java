@@ -0,0 +1,52 @@
+package ai.hyperlearning.ontopop.model.ontology;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Ontology Semantic Validation Outcomes
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public enum OntologyValidationOutcome {
+
+    VALID("VALID"),
+    INVALID("INVALID"),
+    SKIPPED_TIMEOUT("SKIPPED_TIMEOUT"),
+    SKIPPED_HEAP_LIMIT("SKIPPED_HEAP_LIMIT");
+
+    private final String label;
+    private static final Map<String, OntologyValidationOutcome> LABEL_MAP =
+            new HashMap<>();
+
+    static {
+        for (OntologyValidationOutcome f : values()) {
+            LABEL_MAP.put(f.label, f);
+        }
+    }
+
+    private OntologyValidationOutcome(final String label) {
+        this.label = label;
+    }
+
+    public static OntologyValidationOutcome valueOfLabel(String label) {
+        return LABEL_MAP.get(label);
+    }
+
+    /**
+     * Whether validation was abandoned before its result was known
+     * @return
+     */
+
+    public boolean isSkipped() {
+        return this == SKIPPED_TIMEOUT || this == SKIPPED_HEAP_LIMIT;
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+
+}
@@ -0,0 +1,125 @@
+package ai.hyperlearning.ontopop.model.ontology;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+/**
+ * Ontology Validation Result - records the semantic validation result of
+ * an ontology keyed by the SHA-256 hash of its content and imports closure
+ * so that unchanged ontologies need not be reasoned over again
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class OntologyValidationResult implements Serializable {
+
+	private static final long serialVersionUID = 2816307415529844613L;
+	private static final String FILENAME_SUFFIX = ".json";
+	private static final Pattern CONTENT_HASH_PATTERN =
+			Pattern.compile("[0-9a-f]{64}");
+
+	private String contentHash;
+	private int ontologyId;
+	private long gitWebhookId;
+	private boolean semanticallyValid;
+
+	@JsonSerialize(using = LocalDateTimeSerializer.class)
+	@JsonDeserialize(using = LocalDateTimeDeserializer.class)
+	@JsonFormat(pattern="yyyy-MM-dd HH:mm:ss")
+	private LocalDateTime dateCreated;
+
+	public OntologyValidationResult() {
+
+	}
+
+	public OntologyValidationResult(String contentHash, int ontologyId,
+			long gitWebhookId, boolean semanticallyValid) {
+		this.contentHash = contentHash;
+		this.ontologyId = ontologyId;
+		this.gitWebhookId = gitWebhookId;
+		this.semanticallyValid = semanticallyValid;
+		this.dateCreated = LocalDateTime.now();
+	}
+
+	/**
+	 * Test whether a given string is a well-formed hex-encoded SHA-256
+	 * content hash, and hence safe to use as an object name
+	 * @param contentHash
+	 * @return
+	 */
+
+	public static boolean isContentHash(String contentHash) {
+		return contentHash != null
+				&& CONTENT_HASH_PATTERN.matcher(contentHash).matches();
+	}
+
+	/**
+	 * Get the filename of the validation result of a given content hash
+	 * @param contentHash
+	 * @return
+	 */
+
+	public static String getFilename(String contentHash) {
+		return contentHash + FILENAME_SUFFIX;
+	}
+
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	public int getOntologyId() {
+		return ontologyId;
+	}
+
+	public void setOntologyId(int ontologyId) {
+		this.ontologyId = ontologyId;
+	}
+
+	public long getGitWebhookId() {
+		return gitWebhookId;
+	}
+
+	public void setGitWebhookId(long gitWebhookId) {
+		this.gitWebhookId = gitWebhookId;
+	}
+
+	public boolean isSemanticallyValid() {
+		return semanticallyValid;
+	}
+
+	public void setSemanticallyValid(boolean semanticallyValid) {
+		this.semanticallyValid = semanticallyValid;
+	}
+
+	public LocalDateTime getDateCreated() {
+		return dateCreated;
+	}
+
+	public void setDateCreated(LocalDateTime dateCreated) {
+		this.dateCreated = dateCreated;
+	}
+
+	@Override
+	public String toString() {
+		return "OntologyValidationResult ["
+				+ "contentHash=" + contentHash + ", "
+				+ "ontologyId=" + ontologyId + ", "
+				+ "gitWebhookId=" + gitWebhookId + ", "
+				+ "semanticallyValid=" + semanticallyValid + ", "
+				+ "dateCreated=" + dateCreated
+				+ "]";
+	}
+
+}
@@ -0,0 +1,100 @@
+package ai.hyperlearning.ontopop.model.owl;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * IRI Dictionary - maps the IRIs seen during a single pipeline run to
+ * dense integer IDs and a single canonical String instance each, so that
+ * an IRI repeated across annotations, parent classes, vertices and edges
+ * is only held in memory once. The dictionary is safe for concurrent use.
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class IRIDictionary {
+
+	private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+	private final Map<String, Integer> ids;
+	private volatile String[] iris;
+	private int size = 0;
+
+	public IRIDictionary() {
+		this(DEFAULT_INITIAL_CAPACITY);
+	}
+
+	public IRIDictionary(int initialCapacity) {
+		int capacity = Math.max(initialCapacity, 16);
+		this.ids = new ConcurrentHashMap<>(capacity);
+		this.iris = new String[capacity];
+	}
+
+	/**
+	 * Get the ID of a given IRI, assigning the next ID if it is new
+	 * @param iri
+	 * @return
+	 */
+
+	public int getId(String iri) {
+		Integer id = ids.get(iri);
+		if ( id != null )
+			return id;
+		synchronized (this) {
+			id = ids.get(iri);
+			if ( id == null ) {
+				if ( size == iris.length )
+					iris = Arrays.copyOf(iris, size * 2);
+				iris[size] = iri;
+				id = size++;
+				ids.put(iri, id);
+			}
+			return id;
+		}
+	}
+
+	/**
+	 * Get the ID of a given IRI without assigning one
+	 * @param iri
+	 * @return the ID, or -1 if the IRI is not in the dictionary
+	 */
+
+	public int indexOf(String iri) {
+		Integer id = iri == null ? null : ids.get(iri);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Get the canonical IRI of a given ID
+	 * @param id
+	 * @return
+	 */
+
+	public String getIri(int id) {
+		return iris[id];
+	}
+
+	/**
+	 * Get the canonical instance of a given IRI, adding it if it is new
+	 * @param iri
+	 * @return
+	 */
+
+	public String intern(String iri) {
+		return iri == null ? null : getIri(getId(iri));
+	}
+
+	public int size() {
+		return ids.size();
+	}
+
+	@Override
+	public String toString() {
+		return "IRIDictionary ["
+				+ "size=" + size()
+				+ "]";
+	}
+
+}
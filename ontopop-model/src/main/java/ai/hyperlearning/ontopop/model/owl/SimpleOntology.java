@@ -34,6 +34,11 @@ public class SimpleOntology implements Serializable {
 	// Map between named individual IRI and SimpleNamedIndividual objects
 	private Map<String, SimpleNamedIndividual> simpleNamedIndividualMap = new LinkedHashMap<>();
 	
+	// Dictionary of the IRIs interned whilst parsing, if any, which is 
+	// reused by downstream stages within the same run
+	@JsonIgnore
+	private transient IRIDictionary iriDictionary;
+	
 	public SimpleOntology() {
 		
 	}
@@ -104,6 +109,16 @@ public class SimpleOntology implements Serializable {
         this.simpleNamedIndividualMap = simpleNamedIndividualMap;
     }
 
+    @JsonIgnore
+    public IRIDictionary getIriDictionary() {
+        return iriDictionary;
+    }
+
+    @JsonIgnore
+    public void setIriDictionary(IRIDictionary iriDictionary) {
+        this.iriDictionary = iriDictionary;
+    }
+
     @JsonIgnore
 	public Set<String> getUniqueSimpleAnnotationPropertyLabels() {
 	    Set<String> uniqueSimpleAnnotationPropertyLabels = new HashSet<>();
@@ -0,0 +1,380 @@
+package ai.hyperlearning.ontopop.model.owl;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Simple OWL Model - Ontology Statistics computed once per revision at
+ * parse time so that they may be served without traversing the graph
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+public class SimpleOntologyStatistics implements Serializable {
+
+	private static final long serialVersionUID = 4730925163981224917L;
+	private static final String FILENAME_SUFFIX = ".stats.json";
+	private static final int UNVISITED = -1;
+	private static final int VISITING = -2;
+
+	private int id;
+	private long latestGitWebhookId;
+
+	// Entity counts by type
+	private int annotationPropertyCount;
+	private int objectPropertyCount;
+	private int classCount;
+	private int namedIndividualCount;
+
+	// Class hierarchy (rdfs:subClassOf without OWL restrictions)
+	private int subClassOfCount;
+	private int restrictionCount;
+	private int rootClassCount;
+	private int leafClassCount;
+	private int orphanClassCount;
+	private int maxDepth;
+
+	// Map between hierarchy depth (roots at depth 0) and class count
+	private Map<Integer, Integer> depthHistogram = new TreeMap<>();
+
+	// Annotation coverage of the classes
+	private int annotatedClassCount;
+	private int labelledClassCount;
+
+	// Map between annotation property IRI and the number of classes
+	// annotated with it
+	private Map<String, Integer> annotationCoverage = new TreeMap<>();
+
+	// Axiom counts, which are only available when parsed by the OWL API
+	private Integer axiomCount;
+	private Integer logicalAxiomCount;
+
+	// Map between axiom type and axiom count
+	private Map<String, Integer> axiomTypeCounts;
+
+	public SimpleOntologyStatistics() {
+
+	}
+
+	/**
+	 * Compute the statistics of a given parsed ontology in a single pass
+	 * over its entities
+	 * @param simpleOntology
+	 * @return
+	 */
+
+	public static SimpleOntologyStatistics of(SimpleOntology simpleOntology) {
+
+		SimpleOntologyStatistics statistics = new SimpleOntologyStatistics();
+		Map<String, SimpleClass> simpleClassMap =
+				simpleOntology.getSimpleClassMap();
+		statistics.id = simpleOntology.getId();
+		statistics.latestGitWebhookId =
+				simpleOntology.getLatestGitWebhookId();
+		statistics.annotationPropertyCount =
+				simpleOntology.getSimpleAnnotationPropertyMap().size();
+		statistics.objectPropertyCount =
+				simpleOntology.getSimpleObjectPropertyMap().size();
+		statistics.classCount = simpleClassMap.size();
+		statistics.namedIndividualCount =
+				simpleOntology.getSimpleNamedIndividualMap().size();
+
+		// Index the number of children of each class and count the
+		// relationships and annotations of each class
+		Map<String, Integer> childCounts = new HashMap<>();
+		for (SimpleClass simpleClass : simpleClassMap.values()) {
+			for (Map.Entry<String, String> parentClass :
+					simpleClass.getParentClasses().entrySet()) {
+				if (parentClass.getValue() != null) {
+					statistics.restrictionCount++;
+					continue;
+				}
+				statistics.subClassOfCount++;
+				if (simpleClassMap.containsKey(parentClass.getKey()))
+					childCounts.merge(parentClass.getKey(), 1, Integer::sum);
+			}
+			if (!simpleClass.getAnnotations().isEmpty())
+				statistics.annotatedClassCount++;
+			if (simpleClass.getLabel() != null)
+				statistics.labelledClassCount++;
+			for (String annotationPropertyIri :
+					simpleClass.getAnnotations().keySet())
+				statistics.annotationCoverage.merge(
+						annotationPropertyIri, 1, Integer::sum);
+		}
+
+		// Count the roots, leaves and orphans and the depth of each class
+		Map<String, Integer> depths = new HashMap<>(simpleClassMap.size());
+		for (SimpleClass simpleClass : simpleClassMap.values()) {
+			boolean root = !hasParentClass(simpleClass, simpleClassMap);
+			boolean leaf = !childCounts.containsKey(simpleClass.getIri());
+			if (root)
+				statistics.rootClassCount++;
+			if (leaf)
+				statistics.leafClassCount++;
+			if (root && leaf)
+				statistics.orphanClassCount++;
+			int depth = depth(simpleClass.getIri(), simpleClassMap, depths);
+			statistics.maxDepth = Math.max(statistics.maxDepth, depth);
+			statistics.depthHistogram.merge(depth, 1, Integer::sum);
+		}
+
+		return statistics;
+
+	}
+
+	private static boolean hasParentClass(SimpleClass simpleClass,
+			Map<String, SimpleClass> simpleClassMap) {
+		for (Map.Entry<String, String> parentClass :
+				simpleClass.getParentClasses().entrySet()) {
+			if (parentClass.getValue() == null
+					&& simpleClassMap.containsKey(parentClass.getKey()))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Get the depth of a given class as the longest subClassOf path to a
+	 * root class, iteratively so that deep hierarchies cannot overflow the
+	 * stack and ignoring any edges that would close a cycle
+	 * @param iri
+	 * @param simpleClassMap
+	 * @param depths memoized depths of the classes visited so far
+	 * @return
+	 */
+
+	private static int depth(String iri, Map<String, SimpleClass> simpleClassMap,
+			Map<String, Integer> depths) {
+
+		Integer known = depths.get(iri);
+		if (known != null && known >= 0)
+			return known;
+
+		Deque<String> stack = new ArrayDeque<>();
+		stack.push(iri);
+		while (!stack.isEmpty()) {
+			String current = stack.peek();
+			if (depths.getOrDefault(current, UNVISITED) == UNVISITED) {
+				depths.put(current, VISITING);
+				for (Map.Entry<String, String> parentClass : simpleClassMap
+						.get(current).getParentClasses().entrySet()) {
+					if (parentClass.getValue() == null
+							&& simpleClassMap.containsKey(parentClass.getKey())
+							&& depths.getOrDefault(parentClass.getKey(),
+									UNVISITED) == UNVISITED)
+						stack.push(parentClass.getKey());
+				}
+				continue;
+			}
+			stack.pop();
+			if (depths.get(current) != VISITING)
+				continue;
+			int depth = 0;
+			for (Map.Entry<String, String> parentClass : simpleClassMap
+					.get(current).getParentClasses().entrySet()) {
+				Integer parentDepth = parentClass.getValue() == null ?
+						depths.get(parentClass.getKey()) : null;
+				if (parentDepth != null && parentDepth >= 0)
+					depth = Math.max(depth, parentDepth + 1);
+			}
+			depths.put(current, depth);
+		}
+		return depths.get(iri);
+
+	}
+
+	/**
+	 * Get the filename of the statistics persisted alongside a given
+	 * parsed ontology
+	 * @param processedFilename
+	 * @return
+	 */
+
+	public static String getFilename(String processedFilename) {
+		return processedFilename + FILENAME_SUFFIX;
+	}
+
+	public int getId() {
+		return id;
+	}
+
+	public void setId(int id) {
+		this.id = id;
+	}
+
+	public long getLatestGitWebhookId() {
+		return latestGitWebhookId;
+	}
+
+	public void setLatestGitWebhookId(long latestGitWebhookId) {
+		this.latestGitWebhookId = latestGitWebhookId;
+	}
+
+	public int getAnnotationPropertyCount() {
+		return annotationPropertyCount;
+	}
+
+	public void setAnnotationPropertyCount(int annotationPropertyCount) {
+		this.annotationPropertyCount = annotationPropertyCount;
+	}
+
+	public int getObjectPropertyCount() {
+		return objectPropertyCount;
+	}
+
+	public void setObjectPropertyCount(int objectPropertyCount) {
+		this.objectPropertyCount = objectPropertyCount;
+	}
+
+	public int getClassCount() {
+		return classCount;
+	}
+
+	public void setClassCount(int classCount) {
+		this.classCount = classCount;
+	}
+
+	public int getNamedIndividualCount() {
+		return namedIndividualCount;
+	}
+
+	public void setNamedIndividualCount(int namedIndividualCount) {
+		this.namedIndividualCount = namedIndividualCount;
+	}
+
+	public int getSubClassOfCount() {
+		return subClassOfCount;
+	}
+
+	public void setSubClassOfCount(int subClassOfCount) {
+		this.subClassOfCount = subClassOfCount;
+	}
+
+	public int getRestrictionCount() {
+		return restrictionCount;
+	}
+
+	public void setRestrictionCount(int restrictionCount) {
+		this.restrictionCount = restrictionCount;
+	}
+
+	public int getRootClassCount() {
+		return rootClassCount;
+	}
+
+	public void setRootClassCount(int rootClassCount) {
+		this.rootClassCount = rootClassCount;
+	}
+
+	public int getLeafClassCount() {
+		return leafClassCount;
+	}
+
+	public void setLeafClassCount(int leafClassCount) {
+		this.leafClassCount = leafClassCount;
+	}
+
+	public int getOrphanClassCount() {
+		return orphanClassCount;
+	}
+
+	public void setOrphanClassCount(int orphanClassCount) {
+		this.orphanClassCount = orphanClassCount;
+	}
+
+	public int getMaxDepth() {
+		return maxDepth;
+	}
+
+	public void setMaxDepth(int maxDepth) {
+		this.maxDepth = maxDepth;
+	}
+
+	public Map<Integer, Integer> getDepthHistogram() {
+		return depthHistogram;
+	}
+
+	public void setDepthHistogram(Map<Integer, Integer> depthHistogram) {
+		this.depthHistogram = depthHistogram;
+	}
+
+	public int getAnnotatedClassCount() {
+		return annotatedClassCount;
+	}
+
+	public void setAnnotatedClassCount(int annotatedClassCount) {
+		this.annotatedClassCount = annotatedClassCount;
+	}
+
+	public int getLabelledClassCount() {
+		return labelledClassCount;
+	}
+
+	public void setLabelledClassCount(int labelledClassCount) {
+		this.labelledClassCount = labelledClassCount;
+	}
+
+	public Map<String, Integer> getAnnotationCoverage() {
+		return annotationCoverage;
+	}
+
+	public void setAnnotationCoverage(Map<String, Integer> annotationCoverage) {
+		this.annotationCoverage = annotationCoverage;
+	}
+
+	public Integer getAxiomCount() {
+		return axiomCount;
+	}
+
+	public void setAxiomCount(Integer axiomCount) {
+		this.axiomCount = axiomCount;
+	}
+
+	public Integer getLogicalAxiomCount() {
+		return logicalAxiomCount;
+	}
+
+	public void setLogicalAxiomCount(Integer logicalAxiomCount) {
+		this.logicalAxiomCount = logicalAxiomCount;
+	}
+
+	public Map<String, Integer> getAxiomTypeCounts() {
+		return axiomTypeCounts;
+	}
+
+	public void setAxiomTypeCounts(Map<String, Integer> axiomTypeCounts) {
+		this.axiomTypeCounts = axiomTypeCounts;
+	}
+
+	@Override
+	public String toString() {
+		return "SimpleOntologyStatistics ["
+				+ "id=" + id + ", "
+				+ "latestGitWebhookId=" + latestGitWebhookId + ", "
+				+ "annotationPropertyCount=" + annotationPropertyCount + ", "
+				+ "objectPropertyCount=" + objectPropertyCount + ", "
+				+ "classCount=" + classCount + ", "
+				+ "namedIndividualCount=" + namedIndividualCount + ", "
+				+ "subClassOfCount=" + subClassOfCount + ", "
+				+ "restrictionCount=" + restrictionCount + ", "
+				+ "rootClassCount=" + rootClassCount + ", "
+				+ "leafClassCount=" + leafClassCount + ", "
+				+ "orphanClassCount=" + orphanClassCount + ", "
+				+ "maxDepth=" + maxDepth + ", "
+				+ "depthHistogram=" + depthHistogram + ", "
+				+ "annotatedClassCount=" + annotatedClassCount + ", "
+				+ "labelledClassCount=" + labelledClassCount + ", "
+				+ "annotationCoverage=" + annotationCoverage + ", "
+				+ "axiomCount=" + axiomCount + ", "
+				+ "logicalAxiomCount=" + logicalAxiomCount + ", "
+				+ "axiomTypeCounts=" + axiomTypeCounts
+				+ "]";
+	}
+
+}
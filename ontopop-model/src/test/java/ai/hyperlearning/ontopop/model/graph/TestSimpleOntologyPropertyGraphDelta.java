@@ -0,0 +1,161 @@
+package ai.hyperlearning.ontopop.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests - Simple Ontology Property Graph Delta
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestSimpleOntologyPropertyGraphDelta {
+
+    private static final int ONTOLOGY_ID = 1;
+    private static final long PREVIOUS_GIT_WEBHOOK_ID = 10L;
+    private static final long CURRENT_GIT_WEBHOOK_ID = 11L;
+    private static final String CLASS_LABEL = "Class";
+    private static final String EDGE_LABEL = "subClassOf";
+    private static final String IRI_A = "http://example.org/ontology#A";
+    private static final String IRI_B = "http://example.org/ontology#B";
+    private static final String IRI_C = "http://example.org/ontology#C";
+    private static final String IRI_D = "http://example.org/ontology#D";
+
+    @Test
+    void testIdenticalGraphsIgnoringLoadingPropertiesHaveEmptyDelta() {
+        SimpleOntologyPropertyGraph previous = graph(PREVIOUS_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", PREVIOUS_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B", PREVIOUS_GIT_WEBHOOK_ID));
+        previous.getVertices().values()
+            .forEach(SimpleOntologyVertex::preparePropertiesForLoading);
+        previous.addEdge(edge(previous, IRI_A, IRI_B,
+                PREVIOUS_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraph current = graph(CURRENT_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", CURRENT_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B", CURRENT_GIT_WEBHOOK_ID));
+        current.addEdge(edge(current, IRI_A, IRI_B, CURRENT_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraphDelta delta =
+                new SimpleOntologyPropertyGraphDelta(previous, current);
+        assertTrue(delta.isEmpty());
+        assertTrue(delta.getUpdatedEdges().isEmpty());
+    }
+
+    @Test
+    void testAddedUpdatedAndDeletedVertices() {
+        SimpleOntologyPropertyGraph previous = graph(PREVIOUS_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", PREVIOUS_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B", PREVIOUS_GIT_WEBHOOK_ID),
+                vertex(IRI_C, "C", PREVIOUS_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraph current = graph(CURRENT_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", CURRENT_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B2", CURRENT_GIT_WEBHOOK_ID),
+                vertex(IRI_D, "D", CURRENT_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraphDelta delta =
+                new SimpleOntologyPropertyGraphDelta(previous, current);
+        assertEquals(Set.of(key(IRI_D)), delta.getAddedVertices().keySet());
+        assertEquals(Set.of(key(IRI_B)), delta.getUpdatedVertices().keySet());
+        assertEquals(Set.of(key(IRI_C)), delta.getDeletedVertices().keySet());
+        assertTrue(delta.getUpdatedEdgeSourceVertexIds().isEmpty());
+    }
+
+    @Test
+    void testChangedEdgesAreReplacedBySourceVertex() {
+        SimpleOntologyPropertyGraph previous = graph(PREVIOUS_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", PREVIOUS_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B", PREVIOUS_GIT_WEBHOOK_ID),
+                vertex(IRI_C, "C", PREVIOUS_GIT_WEBHOOK_ID));
+        previous.addEdge(edge(previous, IRI_A, IRI_B,
+                PREVIOUS_GIT_WEBHOOK_ID));
+        previous.addEdge(edge(previous, IRI_C, IRI_B,
+                PREVIOUS_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraph current = graph(CURRENT_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", CURRENT_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B", CURRENT_GIT_WEBHOOK_ID),
+                vertex(IRI_C, "C", CURRENT_GIT_WEBHOOK_ID));
+        current.addEdge(edge(current, IRI_A, IRI_C, CURRENT_GIT_WEBHOOK_ID));
+        current.addEdge(edge(current, IRI_C, IRI_B, CURRENT_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraphDelta delta =
+                new SimpleOntologyPropertyGraphDelta(previous, current);
+        assertTrue(delta.getAddedVertices().isEmpty());
+        assertTrue(delta.getUpdatedVertices().isEmpty());
+        assertTrue(delta.getDeletedVertices().isEmpty());
+        assertEquals(Set.of(
+                current.getVertices().get(key(IRI_A)).getVertexId()),
+                delta.getUpdatedEdgeSourceVertexIds());
+        assertEquals(1, delta.getUpdatedEdges().size());
+        assertEquals(current.getVertices().get(key(IRI_C)).getVertexId(),
+                delta.getUpdatedEdges().get(0).getTargetVertexId());
+    }
+
+    @Test
+    void testEdgesOfRecreatedVerticesAreReplaced() {
+        SimpleOntologyPropertyGraph previous = graph(PREVIOUS_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", PREVIOUS_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B", PREVIOUS_GIT_WEBHOOK_ID));
+        previous.addEdge(edge(previous, IRI_A, IRI_B,
+                PREVIOUS_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraph current = graph(CURRENT_GIT_WEBHOOK_ID,
+                vertex(IRI_A, "A", CURRENT_GIT_WEBHOOK_ID),
+                vertex(IRI_B, "B2", CURRENT_GIT_WEBHOOK_ID));
+        current.addEdge(edge(current, IRI_A, IRI_B, CURRENT_GIT_WEBHOOK_ID));
+        SimpleOntologyPropertyGraphDelta delta =
+                new SimpleOntologyPropertyGraphDelta(previous, current);
+        assertEquals(Set.of(key(IRI_B)), delta.getUpdatedVertices().keySet());
+        assertEquals(Set.of(
+                current.getVertices().get(key(IRI_A)).getVertexId()),
+                delta.getUpdatedEdgeSourceVertexIds());
+        assertEquals(1, delta.getUpdatedEdges().size());
+    }
+
+    private SimpleOntologyPropertyGraph graph(long latestGitWebhookId,
+            SimpleOntologyVertex... vertices) {
+        Map<String, SimpleOntologyVertex> vertexMap = new LinkedHashMap<>();
+        for (SimpleOntologyVertex vertex : vertices)
+            vertexMap.put(vertex.getVertexKey(), vertex);
+        List<SimpleOntologyEdge> edges = new ArrayList<>();
+        return new SimpleOntologyPropertyGraph(
+                ONTOLOGY_ID, latestGitWebhookId, vertexMap, edges);
+    }
+
+    private String key(String iri) {
+        SimpleOntologyVertex vertex = new SimpleOntologyVertex();
+        vertex.setOntologyId(ONTOLOGY_ID);
+        vertex.setIri(iri);
+        return vertex.getVertexKey();
+    }
+
+    private SimpleOntologyVertex vertex(String iri, String label,
+            long latestGitWebhookId) {
+        SimpleOntologyVertex vertex = new SimpleOntologyVertex();
+        vertex.setOntologyId(ONTOLOGY_ID);
+        vertex.setIri(iri);
+        vertex.setLabel(CLASS_LABEL);
+        vertex.setLatestGitWebhookId(latestGitWebhookId);
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("label", label);
+        vertex.setProperties(properties);
+        return vertex;
+    }
+
+    private SimpleOntologyEdge edge(SimpleOntologyPropertyGraph graph,
+            String sourceIri, String targetIri, long latestGitWebhookId) {
+        SimpleOntologyVertex source =
+                graph.getVertices().get(key(sourceIri));
+        SimpleOntologyVertex target =
+                graph.getVertices().get(key(targetIri));
+        return new SimpleOntologyEdge(EDGE_LABEL,
+                source.getVertexKey(), source.getVertexId(),
+                target.getVertexKey(), target.getVertexId(),
+                ONTOLOGY_ID, latestGitWebhookId, new LinkedHashMap<>());
+    }
+
+}
@@ -0,0 +1,186 @@
+package ai.hyperlearning.ontopop.model.graph;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit Tests - Simple Ontology Property Graph Streaming Reader and Writer
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestSimpleOntologyPropertyGraphReaderWriter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int ONTOLOGY_ID = 1;
+    private static final long GIT_WEBHOOK_ID = 10L;
+    private static final String NAMESPACE = "http://example.org/ontology#";
+    private static final int VERTEX_COUNT = 25;
+
+    @Test
+    void testWriterMatchesTheObjectMapperLayout() throws IOException {
+        SimpleOntologyPropertyGraph graph = graph();
+        assertEquals(MAPPER.readTree(MAPPER.writeValueAsString(graph)),
+                MAPPER.readTree(write(graph)));
+    }
+
+    @Test
+    void testRoundTripInBatches() throws Exception {
+        SimpleOntologyPropertyGraph graph = graph();
+        List<Integer> vertexBatchSizes = new ArrayList<>();
+        List<Integer> edgeBatchSizes = new ArrayList<>();
+        SimpleOntologyPropertyGraph readGraph = read(
+                MAPPER.writeValueAsString(graph), 10,
+                vertexBatchSizes, edgeBatchSizes);
+        assertEquals(List.of(10, 10, 5), vertexBatchSizes);
+        assertEquals(List.of(10, 10, 4), edgeBatchSizes);
+        assertEquals(MAPPER.readTree(MAPPER.writeValueAsString(graph)),
+                MAPPER.readTree(MAPPER.writeValueAsString(readGraph)));
+    }
+
+    @Test
+    void testEdgesSerializedBeforeVerticesAreConsumedAfterThem()
+            throws Exception {
+        SimpleOntologyPropertyGraph graph = graph();
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("edges", graph.getEdges());
+        reordered.put("latestGitWebhookId", GIT_WEBHOOK_ID);
+        reordered.put("vertices", graph.getVertices());
+        reordered.put("id", ONTOLOGY_ID);
+        List<String> consumed = new ArrayList<>();
+        try (SimpleOntologyPropertyGraphReader reader =
+                new SimpleOntologyPropertyGraphReader(MAPPER.createParser(
+                        MAPPER.writeValueAsString(reordered)))) {
+            reader.read(10,
+                    batch -> consumed.add("vertices"),
+                    batch -> consumed.add("edges"));
+            assertEquals(ONTOLOGY_ID, reader.getId());
+            assertEquals(GIT_WEBHOOK_ID, reader.getLatestGitWebhookId());
+            assertEquals(VERTEX_COUNT, reader.getVertexCount());
+            assertEquals(VERTEX_COUNT - 1, reader.getEdgeCount());
+        }
+        assertEquals(List.of("vertices", "vertices", "vertices", "edges"),
+                consumed);
+    }
+
+    @Test
+    void testEdgesAreSkippedWithoutAnEdgeConsumer() throws Exception {
+        try (SimpleOntologyPropertyGraphReader reader =
+                new SimpleOntologyPropertyGraphReader(MAPPER.createParser(
+                        MAPPER.writeValueAsString(graph())))) {
+            reader.read(100, batch -> { }, null);
+            assertEquals(VERTEX_COUNT, reader.getVertexCount());
+            assertEquals(0, reader.getEdgeCount());
+        }
+    }
+
+    @Test
+    void testEmptyGraphRoundTrip() throws Exception {
+        SimpleOntologyPropertyGraph empty = new SimpleOntologyPropertyGraph(
+                ONTOLOGY_ID, GIT_WEBHOOK_ID, new LinkedHashMap<>(),
+                new ArrayList<>());
+        String serialized = write(empty);
+        assertEquals(MAPPER.readTree(MAPPER.writeValueAsString(empty)),
+                MAPPER.readTree(serialized));
+        SimpleOntologyPropertyGraph readGraph = read(serialized, 10,
+                new ArrayList<>(), new ArrayList<>());
+        assertTrue(readGraph.getVertices().isEmpty());
+        assertTrue(readGraph.getEdges().isEmpty());
+    }
+
+    @Test
+    void testVerticesCannotBeWrittenAfterEdges() throws IOException {
+        SimpleOntologyPropertyGraph graph = graph();
+        SimpleOntologyVertex vertex =
+                graph.getVertices().values().iterator().next();
+        try (SimpleOntologyPropertyGraphWriter writer =
+                new SimpleOntologyPropertyGraphWriter(
+                        MAPPER.createGenerator(new StringWriter()),
+                        ONTOLOGY_ID, GIT_WEBHOOK_ID)) {
+            writer.writeVertex(vertex.getVertexKey(), vertex);
+            writer.writeEdge(graph.getEdges().get(0));
+            assertThrows(IllegalStateException.class, () ->
+                    writer.writeVertex(vertex.getVertexKey(), vertex));
+        }
+    }
+
+    @Test
+    void testNonObjectInputIsRejected() throws IOException {
+        try (SimpleOntologyPropertyGraphReader reader =
+                new SimpleOntologyPropertyGraphReader(
+                        MAPPER.createParser("[]"))) {
+            assertThrows(IOException.class, () ->
+                    reader.read(10, batch -> { }, batch -> { }));
+        }
+    }
+
+    private String write(SimpleOntologyPropertyGraph graph)
+            throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        JsonGenerator generator = MAPPER.createGenerator(stringWriter);
+        SimpleOntologyPropertyGraphWriter.write(generator, graph);
+        return stringWriter.toString();
+    }
+
+    private SimpleOntologyPropertyGraph read(String serialized,
+            int batchSize, List<Integer> vertexBatchSizes,
+            List<Integer> edgeBatchSizes) throws Exception {
+        Map<String, SimpleOntologyVertex> vertices = new LinkedHashMap<>();
+        List<SimpleOntologyEdge> edges = new ArrayList<>();
+        try (SimpleOntologyPropertyGraphReader reader =
+                new SimpleOntologyPropertyGraphReader(
+                        MAPPER.createParser(serialized))) {
+            reader.read(batchSize, batch -> {
+                vertexBatchSizes.add(batch.size());
+                for (SimpleOntologyVertex vertex : batch)
+                    vertices.put(vertex.getVertexKey(), vertex);
+            }, batch -> {
+                edgeBatchSizes.add(batch.size());
+                edges.addAll(batch);
+            });
+            return new SimpleOntologyPropertyGraph(reader.getId(),
+                    reader.getLatestGitWebhookId(), vertices, edges);
+        }
+    }
+
+    private SimpleOntologyPropertyGraph graph() {
+        Map<String, SimpleOntologyVertex> vertices = new LinkedHashMap<>();
+        List<SimpleOntologyEdge> edges = new ArrayList<>();
+        SimpleOntologyVertex previous = null;
+        for (int i = 0; i < VERTEX_COUNT; i++) {
+            SimpleOntologyVertex vertex = new SimpleOntologyVertex();
+            vertex.setOntologyId(ONTOLOGY_ID);
+            vertex.setIri(NAMESPACE + i);
+            vertex.setLabel("Class");
+            vertex.setLatestGitWebhookId(GIT_WEBHOOK_ID);
+            Map<String, Object> properties = new LinkedHashMap<>();
+            properties.put("label", "Class " + i);
+            properties.put("definition", List.of("Definition " + i));
+            vertex.setProperties(properties);
+            vertices.put(vertex.getVertexKey(), vertex);
+            if (previous != null)
+                edges.add(new SimpleOntologyEdge("subClassOf",
+                        vertex.getVertexKey(), vertex.getVertexId(),
+                        previous.getVertexKey(), previous.getVertexId(),
+                        ONTOLOGY_ID, GIT_WEBHOOK_ID, new LinkedHashMap<>()));
+            previous = vertex;
+        }
+        return new SimpleOntologyPropertyGraph(
+                ONTOLOGY_ID, GIT_WEBHOOK_ID, vertices, edges);
+    }
+
+}
@@ -0,0 +1,159 @@
+package ai.hyperlearning.ontopop.model.ontology;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit Tests - Ontology Source Format Detection
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestOntologySourceFormat {
+
+    private static final String RDF_XML =
+            "<?xml version=\"1.0\"?>\n"
+            + "<rdf:RDF xmlns=\"http://example.org/ontology#\"\n"
+            + "     xmlns:owl=\"http://www.w3.org/2002/07/owl#\"\n"
+            + "     xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\">\n"
+            + "    <owl:Ontology rdf:about=\"http://example.org/ontology\"/>\n"
+            + "    <owl:Class rdf:about=\"http://example.org/ontology#A\"/>\n"
+            + "</rdf:RDF>\n";
+    private static final String RDF_XML_WITH_DOCTYPE =
+            "<?xml version=\"1.0\"?>\n"
+            + "<!DOCTYPE rdf:RDF [\n"
+            + "    <!ENTITY owl \"http://www.w3.org/2002/07/owl#\" >\n"
+            + "]>\n"
+            + "<rdf:RDF xmlns:owl=\"&owl;\"/>\n";
+    private static final String OWL_XML =
+            "<?xml version=\"1.0\"?>\n"
+            + "<Ontology xmlns=\"http://www.w3.org/2002/07/owl#\"\n"
+            + "     ontologyIRI=\"http://example.org/ontology\">\n"
+            + "    <Declaration>\n"
+            + "        <Class IRI=\"#A\"/>\n"
+            + "    </Declaration>\n"
+            + "</Ontology>\n";
+    private static final String TURTLE =
+            "@prefix : <http://example.org/ontology#> .\n"
+            + "@prefix owl: <http://www.w3.org/2002/07/owl#> .\n"
+            + ":A a owl:Class .\n";
+    private static final String TURTLE_SPARQL_PREFIX =
+            "PREFIX owl: <http://www.w3.org/2002/07/owl#>\n"
+            + "<http://example.org/ontology#A> a owl:Class .\n";
+    private static final String TURTLE_WITH_COMMENTS =
+            "# An ontology\n"
+            + "# <rdf:RDF> in a comment is ignored\n"
+            + TURTLE;
+    private static final String TRIPLES =
+            "<http://example.org/ontology#A> "
+            + "<http://www.w3.org/1999/02/22-rdf-syntax-ns#type> "
+            + "<http://www.w3.org/2002/07/owl#Class> .\n";
+    private static final String JSON_LD =
+            "{\n"
+            + "  \"@context\": {\"owl\": \"http://www.w3.org/2002/07/owl#\"},\n"
+            + "  \"@id\": \"http://example.org/ontology#A\",\n"
+            + "  \"@type\": \"owl:Class\"\n"
+            + "}\n";
+    private static final String JSON_LD_ARRAY =
+            "[{\"@id\": \"http://example.org/ontology#A\"}]";
+
+    @TempDir
+    Path tempDirectory;
+
+    @Test
+    void testDetectRdfXml() {
+        assertEquals(OntologySourceFormat.RDF_XML,
+                OntologySourceFormat.detect(RDF_XML));
+        assertEquals(OntologySourceFormat.RDF_XML,
+                OntologySourceFormat.detect(RDF_XML_WITH_DOCTYPE));
+        assertEquals(OntologySourceFormat.RDF_XML,
+                OntologySourceFormat.detect("\uFEFF" + RDF_XML));
+    }
+
+    @Test
+    void testDetectOwlXml() {
+        assertEquals(OntologySourceFormat.OWL_XML,
+                OntologySourceFormat.detect(OWL_XML));
+    }
+
+    @Test
+    void testDetectTurtle() {
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.detect(TURTLE));
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.detect(TURTLE_SPARQL_PREFIX));
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.detect(TURTLE_WITH_COMMENTS));
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.detect(TRIPLES));
+    }
+
+    @Test
+    void testDetectJsonLd() {
+        assertEquals(OntologySourceFormat.JSON_LD,
+                OntologySourceFormat.detect(JSON_LD));
+        assertEquals(OntologySourceFormat.JSON_LD,
+                OntologySourceFormat.detect(JSON_LD_ARRAY));
+    }
+
+    @Test
+    void testEmptyContentDefaultsToRdfXml() {
+        assertEquals(OntologySourceFormat.RDF_XML,
+                OntologySourceFormat.detect(""));
+        assertEquals(OntologySourceFormat.RDF_XML,
+                OntologySourceFormat.detect("  \n# comment only\n"));
+    }
+
+    @Test
+    void testDetectFileByContentWhenTheExtensionIsAmbiguous()
+            throws IOException {
+        assertEquals(OntologySourceFormat.RDF_XML,
+                OntologySourceFormat.detect(write("rdf-xml.owl", RDF_XML)));
+        assertEquals(OntologySourceFormat.OWL_XML,
+                OntologySourceFormat.detect(write("owl-xml.owl", OWL_XML)));
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.detect(write("turtle.owl", TURTLE)));
+        assertEquals(OntologySourceFormat.JSON_LD,
+                OntologySourceFormat.detect(write("json-ld.xml", JSON_LD)));
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.detect(write("unknown.abc", TURTLE)));
+    }
+
+    @Test
+    void testDetectFileByUnambiguousExtension() throws IOException {
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.detect(write("ontology.ttl", TURTLE)));
+        assertEquals(OntologySourceFormat.OWL_XML,
+                OntologySourceFormat.detect(write("ontology.owx", OWL_XML)));
+        assertEquals(OntologySourceFormat.N_TRIPLES,
+                OntologySourceFormat.detect(write("ontology.nt", TRIPLES)));
+        assertEquals(OntologySourceFormat.JSON_LD,
+                OntologySourceFormat.detect(
+                        write("ontology.JSONLD", JSON_LD)));
+    }
+
+    @Test
+    void testResolvePrefersThePreviouslyDetectedFormat() throws IOException {
+        Path file = write("ontology.owl", RDF_XML);
+        assertEquals(OntologySourceFormat.TURTLE,
+                OntologySourceFormat.resolve("TURTLE", file));
+        assertEquals(OntologySourceFormat.RDF_XML,
+                OntologySourceFormat.resolve(null, file));
+        assertNull(OntologySourceFormat.valueOfFilename("ontology"));
+    }
+
+    private Path write(String filename, String content) throws IOException {
+        return Files.write(tempDirectory.resolve(filename),
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
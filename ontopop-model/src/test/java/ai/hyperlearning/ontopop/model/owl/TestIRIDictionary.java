@@ -0,0 +1,103 @@
+package ai.hyperlearning.ontopop.model.owl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit Tests - IRI Dictionary
+ *
+ * @author jillurquddus
+ * @since 2.0.0
+ */
+
+class TestIRIDictionary {
+
+    private static final String NAMESPACE = "http://example.org/ontology#";
+    private static final String IRI_A = NAMESPACE + "A";
+    private static final String IRI_B = NAMESPACE + "B";
+
+    @Test
+    void testIdsAreDenseAndStable() {
+        IRIDictionary iriDictionary = new IRIDictionary();
+        assertEquals(0, iriDictionary.getId(IRI_A));
+        assertEquals(1, iriDictionary.getId(IRI_B));
+        assertEquals(0, iriDictionary.getId(IRI_A));
+        assertEquals(2, iriDictionary.size());
+        assertEquals(IRI_A, iriDictionary.getIri(0));
+        assertEquals(IRI_B, iriDictionary.getIri(1));
+    }
+
+    @Test
+    void testInternReturnsTheCanonicalInstance() {
+        IRIDictionary iriDictionary = new IRIDictionary();
+        String canonical = iriDictionary.intern(new String(IRI_A));
+        String duplicate = new String(IRI_A);
+        assertSame(canonical, iriDictionary.intern(duplicate));
+        assertNull(iriDictionary.intern(null));
+        assertEquals(1, iriDictionary.size());
+    }
+
+    @Test
+    void testIndexOfDoesNotAssignIds() {
+        IRIDictionary iriDictionary = new IRIDictionary();
+        assertEquals(-1, iriDictionary.indexOf(IRI_A));
+        assertEquals(-1, iriDictionary.indexOf(null));
+        assertEquals(0, iriDictionary.size());
+        iriDictionary.getId(IRI_A);
+        assertEquals(0, iriDictionary.indexOf(IRI_A));
+    }
+
+    @Test
+    void testDictionaryGrowsBeyondItsInitialCapacity() {
+        IRIDictionary iriDictionary = new IRIDictionary(16);
+        for (int i = 0; i < 1000; i++)
+            assertEquals(i, iriDictionary.getId(NAMESPACE + i));
+        for (int i = 0; i < 1000; i++)
+            assertEquals(NAMESPACE + i, iriDictionary.getIri(i));
+        assertEquals(1000, iriDictionary.size());
+    }
+
+    @Test
+    void testConcurrentInterningAssignsOneIdPerIri() throws Exception {
+        IRIDictionary iriDictionary = new IRIDictionary(16);
+        int threads = 8;
+        int iris = 2000;
+        ExecutorService executorService =
+                Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String[]>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executorService.submit(() -> {
+                    String[] interned = new String[iris];
+                    for (int i = 0; i < iris; i++)
+                        interned[i] = iriDictionary.intern(
+                                new String(NAMESPACE + i));
+                    return interned;
+                }));
+            }
+            String[] expected = futures.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<String[]> future : futures) {
+                String[] interned = future.get(10, TimeUnit.SECONDS);
+                for (int i = 0; i < iris; i++)
+                    assertSame(expected[i], interned[i]);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        assertEquals(iris, iriDictionary.size());
+        for (int i = 0; i < iris; i++)
+            assertEquals(i, iriDictionary.getId(
+                    iriDictionary.getIri(i)));
+    }
+
+}